@@ -0,0 +1,52 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.model.Interview;
+import com.interviewnotes.model.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Fully populated entities for the mapping benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private BenchmarkData() {
+    }
+
+    static Candidate candidate(Long id) {
+        Candidate candidate = new Candidate("John", "Doe", "john.doe" + id + "@example.com", "Software Engineer");
+        candidate.setId(id);
+        candidate.setPhone("+1-555-0100");
+        candidate.setExperience(5);
+        candidate.setResumeUrl("https://example.com/resumes/" + id + ".pdf");
+        candidate.setSource("LinkedIn");
+        candidate.setNotes("Strong background in distributed systems");
+        candidate.setCreatedAt(CREATED);
+        candidate.setUpdatedAt(CREATED);
+        return candidate;
+    }
+
+    static Interview interview(Long id, Candidate candidate, LocalDateTime scheduledDate) {
+        Interview interview = new Interview(candidate, "Senior Software Engineer", scheduledDate, 60);
+        interview.setId(id);
+        interview.setStatus("COMPLETED");
+        interview.setOverallScore(new BigDecimal("8.5"));
+        interview.setNotes("Technical interview focusing on system design");
+        interview.setCreatedAt(CREATED);
+        interview.setUpdatedAt(CREATED);
+        return interview;
+    }
+
+    static User interviewer(Long id) {
+        User user = new User("jane", "jane.smith@example.com", "secret");
+        user.setId(id);
+        user.setFirstName("Jane");
+        user.setLastName("Smith");
+        user.setRole(User.UserRole.INTERVIEWER);
+        return user;
+    }
+}
@@ -0,0 +1,55 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.model.Interview;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a candidate, with a number of interviews, to its DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CandidateServiceBenchmark {
+
+    @Param({"0", "5"})
+    private int interviews;
+
+    private CandidateService candidateService;
+    private Candidate candidate;
+
+    @Setup
+    public void setUp() {
+        candidateService = new CandidateService(null, null, null, null);
+        candidate = BenchmarkData.candidate(1L);
+        List<Interview> list = new ArrayList<>();
+        for (int i = 0; i < interviews; i++) {
+            list.add(BenchmarkData.interview(i + 1L, candidate, LocalDateTime.of(2024, 3, 1 + i, 10, 0)));
+        }
+        candidate.setInterviews(list);
+    }
+
+    @Benchmark
+    public CandidateDTO convertToDTO() {
+        return candidateService.convertToDTO(candidate);
+    }
+}
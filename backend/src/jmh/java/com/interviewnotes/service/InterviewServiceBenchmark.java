@@ -0,0 +1,44 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.model.Interview;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping an interview, with candidate and interviewer, to its DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterviewServiceBenchmark {
+
+    private InterviewService interviewService;
+    private Interview interview;
+
+    @Setup
+    public void setUp() {
+        interviewService = new InterviewService();
+        interview = BenchmarkData.interview(1L, BenchmarkData.candidate(1L), LocalDateTime.of(2024, 3, 1, 10, 0));
+        interview.setInterviewer(BenchmarkData.interviewer(7L));
+    }
+
+    @Benchmark
+    public InterviewDTO toDTO() {
+        return interviewService.toDTO(interview);
+    }
+}
@@ -3,6 +3,7 @@ package com.interviewnotes;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -14,16 +15,14 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * with support for multiple interview rounds, candidate management,
  * and automated report generation.
  */
-@SpringBootApplication(exclude = {RedisAutoConfiguration.class})
+@SpringBootApplication(exclude = {RedisAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class})
 @EnableJpaAuditing
 @EnableAsync
 @EnableScheduling
 public class InterviewNotesApplication {
 
     public static void main(String[] args) {
-        // Force SecurityContext to use InheritableThreadLocal
-        org.springframework.security.core.context.SecurityContextHolder.setStrategyName(
-            org.springframework.security.core.context.SecurityContextHolder.MODE_INHERITABLETHREADLOCAL);
+        // the SecurityContext reaches @Async work through AsyncConfig's task decorator
         SpringApplication.run(InterviewNotesApplication.class, args);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.interviewnotes.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+/**
+ * Configuration for the {@code @Async} executor.
+ *
+ * The SecurityContext is handed to each task explicitly when it is submitted,
+ * instead of every new thread inheriting a copy of its parent's. Spring Boot
+ * applies the decorator to the pooled executor and, with
+ * {@code spring.threads.virtual.enabled}, to the virtual-thread executor.
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return DelegatingSecurityContextRunnable::new;
+    }
+}
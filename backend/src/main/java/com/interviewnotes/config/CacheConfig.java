@@ -0,0 +1,57 @@
+package com.interviewnotes.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Enables Spring caching.
+ *
+ * The cache manager is backed by Redis when {@code spring.redis.host} is set
+ * (see {@link RedisConfig}) and by in-process Caffeine caches otherwise. Both
+ * are transaction aware: puts and evictions made inside a transaction are
+ * applied after it commits.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheSettings.class)
+public class CacheConfig {
+
+    static final List<String> CACHE_NAMES = List.of(
+            CacheNames.CANDIDATES,
+            CacheNames.CANDIDATES_BY_EMAIL,
+            CacheNames.INTERVIEWS,
+            CacheNames.CANDIDATE_STATISTICS,
+            CacheNames.INTERVIEWER_PERFORMANCE);
+
+    @Bean
+    @ConditionalOnExpression("'${spring.redis.host:}'.isEmpty()")
+    public CacheManager cacheManager(CacheSettings settings) {
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager(settings));
+    }
+
+    static CaffeineCacheManager caffeineCacheManager(CacheSettings settings) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(caffeine(settings.getDefaultTtl(), settings.getMaxSize()));
+        for (String name : CACHE_NAMES) {
+            cacheManager.registerCustomCache(name, caffeine(settings.ttlFor(name), settings.getMaxSize()).build());
+        }
+        return cacheManager;
+    }
+
+    private static Caffeine<Object, Object> caffeine(Duration ttl, long maxSize) {
+        return Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats();
+    }
+}
@@ -0,0 +1,26 @@
+package com.interviewnotes.config;
+
+/**
+ * Names of the application caches. TTLs are set per name under
+ * {@code app.cache.ttl}.
+ */
+public final class CacheNames {
+
+    /** Candidate detail views by id. */
+    public static final String CANDIDATES = "candidates";
+
+    /** Candidate detail views by email. */
+    public static final String CANDIDATES_BY_EMAIL = "candidatesByEmail";
+
+    /** Interview views by id, before access checks. */
+    public static final String INTERVIEWS = "interviews";
+
+    /** The candidate statistics, under a single key. */
+    public static final String CANDIDATE_STATISTICS = "candidateStatistics";
+
+    /** Performance of all interviewers, by date range. */
+    public static final String INTERVIEWER_PERFORMANCE = "interviewerPerformance";
+
+    private CacheNames() {
+    }
+}
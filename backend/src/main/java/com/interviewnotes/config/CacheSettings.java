@@ -0,0 +1,54 @@
+package com.interviewnotes.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache settings bound from {@code app.cache}.
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheSettings {
+
+    /** TTL for caches without their own entry in {@link #ttl}. */
+    private Duration defaultTtl = Duration.ofMinutes(10);
+
+    /** Maximum entries per cache for the in-process cache manager. */
+    private long maxSize = 10000;
+
+    /** TTL per cache name. */
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    /**
+     * TTL for the given cache.
+     */
+    public Duration ttlFor(String cacheName) {
+        return ttl.getOrDefault(cacheName, defaultTtl);
+    }
+
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    public void setDefaultTtl(Duration defaultTtl) {
+        this.defaultTtl = defaultTtl;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Map<String, Duration> getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Map<String, Duration> ttl) {
+        this.ttl = ttl;
+    }
+}
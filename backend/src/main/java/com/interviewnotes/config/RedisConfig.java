@@ -1,14 +1,82 @@
 package com.interviewnotes.config;
 
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Configuration class for Redis.
  * This configuration is only active when Redis is explicitly enabled.
+ *
+ * The connection is built from the {@code spring.redis.*} properties, as
+ * Spring Boot's Redis auto-configuration is excluded. Cached values use JDK
+ * serialization and each cache gets its TTL from {@link CacheSettings}.
  */
 @Configuration
 @ConditionalOnProperty(name = "spring.redis.host")
 public class RedisConfig {
-    // Redis configuration will be added here when needed
-} 
\ No newline at end of file
+
+    @Bean
+    public LettuceConnectionFactory redisConnectionFactory(
+            @Value("${spring.redis.host}") String host,
+            @Value("${spring.redis.port:6379}") int port,
+            @Value("${spring.redis.password:}") String password,
+            @Value("${spring.redis.timeout:2000ms}") Duration timeout,
+            @Value("${spring.redis.lettuce.pool.max-active:8}") int maxActive,
+            @Value("${spring.redis.lettuce.pool.max-idle:8}") int maxIdle,
+            @Value("${spring.redis.lettuce.pool.min-idle:0}") int minIdle) {
+        RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(host, port);
+        if (!password.isEmpty()) {
+            server.setPassword(password);
+        }
+
+        GenericObjectPoolConfig<?> pool = new GenericObjectPoolConfig<>();
+        pool.setMaxTotal(maxActive);
+        pool.setMaxIdle(maxIdle);
+        pool.setMinIdle(minIdle);
+
+        LettucePoolingClientConfiguration client = LettucePoolingClientConfiguration.builder()
+                .commandTimeout(timeout)
+                .poolConfig(pool)
+                .build();
+        return new LettuceConnectionFactory(server, client);
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheSettings settings) {
+        return new TransactionAwareCacheManagerProxy(redisCacheManager(connectionFactory, settings));
+    }
+
+    static RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, CacheSettings settings) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig(RedisConfig.class.getClassLoader())
+                .entryTtl(settings.getDefaultTtl())
+                .prefixCacheNameWith("interview-notes:");
+
+        Map<String, RedisCacheConfiguration> caches = new HashMap<>();
+        for (String name : CacheConfig.CACHE_NAMES) {
+            caches.put(name, defaults.entryTtl(settings.ttlFor(name)));
+        }
+
+        RedisCacheManager cacheManager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(caches)
+                .build();
+        // not a bean itself, so create the configured caches here
+        cacheManager.initializeCaches();
+        return cacheManager;
+    }
+}
@@ -0,0 +1,122 @@
+package com.interviewnotes.controller;
+
+import com.interviewnotes.service.AnalyticsPeriod;
+import com.interviewnotes.service.InterviewAnalyticsService;
+import com.interviewnotes.service.InterviewerPerformanceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST controller for interview analytics.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@Tag(name = "Analytics", description = "Interview analytics APIs")
+public class AnalyticsController {
+    @Autowired
+    private InterviewAnalyticsService interviewAnalyticsService;
+
+    /**
+     * Get interview statistics of a date range, or of the calendar period
+     * containing one date (today by default) when the range is not given.
+     */
+    @GetMapping("/interviews")
+    @Operation(summary = "Get interview statistics",
+            description = "Retrieves interview counts, average score, hire rate and breakdowns for a period")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = InterviewAnalyticsService.InterviewStatistics.class))),
+            @ApiResponse(responseCode = "400", description = "Unsupported period or invalid date range")
+    })
+    public ResponseEntity<InterviewAnalyticsService.InterviewStatistics> getInterviewStatistics(
+            @Parameter(description = "Period: week, month, quarter or year") @RequestParam(defaultValue = "month") String period,
+            @Parameter(description = "Start date (ISO format)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (ISO format)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        AnalyticsPeriod analyticsPeriod = AnalyticsPeriod.fromName(period);
+        return ResponseEntity.ok(interviewAnalyticsService.getInterviewStatistics(
+                rangeStart(analyticsPeriod, startDate, endDate), rangeEnd(analyticsPeriod, startDate, endDate)));
+    }
+
+    /**
+     * Get the performance of the interviewers visible to the current user.
+     * The range is chosen as for interview statistics.
+     */
+    @GetMapping("/interviewers/performance")
+    @Operation(summary = "Get interviewer performance",
+            description = "Retrieves the performance of all interviewers for admins and HR, or of the current user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Performance retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unsupported period or invalid date range")
+    })
+    public ResponseEntity<List<InterviewerPerformanceService.InterviewerPerformance>> getInterviewerPerformance(
+            @Parameter(description = "Period: week, month, quarter or year") @RequestParam(defaultValue = "month") String period,
+            @Parameter(description = "Start date (ISO format)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (ISO format)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        AnalyticsPeriod analyticsPeriod = AnalyticsPeriod.fromName(period);
+        return ResponseEntity.ok(interviewAnalyticsService.getInterviewerPerformance(
+                rangeStart(analyticsPeriod, startDate, endDate), rangeEnd(analyticsPeriod, startDate, endDate)));
+    }
+
+    /**
+     * Get one interviewer's performance. The range is chosen as for interview
+     * statistics.
+     */
+    @GetMapping("/interviewers/{id}/performance")
+    @Operation(summary = "Get an interviewer's performance",
+            description = "Retrieves interview counts, score average and variance, completion and hire rates of an interviewer")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Performance retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = InterviewerPerformanceService.InterviewerPerformance.class))),
+            @ApiResponse(responseCode = "400", description = "Unsupported period or invalid date range"),
+            @ApiResponse(responseCode = "404", description = "Interviewer not found")
+    })
+    public ResponseEntity<InterviewerPerformanceService.InterviewerPerformance> getInterviewerPerformanceById(
+            @Parameter(description = "Interviewer ID", required = true) @PathVariable Long id,
+            @Parameter(description = "Period: week, month, quarter or year") @RequestParam(defaultValue = "month") String period,
+            @Parameter(description = "Start date (ISO format)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date (ISO format)") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        AnalyticsPeriod analyticsPeriod = AnalyticsPeriod.fromName(period);
+        return interviewAnalyticsService.getInterviewerPerformance(id,
+                        rangeStart(analyticsPeriod, startDate, endDate), rangeEnd(analyticsPeriod, startDate, endDate))
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * The given start date when both dates are given, otherwise the start of
+     * the period containing the given date, or today.
+     */
+    private static LocalDate rangeStart(AnalyticsPeriod period, LocalDate startDate, LocalDate endDate) {
+        return startDate != null && endDate != null ? startDate : period.start(anchor(startDate, endDate));
+    }
+
+    private static LocalDate rangeEnd(AnalyticsPeriod period, LocalDate startDate, LocalDate endDate) {
+        return startDate != null && endDate != null ? endDate : period.end(anchor(startDate, endDate));
+    }
+
+    private static LocalDate anchor(LocalDate startDate, LocalDate endDate) {
+        return startDate != null ? startDate : endDate != null ? endDate : LocalDate.now();
+    }
+}
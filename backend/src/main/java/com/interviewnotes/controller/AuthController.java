@@ -4,6 +4,7 @@ import com.interviewnotes.dto.AuthRequest;
 import com.interviewnotes.dto.AuthResponse;
 import com.interviewnotes.dto.RegisterRequest;
 import com.interviewnotes.service.AuthService;
+import com.interviewnotes.service.UserAvailability;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.ServletException;
@@ -12,6 +13,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Controller for authentication operations.
  */
@@ -24,6 +28,9 @@ public class AuthController {
     @Autowired
     private AuthService authService;
     
+    @Autowired
+    private UserAvailability userAvailability;
+    
     /**
      * Authenticate user and return JWT token.
      * 
@@ -50,6 +57,30 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Check whether a username and/or email can still be used to register.
+     * 
+     * @param username the username to check, optional
+     * @param email the email to check, optional
+     * @return availability of each value that was passed
+     */
+    @GetMapping("/availability")
+    @Operation(summary = "Check availability", description = "Check whether a username or email is still free for registration")
+    public ResponseEntity<Map<String, Boolean>> checkAvailability(@RequestParam(required = false) String username,
+                                                                  @RequestParam(required = false) String email) {
+        if (username == null && email == null) {
+            throw new RuntimeException("Username or email is required");
+        }
+        Map<String, Boolean> availability = new LinkedHashMap<>();
+        if (username != null) {
+            availability.put("username", userAvailability.isUsernameAvailable(username));
+        }
+        if (email != null) {
+            availability.put("email", userAvailability.isEmailAvailable(email));
+        }
+        return ResponseEntity.ok(availability);
+    }
+    
     /**
      * Get current user information.
      * 
@@ -1,7 +1,12 @@
 package com.interviewnotes.controller;
 
 import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.dto.CursorPage;
+import com.interviewnotes.service.CandidateImportService;
 import com.interviewnotes.service.CandidateService;
+import com.interviewnotes.service.DataExportService;
+import com.interviewnotes.service.ExportFormat;
+import com.interviewnotes.service.ResourceVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -9,16 +14,25 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,11 +44,21 @@ import java.util.Optional;
 @Tag(name = "Candidates", description = "Candidate management APIs")
 public class CandidateController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
     private final CandidateService candidateService;
+    private final CandidateImportService candidateImportService;
+    private final DataExportService dataExportService;
+    private final ResourceVersions resourceVersions;
 
     @Autowired
-    public CandidateController(CandidateService candidateService) {
+    public CandidateController(CandidateService candidateService, CandidateImportService candidateImportService,
+                               DataExportService dataExportService, ResourceVersions resourceVersions) {
         this.candidateService = candidateService;
+        this.candidateImportService = candidateImportService;
+        this.dataExportService = dataExportService;
+        this.resourceVersions = resourceVersions;
     }
 
     /**
@@ -59,6 +83,28 @@ public class CandidateController {
         }
     }
 
+    /**
+     * Import candidates in bulk.
+     */
+    @PostMapping(value = "/import", consumes = {TEXT_CSV_VALUE, MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import candidates",
+            description = "Creates candidates from a CSV file with a header row, a JSON array or newline-delimited JSON; "
+                    + "rows that cannot be imported are reported without stopping the import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished; see failed and errors for rejected rows",
+                    content = @Content(schema = @Schema(implementation = CandidateImportService.ImportResult.class))),
+            @ApiResponse(responseCode = "400", description = "Unknown CSV column or unreadable input")
+    })
+    public ResponseEntity<CandidateImportService.ImportResult> importCandidates(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        CandidateImportService.ImportResult result = contentType.isCompatibleWith(TEXT_CSV)
+                ? candidateImportService.importCsv(new InputStreamReader(body,
+                        contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8))
+                : candidateImportService.importJson(body);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get candidate by ID.
      */
@@ -71,7 +117,11 @@ public class CandidateController {
     })
     public ResponseEntity<CandidateDTO> getCandidateById(
             @Parameter(description = "Candidate ID", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidate(id))) {
+            return null;
+        }
         Optional<CandidateDTO> candidate = candidateService.getCandidateById(id);
         return candidate.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -89,7 +139,11 @@ public class CandidateController {
     })
     public ResponseEntity<CandidateDTO> getCandidateByEmail(
             @Parameter(description = "Candidate email", required = true)
-            @PathVariable String email) {
+            @PathVariable String email,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidateByEmail(email))) {
+            return null;
+        }
         Optional<CandidateDTO> candidate = candidateService.getCandidateByEmail(email);
         return candidate.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -112,13 +166,72 @@ public class CandidateController {
             @Parameter(description = "Sort field")
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "Sort direction")
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "Omit each candidate's interviews")
+            @RequestParam(defaultValue = "false") boolean summary,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidates())) {
+            return null;
+        }
         
         Sort sort = sortDir.equalsIgnoreCase("asc") ? 
                 Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<CandidateDTO> candidates = candidateService.getAllCandidates(pageable);
+        Page<CandidateDTO> candidates = summary
+                ? candidateService.getAllCandidateSummaries(pageable)
+                : candidateService.getAllCandidates(pageable);
+        return ResponseEntity.ok(candidates);
+    }
+
+    /**
+     * Export all candidates.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export candidates",
+            description = "Streams every candidate, without interviews, as CSV with a header row or as newline-delimited JSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export written"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format")
+    })
+    public void exportCandidates(
+            @Parameter(description = "Export format: csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("candidates." + exportFormat.getExtension())
+                .build().toString());
+        dataExportService.exportCandidates(exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * Get candidates with cursor pagination.
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Get candidates by cursor",
+            description = "Retrieves candidates ordered by creation time using keyset pagination; pass nextCursor to get the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Candidates retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    public ResponseEntity<CursorPage<CandidateDTO>> getCandidatesByCursor(
+            @Parameter(description = "Cursor returned by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort direction on creation time")
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "Omit each candidate's interviews")
+            @RequestParam(defaultValue = "false") boolean summary,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidates())) {
+            return null;
+        }
+        
+        Sort.Direction direction = sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+        CursorPage<CandidateDTO> candidates = candidateService.getCandidatesByCursor(cursor, size, direction, summary);
         return ResponseEntity.ok(candidates);
     }
 
@@ -137,10 +250,18 @@ public class CandidateController {
             @Parameter(description = "Page number (0-based)")
             @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size")
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Omit each candidate's interviews")
+            @RequestParam(defaultValue = "false") boolean summary,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidates())) {
+            return null;
+        }
         
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<CandidateDTO> candidates = candidateService.searchCandidates(q, pageable);
+        Page<CandidateDTO> candidates = summary
+                ? candidateService.searchCandidateSummaries(q, pageable)
+                : candidateService.searchCandidates(q, pageable);
         return ResponseEntity.ok(candidates);
     }
 
@@ -155,8 +276,16 @@ public class CandidateController {
     })
     public ResponseEntity<List<CandidateDTO>> getCandidatesByStatus(
             @Parameter(description = "Candidate status", required = true)
-            @PathVariable String status) {
-        List<CandidateDTO> candidates = candidateService.getCandidatesByStatus(status);
+            @PathVariable String status,
+            @Parameter(description = "Omit each candidate's interviews")
+            @RequestParam(defaultValue = "false") boolean summary,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidates())) {
+            return null;
+        }
+        List<CandidateDTO> candidates = summary
+                ? candidateService.getCandidateSummariesByStatus(status)
+                : candidateService.getCandidatesByStatus(status);
         return ResponseEntity.ok(candidates);
     }
 
@@ -171,8 +300,16 @@ public class CandidateController {
     })
     public ResponseEntity<List<CandidateDTO>> getCandidatesByPosition(
             @Parameter(description = "Position title", required = true)
-            @PathVariable String position) {
-        List<CandidateDTO> candidates = candidateService.getCandidatesByPosition(position);
+            @PathVariable String position,
+            @Parameter(description = "Omit each candidate's interviews")
+            @RequestParam(defaultValue = "false") boolean summary,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidates())) {
+            return null;
+        }
+        List<CandidateDTO> candidates = summary
+                ? candidateService.getCandidateSummariesByPosition(position)
+                : candidateService.getCandidatesByPosition(position);
         return ResponseEntity.ok(candidates);
     }
 
@@ -187,8 +324,16 @@ public class CandidateController {
     })
     public ResponseEntity<List<CandidateDTO>> getCandidatesByExperience(
             @Parameter(description = "Minimum years of experience", required = true)
-            @PathVariable Integer minExperience) {
-        List<CandidateDTO> candidates = candidateService.getCandidatesByExperience(minExperience);
+            @PathVariable Integer minExperience,
+            @Parameter(description = "Omit each candidate's interviews")
+            @RequestParam(defaultValue = "false") boolean summary,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidates())) {
+            return null;
+        }
+        List<CandidateDTO> candidates = summary
+                ? candidateService.getCandidateSummariesByExperience(minExperience)
+                : candidateService.getCandidatesByExperience(minExperience);
         return ResponseEntity.ok(candidates);
     }
 
@@ -242,7 +387,10 @@ public class CandidateController {
             @ApiResponse(responseCode = "200", description = "Candidates retrieved successfully",
                     content = @Content(schema = @Schema(implementation = List.class)))
     })
-    public ResponseEntity<List<CandidateDTO>> getCandidatesWithInterviews() {
+    public ResponseEntity<List<CandidateDTO>> getCandidatesWithInterviews(WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidates())) {
+            return null;
+        }
         List<CandidateDTO> candidates = candidateService.getCandidatesWithInterviews();
         return ResponseEntity.ok(candidates);
     }
@@ -256,7 +404,10 @@ public class CandidateController {
             @ApiResponse(responseCode = "200", description = "Candidates retrieved successfully",
                     content = @Content(schema = @Schema(implementation = List.class)))
     })
-    public ResponseEntity<List<CandidateDTO>> getCandidatesWithoutInterviews() {
+    public ResponseEntity<List<CandidateDTO>> getCandidatesWithoutInterviews(WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.candidates())) {
+            return null;
+        }
         List<CandidateDTO> candidates = candidateService.getCandidatesWithoutInterviews();
         return ResponseEntity.ok(candidates);
     }
@@ -0,0 +1,47 @@
+package com.interviewnotes.controller;
+
+import com.interviewnotes.service.ResourceVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET support shared by the controllers.
+ */
+final class ConditionalGet {
+
+    /**
+     * Clients may store the response but must revalidate it every time.
+     */
+    static final String CACHE_CONTROL = "private, no-cache";
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Add the version's validators to the response and check the request's
+     * If-None-Match / If-Modified-Since against them. Last-Modified is only
+     * sent for versions whose timestamp moves on every change. When this returns true the
+     * response has been turned into a 304 and the handler should return null.
+     *
+     * @param version the resource's version, or null if it does not exist
+     */
+    static boolean notModified(WebRequest request, ResourceVersion version) {
+        if (version == null) {
+            return false;
+        }
+        HttpServletResponse response = request instanceof ServletWebRequest servletRequest
+                ? servletRequest.getResponse()
+                : null;
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        if (version.isLastModifiedExact()) {
+            return request.checkNotModified(version.getETag(), version.getLastModified());
+        }
+        // no Last-Modified: a deletion can leave it unchanged, and an
+        // If-Modified-Since match on it alone would answer 304 for stale data
+        return request.checkNotModified(version.getETag());
+    }
+}
@@ -1,6 +1,9 @@
 package com.interviewnotes.controller;
 
+import com.interviewnotes.util.SqlStatementCounter;
 import jakarta.servlet.ServletException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -13,6 +16,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(ex.getMessage());
     }
 
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> handleTaskRejected(TaskRejectedException ex) {
+        return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "5").body("Server is busy, please retry later");
+    }
+
+    @ExceptionHandler(SqlStatementCounter.BudgetExceededException.class)
+    public ResponseEntity<String> handleSqlStatementBudgetExceeded(SqlStatementCounter.BudgetExceededException ex) {
+        return ResponseEntity.status(500).body("Request exceeded its budget of " + ex.getBudget() + " SQL statements");
+    }
+
     @ExceptionHandler(ServletException.class)
     public ResponseEntity<String> handleServletException(ServletException ex) {
         Throwable cause = ex.getCause();
@@ -1,21 +1,23 @@
 package com.interviewnotes.controller;
 
-import com.interviewnotes.model.Interview;
-import com.interviewnotes.model.Candidate;
-import com.interviewnotes.model.User;
-import com.interviewnotes.repository.InterviewRepository;
-import com.interviewnotes.repository.CandidateRepository;
-import com.interviewnotes.repository.UserRepository;
+import com.interviewnotes.dto.CursorPage;
+import com.interviewnotes.service.DataExportService;
+import com.interviewnotes.service.ExportFormat;
 import com.interviewnotes.service.InterviewService;
+import com.interviewnotes.service.ResourceVersions;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -24,9 +26,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * REST controller for Interview-related operations.
@@ -37,15 +38,17 @@ import java.util.stream.Collectors;
 public class InterviewController {
     @Autowired
     private InterviewService interviewService;
+
     @Autowired
-    private InterviewRepository interviewRepository;
-    @Autowired
-    private CandidateRepository candidateRepository;
+    private DataExportService dataExportService;
+
     @Autowired
-    private UserRepository userRepository;
+    private ResourceVersions resourceVersions;
 
     // DTO for Interview
-    public static class InterviewDTO {
+    public static class InterviewDTO implements java.io.Serializable {
+        private static final long serialVersionUID = 1L;
+
         public Long id;
         public Long candidateId;
         public String candidateName;
@@ -59,24 +62,33 @@ public class InterviewController {
         public String interviewerName;
         public java.time.LocalDateTime createdAt;
         public java.time.LocalDateTime updatedAt;
-    }
 
-    private InterviewDTO toDTO(Interview interview) {
-        InterviewDTO dto = new InterviewDTO();
-        dto.id = interview.getId();
-        dto.candidateId = interview.getCandidate() != null ? interview.getCandidate().getId() : null;
-        dto.candidateName = interview.getCandidate() != null ? interview.getCandidate().getFirstName() + " " + interview.getCandidate().getLastName() : null;
-        dto.position = interview.getPosition();
-        dto.status = interview.getStatus();
-        dto.duration = interview.getDuration();
-        dto.scheduledDate = interview.getScheduledDate();
-        dto.overallScore = interview.getOverallScore();
-        dto.notes = interview.getNotes();
-        dto.interviewerId = interview.getInterviewer() != null ? interview.getInterviewer().getId() : null;
-        dto.interviewerName = interview.getInterviewer() != null ? interview.getInterviewer().getFirstName() + " " + interview.getInterviewer().getLastName() : null;
-        dto.createdAt = interview.getCreatedAt();
-        dto.updatedAt = interview.getUpdatedAt();
-        return dto;
+        public InterviewDTO() {}
+
+        /**
+         * Used by the constructor-expression queries in InterviewRepository;
+         * names are assembled here so a missing candidate or interviewer
+         * leaves the name null.
+         */
+        public InterviewDTO(Long id, Long candidateId, String candidateFirstName, String candidateLastName,
+                            String position, String status, Integer duration,
+                            java.time.LocalDateTime scheduledDate, java.math.BigDecimal overallScore, String notes,
+                            Long interviewerId, String interviewerFirstName, String interviewerLastName,
+                            java.time.LocalDateTime createdAt, java.time.LocalDateTime updatedAt) {
+            this.id = id;
+            this.candidateId = candidateId;
+            this.candidateName = candidateId != null ? candidateFirstName + " " + candidateLastName : null;
+            this.position = position;
+            this.status = status;
+            this.duration = duration;
+            this.scheduledDate = scheduledDate;
+            this.overallScore = overallScore;
+            this.notes = notes;
+            this.interviewerId = interviewerId;
+            this.interviewerName = interviewerId != null ? interviewerFirstName + " " + interviewerLastName : null;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
     }
 
     /**
@@ -92,13 +104,62 @@ public class InterviewController {
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Sort field") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Sort direction") @RequestParam(defaultValue = "desc") String sortDir,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.interviews())) {
+            return null;
+        }
         Sort sort = sortDir.equalsIgnoreCase("asc") ? Sort.by(sortBy).ascending() : Sort.by(sortBy).descending();
         Pageable pageable = PageRequest.of(page, size, sort);
         Page<InterviewDTO> result = interviewService.getAllInterviews(pageable);
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * Export all interviews the current user can see.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export interviews",
+            description = "Streams the visible interviews as CSV with a header row or as newline-delimited JSON; interviewers get their own interviews only")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export written"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format")
+    })
+    public void exportInterviews(
+            @Parameter(description = "Export format: csv or ndjson") @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromName(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("interviews." + exportFormat.getExtension())
+                .build().toString());
+        dataExportService.exportInterviews(exportFormat, response.getOutputStream());
+    }
+
+    /**
+     * Get interviews with cursor pagination.
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Get interviews by cursor",
+            description = "Retrieves interviews ordered by creation time using keyset pagination; pass nextCursor to get the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Interviews retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    public ResponseEntity<CursorPage<InterviewDTO>> getInterviewsByCursor(
+            @Parameter(description = "Cursor returned by the previous page; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Sort direction on creation time") @RequestParam(defaultValue = "desc") String sortDir,
+            WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.interviews())) {
+            return null;
+        }
+        Sort.Direction direction = sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
+        CursorPage<InterviewDTO> result = interviewService.getInterviewsByCursor(cursor, size, direction);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Get interview by ID.
      */
@@ -109,7 +170,10 @@ public class InterviewController {
                     content = @Content(schema = @Schema(implementation = InterviewDTO.class))),
             @ApiResponse(responseCode = "404", description = "Interview not found")
     })
-    public ResponseEntity<InterviewDTO> getInterviewById(@Parameter(description = "Interview ID", required = true) @PathVariable Long id) {
+    public ResponseEntity<InterviewDTO> getInterviewById(@Parameter(description = "Interview ID", required = true) @PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.interview(id))) {
+            return null;
+        }
         return interviewService.getInterviewById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -147,6 +211,22 @@ public class InterviewController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * Update several interviews at once.
+     */
+    @PatchMapping("/batch")
+    @Operation(summary = "Update interviews in bulk",
+            description = "Applies a list of partial updates, each naming its interview by id, in one transaction; "
+                    + "fields left out of an update are not changed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Interviews updated successfully"),
+            @ApiResponse(responseCode = "400", description = "Missing or repeated id, unknown interview, candidate or interviewer, "
+                    + "or too many updates; nothing was changed")
+    })
+    public ResponseEntity<List<InterviewDTO>> updateInterviews(@RequestBody List<InterviewDTO> updates) {
+        return ResponseEntity.ok(interviewService.updateInterviews(updates));
+    }
+
     /**
      * Delete an interview.
      */
@@ -170,7 +250,10 @@ public class InterviewController {
             @ApiResponse(responseCode = "200", description = "Interviews retrieved successfully",
                     content = @Content(schema = @Schema(implementation = List.class)))
     })
-    public ResponseEntity<List<InterviewDTO>> getInterviewsByCandidate(@Parameter(description = "Candidate ID", required = true) @PathVariable Long candidateId) {
+    public ResponseEntity<List<InterviewDTO>> getInterviewsByCandidate(@Parameter(description = "Candidate ID", required = true) @PathVariable Long candidateId, WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.interviews())) {
+            return null;
+        }
         List<InterviewDTO> result = interviewService.getInterviewsByCandidate(candidateId);
         return ResponseEntity.ok(result);
     }
@@ -184,7 +267,10 @@ public class InterviewController {
             @ApiResponse(responseCode = "200", description = "Interviews retrieved successfully",
                     content = @Content(schema = @Schema(implementation = List.class)))
     })
-    public ResponseEntity<List<InterviewDTO>> getInterviewsByStatus(@Parameter(description = "Interview status", required = true) @PathVariable String status) {
+    public ResponseEntity<List<InterviewDTO>> getInterviewsByStatus(@Parameter(description = "Interview status", required = true) @PathVariable String status, WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.interviews())) {
+            return null;
+        }
         List<InterviewDTO> result = interviewService.getInterviewsByStatus(status);
         return ResponseEntity.ok(result);
     }
@@ -198,7 +284,10 @@ public class InterviewController {
             @ApiResponse(responseCode = "200", description = "Interviews retrieved successfully",
                     content = @Content(schema = @Schema(implementation = List.class)))
     })
-    public ResponseEntity<List<InterviewDTO>> getInterviewsByPosition(@Parameter(description = "Position title", required = true) @PathVariable String position) {
+    public ResponseEntity<List<InterviewDTO>> getInterviewsByPosition(@Parameter(description = "Position title", required = true) @PathVariable String position, WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.interviews())) {
+            return null;
+        }
         List<InterviewDTO> result = interviewService.getInterviewsByPosition(position);
         return ResponseEntity.ok(result);
     }
@@ -212,7 +301,10 @@ public class InterviewController {
             @ApiResponse(responseCode = "200", description = "Interviews retrieved successfully",
                     content = @Content(schema = @Schema(implementation = List.class)))
     })
-    public ResponseEntity<List<InterviewDTO>> getInterviewsByInterviewer(@Parameter(description = "Interviewer ID", required = true) @PathVariable Long interviewerId) {
+    public ResponseEntity<List<InterviewDTO>> getInterviewsByInterviewer(@Parameter(description = "Interviewer ID", required = true) @PathVariable Long interviewerId, WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.interviews())) {
+            return null;
+        }
         List<InterviewDTO> result = interviewService.getInterviewsByInterviewer(interviewerId);
         return ResponseEntity.ok(result);
     }
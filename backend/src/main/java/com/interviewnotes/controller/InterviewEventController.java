@@ -0,0 +1,41 @@
+package com.interviewnotes.controller;
+
+import com.interviewnotes.service.InterviewEventBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for the interview event stream.
+ *
+ * Clients keep one connection open and receive {@code interview_created},
+ * {@code interview_updated} and {@code interview_deleted} events for the
+ * interviews they can see, instead of polling the interview list.
+ */
+@RestController
+@RequestMapping("/api/interviews")
+@Tag(name = "Interviews", description = "Interview management APIs")
+public class InterviewEventController {
+    @Autowired
+    private InterviewEventBroadcaster interviewEventBroadcaster;
+
+    /**
+     * Subscribe to interview events.
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to interview events",
+            description = "Streams interview create, update and delete events as server-sent events")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened")
+    })
+    public SseEmitter subscribe() {
+        return interviewEventBroadcaster.subscribe();
+    }
+}
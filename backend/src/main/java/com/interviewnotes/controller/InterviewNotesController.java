@@ -0,0 +1,82 @@
+package com.interviewnotes.controller;
+
+import com.interviewnotes.dto.InterviewNotesDTO;
+import com.interviewnotes.dto.InterviewQuestionDTO;
+import com.interviewnotes.service.InterviewNotesService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the notes and questions of an interview.
+ */
+@RestController
+@RequestMapping("/api/interviews/{interviewId}/notes")
+@Tag(name = "Interview Notes", description = "Interview notes and question APIs")
+public class InterviewNotesController {
+    @Autowired
+    private InterviewNotesService interviewNotesService;
+
+    /**
+     * Add notes to an interview.
+     */
+    @PostMapping
+    @Operation(summary = "Add interview notes", description = "Adds the notes of one interview round, with its questions")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Notes created"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Interview not found")
+    })
+    public ResponseEntity<InterviewNotesDTO> addNotes(
+            @Parameter(description = "Interview ID", required = true) @PathVariable Long interviewId,
+            @Valid @RequestBody InterviewNotesDTO dto) {
+        return interviewNotesService.addNotes(interviewId, dto)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Update interview notes.
+     */
+    @PutMapping("/{notesId}")
+    @Operation(summary = "Update interview notes", description = "Updates the provided fields of a set of notes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Notes updated"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Interview or notes not found")
+    })
+    public ResponseEntity<InterviewNotesDTO> updateNotes(
+            @Parameter(description = "Interview ID", required = true) @PathVariable Long interviewId,
+            @Parameter(description = "Notes ID", required = true) @PathVariable Long notesId,
+            @Valid @RequestBody InterviewNotesDTO dto) {
+        return interviewNotesService.updateNotes(interviewId, notesId, dto)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Add a question to interview notes.
+     */
+    @PostMapping("/{notesId}/questions")
+    @Operation(summary = "Add a question", description = "Adds a question and response to a set of notes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Question created"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Interview or notes not found")
+    })
+    public ResponseEntity<InterviewQuestionDTO> addQuestion(
+            @Parameter(description = "Interview ID", required = true) @PathVariable Long interviewId,
+            @Parameter(description = "Notes ID", required = true) @PathVariable Long notesId,
+            @Valid @RequestBody InterviewQuestionDTO dto) {
+        return interviewNotesService.addQuestion(interviewId, notesId, dto)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,86 @@
+package com.interviewnotes.controller;
+
+import com.interviewnotes.dto.ReportPreviewDTO;
+import com.interviewnotes.service.InterviewReportService;
+import com.interviewnotes.service.InterviewSummaryService;
+import com.interviewnotes.service.ReportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller for interview reports and report previews.
+ *
+ * Full reports are returned asynchronously: the request thread is released while
+ * the report is rendered, and the finished file is streamed to the client.
+ */
+@RestController
+@RequestMapping("/api/interviews")
+@Tag(name = "Interviews", description = "Interview management APIs")
+public class InterviewReportController {
+    @Autowired
+    private InterviewReportService interviewReportService;
+    @Autowired
+    private InterviewSummaryService interviewSummaryService;
+
+    /**
+     * Get the report of an interview.
+     */
+    @GetMapping("/{id}/report")
+    @Operation(summary = "Get interview report", description = "Generates the interview report as PDF or HTML")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report generated"),
+            @ApiResponse(responseCode = "400", description = "Unsupported format"),
+            @ApiResponse(responseCode = "404", description = "Interview not found"),
+            @ApiResponse(responseCode = "503", description = "Too many reports are being generated")
+    })
+    public CompletableFuture<ResponseEntity<Resource>> getReport(
+            @Parameter(description = "Interview ID", required = true) @PathVariable Long id,
+            @Parameter(description = "Report format: pdf or html") @RequestParam(defaultValue = "pdf") String format,
+            @Parameter(description = "Include detailed notes") @RequestParam(defaultValue = "true") boolean includeNotes,
+            @Parameter(description = "Include scores") @RequestParam(defaultValue = "true") boolean includeScores) {
+        ReportFormat reportFormat = ReportFormat.fromName(format);
+        return interviewReportService.getReport(id, reportFormat, includeNotes, includeScores)
+                .thenApply(report -> report
+                        .map(file -> ResponseEntity.ok()
+                                .contentType(MediaType.parseMediaType(reportFormat.getContentType()))
+                                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                                        .filename("interview-" + id + "-report." + reportFormat.getExtension())
+                                        .build().toString())
+                                .<Resource>body(new FileSystemResource(file)))
+                        .orElse(ResponseEntity.notFound().build()));
+    }
+
+    /**
+     * Get the report preview of an interview.
+     */
+    @GetMapping("/{id}/report/preview")
+    @Operation(summary = "Get interview report preview",
+            description = "Returns the round scores, average score and final recommendation of an interview")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Preview found"),
+            @ApiResponse(responseCode = "404", description = "Interview not found")
+    })
+    public ResponseEntity<ReportPreviewDTO> getReportPreview(
+            @Parameter(description = "Interview ID", required = true) @PathVariable Long id) {
+        return interviewSummaryService.getPreview(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
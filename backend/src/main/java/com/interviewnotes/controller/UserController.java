@@ -1,9 +1,17 @@
 package com.interviewnotes.controller;
 
+import com.interviewnotes.config.CacheNames;
 import com.interviewnotes.model.User;
 import com.interviewnotes.repository.UserRepository;
+import com.interviewnotes.service.InterviewSummaryService;
+import com.interviewnotes.service.ResourceVersions;
+import com.interviewnotes.service.UserAvailability;
+import com.interviewnotes.service.UserDetailsCache;
+import com.interviewnotes.service.UserSecurityEpochs;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,9 +20,22 @@ import java.util.stream.Collectors;
 public class UserController {
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+    @Autowired
+    private UserSecurityEpochs userSecurityEpochs;
+    @Autowired
+    private UserAvailability userAvailability;
+    @Autowired
+    private InterviewSummaryService interviewSummaryService;
+    @Autowired
+    private ResourceVersions resourceVersions;
 
     @GetMapping
-    public List<UserDTO> getUsers(@RequestParam(value = "role", required = false) String role) {
+    public List<UserDTO> getUsers(@RequestParam(value = "role", required = false) String role, WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.users())) {
+            return null;
+        }
         List<User> users;
         if (role != null) {
             users = userRepository.findByRole(User.UserRole.valueOf(role));
@@ -25,12 +46,16 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
-    public UserDTO getUserById(@PathVariable Long id) {
+    public UserDTO getUserById(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalGet.notModified(webRequest, resourceVersions.user(id))) {
+            return null;
+        }
         User user = userRepository.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
         return UserDTO.fromUser(user);
     }
 
     @PutMapping("/{id}")
+    @CacheEvict(cacheNames = CacheNames.INTERVIEWS, allEntries = true)
     public UserDTO updateUser(@PathVariable Long id, @RequestBody UpdateUserRequest update) {
         User user = userRepository.findById(id).orElseThrow(() -> new RuntimeException("User not found"));
         if (update.firstName != null) user.setFirstName(update.firstName);
@@ -38,12 +63,21 @@ public class UserController {
         if (update.email != null) user.setEmail(update.email);
         if (update.enabled != null) user.setEnabled(update.enabled);
         userRepository.save(user);
+        userDetailsCache.evict(user.getUsername());
+        userSecurityEpochs.update(user);
+        userAvailability.add(user);
+        if (update.firstName != null || update.lastName != null) {
+            interviewSummaryService.interviewerUpdated(user);
+        }
         return UserDTO.fromUser(user);
     }
 
     @DeleteMapping("/{id}")
+    @CacheEvict(cacheNames = CacheNames.INTERVIEWS, allEntries = true)
     public void deleteUser(@PathVariable Long id) {
+        userRepository.findById(id).ifPresent(user -> userDetailsCache.evict(user.getUsername()));
         userRepository.deleteById(id);
+        userSecurityEpochs.revoke(id);
     }
 
     public static class UserDTO {
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PositiveOrZero;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -13,7 +14,9 @@ import java.util.List;
  * Data Transfer Object for Candidate entity.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class CandidateDTO {
+public class CandidateDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Long id;
 
@@ -58,6 +61,28 @@ public class CandidateDTO {
         this.position = position;
     }
 
+    /**
+     * Used by the constructor-expression queries in CandidateRepository;
+     * interviews are left unset.
+     */
+    public CandidateDTO(Long id, String firstName, String lastName, String email, String phone, String position,
+                        Integer experience, String resumeUrl, String source, String notes, String status,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.email = email;
+        this.phone = phone;
+        this.position = position;
+        this.experience = experience;
+        this.resumeUrl = resumeUrl;
+        this.source = source;
+        this.notes = notes;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -192,7 +217,9 @@ public class CandidateDTO {
      * Summary DTO for interviews in candidate response.
      */
     @JsonInclude(JsonInclude.Include.NON_NULL)
-    public static class InterviewSummaryDTO {
+    public static class InterviewSummaryDTO implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private Long id;
         private String position;
         private String status;
@@ -0,0 +1,46 @@
+package com.interviewnotes.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (cursor) paginated result.
+ *
+ * Unlike {@link org.springframework.data.domain.Page} it carries no total count;
+ * pass {@code nextCursor} back to fetch the following page. It is null on the
+ * last page.
+ *
+ * @param <T> the element type
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> CursorPage<T> empty() {
+        return new CursorPage<>(List.of(), null);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public int getSize() {
+        return content.size();
+    }
+
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,168 @@
+package com.interviewnotes.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Pattern;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object for InterviewNotes entity.
+ */
+public class InterviewNotesDTO {
+
+    private Long id;
+
+    private Long interviewId;
+
+    private String roundType;
+
+    private String technicalNotes;
+
+    private String codingNotes;
+
+    private String communicationNotes;
+
+    private List<String> strengths;
+
+    private List<String> weaknesses;
+
+    @DecimalMin(value = "0.0", message = "Score must be at least 0")
+    @DecimalMax(value = "10.0", message = "Score must be at most 10")
+    private BigDecimal overallScore;
+
+    @Pattern(regexp = "STRONG_HIRE|HIRE|WEAK_HIRE|NO_HIRE", message = "Recommendation must be STRONG_HIRE, HIRE, WEAK_HIRE or NO_HIRE")
+    private String recommendation;
+
+    private String feedback;
+
+    @Valid
+    private List<InterviewQuestionDTO> questions = new ArrayList<>();
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public InterviewNotesDTO() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public void setInterviewId(Long interviewId) {
+        this.interviewId = interviewId;
+    }
+
+    public String getRoundType() {
+        return roundType;
+    }
+
+    public void setRoundType(String roundType) {
+        this.roundType = roundType;
+    }
+
+    public String getTechnicalNotes() {
+        return technicalNotes;
+    }
+
+    public void setTechnicalNotes(String technicalNotes) {
+        this.technicalNotes = technicalNotes;
+    }
+
+    public String getCodingNotes() {
+        return codingNotes;
+    }
+
+    public void setCodingNotes(String codingNotes) {
+        this.codingNotes = codingNotes;
+    }
+
+    public String getCommunicationNotes() {
+        return communicationNotes;
+    }
+
+    public void setCommunicationNotes(String communicationNotes) {
+        this.communicationNotes = communicationNotes;
+    }
+
+    public List<String> getStrengths() {
+        return strengths;
+    }
+
+    public void setStrengths(List<String> strengths) {
+        this.strengths = strengths;
+    }
+
+    public List<String> getWeaknesses() {
+        return weaknesses;
+    }
+
+    public void setWeaknesses(List<String> weaknesses) {
+        this.weaknesses = weaknesses;
+    }
+
+    public BigDecimal getOverallScore() {
+        return overallScore;
+    }
+
+    public void setOverallScore(BigDecimal overallScore) {
+        this.overallScore = overallScore;
+    }
+
+    public String getRecommendation() {
+        return recommendation;
+    }
+
+    public void setRecommendation(String recommendation) {
+        this.recommendation = recommendation;
+    }
+
+    public String getFeedback() {
+        return feedback;
+    }
+
+    public void setFeedback(String feedback) {
+        this.feedback = feedback;
+    }
+
+    public List<InterviewQuestionDTO> getQuestions() {
+        return questions;
+    }
+
+    public void setQuestions(List<InterviewQuestionDTO> questions) {
+        this.questions = questions;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,152 @@
+package com.interviewnotes.dto;
+
+import com.interviewnotes.model.InterviewSummary;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Data Transfer Object for the report preview of an interview.
+ */
+public class ReportPreviewDTO {
+
+    private final Long interviewId;
+    private final CandidateInfo candidate;
+    private final InterviewInfo interview;
+    private final List<RoundInfo> rounds;
+    private final Summary summary;
+
+    public ReportPreviewDTO(InterviewSummary summary) {
+        this.interviewId = summary.getInterviewId();
+        this.candidate = new CandidateInfo(summary.getCandidateName(), summary.getCandidatePosition(), summary.getCandidateEmail());
+        this.interview = new InterviewInfo(summary.getScheduledDate(), summary.getStatus(), summary.getOverallScore());
+        this.rounds = summary.getRounds().stream()
+                .map(round -> new RoundInfo(round.getRoundType(), round.getScore(), round.getRecommendation(), summary.getInterviewerName()))
+                .collect(Collectors.toList());
+        this.summary = new Summary(summary.getTotalRounds(), summary.getAverageScore(), summary.getFinalRecommendation());
+    }
+
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public CandidateInfo getCandidate() {
+        return candidate;
+    }
+
+    public InterviewInfo getInterview() {
+        return interview;
+    }
+
+    public List<RoundInfo> getRounds() {
+        return rounds;
+    }
+
+    public Summary getSummary() {
+        return summary;
+    }
+
+    public static class CandidateInfo {
+        private final String name;
+        private final String position;
+        private final String email;
+
+        public CandidateInfo(String name, String position, String email) {
+            this.name = name;
+            this.position = position;
+            this.email = email;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getPosition() {
+            return position;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+    }
+
+    public static class InterviewInfo {
+        private final LocalDateTime scheduledDate;
+        private final String status;
+        private final BigDecimal overallScore;
+
+        public InterviewInfo(LocalDateTime scheduledDate, String status, BigDecimal overallScore) {
+            this.scheduledDate = scheduledDate;
+            this.status = status;
+            this.overallScore = overallScore;
+        }
+
+        public LocalDateTime getScheduledDate() {
+            return scheduledDate;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public BigDecimal getOverallScore() {
+            return overallScore;
+        }
+    }
+
+    public static class RoundInfo {
+        private final String roundType;
+        private final BigDecimal score;
+        private final String recommendation;
+        private final String interviewer;
+
+        public RoundInfo(String roundType, BigDecimal score, String recommendation, String interviewer) {
+            this.roundType = roundType;
+            this.score = score;
+            this.recommendation = recommendation;
+            this.interviewer = interviewer;
+        }
+
+        public String getRoundType() {
+            return roundType;
+        }
+
+        public BigDecimal getScore() {
+            return score;
+        }
+
+        public String getRecommendation() {
+            return recommendation;
+        }
+
+        public String getInterviewer() {
+            return interviewer;
+        }
+    }
+
+    public static class Summary {
+        private final int totalRounds;
+        private final BigDecimal averageScore;
+        private final String finalRecommendation;
+
+        public Summary(int totalRounds, BigDecimal averageScore, String finalRecommendation) {
+            this.totalRounds = totalRounds;
+            this.averageScore = averageScore;
+            this.finalRecommendation = finalRecommendation;
+        }
+
+        public int getTotalRounds() {
+            return totalRounds;
+        }
+
+        public BigDecimal getAverageScore() {
+            return averageScore;
+        }
+
+        public String getFinalRecommendation() {
+            return finalRecommendation;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.interviewnotes.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Entity marking a day whose analytics rollups must be recomputed.
+ */
+@Entity
+@Table(name = "analytics_dirty_days")
+public class AnalyticsDirtyDay {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private long generation;
+
+    // Constructors
+    public AnalyticsDirtyDay() {}
+
+    public AnalyticsDirtyDay(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public AnalyticsDirtyDay(LocalDate statDate, long generation) {
+        this.statDate = statDate;
+        this.generation = generation;
+    }
+
+    // Getters and Setters
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(long generation) {
+        this.generation = generation;
+    }
+}
@@ -14,6 +14,9 @@ import java.util.List;
 
 /**
  * Entity representing a job candidate in the interview system.
+ *
+ * Ids are reserved from candidates_id_seq fifty at a time, so Hibernate can
+ * batch the inserts of a bulk import.
  */
 @Entity
 @Table(name = "candidates")
@@ -21,7 +24,8 @@ import java.util.List;
 public class Candidate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candidates_id_seq")
+    @SequenceGenerator(name = "candidates_id_seq", sequenceName = "candidates_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "First name is required")
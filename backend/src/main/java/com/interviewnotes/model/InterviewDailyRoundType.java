@@ -0,0 +1,91 @@
+package com.interviewnotes.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Entity holding the number of rounds of one type held on one day.
+ */
+@Entity
+@Table(name = "interview_daily_round_types")
+@IdClass(InterviewDailyRoundType.Key.class)
+public class InterviewDailyRoundType {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "round_type", length = 50)
+    private String roundType;
+
+    @Column(nullable = false)
+    private int rounds;
+
+    // Constructors
+    public InterviewDailyRoundType() {}
+
+    public InterviewDailyRoundType(LocalDate statDate, String roundType, int rounds) {
+        this.statDate = statDate;
+        this.roundType = roundType;
+        this.rounds = rounds;
+    }
+
+    // Getters and Setters
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public String getRoundType() {
+        return roundType;
+    }
+
+    public void setRoundType(String roundType) {
+        this.roundType = roundType;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public void setRounds(int rounds) {
+        this.rounds = rounds;
+    }
+
+    /**
+     * Primary key of a daily round type count.
+     */
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private LocalDate statDate;
+        private String roundType;
+
+        public Key() {}
+
+        public Key(LocalDate statDate, String roundType) {
+            this.statDate = statDate;
+            this.roundType = roundType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(statDate, key.statDate) && Objects.equals(roundType, key.roundType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(statDate, roundType);
+        }
+    }
+}
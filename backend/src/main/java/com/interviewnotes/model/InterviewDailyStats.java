@@ -0,0 +1,148 @@
+package com.interviewnotes.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity holding the interview statistics of one day, by scheduled date.
+ *
+ * Rows are written by the rollup refresh (see
+ * {@link com.interviewnotes.repository.InterviewDailyStatsRepository#insertDays}).
+ * Each interview counts towards the recommendation column of its final
+ * recommendation, as computed for the report preview.
+ */
+@Entity
+@Table(name = "interview_daily_stats")
+public class InterviewDailyStats {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "total_interviews", nullable = false)
+    private int totalInterviews;
+
+    @Column(name = "completed_interviews", nullable = false)
+    private int completedInterviews;
+
+    @Column(name = "scored_interviews", nullable = false)
+    private int scoredInterviews;
+
+    @Column(name = "score_total", nullable = false, precision = 12, scale = 1)
+    private BigDecimal scoreTotal = BigDecimal.ZERO;
+
+    @Column(name = "strong_hire", nullable = false)
+    private int strongHire;
+
+    @Column(nullable = false)
+    private int hire;
+
+    @Column(name = "weak_hire", nullable = false)
+    private int weakHire;
+
+    @Column(name = "no_hire", nullable = false)
+    private int noHire;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public InterviewDailyStats() {}
+
+    public InterviewDailyStats(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    // Getters and Setters
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public int getTotalInterviews() {
+        return totalInterviews;
+    }
+
+    public void setTotalInterviews(int totalInterviews) {
+        this.totalInterviews = totalInterviews;
+    }
+
+    public int getCompletedInterviews() {
+        return completedInterviews;
+    }
+
+    public void setCompletedInterviews(int completedInterviews) {
+        this.completedInterviews = completedInterviews;
+    }
+
+    public int getScoredInterviews() {
+        return scoredInterviews;
+    }
+
+    public void setScoredInterviews(int scoredInterviews) {
+        this.scoredInterviews = scoredInterviews;
+    }
+
+    public BigDecimal getScoreTotal() {
+        return scoreTotal;
+    }
+
+    public void setScoreTotal(BigDecimal scoreTotal) {
+        this.scoreTotal = scoreTotal;
+    }
+
+    public int getStrongHire() {
+        return strongHire;
+    }
+
+    public void setStrongHire(int strongHire) {
+        this.strongHire = strongHire;
+    }
+
+    public int getHire() {
+        return hire;
+    }
+
+    public void setHire(int hire) {
+        this.hire = hire;
+    }
+
+    public int getWeakHire() {
+        return weakHire;
+    }
+
+    public void setWeakHire(int weakHire) {
+        this.weakHire = weakHire;
+    }
+
+    public int getNoHire() {
+        return noHire;
+    }
+
+    public void setNoHire(int noHire) {
+        this.noHire = noHire;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "InterviewDailyStats{" +
+                "statDate=" + statDate +
+                ", totalInterviews=" + totalInterviews +
+                ", completedInterviews=" + completedInterviews +
+                '}';
+    }
+}
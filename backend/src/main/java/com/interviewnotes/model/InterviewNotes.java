@@ -22,6 +22,13 @@ public class InterviewNotes {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "interview_id")
+    private Interview interview;
+
+    @Column(name = "round_type", length = 50)
+    private String roundType;
+
     @Column(name = "technical_notes", columnDefinition = "TEXT")
     private String technicalNotes;
 
@@ -40,6 +47,9 @@ public class InterviewNotes {
     @Column(name = "overall_score", precision = 3, scale = 1)
     private BigDecimal overallScore;
 
+    @Column(length = 20)
+    private String recommendation;
+
     @Column(columnDefinition = "TEXT")
     private String feedback;
 
@@ -66,6 +76,22 @@ public class InterviewNotes {
         this.id = id;
     }
 
+    public Interview getInterview() {
+        return interview;
+    }
+
+    public void setInterview(Interview interview) {
+        this.interview = interview;
+    }
+
+    public String getRoundType() {
+        return roundType;
+    }
+
+    public void setRoundType(String roundType) {
+        this.roundType = roundType;
+    }
+
     public String getTechnicalNotes() {
         return technicalNotes;
     }
@@ -114,6 +140,14 @@ public class InterviewNotes {
         this.overallScore = overallScore;
     }
 
+    public String getRecommendation() {
+        return recommendation;
+    }
+
+    public void setRecommendation(String recommendation) {
+        this.recommendation = recommendation;
+    }
+
     public String getFeedback() {
         return feedback;
     }
@@ -0,0 +1,416 @@
+package com.interviewnotes.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Entity holding the precomputed report preview of one interview.
+ *
+ * Candidate and interviewer details are copied from their entities, and the
+ * rounds are one entry per set of interview notes, stored as JSON so the whole
+ * preview is read with a single primary key lookup. Round scores and
+ * recommendations are folded into the average score and final recommendation
+ * whenever the rounds change.
+ */
+@Entity
+@Table(name = "interview_summaries")
+public class InterviewSummary {
+
+    /**
+     * Recommendations from weakest to strongest.
+     */
+    private static final List<String> RECOMMENDATIONS = List.of("NO_HIRE", "WEAK_HIRE", "HIRE", "STRONG_HIRE");
+
+    @Id
+    @Column(name = "interview_id")
+    private Long interviewId;
+
+    @Column(name = "candidate_name")
+    private String candidateName;
+
+    @Column(name = "candidate_email")
+    private String candidateEmail;
+
+    @Column(name = "candidate_position")
+    private String candidatePosition;
+
+    @Column(name = "scheduled_date")
+    private LocalDateTime scheduledDate;
+
+    @Column(length = 50)
+    private String status;
+
+    @Column(name = "overall_score", precision = 3, scale = 1)
+    private BigDecimal overallScore;
+
+    @Column(name = "interviewer_id")
+    private Long interviewerId;
+
+    @Column(name = "interviewer_name")
+    private String interviewerName;
+
+    @Convert(converter = RoundsConverter.class)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private List<Round> rounds = new ArrayList<>();
+
+    @Column(name = "total_rounds", nullable = false)
+    private int totalRounds;
+
+    @Column(name = "average_score", precision = 4, scale = 2)
+    private BigDecimal averageScore;
+
+    @Column(name = "final_recommendation", length = 20)
+    private String finalRecommendation;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public InterviewSummary() {}
+
+    public InterviewSummary(Long interviewId) {
+        this.interviewId = interviewId;
+    }
+
+    // Getters and Setters
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public void setInterviewId(Long interviewId) {
+        this.interviewId = interviewId;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public void setCandidateName(String candidateName) {
+        this.candidateName = candidateName;
+    }
+
+    public String getCandidateEmail() {
+        return candidateEmail;
+    }
+
+    public void setCandidateEmail(String candidateEmail) {
+        this.candidateEmail = candidateEmail;
+    }
+
+    public String getCandidatePosition() {
+        return candidatePosition;
+    }
+
+    public void setCandidatePosition(String candidatePosition) {
+        this.candidatePosition = candidatePosition;
+    }
+
+    public LocalDateTime getScheduledDate() {
+        return scheduledDate;
+    }
+
+    public void setScheduledDate(LocalDateTime scheduledDate) {
+        this.scheduledDate = scheduledDate;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public BigDecimal getOverallScore() {
+        return overallScore;
+    }
+
+    public void setOverallScore(BigDecimal overallScore) {
+        this.overallScore = overallScore;
+    }
+
+    public Long getInterviewerId() {
+        return interviewerId;
+    }
+
+    public void setInterviewerId(Long interviewerId) {
+        this.interviewerId = interviewerId;
+    }
+
+    public String getInterviewerName() {
+        return interviewerName;
+    }
+
+    public void setInterviewerName(String interviewerName) {
+        this.interviewerName = interviewerName;
+    }
+
+    public List<Round> getRounds() {
+        return rounds;
+    }
+
+    public int getTotalRounds() {
+        return totalRounds;
+    }
+
+    public BigDecimal getAverageScore() {
+        return averageScore;
+    }
+
+    public String getFinalRecommendation() {
+        return finalRecommendation;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Utility methods
+
+    /**
+     * Find the round recorded for a set of notes.
+     */
+    public Round findRound(Long notesId) {
+        for (Round round : rounds) {
+            if (round.getNotesId().equals(notesId)) {
+                return round;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Add a round, or replace the one recorded for the same notes in place.
+     * The list is always replaced rather than changed so Hibernate sees the
+     * new value.
+     */
+    public void putRound(Round round) {
+        List<Round> updated = new ArrayList<>(rounds);
+        int index = updated.indexOf(findRound(round.getNotesId()));
+        if (index >= 0) {
+            updated.set(index, round);
+        } else {
+            updated.add(round);
+        }
+        setRounds(updated);
+    }
+
+    /**
+     * Replace all rounds and recompute the totals.
+     */
+    public void setRounds(List<Round> rounds) {
+        this.rounds = new ArrayList<>(rounds);
+        recalculate();
+    }
+
+    /**
+     * Recompute the round count, average score and final recommendation.
+     */
+    public void recalculate() {
+        totalRounds = rounds.size();
+
+        BigDecimal scoreTotal = BigDecimal.ZERO;
+        int scored = 0;
+        int rankTotal = 0;
+        int recommended = 0;
+        for (Round round : rounds) {
+            BigDecimal score = round.getScore();
+            if (score != null) {
+                scoreTotal = scoreTotal.add(score);
+                scored++;
+            }
+            int rank = round.getRecommendation() != null ? RECOMMENDATIONS.indexOf(round.getRecommendation()) : -1;
+            if (rank >= 0) {
+                rankTotal += rank;
+                recommended++;
+            }
+        }
+        averageScore = scored > 0 ? scoreTotal.divide(BigDecimal.valueOf(scored), 2, RoundingMode.HALF_UP) : null;
+        finalRecommendation = recommended > 0
+                ? RECOMMENDATIONS.get(BigDecimal.valueOf(rankTotal)
+                        .divide(BigDecimal.valueOf(recommended), 0, RoundingMode.HALF_UP).intValue())
+                : null;
+    }
+
+    @Override
+    public String toString() {
+        return "InterviewSummary{" +
+                "interviewId=" + interviewId +
+                ", totalRounds=" + totalRounds +
+                ", averageScore=" + averageScore +
+                ", finalRecommendation='" + finalRecommendation + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InterviewSummary that = (InterviewSummary) o;
+        return interviewId != null && interviewId.equals(that.getInterviewId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    /**
+     * One set of interview notes as it appears in the preview. The question
+     * score total and count are kept so a new question can be added without
+     * reading the others again.
+     */
+    public static class Round {
+        private Long notesId;
+        private String roundType;
+        private BigDecimal notesScore;
+        private int questionScoreTotal;
+        private int scoredQuestions;
+        private String recommendation;
+
+        public Round() {}
+
+        public Round(Long notesId) {
+            this.notesId = notesId;
+        }
+
+        public Round(Round other) {
+            this.notesId = other.notesId;
+            this.roundType = other.roundType;
+            this.notesScore = other.notesScore;
+            this.questionScoreTotal = other.questionScoreTotal;
+            this.scoredQuestions = other.scoredQuestions;
+            this.recommendation = other.recommendation;
+        }
+
+        public Long getNotesId() {
+            return notesId;
+        }
+
+        public void setNotesId(Long notesId) {
+            this.notesId = notesId;
+        }
+
+        public String getRoundType() {
+            return roundType;
+        }
+
+        public void setRoundType(String roundType) {
+            this.roundType = roundType;
+        }
+
+        public BigDecimal getNotesScore() {
+            return notesScore;
+        }
+
+        public void setNotesScore(BigDecimal notesScore) {
+            this.notesScore = notesScore;
+        }
+
+        public int getQuestionScoreTotal() {
+            return questionScoreTotal;
+        }
+
+        public void setQuestionScoreTotal(int questionScoreTotal) {
+            this.questionScoreTotal = questionScoreTotal;
+        }
+
+        public int getScoredQuestions() {
+            return scoredQuestions;
+        }
+
+        public void setScoredQuestions(int scoredQuestions) {
+            this.scoredQuestions = scoredQuestions;
+        }
+
+        public String getRecommendation() {
+            return recommendation;
+        }
+
+        public void setRecommendation(String recommendation) {
+            this.recommendation = recommendation;
+        }
+
+        /**
+         * Count a question score towards the round.
+         */
+        public void addQuestionScore(Integer score) {
+            if (score != null) {
+                questionScoreTotal += score;
+                scoredQuestions++;
+            }
+        }
+
+        /**
+         * The notes' overall score, or the average question score when the
+         * notes have none.
+         */
+        @JsonIgnore
+        public BigDecimal getScore() {
+            if (notesScore != null) return notesScore;
+            if (scoredQuestions == 0) return null;
+            return BigDecimal.valueOf(questionScoreTotal).divide(BigDecimal.valueOf(scoredQuestions), 1, RoundingMode.HALF_UP);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Round that = (Round) o;
+            return questionScoreTotal == that.questionScoreTotal
+                    && scoredQuestions == that.scoredQuestions
+                    && Objects.equals(notesId, that.notesId)
+                    && Objects.equals(roundType, that.roundType)
+                    && Objects.equals(notesScore, that.notesScore)
+                    && Objects.equals(recommendation, that.recommendation);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(notesId, roundType, notesScore, questionScoreTotal, scoredQuestions, recommendation);
+        }
+    }
+
+    /**
+     * Stores the rounds as a JSON array.
+     */
+    @Converter
+    public static class RoundsConverter implements AttributeConverter<List<Round>, String> {
+        private static final ObjectMapper MAPPER = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        @Override
+        public String convertToDatabaseColumn(List<Round> rounds) {
+            try {
+                return MAPPER.writeValueAsString(rounds != null ? rounds : List.of());
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Could not store interview rounds", e);
+            }
+        }
+
+        @Override
+        public List<Round> convertToEntityAttribute(String json) {
+            if (json == null || json.isEmpty()) return new ArrayList<>();
+            try {
+                return MAPPER.readValue(json, new TypeReference<List<Round>>() {});
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Could not read interview rounds", e);
+            }
+        }
+    }
+}
@@ -17,25 +17,27 @@ import java.util.Set;
  */
 @Entity
 @Table(name = "users", uniqueConstraints = {
-    @UniqueConstraint(columnNames = "username"),
-    @UniqueConstraint(columnNames = "email")
+    @UniqueConstraint(name = User.USERNAME_CONSTRAINT, columnNames = "username"),
+    @UniqueConstraint(name = User.EMAIL_CONSTRAINT, columnNames = "email")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class User {
     
+    /** Names PostgreSQL gave the unique constraints created in V3. */
+    public static final String USERNAME_CONSTRAINT = "users_username_key";
+    public static final String EMAIL_CONSTRAINT = "users_email_key";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
     @NotBlank
     @Size(max = 50)
-    @Column(unique = true)
     private String username;
     
     @NotBlank
     @Size(max = 100)
     @Email
-    @Column(unique = true)
     private String email;
     
     @NotBlank
@@ -53,6 +55,13 @@ public class User {
     
     private boolean enabled = true;
     
+    /**
+     * Incremented when the user is disabled or changes role, so access tokens
+     * issued before the change stop being accepted.
+     */
+    @Column(nullable = false)
+    private int securityEpoch;
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -130,6 +139,9 @@ public class User {
     }
     
     public void setRole(UserRole role) {
+        if (id != null && role != this.role) {
+            securityEpoch++;
+        }
         this.role = role;
     }
     
@@ -138,9 +150,16 @@ public class User {
     }
     
     public void setEnabled(boolean enabled) {
+        if (id != null && this.enabled && !enabled) {
+            securityEpoch++;
+        }
         this.enabled = enabled;
     }
     
+    public int getSecurityEpoch() {
+        return securityEpoch;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,48 @@
+package com.interviewnotes.repository;
+
+import com.interviewnotes.model.AnalyticsDirtyDay;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for AnalyticsDirtyDay entity operations.
+ */
+@Repository
+public interface AnalyticsDirtyDayRepository extends JpaRepository<AnalyticsDirtyDay, LocalDate> {
+
+    /**
+     * Mark a day as out of date; marking it again bumps its generation.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO analytics_dirty_days (stat_date) VALUES (:statDate) "
+                 + "ON CONFLICT (stat_date) DO UPDATE SET generation = analytics_dirty_days.generation + 1",
+           nativeQuery = true)
+    int markDirty(@Param("statDate") LocalDate statDate);
+
+    /**
+     * Lock a batch of dirty days, oldest first, skipping days another
+     * instance is already refreshing.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT d FROM AnalyticsDirtyDay d ORDER BY d.statDate")
+    List<AnalyticsDirtyDay> findBatchForUpdate(Pageable limit);
+
+    /**
+     * Delete a dirty day unless it was marked again since it was read.
+     */
+    @Modifying
+    @Query("DELETE FROM AnalyticsDirtyDay d WHERE d.statDate = :statDate AND d.generation = :generation")
+    int deleteIfUnchanged(@Param("statDate") LocalDate statDate, @Param("generation") long generation);
+}
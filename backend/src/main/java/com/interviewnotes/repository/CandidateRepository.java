@@ -1,15 +1,24 @@
 package com.interviewnotes.repository;
 
+import com.interviewnotes.dto.CandidateDTO;
 import com.interviewnotes.model.Candidate;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Candidate entity operations.
@@ -17,49 +26,113 @@ import java.util.Optional;
 @Repository
 public interface CandidateRepository extends JpaRepository<Candidate, Long> {
 
+    /**
+     * Rows fetched per round trip when streaming.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
     /**
      * Find candidate by email address.
      */
     Optional<Candidate> findByEmail(String email);
 
     /**
-     * Find candidates by status.
+     * Find which of the given email addresses already belong to a candidate.
+     */
+    @Query("SELECT c.email FROM Candidate c WHERE c.email IN :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Stream every candidate, without interviews, in id order. The rows are
+     * DTOs, so nothing accumulates in the persistence context; call within a
+     * transaction and close the stream.
      */
+    @Query("SELECT new com.interviewnotes.dto.CandidateDTO(c.id, c.firstName, c.lastName, c.email, c.phone, " +
+           "c.position, c.experience, c.resumeUrl, c.source, c.notes, c.status, c.createdAt, c.updatedAt) " +
+           "FROM Candidate c ORDER BY c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<CandidateDTO> streamAllDTOs();
+
+    /**
+     * Seek the candidates created before the given (createdAt, id) position,
+     * newest first. Pass a page size as the limit; no count query is run.
+     */
+    @Query("SELECT c FROM Candidate c WHERE c.createdAt < :createdAt " +
+           "OR (c.createdAt = :createdAt AND c.id < :id) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Candidate> findCreatedBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    /**
+     * Seek the candidates created after the given (createdAt, id) position,
+     * oldest first. Pass a page size as the limit; no count query is run.
+     */
+    @Query("SELECT c FROM Candidate c WHERE c.createdAt > :createdAt " +
+           "OR (c.createdAt = :createdAt AND c.id > :id) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Candidate> findCreatedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    /**
+     * Find candidates by status, fetching their interviews in the same query.
+     */
+    @EntityGraph(attributePaths = "interviews")
     List<Candidate> findByStatus(String status);
 
+    /**
+     * Find candidates by status without loading their interviews.
+     */
+    List<Candidate> findSummariesByStatus(String status);
+
     /**
      * Find candidates by status with pagination.
      */
     Page<Candidate> findByStatus(String status, Pageable pageable);
 
     /**
-     * Find candidates by position containing the given text (case-insensitive).
+     * Find candidates by position containing the given text (case-insensitive),
+     * fetching their interviews in the same query.
      */
+    @EntityGraph(attributePaths = "interviews")
     List<Candidate> findByPositionContainingIgnoreCase(String position);
 
+    /**
+     * Find candidates by position containing the given text without loading their interviews.
+     */
+    List<Candidate> findSummariesByPositionContainingIgnoreCase(String position);
+
     /**
      * Find candidates by position containing the given text with pagination.
      */
     Page<Candidate> findByPositionContainingIgnoreCase(String position, Pageable pageable);
 
     /**
-     * Find candidates by experience greater than or equal to the given value.
+     * Find candidates by experience greater than or equal to the given value,
+     * fetching their interviews in the same query.
      */
+    @EntityGraph(attributePaths = "interviews")
     List<Candidate> findByExperienceGreaterThanEqual(Integer experience);
 
+    /**
+     * Find candidates by experience greater than or equal to the given value
+     * without loading their interviews.
+     */
+    List<Candidate> findSummariesByExperienceGreaterThanEqual(Integer experience);
+
     /**
      * Find candidates by source.
      */
     List<Candidate> findBySource(String source);
 
     /**
-     * Search candidates by name (first name or last name) containing the given text.
+     * Full-text search over name, email, position and notes, best match first.
+     * Uses the GIN index on search_vector; the pageable must not carry a sort.
+     *
+     * @param tsQuery a to_tsquery expression, e.g. {@code jo:* & dev:*}
      */
-    @Query("SELECT c FROM Candidate c WHERE LOWER(c.firstName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(c.lastName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(c.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
-           "OR LOWER(c.position) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
-    Page<Candidate> searchCandidates(@Param("searchTerm") String searchTerm, Pageable pageable);
+    @Query(value = "SELECT c.id FROM candidates c WHERE c.search_vector @@ to_tsquery('simple', :tsQuery) " +
+                   "ORDER BY ts_rank(c.search_vector, to_tsquery('simple', :tsQuery)) DESC, c.created_at DESC, c.id DESC",
+           countQuery = "SELECT COUNT(*) FROM candidates c WHERE c.search_vector @@ to_tsquery('simple', :tsQuery)",
+           nativeQuery = true)
+    Page<Long> searchCandidateIds(@Param("tsQuery") String tsQuery, Pageable pageable);
 
     /**
      * Find candidates with interviews.
@@ -67,6 +140,16 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
     @Query("SELECT DISTINCT c FROM Candidate c LEFT JOIN FETCH c.interviews")
     List<Candidate> findCandidatesWithInterviews();
 
+    /**
+     * Count all candidates, active candidates and candidates with at least one
+     * interview in a single aggregate query.
+     */
+    @Query("SELECT COUNT(c) AS totalCandidates, " +
+           "COALESCE(SUM(CASE WHEN c.status = 'ACTIVE' THEN 1 ELSE 0 END), 0) AS activeCandidates, " +
+           "COALESCE(SUM(CASE WHEN EXISTS (SELECT i.id FROM Interview i WHERE i.candidate = c) THEN 1 ELSE 0 END), 0) AS candidatesWithInterviews " +
+           "FROM Candidate c")
+    CandidateCounts countCandidates();
+
     /**
      * Count candidates by status.
      */
@@ -108,4 +191,36 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
             @Param("experience") Integer experience,
             Pageable pageable
     );
+
+    /**
+     * Version of all candidates.
+     */
+    @Query("SELECT COUNT(c) AS rowCount, MAX(c.updatedAt) AS lastModified FROM Candidate c")
+    VersionStamp findVersion();
+
+    /**
+     * Version of one candidate and its interviews; the row count is the number
+     * of interviews.
+     */
+    @Query("SELECT COUNT(i) AS rowCount, GREATEST(c.updatedAt, COALESCE(MAX(i.updatedAt), c.updatedAt)) AS lastModified " +
+           "FROM Candidate c LEFT JOIN c.interviews i WHERE c.id = :id GROUP BY c.id, c.updatedAt")
+    Optional<VersionStamp> findVersionById(@Param("id") Long id);
+
+    /**
+     * Version of one candidate, found by email, and its interviews.
+     */
+    @Query("SELECT COUNT(i) AS rowCount, GREATEST(c.updatedAt, COALESCE(MAX(i.updatedAt), c.updatedAt)) AS lastModified " +
+           "FROM Candidate c LEFT JOIN c.interviews i WHERE c.email = :email GROUP BY c.id, c.updatedAt")
+    Optional<VersionStamp> findVersionByEmail(@Param("email") String email);
+
+    /**
+     * Projection of the counters returned by {@link #countCandidates()}.
+     */
+    interface CandidateCounts {
+        Long getTotalCandidates();
+
+        Long getActiveCandidates();
+
+        Long getCandidatesWithInterviews();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.interviewnotes.repository;
+
+import com.interviewnotes.model.InterviewDailyRoundType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for InterviewDailyRoundType entity operations.
+ */
+@Repository
+public interface InterviewDailyRoundTypeRepository
+        extends JpaRepository<InterviewDailyRoundType, InterviewDailyRoundType.Key> {
+
+    /**
+     * Sum the rounds of each type held in a date range, both ends included.
+     */
+    @Query("SELECT r.roundType AS roundType, SUM(r.rounds) AS rounds FROM InterviewDailyRoundType r " +
+           "WHERE r.statDate BETWEEN :startDate AND :endDate GROUP BY r.roundType ORDER BY r.roundType")
+    List<RoundTypeTotal> sumBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query("DELETE FROM InterviewDailyRoundType r WHERE r.statDate IN :days")
+    int deleteDays(@Param("days") Collection<LocalDate> days);
+
+    /**
+     * Recompute the round type counts of the given days from the interview
+     * notes; see {@link InterviewDailyStatsRepository#insertDays}.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO interview_daily_round_types (stat_date, round_type, rounds) " +
+                   "SELECT CAST(i.scheduled_date AS DATE), n.round_type, COUNT(*) " +
+                   "FROM interview_notes n JOIN interviews i ON i.id = n.interview_id " +
+                   "WHERE i.scheduled_date >= :from AND i.scheduled_date < :to " +
+                   "AND CAST(i.scheduled_date AS DATE) IN (:days) AND n.round_type IS NOT NULL " +
+                   "GROUP BY CAST(i.scheduled_date AS DATE), n.round_type",
+           nativeQuery = true)
+    int insertDays(@Param("days") Collection<LocalDate> days, @Param("from") LocalDateTime from,
+                   @Param("to") LocalDateTime to);
+
+    /**
+     * Projection of the sums returned by {@link #sumBetween}.
+     */
+    interface RoundTypeTotal {
+        String getRoundType();
+
+        Long getRounds();
+    }
+}
@@ -0,0 +1,83 @@
+package com.interviewnotes.repository;
+
+import com.interviewnotes.model.InterviewDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Repository interface for InterviewDailyStats entity operations.
+ */
+@Repository
+public interface InterviewDailyStatsRepository extends JpaRepository<InterviewDailyStats, LocalDate> {
+
+    /**
+     * Sum the daily statistics of a date range, both ends included.
+     */
+    @Query("SELECT COALESCE(SUM(s.totalInterviews), 0) AS totalInterviews, " +
+           "COALESCE(SUM(s.completedInterviews), 0) AS completedInterviews, " +
+           "COALESCE(SUM(s.scoredInterviews), 0) AS scoredInterviews, " +
+           "COALESCE(SUM(s.scoreTotal), 0) AS scoreTotal, " +
+           "COALESCE(SUM(s.strongHire), 0) AS strongHire, " +
+           "COALESCE(SUM(s.hire), 0) AS hire, " +
+           "COALESCE(SUM(s.weakHire), 0) AS weakHire, " +
+           "COALESCE(SUM(s.noHire), 0) AS noHire " +
+           "FROM InterviewDailyStats s WHERE s.statDate BETWEEN :startDate AND :endDate")
+    StatsTotals sumBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Modifying
+    @Query("DELETE FROM InterviewDailyStats s WHERE s.statDate IN :days")
+    int deleteDays(@Param("days") Collection<LocalDate> days);
+
+    /**
+     * Recompute the statistics of the given days from interviews and their
+     * notes. {@code from} and {@code to} bound the days so the scheduled date
+     * index is used. Interviews are counted by final recommendation, see
+     * {@link InterviewNotesRepository#FINAL_RECOMMENDATION_RANKS}. Days without
+     * interviews get no row.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO interview_daily_stats (stat_date, total_interviews, completed_interviews, " +
+                   "scored_interviews, score_total, strong_hire, hire, weak_hire, no_hire, updated_at) " +
+                   "SELECT CAST(i.scheduled_date AS DATE), COUNT(*), " +
+                   "COUNT(*) FILTER (WHERE i.status = 'COMPLETED'), " +
+                   "COUNT(i.overall_score), COALESCE(SUM(i.overall_score), 0), " +
+                   "COUNT(*) FILTER (WHERE r.rec_rank = 3), COUNT(*) FILTER (WHERE r.rec_rank = 2), " +
+                   "COUNT(*) FILTER (WHERE r.rec_rank = 1), COUNT(*) FILTER (WHERE r.rec_rank = 0), :now " +
+                   "FROM interviews i LEFT JOIN (" + InterviewNotesRepository.FINAL_RECOMMENDATION_RANKS + ") r " +
+                   "ON r.interview_id = i.id " +
+                   "WHERE i.scheduled_date >= :from AND i.scheduled_date < :to " +
+                   "AND CAST(i.scheduled_date AS DATE) IN (:days) " +
+                   "GROUP BY CAST(i.scheduled_date AS DATE)",
+           nativeQuery = true)
+    int insertDays(@Param("days") Collection<LocalDate> days, @Param("from") LocalDateTime from,
+                   @Param("to") LocalDateTime to, @Param("now") LocalDateTime now);
+
+    /**
+     * Projection of the sums returned by {@link #sumBetween}.
+     */
+    interface StatsTotals {
+        Long getTotalInterviews();
+
+        Long getCompletedInterviews();
+
+        Long getScoredInterviews();
+
+        BigDecimal getScoreTotal();
+
+        Long getStrongHire();
+
+        Long getHire();
+
+        Long getWeakHire();
+
+        Long getNoHire();
+    }
+}
@@ -0,0 +1,40 @@
+package com.interviewnotes.repository;
+
+import com.interviewnotes.model.InterviewNotes;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for InterviewNotes entity operations.
+ */
+@Repository
+public interface InterviewNotesRepository extends JpaRepository<InterviewNotes, Long> {
+
+    /**
+     * Native subquery of the final recommendation rank (0 = NO_HIRE to
+     * 3 = STRONG_HIRE) of each interview scheduled in {@code [:from, :to)}
+     * that has recommendations. The rank is the average of its notes'
+     * recommendation ranks, rounded half up, as in
+     * {@link com.interviewnotes.model.InterviewSummary#recalculate()}.
+     * Columns: {@code interview_id}, {@code rec_rank}.
+     */
+    String FINAL_RECOMMENDATION_RANKS = "SELECT n.interview_id, ROUND(AVG(CASE n.recommendation " +
+            "WHEN 'NO_HIRE' THEN 0 WHEN 'WEAK_HIRE' THEN 1 WHEN 'HIRE' THEN 2 WHEN 'STRONG_HIRE' THEN 3 END)) AS rec_rank " +
+            "FROM interview_notes n JOIN interviews ni ON ni.id = n.interview_id " +
+            "WHERE ni.scheduled_date >= :from AND ni.scheduled_date < :to " +
+            "GROUP BY n.interview_id";
+
+    /**
+     * Find the notes of an interview together with their questions, oldest first.
+     *
+     * @param interviewId the interview ID
+     * @return notes with questions loaded
+     */
+    @Query("SELECT DISTINCT n FROM InterviewNotes n LEFT JOIN FETCH n.questions " +
+           "WHERE n.interview.id = :interviewId ORDER BY n.createdAt, n.id")
+    List<InterviewNotes> findByInterviewIdWithQuestions(@Param("interviewId") Long interviewId);
+}
@@ -0,0 +1,12 @@
+package com.interviewnotes.repository;
+
+import com.interviewnotes.model.InterviewQuestion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for InterviewQuestion entity operations.
+ */
+@Repository
+public interface InterviewQuestionRepository extends JpaRepository<InterviewQuestion, Long> {
+}
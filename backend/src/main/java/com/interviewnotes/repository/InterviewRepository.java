@@ -1,15 +1,26 @@
 package com.interviewnotes.repository;
 
+import com.interviewnotes.config.CacheNames;
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
 import com.interviewnotes.model.Interview;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Interview entity operations.
@@ -17,6 +28,21 @@ import java.util.List;
 @Repository
 public interface InterviewRepository extends JpaRepository<Interview, Long> {
 
+    /**
+     * Rows fetched per round trip when streaming.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Select clause for the read queries below. They build InterviewDTO rows
+     * directly, with candidate and interviewer names joined in SQL, so no
+     * entities are loaded into the persistence context.
+     */
+    String DTO_SELECT = "SELECT new com.interviewnotes.controller.InterviewController$InterviewDTO(" +
+            "i.id, c.id, c.firstName, c.lastName, i.position, i.status, i.duration, i.scheduledDate, " +
+            "i.overallScore, i.notes, u.id, u.firstName, u.lastName, i.createdAt, i.updatedAt) " +
+            "FROM Interview i LEFT JOIN i.candidate c LEFT JOIN i.interviewer u ";
+
     /**
      * Find interviews by candidate ID.
      */
@@ -129,4 +155,263 @@ public interface InterviewRepository extends JpaRepository<Interview, Long> {
      * Find interviews by interviewer ID.
      */
     List<Interview> findByInterviewer_Id(Long userId);
-} 
\ No newline at end of file
+
+    /**
+     * Find one interview as a DTO. Cached; InterviewService evicts the entry
+     * when the interview changes.
+     */
+    @Query(DTO_SELECT + "WHERE i.id = :id")
+    @Cacheable(cacheNames = CacheNames.INTERVIEWS, key = "#id", unless = "#result == null")
+    Optional<InterviewDTO> findDTOById(@Param("id") Long id);
+
+    /**
+     * Find all interviews as DTOs with pagination.
+     */
+    @Query(value = DTO_SELECT, countQuery = "SELECT COUNT(i) FROM Interview i")
+    Page<InterviewDTO> findAllDTOs(Pageable pageable);
+
+    /**
+     * Find an interviewer's interviews as DTOs with pagination.
+     */
+    @Query(value = DTO_SELECT + "WHERE u.id = :interviewerId",
+           countQuery = "SELECT COUNT(i) FROM Interview i WHERE i.interviewer.id = :interviewerId")
+    Page<InterviewDTO> findDTOsByInterviewerId(@Param("interviewerId") Long interviewerId, Pageable pageable);
+
+    /**
+     * Find interviews by id with their candidate and interviewer.
+     */
+    @Query("SELECT i FROM Interview i LEFT JOIN FETCH i.candidate LEFT JOIN FETCH i.interviewer WHERE i.id IN :ids")
+    List<Interview> findAllWithCandidateAndInterviewer(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Apply the same partial update to several interviews in one statement;
+     * a null argument leaves its column unchanged. Pending changes are flushed
+     * first and the persistence context is cleared afterwards, so reload the
+     * interviews to see the new values.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Interview i SET i.position = COALESCE(CAST(:position AS String), i.position), " +
+           "i.status = COALESCE(CAST(:status AS String), i.status), " +
+           "i.notes = COALESCE(CAST(:notes AS String), i.notes), " +
+           "i.duration = COALESCE(CAST(:duration AS Integer), i.duration), " +
+           "i.scheduledDate = COALESCE(CAST(:scheduledDate AS LocalDateTime), i.scheduledDate), " +
+           "i.overallScore = COALESCE(CAST(:overallScore AS BigDecimal), i.overallScore), " +
+           "i.updatedAt = :updatedAt WHERE i.id IN :ids")
+    int updateAll(@Param("ids") Collection<Long> ids, @Param("position") String position,
+                  @Param("status") String status, @Param("notes") String notes,
+                  @Param("duration") Integer duration, @Param("scheduledDate") LocalDateTime scheduledDate,
+                  @Param("overallScore") BigDecimal overallScore,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Stream every interview as DTOs in id order; call within a transaction
+     * and close the stream.
+     */
+    @Query(DTO_SELECT + "ORDER BY i.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<InterviewDTO> streamAllDTOs();
+
+    /**
+     * Stream an interviewer's interviews as DTOs in id order; call within a
+     * transaction and close the stream.
+     */
+    @Query(DTO_SELECT + "WHERE u.id = :interviewerId ORDER BY i.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<InterviewDTO> streamDTOsByInterviewerId(@Param("interviewerId") Long interviewerId);
+
+    /**
+     * Find an interviewer's interviews as DTOs.
+     */
+    @Query(DTO_SELECT + "WHERE u.id = :interviewerId")
+    List<InterviewDTO> findDTOsByInterviewerId(@Param("interviewerId") Long interviewerId);
+
+    /**
+     * Find a candidate's interviews as DTOs.
+     */
+    @Query(DTO_SELECT + "WHERE c.id = :candidateId")
+    List<InterviewDTO> findDTOsByCandidateId(@Param("candidateId") Long candidateId);
+
+    /**
+     * Find one interviewer's interviews of a candidate as DTOs.
+     */
+    @Query(DTO_SELECT + "WHERE c.id = :candidateId AND u.id = :interviewerId")
+    List<InterviewDTO> findDTOsByCandidateIdAndInterviewerId(@Param("candidateId") Long candidateId,
+                                                             @Param("interviewerId") Long interviewerId);
+
+    /**
+     * Find interviews by status as DTOs.
+     */
+    @Query(DTO_SELECT + "WHERE i.status = :status")
+    List<InterviewDTO> findDTOsByStatus(@Param("status") String status);
+
+    /**
+     * Find interviews whose position contains the given text, ignoring case, as DTOs.
+     */
+    @Query(DTO_SELECT + "WHERE LOWER(i.position) LIKE LOWER(CONCAT('%', :position, '%'))")
+    List<InterviewDTO> findDTOsByPositionContaining(@Param("position") String position);
+
+    /**
+     * Seek the interviews created before the given (createdAt, id) position,
+     * newest first. Pass a page size as the limit; no count query is run.
+     */
+    @Query(DTO_SELECT + "WHERE i.createdAt < :createdAt " +
+           "OR (i.createdAt = :createdAt AND i.id < :id) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<InterviewDTO> findDTOsCreatedBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    /**
+     * Seek the interviews created after the given (createdAt, id) position,
+     * oldest first. Pass a page size as the limit; no count query is run.
+     */
+    @Query(DTO_SELECT + "WHERE i.createdAt > :createdAt " +
+           "OR (i.createdAt = :createdAt AND i.id > :id) " +
+           "ORDER BY i.createdAt ASC, i.id ASC")
+    List<InterviewDTO> findDTOsCreatedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable limit);
+
+    /**
+     * Seek an interviewer's interviews created before the given (createdAt, id) position, newest first.
+     */
+    @Query(DTO_SELECT + "WHERE u.id = :interviewerId " +
+           "AND (i.createdAt < :createdAt OR (i.createdAt = :createdAt AND i.id < :id)) " +
+           "ORDER BY i.createdAt DESC, i.id DESC")
+    List<InterviewDTO> findDTOsByInterviewerCreatedBefore(@Param("interviewerId") Long interviewerId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("id") Long id, Pageable limit);
+
+    /**
+     * Seek an interviewer's interviews created after the given (createdAt, id) position, oldest first.
+     */
+    @Query(DTO_SELECT + "WHERE u.id = :interviewerId " +
+           "AND (i.createdAt > :createdAt OR (i.createdAt = :createdAt AND i.id > :id)) " +
+           "ORDER BY i.createdAt ASC, i.id ASC")
+    List<InterviewDTO> findDTOsByInterviewerCreatedAfter(@Param("interviewerId") Long interviewerId,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id, Pageable limit);
+
+    /**
+     * Aggregate the interviews scheduled in {@code [from, to)} per interviewer
+     * in one grouped query. Every user with the INTERVIEWER role gets a row,
+     * other users only if they have interviews in the range. Score and
+     * squared score sums are returned so the mean and variance are exact.
+     */
+    @Query(value = "SELECT u.id AS \"interviewerId\", u.first_name AS \"firstName\", u.last_name AS \"lastName\", " +
+                   "COUNT(i.id) AS \"totalInterviews\", " +
+                   "COUNT(i.id) FILTER (WHERE i.status = 'COMPLETED') AS \"completedInterviews\", " +
+                   "COUNT(i.overall_score) AS \"scoredInterviews\", " +
+                   "COALESCE(SUM(i.overall_score), 0) AS \"scoreTotal\", " +
+                   "COALESCE(SUM(i.overall_score * i.overall_score), 0) AS \"scoreSquareTotal\", " +
+                   "COALESCE(SUM(i.duration), 0) AS \"durationTotal\", " +
+                   "COUNT(r.rec_rank) AS \"recommendedInterviews\", " +
+                   "COUNT(r.rec_rank) FILTER (WHERE r.rec_rank >= 2) AS \"hiredInterviews\" " +
+                   "FROM users u " +
+                   "LEFT JOIN interviews i ON i.interviewer_id = u.id " +
+                   "AND i.scheduled_date >= :from AND i.scheduled_date < :to " +
+                   "LEFT JOIN (" + InterviewNotesRepository.FINAL_RECOMMENDATION_RANKS + ") r ON r.interview_id = i.id " +
+                   "GROUP BY u.id, u.first_name, u.last_name, u.role " +
+                   "HAVING u.role = 'INTERVIEWER' OR COUNT(i.id) > 0 " +
+                   "ORDER BY u.id",
+           nativeQuery = true)
+    List<InterviewerTotals> sumByInterviewer(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Count the rounds (sets of notes) of each type per interviewer for the
+     * interviews scheduled in {@code [from, to)}.
+     */
+    @Query(value = "SELECT i.interviewer_id AS \"interviewerId\", n.round_type AS \"roundType\", COUNT(*) AS \"rounds\" " +
+                   "FROM interview_notes n JOIN interviews i ON i.id = n.interview_id " +
+                   "WHERE i.scheduled_date >= :from AND i.scheduled_date < :to " +
+                   "AND i.interviewer_id IS NOT NULL AND n.round_type IS NOT NULL " +
+                   "GROUP BY i.interviewer_id, n.round_type " +
+                   "ORDER BY i.interviewer_id, n.round_type",
+           nativeQuery = true)
+    List<InterviewerRoundTypes> countRoundTypesByInterviewer(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * The interviews of a candidate, as much of each as is needed to account
+     * for its removal.
+     */
+    @Query("SELECT i.id AS id, i.scheduledDate AS scheduledDate, u.id AS interviewerId " +
+           "FROM Interview i LEFT JOIN i.interviewer u WHERE i.candidate.id = :candidateId")
+    List<InterviewRef> findRefsByCandidateId(@Param("candidateId") Long candidateId);
+
+    /**
+     * Version of all interviews.
+     */
+    @Query("SELECT COUNT(i) AS rowCount, MAX(i.updatedAt) AS lastModified FROM Interview i")
+    VersionStamp findVersion();
+
+    /**
+     * Latest change to an interview or to the candidate and interviewer shown
+     * with it.
+     */
+    @Query("SELECT GREATEST(i.updatedAt, COALESCE(c.updatedAt, i.updatedAt), COALESCE(u.updatedAt, i.updatedAt)) " +
+           "FROM Interview i LEFT JOIN i.candidate c LEFT JOIN i.interviewer u WHERE i.id = :id")
+    Optional<LocalDateTime> findLastModifiedById(@Param("id") Long id);
+
+    /**
+     * {@link #findLastModifiedById} together with the interview's interviewer,
+     * so callers can check access without loading the interview.
+     */
+    @Query("SELECT GREATEST(i.updatedAt, COALESCE(c.updatedAt, i.updatedAt), COALESCE(u.updatedAt, i.updatedAt)) " +
+           "AS lastModified, u.id AS interviewerId " +
+           "FROM Interview i LEFT JOIN i.candidate c LEFT JOIN i.interviewer u WHERE i.id = :id")
+    Optional<InterviewVersion> findVersionById(@Param("id") Long id);
+
+    /**
+     * Projection of the rows returned by {@link #findRefsByCandidateId}.
+     */
+    interface InterviewRef {
+        Long getId();
+
+        LocalDateTime getScheduledDate();
+
+        Long getInterviewerId();
+    }
+
+    /**
+     * Projection of the row returned by {@link #findVersionById}.
+     */
+    interface InterviewVersion {
+        LocalDateTime getLastModified();
+
+        Long getInterviewerId();
+    }
+
+    /**
+     * Projection of the per-interviewer sums returned by {@link #sumByInterviewer}.
+     */
+    interface InterviewerTotals {
+        Long getInterviewerId();
+
+        String getFirstName();
+
+        String getLastName();
+
+        Long getTotalInterviews();
+
+        Long getCompletedInterviews();
+
+        Long getScoredInterviews();
+
+        java.math.BigDecimal getScoreTotal();
+
+        java.math.BigDecimal getScoreSquareTotal();
+
+        Long getDurationTotal();
+
+        Long getRecommendedInterviews();
+
+        Long getHiredInterviews();
+    }
+
+    /**
+     * Projection of the rows returned by {@link #countRoundTypesByInterviewer}.
+     */
+    interface InterviewerRoundTypes {
+        Long getInterviewerId();
+
+        String getRoundType();
+
+        Long getRounds();
+    }
+}
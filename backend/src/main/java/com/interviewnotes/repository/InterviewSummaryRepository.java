@@ -0,0 +1,55 @@
+package com.interviewnotes.repository;
+
+import com.interviewnotes.model.InterviewSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for InterviewSummary entity operations.
+ */
+@Repository
+public interface InterviewSummaryRepository extends JpaRepository<InterviewSummary, Long> {
+
+    /**
+     * Find a summary and lock its row until the transaction ends, so
+     * concurrent incremental updates of the same interview do not overwrite
+     * each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InterviewSummary s WHERE s.interviewId = :interviewId")
+    Optional<InterviewSummary> findForUpdate(@Param("interviewId") Long interviewId);
+
+    /**
+     * Find several summaries and lock their rows, in id order so concurrent
+     * batches take the locks in the same order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM InterviewSummary s WHERE s.interviewId IN :interviewIds ORDER BY s.interviewId")
+    List<InterviewSummary> findAllForUpdate(@Param("interviewIds") Collection<Long> interviewIds);
+
+    /**
+     * Copy a candidate's details into the summaries of their interviews.
+     */
+    @Modifying
+    @Query("UPDATE InterviewSummary s SET s.candidateName = :name, s.candidateEmail = :email, " +
+           "s.candidatePosition = :position " +
+           "WHERE s.interviewId IN (SELECT i.id FROM Interview i WHERE i.candidate.id = :candidateId)")
+    int updateCandidate(@Param("candidateId") Long candidateId, @Param("name") String name,
+                        @Param("email") String email, @Param("position") String position);
+
+    /**
+     * Copy an interviewer's name into the summaries of their interviews.
+     */
+    @Modifying
+    @Query("UPDATE InterviewSummary s SET s.interviewerName = :name WHERE s.interviewerId = :interviewerId")
+    int updateInterviewerName(@Param("interviewerId") Long interviewerId, @Param("name") String name);
+}
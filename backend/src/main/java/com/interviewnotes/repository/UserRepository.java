@@ -2,8 +2,11 @@ package com.interviewnotes.repository;
 
 import com.interviewnotes.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,4 +58,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsernameAndEnabled(String username, boolean enabled);
 
     List<User> findByRole(User.UserRole role);
-} 
\ No newline at end of file
+
+    /**
+     * Find every user's username and email.
+     */
+    @Query("SELECT u.username AS username, u.email AS email FROM User u")
+    List<Identity> findAllIdentities();
+
+    /**
+     * Version of all users.
+     */
+    @Query("SELECT COUNT(u) AS rowCount, MAX(u.updatedAt) AS lastModified FROM User u")
+    VersionStamp findVersion();
+
+    /**
+     * Find when a user was last changed.
+     */
+    @Query("SELECT u.updatedAt FROM User u WHERE u.id = :id")
+    Optional<LocalDateTime> findLastModifiedById(@Param("id") Long id);
+
+    /**
+     * Projection of the fields that must be unique across users.
+     */
+    interface Identity {
+        String getUsername();
+
+        String getEmail();
+    }
+}
@@ -0,0 +1,15 @@
+package com.interviewnotes.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a row count and the latest updatedAt among those rows. Any
+ * insert, update or delete changes at least one of the two, so it identifies
+ * a version of the rows without loading them.
+ */
+public interface VersionStamp {
+
+    Long getRowCount();
+
+    LocalDateTime getLastModified();
+}
@@ -0,0 +1,53 @@
+package com.interviewnotes.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Calendar periods interview statistics can be asked for.
+ */
+public enum AnalyticsPeriod {
+    WEEK,
+    MONTH,
+    QUARTER,
+    YEAR;
+
+    /**
+     * First day of the period containing the given day; weeks start on Monday.
+     */
+    public LocalDate start(LocalDate day) {
+        return switch (this) {
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+            case QUARTER -> LocalDate.of(day.getYear(), (day.getMonthValue() - 1) / 3 * 3 + 1, 1);
+            case YEAR -> day.withDayOfYear(1);
+        };
+    }
+
+    /**
+     * Last day of the period containing the given day.
+     */
+    public LocalDate end(LocalDate day) {
+        LocalDate start = start(day);
+        return switch (this) {
+            case WEEK -> start.plusWeeks(1).minusDays(1);
+            case MONTH -> start.plusMonths(1).minusDays(1);
+            case QUARTER -> start.plusMonths(3).minusDays(1);
+            case YEAR -> start.plusYears(1).minusDays(1);
+        };
+    }
+
+    /**
+     * Parse a period name such as {@code month}, ignoring case.
+     */
+    public static AnalyticsPeriod fromName(String name) {
+        for (AnalyticsPeriod period : values()) {
+            if (period.name().equals(name.toUpperCase(Locale.ROOT))) {
+                return period;
+            }
+        }
+        throw new RuntimeException("Unsupported period: " + name);
+    }
+}
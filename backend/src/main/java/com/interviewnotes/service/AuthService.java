@@ -6,69 +6,97 @@ import com.interviewnotes.dto.RegisterRequest;
 import com.interviewnotes.model.User;
 import com.interviewnotes.repository.UserRepository;
 import com.interviewnotes.util.JwtUtils;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Locale;
+import java.util.Optional;
+
 /**
  * Service for authentication operations.
  */
 @Service
 public class AuthService {
     
-    @Autowired
-    private AuthenticationManager authenticationManager;
-    
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
     private PasswordEncoder passwordEncoder;
     
+    @Autowired
+    private PasswordVerifier passwordVerifier;
+    
     @Autowired
     private JwtUtils jwtUtils;
     
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+    
+    @Autowired
+    private UserSecurityEpochs userSecurityEpochs;
+    
+    @Autowired
+    private UserAvailability userAvailability;
+    
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+    
     /**
      * Authenticate user and return JWT token.
      * 
+     * The user is loaded once and the password is checked on the
+     * {@link PasswordVerifier} pool. A password hashed with a different BCrypt
+     * cost than the configured one is hashed again and saved.
+     * 
      * @param authRequest the authentication request
      * @return authentication response with JWT token
+     * @throws BadCredentialsException if the user is unknown or disabled, or the password is wrong
      */
     public AuthResponse authenticateUser(AuthRequest authRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(authRequest.getUsername(), authRequest.getPassword())
-        );
+        Optional<User> found = userRepository.findByUsernameAndEnabled(authRequest.getUsername(), true);
+        PasswordVerifier.Verification verification = passwordVerifier.verify(authRequest.getPassword(),
+                found.map(User::getPassword).orElse(null));
+        if (found.isEmpty() || !verification.isMatched()) {
+            throw new BadCredentialsException("Bad credentials");
+        }
+        
+        User user = found.get();
+        if (verification.getRehashedPassword() != null) {
+            user.setPassword(verification.getRehashedPassword());
+            user = userRepository.save(user);
+            userDetailsCache.evict(user.getUsername());
+        }
+        userSecurityEpochs.update(user);
         
+        UserPrincipal principal = new UserPrincipal(user);
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal, null, principal.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
         String jwt = jwtUtils.generateJwtToken(authentication);
         
-        User user = userRepository.findByUsername(authRequest.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
         return new AuthResponse(jwt, user);
     }
     
     /**
      * Register a new user.
      * 
+     * The user is inserted straight away; a username or email that is already
+     * taken is detected by the unique constraints on users, which also holds
+     * when two sign-ups race for the same name.
+     * 
      * @param registerRequest the registration request
      * @return authentication response with JWT token
+     * @throws RuntimeException if the username or email is already taken
      */
     public AuthResponse registerUser(RegisterRequest registerRequest) {
-        // Check if username exists
-        if (userRepository.existsByUsername(registerRequest.getUsername())) {
-            throw new RuntimeException("Username is already taken!");
-        }
-        
-        // Check if email exists
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new RuntimeException("Email is already in use!");
-        }
-        
         // Create new user
         User user = new User();
         user.setUsername(registerRequest.getUsername());
@@ -79,24 +107,65 @@ public class AuthService {
         user.setRole(User.UserRole.INTERVIEWER); // Default role
         user.setEnabled(true);
         
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateUser(e, registerRequest);
+        }
+        userDetailsCache.evict(user.getUsername());
+        userSecurityEpochs.update(savedUser);
+        userAvailability.add(savedUser);
         
         // Generate JWT token
-        String jwt = jwtUtils.generateTokenFromUsername(user.getUsername());
+        String jwt = jwtUtils.generateToken(new UserPrincipal(savedUser));
         
         return new AuthResponse(jwt, savedUser);
     }
     
+    /**
+     * Work out which unique constraint a failed insert violated. Only if the
+     * database did not report a recognisable constraint name is the username
+     * looked up.
+     */
+    private RuntimeException duplicateUser(DataIntegrityViolationException e, RegisterRequest registerRequest) {
+        String constraint = violatedConstraint(e);
+        if (constraint != null && constraint.contains(User.USERNAME_CONSTRAINT)) {
+            return new RuntimeException("Username is already taken!");
+        }
+        if (constraint != null && constraint.contains(User.EMAIL_CONSTRAINT)) {
+            return new RuntimeException("Email is already in use!");
+        }
+        if (userRepository.existsByUsername(registerRequest.getUsername())) {
+            return new RuntimeException("Username is already taken!");
+        }
+        if (userRepository.existsByEmail(registerRequest.getEmail())) {
+            return new RuntimeException("Email is already in use!");
+        }
+        return e;
+    }
+    
+    private static String violatedConstraint(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+    
     /**
      * Get current authenticated user.
      * 
      * @return the current user
      */
     public User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+        CurrentUser currentUser = currentUserProvider.getCurrentUser();
+        if (currentUser == null) {
+            throw new RuntimeException("User not found");
+        }
         
-        return userRepository.findByUsername(username)
+        return userRepository.findById(currentUser.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
     }
 } 
\ No newline at end of file
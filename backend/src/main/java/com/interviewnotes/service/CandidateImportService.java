@@ -0,0 +1,366 @@
+package com.interviewnotes.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.repository.CandidateRepository;
+import com.interviewnotes.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports candidates in bulk from CSV or JSON.
+ *
+ * Rows are read as they arrive and saved in chunks, each in its own
+ * transaction: one query finds the chunk's emails that are already taken and
+ * the rest are inserted in JDBC batches. A row that cannot be imported is
+ * reported with its row number and the import carries on; rows in chunks that
+ * were already saved stay saved. If a chunk fails as a whole, for instance
+ * because the same email was created concurrently, its rows are retried one
+ * at a time.
+ */
+@Service
+public class CandidateImportService {
+
+    /**
+     * Candidate properties accepted as CSV columns.
+     */
+    static final List<String> COLUMNS = List.of("firstName", "lastName", "email", "phone", "position",
+            "experience", "resumeUrl", "source", "notes", "status");
+
+    private final CandidateRepository candidateRepository;
+    private final CandidateSearchIndex candidateSearchIndex;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    @Autowired
+    public CandidateImportService(CandidateRepository candidateRepository, CandidateSearchIndex candidateSearchIndex,
+                                  EntityManager entityManager, PlatformTransactionManager transactionManager,
+                                  ObjectMapper objectMapper, Validator validator,
+                                  @Value("${app.candidates.import.chunk-size:500}") int chunkSize,
+                                  @Value("${app.candidates.import.max-errors:1000}") int maxErrors) {
+        this.candidateRepository = candidateRepository;
+        this.candidateSearchIndex = candidateSearchIndex;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Import candidates from CSV with a header row naming the columns, e.g.
+     * {@code firstName,lastName,email,position}. Column names are matched
+     * ignoring case and underscores; rows are numbered by their line. Reading
+     * stops at a quoted field that is never closed, which is reported as a
+     * failed row.
+     *
+     * @throws IllegalArgumentException if a column is unknown; nothing is imported
+     */
+    public ImportResult importCsv(Reader input) throws IOException {
+        Import job = new Import();
+        try (CsvReader csv = new CsvReader(input)) {
+            List<String> header = csv.readRecord();
+            if (header == null) {
+                return job.finish();
+            }
+            Map<Integer, String> columns = columns(header);
+            while (true) {
+                List<String> record;
+                try {
+                    record = csv.readRecord();
+                } catch (IllegalArgumentException e) {
+                    job.reject(csv.getLineNumber(), null, "Malformed CSV: " + e.getMessage());
+                    break;
+                }
+                if (record == null) {
+                    break;
+                }
+                if (record.stream().allMatch(String::isBlank)) {
+                    continue;
+                }
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < record.size(); i++) {
+                    String value = record.get(i).trim();
+                    if (columns.containsKey(i) && !value.isEmpty()) {
+                        values.put(columns.get(i), value);
+                    }
+                }
+                try {
+                    job.add(csv.getLineNumber(), objectMapper.convertValue(values, CandidateDTO.class));
+                } catch (IllegalArgumentException e) {
+                    job.reject(csv.getLineNumber(), values.get("email"), "Experience must be a whole number");
+                }
+            }
+        }
+        return job.finish();
+    }
+
+    /**
+     * Import candidates from a JSON array of candidates, or from
+     * newline-delimited candidate objects. Rows are numbered from 1; reading
+     * stops at the first malformed JSON.
+     */
+    public ImportResult importJson(InputStream input) throws IOException {
+        Import job = new Import();
+        try (MappingIterator<CandidateDTO> rows = objectMapper.readerFor(CandidateDTO.class).readValues(input)) {
+            for (int row = 1; ; row++) {
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    job.add(row, rows.nextValue());
+                } catch (JsonMappingException e) {
+                    job.reject(row, null, "Invalid candidate: " + e.getOriginalMessage());
+                } catch (JsonProcessingException e) {
+                    job.reject(row, null, "Malformed JSON: " + e.getOriginalMessage());
+                    break;
+                }
+            }
+        }
+        return job.finish();
+    }
+
+    private static Map<Integer, String> columns(List<String> header) {
+        Map<String, String> known = COLUMNS.stream()
+                .collect(Collectors.toMap(CandidateImportService::columnKey, column -> column));
+        Map<Integer, String> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = known.get(columnKey(header.get(i)));
+            if (column == null) {
+                throw new IllegalArgumentException("Unknown CSV column: " + header.get(i).trim());
+            }
+            columns.put(i, column);
+        }
+        return columns;
+    }
+
+    private static String columnKey(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static Candidate toCandidate(CandidateDTO dto) {
+        Candidate candidate = new Candidate();
+        candidate.setFirstName(dto.getFirstName());
+        candidate.setLastName(dto.getLastName());
+        candidate.setEmail(dto.getEmail());
+        candidate.setPhone(dto.getPhone());
+        candidate.setPosition(dto.getPosition());
+        candidate.setExperience(dto.getExperience());
+        candidate.setResumeUrl(dto.getResumeUrl());
+        candidate.setSource(dto.getSource());
+        candidate.setNotes(dto.getNotes());
+        candidate.setStatus(dto.getStatus() != null ? dto.getStatus() : "ACTIVE");
+        return candidate;
+    }
+
+    /**
+     * One import in progress: the rows waiting to be saved and the outcome so far.
+     */
+    private class Import {
+        private List<Row> pending = new ArrayList<>();
+        private int imported;
+        private int failed;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void add(int row, CandidateDTO candidate) {
+            Set<ConstraintViolation<CandidateDTO>> violations = validator.validate(candidate);
+            if (!violations.isEmpty()) {
+                reject(row, candidate.getEmail(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            pending.add(new Row(row, candidate));
+            if (pending.size() >= chunkSize) {
+                saveChunk();
+            }
+        }
+
+        void reject(int row, String email, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new RowError(row, email, message));
+            }
+        }
+
+        ImportResult finish() {
+            if (!pending.isEmpty()) {
+                saveChunk();
+            }
+            return new ImportResult(imported + failed, imported, failed, errors);
+        }
+
+        private void saveChunk() {
+            List<Row> chunk = pending;
+            pending = new ArrayList<>();
+
+            Set<String> taken = new HashSet<>(candidateRepository.findExistingEmails(chunk.stream()
+                    .map(row -> row.candidate.getEmail())
+                    .collect(Collectors.toSet())));
+            List<Row> accepted = new ArrayList<>();
+            for (Row row : chunk) {
+                if (taken.add(row.candidate.getEmail())) {
+                    accepted.add(row);
+                } else {
+                    reject(row.number, row.candidate.getEmail(), duplicateMessage(row));
+                }
+            }
+            if (accepted.isEmpty()) {
+                return;
+            }
+
+            List<Candidate> saved;
+            try {
+                saved = transactionTemplate.execute(status -> insert(accepted));
+            } catch (RuntimeException e) {
+                accepted.forEach(this::saveOne);
+                return;
+            }
+            imported += saved.size();
+            saved.forEach(candidateSearchIndex::index);
+        }
+
+        private void saveOne(Row row) {
+            Candidate saved;
+            try {
+                saved = transactionTemplate.execute(status -> {
+                    if (candidateRepository.findByEmail(row.candidate.getEmail()).isPresent()) {
+                        throw new IllegalArgumentException(duplicateMessage(row));
+                    }
+                    return insert(List.of(row)).get(0);
+                });
+            } catch (IllegalArgumentException e) {
+                reject(row.number, row.candidate.getEmail(), e.getMessage());
+                return;
+            } catch (RuntimeException e) {
+                reject(row.number, row.candidate.getEmail(),
+                        "Could not be saved: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                return;
+            }
+            imported++;
+            candidateSearchIndex.index(saved);
+        }
+
+        /**
+         * Insert the rows and detach them, so a long import does not keep
+         * every candidate in the persistence context.
+         */
+        private List<Candidate> insert(List<Row> rows) {
+            List<Candidate> candidates = rows.stream()
+                    .map(row -> toCandidate(row.candidate))
+                    .collect(Collectors.toList());
+            candidateRepository.saveAll(candidates);
+            entityManager.flush();
+            entityManager.clear();
+            return candidates;
+        }
+
+        private String duplicateMessage(Row row) {
+            return "Candidate with email " + row.candidate.getEmail() + " already exists";
+        }
+    }
+
+    private static class Row {
+        private final int number;
+        private final CandidateDTO candidate;
+
+        Row(int number, CandidateDTO candidate) {
+            this.number = number;
+            this.candidate = candidate;
+        }
+    }
+
+    /**
+     * Outcome of an import. Errors are listed up to app.candidates.import.max-errors.
+     */
+    public static class ImportResult implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int totalRows;
+        private final int imported;
+        private final int failed;
+        private final List<RowError> errors;
+
+        public ImportResult(int totalRows, int imported, int failed, List<RowError> errors) {
+            this.totalRows = totalRows;
+            this.imported = imported;
+            this.failed = failed;
+            this.errors = List.copyOf(errors);
+        }
+
+        public int getTotalRows() {
+            return totalRows;
+        }
+
+        public int getImported() {
+            return imported;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public List<RowError> getErrors() {
+            return errors;
+        }
+    }
+
+    /**
+     * A row that was not imported.
+     */
+    public static class RowError implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final int row;
+        private final String email;
+        private final String message;
+
+        public RowError(int row, String email, String message) {
+            this.row = row;
+            this.email = email;
+            this.message = message;
+        }
+
+        public int getRow() {
+            return row;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
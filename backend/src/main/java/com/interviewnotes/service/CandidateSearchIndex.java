@@ -0,0 +1,54 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.Candidate;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Full-text index over candidate name, email, position and notes.
+ *
+ * Every search term is matched as a prefix, all terms must match, and results
+ * are ranked by relevance and then by creation time, newest first. The
+ * implementation is selected with {@code app.search.candidates.engine}.
+ */
+public interface CandidateSearchIndex {
+
+    /**
+     * Search for candidates.
+     *
+     * @param query free text; split into terms on anything that is not a letter or digit
+     * @param pageable page number and size; any sort is ignored in favour of relevance
+     * @return ids of matching candidates, best match first
+     */
+    Page<Long> search(String query, Pageable pageable);
+
+    /**
+     * Add or refresh a candidate in the index.
+     */
+    void index(Candidate candidate);
+
+    /**
+     * Remove a candidate from the index.
+     */
+    void remove(Long candidateId);
+
+    /**
+     * Split text into lower-case search terms.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
@@ -1,30 +1,57 @@
 package com.interviewnotes.service;
 
 import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.dto.CursorPage;
 import com.interviewnotes.model.Candidate;
 import com.interviewnotes.repository.CandidateRepository;
+import com.interviewnotes.util.KeysetCursor;
+import com.interviewnotes.config.CacheNames;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service class for Candidate-related business operations.
+ *
+ * Detail views include each candidate's interviews: list queries fetch them
+ * through an entity graph, and paged queries rely on Hibernate batch fetching
+ * (spring.jpa.properties.hibernate.default_batch_fetch_size). Summary views
+ * never touch the interviews collection.
  */
 @Service
 @Transactional
 public class CandidateService {
 
     private final CandidateRepository candidateRepository;
+    private final CandidateSearchIndex candidateSearchIndex;
+    private final InterviewSummaryService interviewSummaryService;
+    private final InterviewService interviewService;
 
     @Autowired
-    public CandidateService(CandidateRepository candidateRepository) {
+    public CandidateService(CandidateRepository candidateRepository, CandidateSearchIndex candidateSearchIndex,
+                            InterviewSummaryService interviewSummaryService, InterviewService interviewService) {
         this.candidateRepository = candidateRepository;
+        this.candidateSearchIndex = candidateSearchIndex;
+        this.interviewSummaryService = interviewSummaryService;
+        this.interviewService = interviewService;
     }
 
     /**
@@ -50,6 +77,7 @@ public class CandidateService {
         candidate.setStatus(candidateDTO.getStatus() != null ? candidateDTO.getStatus() : "ACTIVE");
 
         Candidate savedCandidate = candidateRepository.save(candidate);
+        candidateSearchIndex.index(savedCandidate);
         return convertToDTO(savedCandidate);
     }
 
@@ -57,6 +85,7 @@ public class CandidateService {
      * Get candidate by ID.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CANDIDATES, key = "#id", unless = "#result == null")
     public Optional<CandidateDTO> getCandidateById(Long id) {
         return candidateRepository.findById(id)
                 .map(this::convertToDTO);
@@ -66,6 +95,7 @@ public class CandidateService {
      * Get candidate by email.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CANDIDATES_BY_EMAIL, key = "#email", unless = "#result == null")
     public Optional<CandidateDTO> getCandidateByEmail(String email) {
         return candidateRepository.findByEmail(email)
                 .map(this::convertToDTO);
@@ -80,6 +110,37 @@ public class CandidateService {
                 .map(this::convertToDTO);
     }
 
+    /**
+     * Get all candidates with pagination, without their interviews.
+     */
+    @Transactional(readOnly = true)
+    public Page<CandidateDTO> getAllCandidateSummaries(Pageable pageable) {
+        return candidateRepository.findAll(pageable)
+                .map(this::convertToSummaryDTO);
+    }
+
+    /**
+     * Get candidates with keyset pagination on (createdAt, id).
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CandidateDTO> getCandidatesByCursor(String cursor, int size, Sort.Direction direction, boolean summary) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        KeysetCursor position = KeysetCursor.decode(cursor, direction);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Candidate> rows = direction.isAscending()
+                ? candidateRepository.findCreatedAfter(position.getCreatedAt(), position.getId(), limit)
+                : candidateRepository.findCreatedBefore(position.getCreatedAt(), position.getId(), limit);
+
+        String nextCursor = KeysetCursor.next(rows, size, Candidate::getCreatedAt, Candidate::getId);
+        List<CandidateDTO> content = rows.stream()
+                .limit(size)
+                .map(summary ? this::convertToSummaryDTO : this::convertToDTO)
+                .collect(Collectors.toList());
+        return new CursorPage<>(content, nextCursor);
+    }
+
     /**
      * Get candidates by status.
      */
@@ -91,6 +152,17 @@ public class CandidateService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get candidates by status, without their interviews.
+     */
+    @Transactional(readOnly = true)
+    public List<CandidateDTO> getCandidateSummariesByStatus(String status) {
+        return candidateRepository.findSummariesByStatus(status)
+                .stream()
+                .map(this::convertToSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Get candidates by status with pagination.
      */
@@ -101,14 +173,42 @@ public class CandidateService {
     }
 
     /**
-     * Search candidates by term.
+     * Search candidates by term, best match first. A blank term matches every
+     * candidate, in the pageable's order.
      */
     @Transactional(readOnly = true)
     public Page<CandidateDTO> searchCandidates(String searchTerm, Pageable pageable) {
-        return candidateRepository.searchCandidates(searchTerm, pageable)
+        return findSearchResults(searchTerm, pageable)
                 .map(this::convertToDTO);
     }
 
+    /**
+     * Search candidates by term, best match first, without their interviews.
+     */
+    @Transactional(readOnly = true)
+    public Page<CandidateDTO> searchCandidateSummaries(String searchTerm, Pageable pageable) {
+        return findSearchResults(searchTerm, pageable)
+                .map(this::convertToSummaryDTO);
+    }
+
+    /**
+     * Load the candidates matched by the search index, keeping its ranking.
+     */
+    private Page<Candidate> findSearchResults(String searchTerm, Pageable pageable) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return candidateRepository.findAll(pageable);
+        }
+        Page<Long> ids = candidateSearchIndex.search(searchTerm, pageable);
+        Map<Long, Candidate> candidatesById = candidateRepository.findAllById(ids.getContent())
+                .stream()
+                .collect(Collectors.toMap(Candidate::getId, Function.identity()));
+        List<Candidate> ranked = ids.getContent().stream()
+                .map(candidatesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(ranked, ids.getPageable(), ids.getTotalElements());
+    }
+
     /**
      * Get candidates by position.
      */
@@ -120,6 +220,17 @@ public class CandidateService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get candidates by position, without their interviews.
+     */
+    @Transactional(readOnly = true)
+    public List<CandidateDTO> getCandidateSummariesByPosition(String position) {
+        return candidateRepository.findSummariesByPositionContainingIgnoreCase(position)
+                .stream()
+                .map(this::convertToSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Get candidates by experience level.
      */
@@ -131,9 +242,28 @@ public class CandidateService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Get candidates by experience level, without their interviews.
+     */
+    @Transactional(readOnly = true)
+    public List<CandidateDTO> getCandidateSummariesByExperience(Integer minExperience) {
+        return candidateRepository.findSummariesByExperienceGreaterThanEqual(minExperience)
+                .stream()
+                .map(this::convertToSummaryDTO)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Update candidate.
+     *
+     * Cached interviews are evicted too, as they carry the candidate's name,
+     * and the candidate's details in report previews are refreshed.
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES_BY_EMAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.INTERVIEWS, allEntries = true)
+    })
     public Optional<CandidateDTO> updateCandidate(Long id, CandidateDTO candidateDTO) {
         return candidateRepository.findById(id)
                 .map(candidate -> {
@@ -159,6 +289,8 @@ public class CandidateService {
                     }
 
                     Candidate savedCandidate = candidateRepository.save(candidate);
+                    candidateSearchIndex.index(savedCandidate);
+                    interviewSummaryService.candidateUpdated(savedCandidate);
                     return convertToDTO(savedCandidate);
                 });
     }
@@ -166,9 +298,16 @@ public class CandidateService {
     /**
      * Delete candidate.
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES_BY_EMAIL, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.INTERVIEWS, allEntries = true)
+    })
     public boolean deleteCandidate(Long id) {
         if (candidateRepository.existsById(id)) {
+            interviewService.candidateDeleting(id);
             candidateRepository.deleteById(id);
+            candidateSearchIndex.remove(id);
             return true;
         }
         return false;
@@ -218,35 +357,44 @@ public class CandidateService {
 
     /**
      * Get candidate statistics.
+     *
+     * Served from the candidateStatistics cache, which is refreshed in the
+     * background; the aggregate query only runs here when the entry is missing
+     * or has outlived its TTL.
      */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.CANDIDATE_STATISTICS, key = "'all'")
     public CandidateStatistics getCandidateStatistics() {
-        long totalCandidates = candidateRepository.count();
-        long activeCandidates = candidateRepository.countByStatus("ACTIVE");
-        long candidatesWithInterviews = candidateRepository.findCandidatesWithInterviews().size();
-        long candidatesWithoutInterviews = candidateRepository.findCandidatesWithoutInterviews().size();
+        return computeCandidateStatistics();
+    }
 
-        return new CandidateStatistics(totalCandidates, activeCandidates, candidatesWithInterviews, candidatesWithoutInterviews);
+    /**
+     * Recompute the candidate statistics and replace the cached entry.
+     */
+    @Scheduled(fixedDelayString = "${app.candidates.statistics.refresh-ms:30000}")
+    @Transactional(readOnly = true)
+    @CachePut(cacheNames = CacheNames.CANDIDATE_STATISTICS, key = "'all'")
+    public CandidateStatistics refreshCandidateStatistics() {
+        return computeCandidateStatistics();
+    }
+
+    private CandidateStatistics computeCandidateStatistics() {
+        CandidateRepository.CandidateCounts counts = candidateRepository.countCandidates();
+        long totalCandidates = counts.getTotalCandidates();
+        long candidatesWithInterviews = counts.getCandidatesWithInterviews();
+
+        return new CandidateStatistics(
+                totalCandidates,
+                counts.getActiveCandidates(),
+                candidatesWithInterviews,
+                totalCandidates - candidatesWithInterviews);
     }
 
     /**
      * Convert Candidate entity to DTO.
      */
-    private CandidateDTO convertToDTO(Candidate candidate) {
-        CandidateDTO dto = new CandidateDTO();
-        dto.setId(candidate.getId());
-        dto.setFirstName(candidate.getFirstName());
-        dto.setLastName(candidate.getLastName());
-        dto.setEmail(candidate.getEmail());
-        dto.setPhone(candidate.getPhone());
-        dto.setPosition(candidate.getPosition());
-        dto.setExperience(candidate.getExperience());
-        dto.setResumeUrl(candidate.getResumeUrl());
-        dto.setSource(candidate.getSource());
-        dto.setNotes(candidate.getNotes());
-        dto.setStatus(candidate.getStatus());
-        dto.setCreatedAt(candidate.getCreatedAt());
-        dto.setUpdatedAt(candidate.getUpdatedAt());
+    CandidateDTO convertToDTO(Candidate candidate) {
+        CandidateDTO dto = convertToSummaryDTO(candidate);
 
         // Convert interviews to summary DTOs
         if (candidate.getInterviews() != null && !candidate.getInterviews().isEmpty()) {
@@ -266,10 +414,33 @@ public class CandidateService {
         return dto;
     }
 
+    /**
+     * Convert Candidate entity to DTO without touching its interviews.
+     */
+    private CandidateDTO convertToSummaryDTO(Candidate candidate) {
+        CandidateDTO dto = new CandidateDTO();
+        dto.setId(candidate.getId());
+        dto.setFirstName(candidate.getFirstName());
+        dto.setLastName(candidate.getLastName());
+        dto.setEmail(candidate.getEmail());
+        dto.setPhone(candidate.getPhone());
+        dto.setPosition(candidate.getPosition());
+        dto.setExperience(candidate.getExperience());
+        dto.setResumeUrl(candidate.getResumeUrl());
+        dto.setSource(candidate.getSource());
+        dto.setNotes(candidate.getNotes());
+        dto.setStatus(candidate.getStatus());
+        dto.setCreatedAt(candidate.getCreatedAt());
+        dto.setUpdatedAt(candidate.getUpdatedAt());
+        return dto;
+    }
+
     /**
      * Statistics class for candidate data.
      */
-    public static class CandidateStatistics {
+    public static class CandidateStatistics implements Serializable {
+        private static final long serialVersionUID = 1L;
+
         private final long totalCandidates;
         private final long activeCandidates;
         private final long candidatesWithInterviews;
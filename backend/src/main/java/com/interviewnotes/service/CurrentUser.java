@@ -0,0 +1,56 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.User;
+
+/**
+ * Identity and role of the user making the current request.
+ */
+public final class CurrentUser {
+
+    private final Long id;
+    private final String username;
+    private final User.UserRole role;
+
+    public CurrentUser(Long id, String username, User.UserRole role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public User.UserRole getRole() {
+        return role;
+    }
+
+    public boolean isAdminOrHR() {
+        return role == User.UserRole.ADMIN || role == User.UserRole.HR_MANAGER;
+    }
+
+    public boolean isInterviewer() {
+        return role == User.UserRole.INTERVIEWER;
+    }
+
+    /**
+     * Whether this user may see an interview assigned to the given interviewer:
+     * admins and HR see every interview, interviewers their own.
+     */
+    public boolean canSeeInterview(Long interviewerId) {
+        return isAdminOrHR() || (interviewerId != null && interviewerId.equals(id));
+    }
+
+    @Override
+    public String toString() {
+        return "CurrentUser{" +
+                "id=" + id +
+                ", username='" + username + '\'' +
+                ", role=" + role +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * Resolves the user making the current request.
+ *
+ * The user is taken from the authenticated {@link UserPrincipal} when possible,
+ * and only looked up by username otherwise. The result is remembered for the
+ * rest of the HTTP request, so RBAC checks never repeat the lookup.
+ */
+@Component
+public class CurrentUserProvider {
+
+    static final String REQUEST_ATTRIBUTE = CurrentUserProvider.class.getName() + ".CURRENT_USER";
+
+    private final UserRepository userRepository;
+
+    @Autowired
+    public CurrentUserProvider(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Get the current user.
+     *
+     * @return the current user, or null if the request is not authenticated
+     *         or the user no longer exists
+     */
+    public CurrentUser getCurrentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) return null;
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof ResolvedUser resolved && resolved.authentication == auth) {
+                return resolved.user.orElse(null);
+            }
+        }
+
+        Optional<CurrentUser> user = resolve(auth);
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, new ResolvedUser(auth, user), RequestAttributes.SCOPE_REQUEST);
+        }
+        return user.orElse(null);
+    }
+
+    private Optional<CurrentUser> resolve(Authentication auth) {
+        if (auth.getPrincipal() instanceof UserPrincipal principal) {
+            return Optional.of(new CurrentUser(principal.getId(), principal.getUsername(), principal.getRole()));
+        }
+        return userRepository.findByUsername(auth.getName())
+                .map(user -> new CurrentUser(user.getId(), user.getUsername(), user.getRole()));
+    }
+
+    /**
+     * Resolution result tied to the authentication it was computed for.
+     */
+    private static final class ResolvedUser {
+        private final Authentication authentication;
+        private final Optional<CurrentUser> user;
+
+        private ResolvedUser(Authentication authentication, Optional<CurrentUser> user) {
+            this.authentication = authentication;
+            this.user = user;
+        }
+    }
+}
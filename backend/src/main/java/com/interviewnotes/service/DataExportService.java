@@ -0,0 +1,155 @@
+package com.interviewnotes.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.repository.CandidateRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import com.interviewnotes.util.CsvWriter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Exports all candidates or interviews as CSV or newline-delimited JSON.
+ *
+ * Rows are read through a forward-only cursor, fetched in blocks of
+ * {@link CandidateRepository#STREAM_FETCH_SIZE}, and written out one at a
+ * time, so memory use does not depend on the number of rows. The read
+ * transaction stays open until the last row has been written.
+ */
+@Service
+@Transactional(readOnly = true)
+public class DataExportService {
+
+    static final List<Column<CandidateDTO>> CANDIDATE_COLUMNS = List.of(
+            new Column<>("id", CandidateDTO::getId),
+            new Column<>("firstName", CandidateDTO::getFirstName),
+            new Column<>("lastName", CandidateDTO::getLastName),
+            new Column<>("email", CandidateDTO::getEmail),
+            new Column<>("phone", CandidateDTO::getPhone),
+            new Column<>("position", CandidateDTO::getPosition),
+            new Column<>("experience", CandidateDTO::getExperience),
+            new Column<>("resumeUrl", CandidateDTO::getResumeUrl),
+            new Column<>("source", CandidateDTO::getSource),
+            new Column<>("notes", CandidateDTO::getNotes),
+            new Column<>("status", CandidateDTO::getStatus),
+            new Column<>("createdAt", CandidateDTO::getCreatedAt),
+            new Column<>("updatedAt", CandidateDTO::getUpdatedAt));
+
+    static final List<Column<InterviewDTO>> INTERVIEW_COLUMNS = List.of(
+            new Column<>("id", interview -> interview.id),
+            new Column<>("candidateId", interview -> interview.candidateId),
+            new Column<>("candidateName", interview -> interview.candidateName),
+            new Column<>("position", interview -> interview.position),
+            new Column<>("status", interview -> interview.status),
+            new Column<>("scheduledDate", interview -> interview.scheduledDate),
+            new Column<>("duration", interview -> interview.duration),
+            new Column<>("overallScore", interview -> interview.overallScore),
+            new Column<>("interviewerId", interview -> interview.interviewerId),
+            new Column<>("interviewerName", interview -> interview.interviewerName),
+            new Column<>("notes", interview -> interview.notes),
+            new Column<>("createdAt", interview -> interview.createdAt),
+            new Column<>("updatedAt", interview -> interview.updatedAt));
+
+    private final CandidateRepository candidateRepository;
+    private final InterviewRepository interviewRepository;
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+
+    public DataExportService(CandidateRepository candidateRepository, InterviewRepository interviewRepository,
+                             CurrentUserProvider currentUserProvider, ObjectMapper objectMapper) {
+        this.candidateRepository = candidateRepository;
+        this.interviewRepository = interviewRepository;
+        this.currentUserProvider = currentUserProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write every candidate, without interviews.
+     */
+    public void exportCandidates(ExportFormat format, OutputStream output) throws IOException {
+        try (Stream<CandidateDTO> rows = candidateRepository.streamAllDTOs()) {
+            write(rows, CANDIDATE_COLUMNS, format, output);
+        }
+    }
+
+    /**
+     * Write the interviews the current user can see: all of them for admins
+     * and HR, their own for interviewers, none for anyone else.
+     */
+    public void exportInterviews(ExportFormat format, OutputStream output) throws IOException {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+        Stream<InterviewDTO> visible;
+        if (user != null && user.isAdminOrHR()) {
+            visible = interviewRepository.streamAllDTOs();
+        } else if (user != null && user.isInterviewer()) {
+            visible = interviewRepository.streamDTOsByInterviewerId(user.getId());
+        } else {
+            visible = Stream.empty();
+        }
+        try (Stream<InterviewDTO> rows = visible) {
+            write(rows, INTERVIEW_COLUMNS, format, output);
+        }
+    }
+
+    private <T> void write(Stream<T> rows, List<Column<T>> columns, ExportFormat format, OutputStream output)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        CsvWriter csv = format == ExportFormat.CSV ? new CsvWriter(writer) : null;
+        if (csv != null) {
+            csv.writeRecord(columns.stream().map(Column::getName).collect(Collectors.toList()));
+        }
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (csv != null) {
+                csv.writeRecord(columns.stream()
+                        .map(column -> column.getValue().apply(row))
+                        .collect(Collectors.toList()));
+            } else {
+                Map<String, Object> fields = new LinkedHashMap<>();
+                for (Column<T> column : columns) {
+                    fields.put(column.getName(), column.getValue().apply(row));
+                }
+                writer.write(objectMapper.writeValueAsString(fields));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * A named column of an export and how to read it from a row.
+     */
+    static class Column<T> {
+        private final String name;
+        private final Function<T, Object> value;
+
+        Column(String name, Function<T, Object> value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Function<T, Object> getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.model.InterviewQuestion;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders interview reports as a standalone HTML page.
+ */
+@Component
+public class HtmlInterviewReportRenderer implements InterviewReportRenderer {
+
+    @Override
+    public ReportFormat getFormat() {
+        return ReportFormat.HTML;
+    }
+
+    @Override
+    public void render(InterviewReport report, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        InterviewDTO interview = report.getInterview();
+
+        writer.write("<!DOCTYPE html>\n<html><head><meta charset=\"UTF-8\"><title>Interview Report</title></head><body>\n");
+        writer.write("<h1>Interview Report</h1>\n<table>\n");
+        row(writer, "Candidate", interview.candidateName);
+        row(writer, "Position", interview.position);
+        row(writer, "Status", interview.status);
+        row(writer, "Scheduled", interview.scheduledDate);
+        row(writer, "Duration (minutes)", interview.duration);
+        row(writer, "Interviewer", interview.interviewerName);
+        if (report.isIncludeScores()) {
+            row(writer, "Overall score", interview.overallScore);
+        }
+        writer.write("</table>\n");
+        if (report.isIncludeNotes() && interview.notes != null) {
+            writer.write("<h2>Notes</h2>\n<p>" + escape(interview.notes) + "</p>\n");
+        }
+
+        int round = 1;
+        for (InterviewNotes notes : report.getNotes()) {
+            writer.write("<h2>Round " + round++ + "</h2>\n<table>\n");
+            if (report.isIncludeScores()) {
+                row(writer, "Score", notes.getOverallScore());
+            }
+            if (report.isIncludeNotes()) {
+                row(writer, "Technical notes", notes.getTechnicalNotes());
+                row(writer, "Coding notes", notes.getCodingNotes());
+                row(writer, "Communication notes", notes.getCommunicationNotes());
+                row(writer, "Feedback", notes.getFeedback());
+            }
+            row(writer, "Strengths", join(notes.getStrengths()));
+            row(writer, "Weaknesses", join(notes.getWeaknesses()));
+            writer.write("</table>\n");
+
+            if (!notes.getQuestions().isEmpty()) {
+                writer.write("<table>\n<tr><th>Question</th><th>Type</th><th>Response</th>");
+                if (report.isIncludeScores()) {
+                    writer.write("<th>Score</th>");
+                }
+                if (report.isIncludeNotes()) {
+                    writer.write("<th>Notes</th>");
+                }
+                writer.write("</tr>\n");
+                for (InterviewQuestion question : report.getQuestions(notes)) {
+                    writer.write("<tr>");
+                    cell(writer, question.getQuestion());
+                    cell(writer, question.getQuestionType());
+                    cell(writer, question.getResponse());
+                    if (report.isIncludeScores()) {
+                        cell(writer, question.getScore());
+                    }
+                    if (report.isIncludeNotes()) {
+                        cell(writer, question.getNotes());
+                    }
+                    writer.write("</tr>\n");
+                }
+                writer.write("</table>\n");
+            }
+        }
+        writer.write("</body></html>\n");
+        writer.flush();
+    }
+
+    private static void row(Writer writer, String label, Object value) throws IOException {
+        writer.write("<tr><th>" + label + "</th>");
+        cell(writer, value);
+        writer.write("</tr>\n");
+    }
+
+    private static void cell(Writer writer, Object value) throws IOException {
+        writer.write("<td>" + escape(value) + "</td>");
+    }
+
+    private static String escape(Object value) {
+        return value != null ? HtmlUtils.htmlEscape(value.toString()) : "";
+    }
+
+    private static String join(String[] values) {
+        return values != null ? String.join(", ", values) : null;
+    }
+}
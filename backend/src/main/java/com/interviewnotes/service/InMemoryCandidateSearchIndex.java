@@ -0,0 +1,274 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.repository.CandidateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-process inverted index used when PostgreSQL full-text search is not
+ * available, e.g. on H2 in tests and local runs.
+ *
+ * It is built from the repository on first use and then kept in sync by
+ * CandidateService. Changes made inside a transaction are applied after it
+ * commits. Field weights mirror the database index: name and email 1.0,
+ * position 0.4, notes 0.2.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.candidates.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryCandidateSearchIndex implements CandidateSearchIndex {
+
+    static final double NAME_WEIGHT = 1.0;
+    static final double POSITION_WEIGHT = 0.4;
+    static final double NOTES_WEIGHT = 0.2;
+
+    private final CandidateRepository candidateRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Token to (candidate id to best field weight). */
+    private final NavigableMap<String, Map<Long, Double>> postings = new TreeMap<>();
+    private final Map<Long, IndexedCandidate> candidates = new HashMap<>();
+    private volatile boolean loaded;
+
+    @Autowired
+    public InMemoryCandidateSearchIndex(CandidateRepository candidateRepository) {
+        this.candidateRepository = candidateRepository;
+    }
+
+    @Override
+    public Page<Long> search(String query, Pageable pageable) {
+        List<String> terms = CandidateSearchIndex.tokenize(query);
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        if (terms.isEmpty()) {
+            return Page.empty(unsorted);
+        }
+        ensureLoaded();
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : terms) {
+                Map<Long, Double> termScores = prefixScores(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+            scores.forEach((id, score) -> matches.add(new Match(candidates.get(id), score)));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::score).reversed()
+                .thenComparing(Match::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(Match::id, Comparator.reverseOrder()));
+
+        int from = (int) Math.min(unsorted.getOffset(), matches.size());
+        int to = Math.min(from + unsorted.getPageSize(), matches.size());
+        List<Long> ids = matches.subList(from, to).stream().map(Match::id).collect(Collectors.toList());
+        return new PageImpl<>(ids, unsorted, matches.size());
+    }
+
+    @Override
+    public void index(Candidate candidate) {
+        if (candidate == null || candidate.getId() == null) {
+            return;
+        }
+        IndexedCandidate indexed = IndexedCandidate.of(candidate);
+        afterCommit(() -> put(indexed));
+    }
+
+    @Override
+    public void remove(Long candidateId) {
+        if (candidateId != null) {
+            afterCommit(() -> delete(candidateId));
+        }
+    }
+
+    /**
+     * Drop the index contents; it is rebuilt from the repository on next use.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            candidates.clear();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return candidates.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        List<Candidate> all = candidateRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                for (Candidate candidate : all) {
+                    putLocked(IndexedCandidate.of(candidate));
+                }
+                loaded = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Best weight per candidate over every token that starts with the term.
+     */
+    private Map<Long, Double> prefixScores(String term) {
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map<Long, Double> posting : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+            posting.forEach((id, weight) -> scores.merge(id, weight, Math::max));
+        }
+        return scores;
+    }
+
+    private void put(IndexedCandidate indexed) {
+        lock.writeLock().lock();
+        try {
+            putLocked(indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(IndexedCandidate indexed) {
+        deleteLocked(indexed.id);
+        candidates.put(indexed.id, indexed);
+        indexed.tokens.forEach((token, weight) ->
+                postings.computeIfAbsent(token, t -> new HashMap<>()).put(indexed.id, weight));
+    }
+
+    private void delete(Long candidateId) {
+        lock.writeLock().lock();
+        try {
+            deleteLocked(candidateId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void deleteLocked(Long candidateId) {
+        IndexedCandidate previous = candidates.remove(candidateId);
+        if (previous == null) {
+            return;
+        }
+        for (String token : previous.tokens.keySet()) {
+            Map<Long, Double> posting = postings.get(token);
+            if (posting != null) {
+                posting.remove(candidateId);
+                if (posting.isEmpty()) {
+                    postings.remove(token);
+                }
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Snapshot of the searchable fields of a candidate.
+     */
+    private static final class IndexedCandidate {
+        private final Long id;
+        private final LocalDateTime createdAt;
+        private final Map<String, Double> tokens;
+
+        private IndexedCandidate(Long id, LocalDateTime createdAt, Map<String, Double> tokens) {
+            this.id = id;
+            this.createdAt = createdAt;
+            this.tokens = tokens;
+        }
+
+        static IndexedCandidate of(Candidate candidate) {
+            Map<String, Double> tokens = new HashMap<>();
+            addTokens(tokens, candidate.getFirstName(), NAME_WEIGHT);
+            addTokens(tokens, candidate.getLastName(), NAME_WEIGHT);
+            addTokens(tokens, candidate.getEmail(), NAME_WEIGHT);
+            addTokens(tokens, candidate.getPosition(), POSITION_WEIGHT);
+            addTokens(tokens, candidate.getNotes(), NOTES_WEIGHT);
+            return new IndexedCandidate(candidate.getId(), candidate.getCreatedAt(), tokens);
+        }
+
+        private static void addTokens(Map<String, Double> tokens, String text, double weight) {
+            for (String token : CandidateSearchIndex.tokenize(text)) {
+                tokens.merge(token, weight, Math::max);
+            }
+        }
+    }
+
+    /**
+     * A matching candidate and its relevance score.
+     */
+    private static final class Match {
+        private final IndexedCandidate candidate;
+        private final double score;
+
+        private Match(IndexedCandidate candidate, double score) {
+            this.candidate = candidate;
+            this.score = score;
+        }
+
+        double score() {
+            return score;
+        }
+
+        Long id() {
+            return candidate.id;
+        }
+
+        LocalDateTime createdAt() {
+            return candidate.createdAt;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.AnalyticsDirtyDay;
+import com.interviewnotes.repository.AnalyticsDirtyDayRepository;
+import com.interviewnotes.repository.InterviewDailyRoundTypeRepository;
+import com.interviewnotes.repository.InterviewDailyStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for interview analytics.
+ *
+ * Statistics are kept per day of the scheduled date in rollup tables, and a
+ * period is answered by summing its days. Writes that change an interview's
+ * statistics mark its day as dirty in the same transaction; the refresh job
+ * recomputes dirty days from interviews and notes, so answers lag writes by at
+ * most one refresh interval.
+ *
+ * Interviewer performance comes from {@link InterviewerPerformanceService};
+ * access checks are applied here.
+ */
+@Service
+@Transactional
+public class InterviewAnalyticsService {
+
+    private final InterviewDailyStatsRepository dailyStatsRepository;
+    private final InterviewDailyRoundTypeRepository dailyRoundTypeRepository;
+    private final AnalyticsDirtyDayRepository dirtyDayRepository;
+    private final InterviewerPerformanceService interviewerPerformanceService;
+    private final CurrentUserProvider currentUserProvider;
+    private final int refreshBatchSize;
+
+    public InterviewAnalyticsService(InterviewDailyStatsRepository dailyStatsRepository,
+                                     InterviewDailyRoundTypeRepository dailyRoundTypeRepository,
+                                     AnalyticsDirtyDayRepository dirtyDayRepository,
+                                     InterviewerPerformanceService interviewerPerformanceService,
+                                     CurrentUserProvider currentUserProvider,
+                                     @Value("${app.analytics.refresh-batch-size:500}") int refreshBatchSize) {
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.dailyRoundTypeRepository = dailyRoundTypeRepository;
+        this.dirtyDayRepository = dirtyDayRepository;
+        this.interviewerPerformanceService = interviewerPerformanceService;
+        this.currentUserProvider = currentUserProvider;
+        this.refreshBatchSize = refreshBatchSize;
+    }
+
+    /**
+     * Get the interview statistics of a date range, both ends included.
+     */
+    @Transactional(readOnly = true)
+    public InterviewStatistics getInterviewStatistics(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new RuntimeException("startDate must not be after endDate");
+        }
+        InterviewDailyStatsRepository.StatsTotals totals = dailyStatsRepository.sumBetween(startDate, endDate);
+
+        Map<String, Long> roundBreakdown = new LinkedHashMap<>();
+        for (InterviewDailyRoundTypeRepository.RoundTypeTotal total : dailyRoundTypeRepository.sumBetween(startDate, endDate)) {
+            roundBreakdown.put(total.getRoundType(), total.getRounds());
+        }
+
+        Map<String, Long> recommendationBreakdown = new LinkedHashMap<>();
+        recommendationBreakdown.put("STRONG_HIRE", totals.getStrongHire());
+        recommendationBreakdown.put("HIRE", totals.getHire());
+        recommendationBreakdown.put("WEAK_HIRE", totals.getWeakHire());
+        recommendationBreakdown.put("NO_HIRE", totals.getNoHire());
+        long recommended = recommendationBreakdown.values().stream().mapToLong(Long::longValue).sum();
+
+        BigDecimal averageScore = totals.getScoredInterviews() > 0
+                ? totals.getScoreTotal().divide(BigDecimal.valueOf(totals.getScoredInterviews()), 2, RoundingMode.HALF_UP)
+                : null;
+        BigDecimal hireRate = recommended > 0
+                ? BigDecimal.valueOf(totals.getStrongHire() + totals.getHire())
+                        .divide(BigDecimal.valueOf(recommended), 2, RoundingMode.HALF_UP)
+                : null;
+
+        return new InterviewStatistics(startDate, endDate, totals.getTotalInterviews(), totals.getCompletedInterviews(),
+                averageScore, hireRate, roundBreakdown, recommendationBreakdown);
+    }
+
+    /**
+     * Get the performance of the interviewers the current user can see over a
+     * date range: all of them for admins and HR, only their own otherwise.
+     */
+    @Transactional(readOnly = true)
+    public List<InterviewerPerformanceService.InterviewerPerformance> getInterviewerPerformance(LocalDate startDate,
+                                                                                                LocalDate endDate) {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+        if (user == null) return List.of();
+        return interviewerPerformanceService.getPerformance(startDate, endDate).stream()
+                .filter(p -> user.isAdminOrHR() || user.getId().equals(p.getInterviewer().getId()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get one interviewer's performance over a date range.
+     *
+     * @return the performance, or empty if the interviewer does not exist or
+     *         is not visible to the current user
+     */
+    @Transactional(readOnly = true)
+    public Optional<InterviewerPerformanceService.InterviewerPerformance> getInterviewerPerformance(
+            Long interviewerId, LocalDate startDate, LocalDate endDate) {
+        return getInterviewerPerformance(startDate, endDate).stream()
+                .filter(p -> p.getInterviewer().getId().equals(interviewerId))
+                .findFirst();
+    }
+
+    /**
+     * Mark the days of the given scheduled dates as dirty. Pass both the old
+     * and the new date when an interview is moved.
+     */
+    public void interviewsChanged(LocalDateTime... scheduledDates) {
+        Arrays.stream(scheduledDates)
+                .filter(Objects::nonNull)
+                .map(LocalDateTime::toLocalDate)
+                .distinct()
+                .forEach(dirtyDayRepository::markDirty);
+    }
+
+    /**
+     * Recompute the rollups of a batch of dirty days.
+     *
+     * @return the number of days refreshed
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-ms:60000}")
+    public int refreshRollups() {
+        List<AnalyticsDirtyDay> dirty = dirtyDayRepository.findBatchForUpdate(PageRequest.of(0, refreshBatchSize));
+        if (dirty.isEmpty()) return 0;
+
+        List<LocalDate> days = dirty.stream().map(AnalyticsDirtyDay::getStatDate).collect(Collectors.toList());
+        LocalDateTime from = Collections.min(days).atStartOfDay();
+        LocalDateTime to = Collections.max(days).plusDays(1).atStartOfDay();
+
+        dailyStatsRepository.deleteDays(days);
+        dailyStatsRepository.insertDays(days, from, to, LocalDateTime.now());
+        dailyRoundTypeRepository.deleteDays(days);
+        dailyRoundTypeRepository.insertDays(days, from, to);
+        // A day marked again meanwhile keeps its row and is refreshed next time
+        dirty.forEach(day -> dirtyDayRepository.deleteIfUnchanged(day.getStatDate(), day.getGeneration()));
+        return days.size();
+    }
+
+    /**
+     * Interview statistics of a date range.
+     */
+    public static class InterviewStatistics implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final LocalDate startDate;
+        private final LocalDate endDate;
+        private final long totalInterviews;
+        private final long completedInterviews;
+        private final BigDecimal averageScore;
+        private final BigDecimal hireRate;
+        private final Map<String, Long> roundBreakdown;
+        private final Map<String, Long> recommendationBreakdown;
+
+        public InterviewStatistics(LocalDate startDate, LocalDate endDate, long totalInterviews,
+                                   long completedInterviews, BigDecimal averageScore, BigDecimal hireRate,
+                                   Map<String, Long> roundBreakdown, Map<String, Long> recommendationBreakdown) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+            this.totalInterviews = totalInterviews;
+            this.completedInterviews = completedInterviews;
+            this.averageScore = averageScore;
+            this.hireRate = hireRate;
+            this.roundBreakdown = roundBreakdown;
+            this.recommendationBreakdown = recommendationBreakdown;
+        }
+
+        // Getters
+        public LocalDate getStartDate() {
+            return startDate;
+        }
+
+        public LocalDate getEndDate() {
+            return endDate;
+        }
+
+        public long getTotalInterviews() {
+            return totalInterviews;
+        }
+
+        public long getCompletedInterviews() {
+            return completedInterviews;
+        }
+
+        /**
+         * Average overall score of the scored interviews, or null if none are scored.
+         */
+        public BigDecimal getAverageScore() {
+            return averageScore;
+        }
+
+        /**
+         * Share of interviews with a final recommendation that recommend
+         * hiring, or null if none have one.
+         */
+        public BigDecimal getHireRate() {
+            return hireRate;
+        }
+
+        public Map<String, Long> getRoundBreakdown() {
+            return roundBreakdown;
+        }
+
+        public Map<String, Long> getRecommendationBreakdown() {
+            return recommendationBreakdown;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.interviewnotes.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A change to an interview, pushed to subscribed clients.
+ *
+ * The interview is included for created and updated events, so clients can
+ * apply the change without fetching it. An event is delivered to admins, HR,
+ * and the interviewer the interview is assigned to. When an update reassigns
+ * the interview, the previous interviewer, who may no longer read it, gets
+ * an {@link #getUnassigned() unassigned} event carrying only its id.
+ */
+public class InterviewEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        UNASSIGNED
+    }
+
+    private final Type type;
+    private final Long interviewId;
+    private final InterviewDTO interview;
+    private final Set<Long> interviewerIds = new HashSet<>();
+    private Long unassignedInterviewerId;
+
+    private InterviewEvent(Type type, Long interviewId, InterviewDTO interview, Long... interviewerIds) {
+        this.type = type;
+        this.interviewId = interviewId;
+        this.interview = interview;
+        for (Long interviewerId : interviewerIds) {
+            if (interviewerId != null) this.interviewerIds.add(interviewerId);
+        }
+    }
+
+    public static InterviewEvent created(InterviewDTO interview) {
+        return new InterviewEvent(Type.CREATED, interview.id, interview, interview.interviewerId);
+    }
+
+    public static InterviewEvent updated(InterviewDTO interview, Long previousInterviewerId) {
+        InterviewEvent event = new InterviewEvent(Type.UPDATED, interview.id, interview, interview.interviewerId);
+        if (previousInterviewerId != null && !previousInterviewerId.equals(interview.interviewerId)) {
+            event.unassignedInterviewerId = previousInterviewerId;
+        }
+        return event;
+    }
+
+    public static InterviewEvent deleted(Long interviewId, Long interviewerId) {
+        return new InterviewEvent(Type.DELETED, interviewId, null, interviewerId);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getInterviewId() {
+        return interviewId;
+    }
+
+    public InterviewDTO getInterview() {
+        return interview;
+    }
+
+    /**
+     * The event for the interviewer an update took the interview away from,
+     * or null if it was not reassigned.
+     */
+    @JsonIgnore
+    public InterviewEvent getUnassigned() {
+        return unassignedInterviewerId != null
+                ? new InterviewEvent(Type.UNASSIGNED, interviewId, null, unassignedInterviewerId)
+                : null;
+    }
+
+    /**
+     * SSE event name, e.g. {@code interview_updated}.
+     */
+    @JsonIgnore
+    public String getEventName() {
+        return "interview_" + type.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether a user may receive this event, by the same rules as reading the interview.
+     */
+    public boolean isVisibleTo(CurrentUser user) {
+        return user != null && (user.isAdminOrHR() || interviewerIds.contains(user.getId()));
+    }
+
+    @Override
+    public String toString() {
+        return "InterviewEvent{" +
+                "type=" + type +
+                ", interviewId=" + interviewId +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        InterviewEvent that = (InterviewEvent) o;
+        return type == that.type && Objects.equals(interviewId, that.interviewId)
+                && Objects.equals(interviewerIds, that.interviewerIds)
+                && Objects.equals(unassignedInterviewerId, that.unassignedInterviewerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, interviewId, interviewerIds, unassignedInterviewerId);
+    }
+}
@@ -0,0 +1,189 @@
+package com.interviewnotes.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Pushes interview events to clients over server-sent events.
+ *
+ * Each subscription is an async servlet response, so an idle connection holds
+ * no thread. Events are published after the writing transaction commits and
+ * fanned out on a small dedicated pool: the payload is serialized once and
+ * written to every subscriber allowed to see it. Subscribers whose connection
+ * fails are dropped; a periodic heartbeat finds dead connections and keeps
+ * proxies from closing idle ones.
+ */
+@Component
+public class InterviewEventBroadcaster implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(InterviewEventBroadcaster.class);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final CurrentUserProvider currentUserProvider;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final long timeoutMs;
+
+    @Autowired
+    public InterviewEventBroadcaster(CurrentUserProvider currentUserProvider,
+                                     ObjectMapper objectMapper,
+                                     @Value("${app.events.timeout-ms:1800000}") long timeoutMs,
+                                     @Value("${app.events.workers:2}") int workers,
+                                     @Value("${app.events.queue-capacity:1000}") int queueCapacity) {
+        this(currentUserProvider, objectMapper, fanOutPool(workers, queueCapacity), timeoutMs);
+    }
+
+    /**
+     * Create a broadcaster that fans out on the given executor.
+     */
+    public InterviewEventBroadcaster(CurrentUserProvider currentUserProvider, ObjectMapper objectMapper,
+                                     Executor executor, long timeoutMs) {
+        this.currentUserProvider = currentUserProvider;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    private static ThreadPoolTaskExecutor fanOutPool(int workers, int queueCapacity) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(workers);
+        pool.setMaxPoolSize(workers);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setThreadNamePrefix("interview-events-");
+        pool.initialize();
+        return pool;
+    }
+
+    /**
+     * Subscribe the current user to the interview events they may see. The
+     * stream ends after the configured timeout; clients reconnect.
+     */
+    public SseEmitter subscribe() {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+        if (user == null) {
+            throw new RuntimeException("User not found");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, user);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // sent once the response starts, so the client sees the stream open
+        send(subscriber, SseEmitter.event().comment("subscribed"));
+        return emitter;
+    }
+
+    /**
+     * Publish an event once the current transaction, if any, commits.
+     */
+    public void publish(InterviewEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event);
+                }
+            });
+        } else {
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Send a comment to every subscriber.
+     */
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-ms:30000}")
+    public void heartbeat() {
+        if (subscribers.isEmpty()) return;
+        execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                send(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void dispatch(InterviewEvent event) {
+        if (subscribers.isEmpty()) return;
+        execute(() -> fanOut(event));
+    }
+
+    private void fanOut(InterviewEvent event) {
+        InterviewEvent unassigned = event.getUnassigned();
+        String data;
+        String unassignedData;
+        try {
+            data = objectMapper.writeValueAsString(event);
+            unassignedData = unassigned != null ? objectMapper.writeValueAsString(unassigned) : null;
+        } catch (JsonProcessingException e) {
+            logger.error("Could not serialize {}", event, e);
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (event.isVisibleTo(subscriber.user)) {
+                send(subscriber, SseEmitter.event().name(event.getEventName()).data(data));
+            } else if (unassigned != null && unassigned.isVisibleTo(subscriber.user)) {
+                send(subscriber, SseEmitter.event().name(unassigned.getEventName()).data(unassignedData));
+            }
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (TaskRejectedException e) {
+            logger.warn("Interview event fan-out queue is full, dropping a message");
+        }
+    }
+
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder message) {
+        try {
+            subscriber.emitter.send(message);
+        } catch (IOException | IllegalStateException e) {
+            // the client went away or the emitter already completed; the
+            // container completes the request itself
+            subscribers.remove(subscriber);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final CurrentUser user;
+
+        private Subscriber(SseEmitter emitter, CurrentUser user) {
+            this.emitter = emitter;
+            this.user = user;
+        }
+    }
+}
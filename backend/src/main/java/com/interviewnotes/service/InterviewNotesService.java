@@ -0,0 +1,176 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.config.CacheNames;
+import com.interviewnotes.dto.InterviewNotesDTO;
+import com.interviewnotes.dto.InterviewQuestionDTO;
+import com.interviewnotes.model.Interview;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.model.InterviewQuestion;
+import com.interviewnotes.repository.InterviewNotesRepository;
+import com.interviewnotes.repository.InterviewQuestionRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for writing interview notes and questions.
+ *
+ * Notes can be written by anyone who can see the interview. Each write
+ * touches the interview's updatedAt, so cached reports of it are regenerated,
+ * and updates the interview's report preview. Notes changes also mark the
+ * interview's day for the analytics rollups; questions do not affect them.
+ */
+@Service
+@Transactional
+public class InterviewNotesService {
+
+    private final InterviewService interviewService;
+    private final InterviewRepository interviewRepository;
+    private final InterviewNotesRepository interviewNotesRepository;
+    private final InterviewQuestionRepository interviewQuestionRepository;
+    private final InterviewSummaryService interviewSummaryService;
+    private final InterviewAnalyticsService interviewAnalyticsService;
+
+    public InterviewNotesService(InterviewService interviewService,
+                                 InterviewRepository interviewRepository,
+                                 InterviewNotesRepository interviewNotesRepository,
+                                 InterviewQuestionRepository interviewQuestionRepository,
+                                 InterviewSummaryService interviewSummaryService,
+                                 InterviewAnalyticsService interviewAnalyticsService) {
+        this.interviewService = interviewService;
+        this.interviewRepository = interviewRepository;
+        this.interviewNotesRepository = interviewNotesRepository;
+        this.interviewQuestionRepository = interviewQuestionRepository;
+        this.interviewSummaryService = interviewSummaryService;
+        this.interviewAnalyticsService = interviewAnalyticsService;
+    }
+
+    /**
+     * Add a set of notes, with its questions, to an interview.
+     *
+     * @return the saved notes, or empty if the interview is not visible
+     */
+    @CacheEvict(cacheNames = CacheNames.INTERVIEWS, key = "#interviewId")
+    public Optional<InterviewNotesDTO> addNotes(Long interviewId, InterviewNotesDTO dto) {
+        if (interviewService.getInterviewById(interviewId).isEmpty()) return Optional.empty();
+        Interview interview = interviewRepository.findById(interviewId).orElse(null);
+        if (interview == null) return Optional.empty();
+
+        InterviewNotes notes = new InterviewNotes();
+        notes.setInterview(interview);
+        applyNotes(dto, notes);
+        if (dto.getQuestions() != null) {
+            for (InterviewQuestionDTO questionDTO : dto.getQuestions()) {
+                notes.addQuestion(toEntity(questionDTO));
+            }
+        }
+        interview.setUpdatedAt(LocalDateTime.now());
+        InterviewNotes saved = interviewNotesRepository.save(notes);
+        interviewSummaryService.notesAdded(saved);
+        interviewAnalyticsService.interviewsChanged(interview.getScheduledDate());
+        return Optional.of(toDTO(saved));
+    }
+
+    /**
+     * Update the provided fields of a set of notes; questions are added
+     * separately.
+     *
+     * @return the updated notes, or empty if they or the interview are not visible
+     */
+    @CacheEvict(cacheNames = CacheNames.INTERVIEWS, key = "#interviewId")
+    public Optional<InterviewNotesDTO> updateNotes(Long interviewId, Long notesId, InterviewNotesDTO dto) {
+        Optional<InterviewNotes> notesOpt = findNotes(interviewId, notesId);
+        if (notesOpt.isEmpty()) return Optional.empty();
+
+        InterviewNotes notes = notesOpt.get();
+        applyNotes(dto, notes);
+        notes.getInterview().setUpdatedAt(LocalDateTime.now());
+        InterviewNotes saved = interviewNotesRepository.save(notes);
+        interviewSummaryService.notesUpdated(saved);
+        interviewAnalyticsService.interviewsChanged(saved.getInterview().getScheduledDate());
+        return Optional.of(toDTO(saved));
+    }
+
+    /**
+     * Add a question to a set of notes.
+     *
+     * @return the saved question, or empty if the notes or the interview are not visible
+     */
+    @CacheEvict(cacheNames = CacheNames.INTERVIEWS, key = "#interviewId")
+    public Optional<InterviewQuestionDTO> addQuestion(Long interviewId, Long notesId, InterviewQuestionDTO dto) {
+        Optional<InterviewNotes> notesOpt = findNotes(interviewId, notesId);
+        if (notesOpt.isEmpty()) return Optional.empty();
+
+        InterviewNotes notes = notesOpt.get();
+        InterviewQuestion question = toEntity(dto);
+        // set the owner only, so the other questions are not loaded
+        question.setInterviewNotes(notes);
+        notes.getInterview().setUpdatedAt(LocalDateTime.now());
+        InterviewQuestion saved = interviewQuestionRepository.save(question);
+        interviewSummaryService.questionAdded(saved);
+        return Optional.of(toDTO(saved));
+    }
+
+    private Optional<InterviewNotes> findNotes(Long interviewId, Long notesId) {
+        if (interviewService.getInterviewById(interviewId).isEmpty()) return Optional.empty();
+        return interviewNotesRepository.findById(notesId)
+                .filter(notes -> notes.getInterview() != null && interviewId.equals(notes.getInterview().getId()));
+    }
+
+    private static void applyNotes(InterviewNotesDTO dto, InterviewNotes notes) {
+        if (dto.getRoundType() != null) notes.setRoundType(dto.getRoundType());
+        if (dto.getTechnicalNotes() != null) notes.setTechnicalNotes(dto.getTechnicalNotes());
+        if (dto.getCodingNotes() != null) notes.setCodingNotes(dto.getCodingNotes());
+        if (dto.getCommunicationNotes() != null) notes.setCommunicationNotes(dto.getCommunicationNotes());
+        if (dto.getStrengths() != null) notes.setStrengths(dto.getStrengths().toArray(new String[0]));
+        if (dto.getWeaknesses() != null) notes.setWeaknesses(dto.getWeaknesses().toArray(new String[0]));
+        if (dto.getOverallScore() != null) notes.setOverallScore(dto.getOverallScore());
+        if (dto.getRecommendation() != null) notes.setRecommendation(dto.getRecommendation());
+        if (dto.getFeedback() != null) notes.setFeedback(dto.getFeedback());
+    }
+
+    private static InterviewQuestion toEntity(InterviewQuestionDTO dto) {
+        InterviewQuestion question = new InterviewQuestion(dto.getQuestion(), dto.getQuestionType());
+        question.setResponse(dto.getResponse());
+        question.setScore(dto.getScore());
+        question.setNotes(dto.getNotes());
+        return question;
+    }
+
+    private static InterviewNotesDTO toDTO(InterviewNotes notes) {
+        InterviewNotesDTO dto = new InterviewNotesDTO();
+        dto.setId(notes.getId());
+        dto.setInterviewId(notes.getInterview().getId());
+        dto.setRoundType(notes.getRoundType());
+        dto.setTechnicalNotes(notes.getTechnicalNotes());
+        dto.setCodingNotes(notes.getCodingNotes());
+        dto.setCommunicationNotes(notes.getCommunicationNotes());
+        dto.setStrengths(notes.getStrengths() != null ? Arrays.asList(notes.getStrengths()) : null);
+        dto.setWeaknesses(notes.getWeaknesses() != null ? Arrays.asList(notes.getWeaknesses()) : null);
+        dto.setOverallScore(notes.getOverallScore());
+        dto.setRecommendation(notes.getRecommendation());
+        dto.setFeedback(notes.getFeedback());
+        dto.setQuestions(notes.getQuestions().stream().map(InterviewNotesService::toDTO).collect(Collectors.toList()));
+        dto.setCreatedAt(notes.getCreatedAt());
+        dto.setUpdatedAt(notes.getUpdatedAt());
+        return dto;
+    }
+
+    private static InterviewQuestionDTO toDTO(InterviewQuestion question) {
+        InterviewQuestionDTO dto = new InterviewQuestionDTO();
+        dto.setId(question.getId());
+        dto.setQuestion(question.getQuestion());
+        dto.setResponse(question.getResponse());
+        dto.setScore(question.getScore());
+        dto.setNotes(question.getNotes());
+        dto.setQuestionType(question.getQuestionType());
+        dto.setCreatedAt(question.getCreatedAt());
+        return dto;
+    }
+}
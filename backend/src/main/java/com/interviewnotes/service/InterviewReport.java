@@ -0,0 +1,58 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.model.InterviewQuestion;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Everything a report renderer needs: the interview, its notes with their
+ * questions already loaded, and which optional sections to include.
+ */
+public class InterviewReport {
+    private final InterviewDTO interview;
+    private final List<InterviewNotes> notes;
+    private final boolean includeNotes;
+    private final boolean includeScores;
+
+    public InterviewReport(InterviewDTO interview, List<InterviewNotes> notes, boolean includeNotes, boolean includeScores) {
+        this.interview = interview;
+        this.notes = notes;
+        this.includeNotes = includeNotes;
+        this.includeScores = includeScores;
+    }
+
+    public InterviewDTO getInterview() {
+        return interview;
+    }
+
+    public List<InterviewNotes> getNotes() {
+        return notes;
+    }
+
+    /**
+     * The questions of one round in the order they were asked.
+     */
+    public List<InterviewQuestion> getQuestions(InterviewNotes notes) {
+        return notes.getQuestions().stream()
+                .sorted(Comparator.comparing(InterviewQuestion::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Whether free-text notes and feedback are included.
+     */
+    public boolean isIncludeNotes() {
+        return includeNotes;
+    }
+
+    /**
+     * Whether overall and per-question scores are included.
+     */
+    public boolean isIncludeScores() {
+        return includeScores;
+    }
+}
@@ -0,0 +1,17 @@
+package com.interviewnotes.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes an interview report in one format.
+ *
+ * Renderers write straight to the given stream as they go and never hold a
+ * whole document in memory. They must not close the stream.
+ */
+public interface InterviewReportRenderer {
+
+    ReportFormat getFormat();
+
+    void render(InterviewReport report, OutputStream out) throws IOException;
+}
@@ -0,0 +1,210 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.repository.InterviewNotesRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Generates interview reports.
+ *
+ * Reports are rendered on a small dedicated pool so bulk generation cannot
+ * tie up request threads; when its queue is full new work is rejected with
+ * {@link TaskRejectedException}. Rendered reports are written to files named
+ * after the latest updatedAt of the interview, its candidate and its
+ * interviewer, whose names the report shows, so a file is reused until one of
+ * them changes, and the response is streamed from that file. Concurrent requests
+ * for the same report share one rendering.
+ */
+@Service
+public class InterviewReportService implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(InterviewReportService.class);
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSSSSS");
+
+    private final InterviewService interviewService;
+    private final InterviewNotesRepository interviewNotesRepository;
+    private final InterviewRepository interviewRepository;
+    private final Map<ReportFormat, InterviewReportRenderer> renderers = new EnumMap<>(ReportFormat.class);
+    private final Executor executor;
+    private final Path cacheDir;
+    private final ConcurrentMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public InterviewReportService(InterviewService interviewService,
+                                  InterviewNotesRepository interviewNotesRepository,
+                                  InterviewRepository interviewRepository,
+                                  List<InterviewReportRenderer> renderers,
+                                  @Value("${app.reports.workers:2}") int workers,
+                                  @Value("${app.reports.queue-capacity:100}") int queueCapacity,
+                                  @Value("${app.reports.cache-dir:${java.io.tmpdir}/interview-notes-reports}") String cacheDir) {
+        this(interviewService, interviewNotesRepository, interviewRepository, renderers,
+                workerPool(workers, queueCapacity), Paths.get(cacheDir));
+    }
+
+    InterviewReportService(InterviewService interviewService,
+                           InterviewNotesRepository interviewNotesRepository,
+                           InterviewRepository interviewRepository,
+                           List<InterviewReportRenderer> renderers,
+                           Executor executor,
+                           Path cacheDir) {
+        this.interviewService = interviewService;
+        this.interviewNotesRepository = interviewNotesRepository;
+        this.interviewRepository = interviewRepository;
+        for (InterviewReportRenderer renderer : renderers) {
+            this.renderers.put(renderer.getFormat(), renderer);
+        }
+        this.executor = executor;
+        this.cacheDir = cacheDir;
+    }
+
+    private static ThreadPoolTaskExecutor workerPool(int workers, int queueCapacity) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(workers);
+        pool.setMaxPoolSize(workers);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setThreadNamePrefix("report-");
+        pool.initialize();
+        return pool;
+    }
+
+    /**
+     * Get the report of an interview the current user can see.
+     *
+     * Access is checked on the calling thread; loading and rendering happen on
+     * the report pool unless an up-to-date file already exists.
+     *
+     * @return the report file, or empty if the interview is not visible
+     * @throws TaskRejectedException if the report pool is saturated
+     */
+    public CompletableFuture<Optional<Path>> getReport(Long interviewId, ReportFormat format,
+                                                       boolean includeNotes, boolean includeScores) {
+        Optional<InterviewDTO> interview = interviewService.getInterviewById(interviewId);
+        if (interview.isEmpty()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        String variant = variant(format, includeNotes, includeScores);
+        LocalDateTime lastModified = interviewRepository.findLastModifiedById(interviewId)
+                .orElse(interview.get().updatedAt);
+        String fileName = fileName(interviewId, lastModified, variant);
+        Path file = cacheDir.resolve(fileName);
+        if (Files.exists(file)) {
+            return CompletableFuture.completedFuture(Optional.of(file));
+        }
+
+        CompletableFuture<Path> generation = new CompletableFuture<>();
+        CompletableFuture<Path> running = inFlight.putIfAbsent(fileName, generation);
+        if (running != null) {
+            return running.thenApply(Optional::of);
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generation.complete(generate(interview.get(), format, includeNotes, includeScores, file, variant));
+                } catch (Throwable ex) {
+                    generation.completeExceptionally(ex);
+                } finally {
+                    inFlight.remove(fileName, generation);
+                }
+            });
+        } catch (TaskRejectedException ex) {
+            inFlight.remove(fileName, generation);
+            generation.completeExceptionally(ex);
+            throw ex;
+        }
+        return generation.thenApply(Optional::of);
+    }
+
+    private Path generate(InterviewDTO interview, ReportFormat format, boolean includeNotes, boolean includeScores,
+                          Path file, String variant) {
+        List<InterviewNotes> notes = interviewNotesRepository.findByInterviewIdWithQuestions(interview.id);
+        InterviewReport report = new InterviewReport(interview, notes, includeNotes, includeScores);
+
+        Path partial = null;
+        try {
+            Files.createDirectories(cacheDir);
+            partial = Files.createTempFile(cacheDir, file.getFileName().toString(), ".part");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(partial))) {
+                renderers.get(format).render(report, out);
+            }
+            Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            deleteQuietly(partial);
+            throw new UncheckedIOException("Failed to generate report for interview " + interview.id, ex);
+        } catch (RuntimeException ex) {
+            deleteQuietly(partial);
+            throw ex;
+        }
+        deleteOtherVersions(interview.id, variant, file);
+        return file;
+    }
+
+    /**
+     * Remove files rendered from earlier versions of the interview.
+     */
+    private void deleteOtherVersions(Long interviewId, String variant, Path current) {
+        String glob = "interview-" + interviewId + "-*-" + variant;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir, glob)) {
+            for (Path file : files) {
+                if (!file.equals(current)) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException ex) {
+            logger.warn("Could not clean up old reports for interview {}: {}", interviewId, ex.getMessage());
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.warn("Could not delete report file {}: {}", file, ex.getMessage());
+        }
+    }
+
+    private static String variant(ReportFormat format, boolean includeNotes, boolean includeScores) {
+        return (includeNotes ? "n" : "x") + (includeScores ? "s" : "x") + "." + format.getExtension();
+    }
+
+    private static String fileName(Long interviewId, LocalDateTime lastModified, String variant) {
+        String version = lastModified != null ? lastModified.format(VERSION_FORMAT) : "0";
+        return "interview-" + interviewId + "-" + version + "-" + variant;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+}
@@ -6,30 +6,61 @@ import com.interviewnotes.model.User;
 import com.interviewnotes.repository.InterviewRepository;
 import com.interviewnotes.repository.CandidateRepository;
 import com.interviewnotes.repository.UserRepository;
+import com.interviewnotes.config.CacheNames;
 import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.dto.CursorPage;
+import com.interviewnotes.util.KeysetCursor;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class InterviewService {
+    /**
+     * Most interviews a batch update may change.
+     */
+    static final int MAX_BATCH_SIZE = 500;
+
     @Autowired
     private InterviewRepository interviewRepository;
     @Autowired
     private CandidateRepository candidateRepository;
     @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private CurrentUserProvider currentUserProvider;
+    @Autowired
+    private InterviewSummaryService interviewSummaryService;
+    @Autowired
+    private InterviewAnalyticsService interviewAnalyticsService;
+    @Autowired
+    private InterviewEventBroadcaster interviewEventBroadcaster;
 
-    private InterviewDTO toDTO(Interview interview) {
+    /**
+     * Map an entity after a write. Reads use the DTO queries in
+     * InterviewRepository instead.
+     */
+    InterviewDTO toDTO(Interview interview) {
         InterviewDTO dto = new InterviewDTO();
         dto.id = interview.getId();
         dto.candidateId = interview.getCandidate() != null ? interview.getCandidate().getId() : null;
@@ -68,61 +99,103 @@ public class InterviewService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES_BY_EMAIL, allEntries = true)
+    })
     public InterviewDTO createInterview(InterviewDTO dto) {
         Interview interview = fromDTO(dto);
         Interview saved = interviewRepository.save(interview);
-        return toDTO(saved);
+        interviewSummaryService.interviewCreated(saved);
+        interviewAnalyticsService.interviewsChanged(saved.getScheduledDate());
+        InterviewDTO created = toDTO(saved);
+        interviewEventBroadcaster.publish(InterviewEvent.created(created));
+        return created;
     }
 
-    private User getCurrentUser() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated()) return null;
-        String username = auth.getName();
-        return userRepository.findByUsername(username).orElse(null);
+    private CurrentUser getCurrentUser() {
+        return currentUserProvider.getCurrentUser();
     }
 
-    private boolean isCurrentUserAdminOrHR() {
-        User user = getCurrentUser();
-        return user != null && (user.getRole() == User.UserRole.ADMIN || user.getRole() == User.UserRole.HR_MANAGER);
+    private boolean isCurrentUserAdminOrHR(CurrentUser user) {
+        return user != null && user.isAdminOrHR();
     }
 
-    private boolean isCurrentUserAssignedToInterview(Interview interview) {
-        User user = getCurrentUser();
-        return user != null && interview.getInterviewer() != null && interview.getInterviewer().getId().equals(user.getId());
+    private boolean isCurrentUserAssignedToInterview(CurrentUser user, InterviewDTO interview) {
+        return user != null && interview.interviewerId != null && interview.interviewerId.equals(user.getId());
     }
 
     @Transactional
     public Page<InterviewDTO> getAllInterviews(Pageable pageable) {
-        User user = getCurrentUser();
+        CurrentUser user = getCurrentUser();
         if (user == null) return Page.empty();
-        if (isCurrentUserAdminOrHR()) {
-            return interviewRepository.findAll(pageable).map(this::toDTO);
-        } else if (user.getRole() == User.UserRole.INTERVIEWER) {
+        if (isCurrentUserAdminOrHR(user)) {
+            return interviewRepository.findAllDTOs(pageable);
+        } else if (user.isInterviewer()) {
             // Use repository method to get only assigned interviews
-            return interviewRepository.findByInterviewer_Id(user.getId(), pageable).map(this::toDTO);
+            return interviewRepository.findDTOsByInterviewerId(user.getId(), pageable);
         } else {
             return Page.empty();
         }
     }
 
+    /**
+     * Get interviews with keyset pagination on (createdAt, id), applying the same
+     * access rules as {@link #getAllInterviews(Pageable)}.
+     */
+    @Transactional
+    public CursorPage<InterviewDTO> getInterviewsByCursor(String cursor, int size, Sort.Direction direction) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        CurrentUser user = getCurrentUser();
+        if (user == null) return CursorPage.empty();
+
+        KeysetCursor position = KeysetCursor.decode(cursor, direction);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<InterviewDTO> rows;
+        if (isCurrentUserAdminOrHR(user)) {
+            rows = direction.isAscending()
+                    ? interviewRepository.findDTOsCreatedAfter(position.getCreatedAt(), position.getId(), limit)
+                    : interviewRepository.findDTOsCreatedBefore(position.getCreatedAt(), position.getId(), limit);
+        } else if (user.isInterviewer()) {
+            rows = direction.isAscending()
+                    ? interviewRepository.findDTOsByInterviewerCreatedAfter(user.getId(), position.getCreatedAt(), position.getId(), limit)
+                    : interviewRepository.findDTOsByInterviewerCreatedBefore(user.getId(), position.getCreatedAt(), position.getId(), limit);
+        } else {
+            return CursorPage.empty();
+        }
+
+        String nextCursor = KeysetCursor.next(rows, size, dto -> dto.createdAt, dto -> dto.id);
+        return new CursorPage<>(rows.stream().limit(size).collect(Collectors.toList()), nextCursor);
+    }
+
     @Transactional
     public Optional<InterviewDTO> getInterviewById(Long id) {
-        Optional<Interview> interviewOpt = interviewRepository.findById(id);
+        Optional<InterviewDTO> interviewOpt = interviewRepository.findDTOById(id);
         if (interviewOpt.isEmpty()) return Optional.empty();
-        Interview interview = interviewOpt.get();
-        if (isCurrentUserAdminOrHR() || isCurrentUserAssignedToInterview(interview)) {
-            return Optional.of(toDTO(interview));
+        InterviewDTO interview = interviewOpt.get();
+        CurrentUser user = getCurrentUser();
+        if (isCurrentUserAdminOrHR(user) || isCurrentUserAssignedToInterview(user, interview)) {
+            return Optional.of(interview);
         } else {
             return Optional.empty();
         }
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.INTERVIEWS, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES_BY_EMAIL, allEntries = true)
+    })
     public Optional<InterviewDTO> updateInterview(Long id, InterviewDTO dto) {
         Optional<Interview> existingInterviewOpt = interviewRepository.findById(id);
         if (existingInterviewOpt.isEmpty()) return Optional.empty();
         
         Interview existingInterview = existingInterviewOpt.get();
+        LocalDateTime previousScheduledDate = existingInterview.getScheduledDate();
+        Long previousInterviewerId = existingInterview.getInterviewer() != null ? existingInterview.getInterviewer().getId() : null;
         
         // Only update fields that are provided in the DTO
         if (dto.candidateId != null) {
@@ -153,24 +226,166 @@ public class InterviewService {
         }
         
         Interview saved = interviewRepository.save(existingInterview);
-        return Optional.of(toDTO(saved));
+        interviewSummaryService.interviewUpdated(saved);
+        interviewAnalyticsService.interviewsChanged(previousScheduledDate, saved.getScheduledDate());
+        InterviewDTO updated = toDTO(saved);
+        interviewEventBroadcaster.publish(InterviewEvent.updated(updated, previousInterviewerId));
+        return Optional.of(updated);
+    }
+
+    /**
+     * Apply several partial updates, as in {@link #updateInterview}, in one
+     * transaction. Either all of them are applied or, if any interview,
+     * candidate or interviewer does not exist, none are.
+     *
+     * Updates that change only plain columns are grouped by their values and
+     * each group is applied with a single UPDATE statement; the others are
+     * applied to the loaded interviews and flushed as a JDBC batch. Referenced
+     * candidates and interviewers are loaded with one query each.
+     *
+     * @return the updated interviews, in the order of the updates
+     */
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.INTERVIEWS, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES_BY_EMAIL, allEntries = true)
+    })
+    public List<InterviewDTO> updateInterviews(List<InterviewDTO> updates) {
+        if (updates.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " interviews can be updated at once");
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (InterviewDTO update : updates) {
+            if (update.id == null) {
+                throw new IllegalArgumentException("Every update needs an interview id");
+            }
+            if (!ids.add(update.id)) {
+                throw new IllegalArgumentException("Interview " + update.id + " is updated more than once");
+            }
+        }
+        if (ids.isEmpty()) return List.of();
+
+        Set<Long> candidateIds = referenced(updates, dto -> dto.candidateId);
+        Set<Long> interviewerIds = referenced(updates, dto -> dto.interviewerId);
+        Map<Long, Interview> interviews = byId(interviewRepository.findAllWithCandidateAndInterviewer(ids), Interview::getId);
+        requireAll("Interviews", ids, interviews.keySet());
+        Map<Long, Candidate> candidates = byId(candidateRepository.findAllById(candidateIds), Candidate::getId);
+        requireAll("Candidates", candidateIds, candidates.keySet());
+        Map<Long, User> interviewers = byId(userRepository.findAllById(interviewerIds), User::getId);
+        requireAll("Interviewers", interviewerIds, interviewers.keySet());
+
+        List<LocalDateTime> changedDates = new ArrayList<>();
+        Map<Long, Long> previousInterviewerIds = new HashMap<>();
+        for (Interview interview : interviews.values()) {
+            changedDates.add(interview.getScheduledDate());
+            previousInterviewerIds.put(interview.getId(),
+                    interview.getInterviewer() != null ? interview.getInterviewer().getId() : null);
+        }
+
+        // updates setting the same plain columns to the same values, keyed by those values
+        Map<List<Object>, List<InterviewDTO>> uniform = new LinkedHashMap<>();
+        for (InterviewDTO update : updates) {
+            if (update.candidateId == null && update.interviewerId == null) {
+                List<Object> values = Arrays.asList(update.position, update.status, update.notes, update.duration,
+                        update.scheduledDate, update.overallScore);
+                uniform.computeIfAbsent(values, key -> new ArrayList<>()).add(update);
+            } else {
+                applyUpdate(interviews.get(update.id), update, candidates.get(update.candidateId),
+                        interviewers.get(update.interviewerId));
+            }
+        }
+        if (uniform.isEmpty()) {
+            interviewRepository.flush();
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            for (List<InterviewDTO> group : uniform.values()) {
+                InterviewDTO values = group.get(0);
+                interviewRepository.updateAll(group.stream().map(dto -> dto.id).collect(Collectors.toList()),
+                        values.position, values.status, values.notes, values.duration, values.scheduledDate,
+                        values.overallScore, now);
+            }
+            interviews = byId(interviewRepository.findAllWithCandidateAndInterviewer(ids), Interview::getId);
+        }
+
+        List<Interview> updated = ids.stream().map(interviews::get).collect(Collectors.toList());
+        interviewSummaryService.interviewsUpdated(updated);
+        updated.forEach(interview -> changedDates.add(interview.getScheduledDate()));
+        interviewAnalyticsService.interviewsChanged(changedDates.toArray(new LocalDateTime[0]));
+        List<InterviewDTO> result = updated.stream().map(this::toDTO).collect(Collectors.toList());
+        for (InterviewDTO dto : result) {
+            interviewEventBroadcaster.publish(InterviewEvent.updated(dto, previousInterviewerIds.get(dto.id)));
+        }
+        return result;
+    }
+
+    private static void applyUpdate(Interview interview, InterviewDTO dto, Candidate candidate, User interviewer) {
+        if (candidate != null) interview.setCandidate(candidate);
+        if (dto.position != null) interview.setPosition(dto.position);
+        if (dto.status != null) interview.setStatus(dto.status);
+        if (dto.notes != null) interview.setNotes(dto.notes);
+        if (dto.duration != null) interview.setDuration(dto.duration);
+        if (dto.scheduledDate != null) interview.setScheduledDate(dto.scheduledDate);
+        if (dto.overallScore != null) interview.setOverallScore(dto.overallScore);
+        if (interviewer != null) interview.setInterviewer(interviewer);
+    }
+
+    private static Set<Long> referenced(List<InterviewDTO> updates, Function<InterviewDTO, Long> id) {
+        return updates.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<Long, T> byId(List<T> entities, Function<T, Long> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static void requireAll(String kind, Set<Long> ids, Set<Long> found) {
+        List<Long> missing = ids.stream().filter(id -> !found.contains(id)).sorted().collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException(kind + " not found: " + missing);
+        }
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.INTERVIEWS, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES, allEntries = true),
+            @CacheEvict(cacheNames = CacheNames.CANDIDATES_BY_EMAIL, allEntries = true)
+    })
     public boolean deleteInterview(Long id) {
-        if (!interviewRepository.existsById(id)) return false;
+        Optional<Interview> interview = interviewRepository.findById(id);
+        if (interview.isEmpty()) return false;
+        interviewSummaryService.interviewDeleted(id);
+        interviewAnalyticsService.interviewsChanged(interview.get().getScheduledDate());
         interviewRepository.deleteById(id);
+        User interviewer = interview.get().getInterviewer();
+        interviewEventBroadcaster.publish(InterviewEvent.deleted(id, interviewer != null ? interviewer.getId() : null));
         return true;
     }
 
+    /**
+     * Account for the interviews a candidate deletion removes with it: the
+     * database and the JPA cascade delete them without going through
+     * {@link #deleteInterview}. Their days are marked dirty and a delete
+     * event for each is published once the deletion commits. Call before the
+     * candidate is deleted.
+     */
+    @Transactional
+    public void candidateDeleting(Long candidateId) {
+        List<InterviewRepository.InterviewRef> interviews = interviewRepository.findRefsByCandidateId(candidateId);
+        interviewAnalyticsService.interviewsChanged(interviews.stream()
+                .map(InterviewRepository.InterviewRef::getScheduledDate)
+                .toArray(LocalDateTime[]::new));
+        interviews.forEach(interview -> interviewEventBroadcaster.publish(
+                InterviewEvent.deleted(interview.getId(), interview.getInterviewerId())));
+    }
+
     @Transactional
     public List<InterviewDTO> getInterviewsByCandidate(Long candidateId) {
-        User user = getCurrentUser();
-        List<Interview> interviews = interviewRepository.findByCandidateId(candidateId);
-        if (isCurrentUserAdminOrHR()) {
-            return interviews.stream().map(this::toDTO).collect(Collectors.toList());
-        } else if (user != null && user.getRole() == User.UserRole.INTERVIEWER) {
-            return interviews.stream().filter(i -> i.getInterviewer() != null && i.getInterviewer().getId().equals(user.getId())).map(this::toDTO).collect(Collectors.toList());
+        CurrentUser user = getCurrentUser();
+        if (isCurrentUserAdminOrHR(user)) {
+            return interviewRepository.findDTOsByCandidateId(candidateId);
+        } else if (user != null && user.isInterviewer()) {
+            return interviewRepository.findDTOsByCandidateIdAndInterviewerId(candidateId, user.getId());
         } else {
             return List.of();
         }
@@ -178,22 +393,22 @@ public class InterviewService {
 
     @Transactional
     public List<InterviewDTO> getInterviewsByStatus(String status) {
-        return interviewRepository.findByStatus(status).stream().map(this::toDTO).collect(Collectors.toList());
+        return interviewRepository.findDTOsByStatus(status);
     }
 
     @Transactional
     public List<InterviewDTO> getInterviewsByPosition(String position) {
-        return interviewRepository.findByPositionContainingIgnoreCase(position).stream().map(this::toDTO).collect(Collectors.toList());
+        return interviewRepository.findDTOsByPositionContaining(position);
     }
 
     @Transactional
     public List<InterviewDTO> getInterviewsByInterviewer(Long interviewerId) {
-        User user = getCurrentUser();
+        CurrentUser user = getCurrentUser();
         if (user == null) return List.of();
         
         // Only allow if user is admin/HR or the requested interviewer
-        if (isCurrentUserAdminOrHR() || (user.getRole() == User.UserRole.INTERVIEWER && user.getId().equals(interviewerId))) {
-            return interviewRepository.findByInterviewer_Id(interviewerId).stream().map(this::toDTO).collect(Collectors.toList());
+        if (isCurrentUserAdminOrHR(user) || (user.isInterviewer() && user.getId().equals(interviewerId))) {
+            return interviewRepository.findDTOsByInterviewerId(interviewerId);
         } else {
             return List.of();
         }
@@ -0,0 +1,212 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.dto.ReportPreviewDTO;
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.model.Interview;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.model.InterviewQuestion;
+import com.interviewnotes.model.InterviewSummary;
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.InterviewNotesRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import com.interviewnotes.repository.InterviewSummaryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the precomputed report preview of each interview.
+ *
+ * Every write that changes what a preview shows calls in here and only the
+ * affected fields or round are updated, under a row lock. Summaries are
+ * created with their interview, and V12 built them for older interviews; one
+ * that is missing anyway, or lacks a round it should have, is rebuilt from the
+ * interview's notes and questions.
+ */
+@Service
+@Transactional
+public class InterviewSummaryService {
+
+    private final InterviewSummaryRepository interviewSummaryRepository;
+    private final InterviewRepository interviewRepository;
+    private final InterviewNotesRepository interviewNotesRepository;
+    private final CurrentUserProvider currentUserProvider;
+
+    public InterviewSummaryService(InterviewSummaryRepository interviewSummaryRepository,
+                                   InterviewRepository interviewRepository,
+                                   InterviewNotesRepository interviewNotesRepository,
+                                   CurrentUserProvider currentUserProvider) {
+        this.interviewSummaryRepository = interviewSummaryRepository;
+        this.interviewRepository = interviewRepository;
+        this.interviewNotesRepository = interviewNotesRepository;
+        this.currentUserProvider = currentUserProvider;
+    }
+
+    /**
+     * Get the report preview of an interview the current user can see.
+     */
+    public Optional<ReportPreviewDTO> getPreview(Long interviewId) {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+        Optional<InterviewSummary> summary = interviewSummaryRepository.findById(interviewId);
+        if (summary.isEmpty()) {
+            summary = interviewRepository.findById(interviewId)
+                    .filter(interview -> canView(user, interview.getInterviewer() != null
+                            ? interview.getInterviewer().getId()
+                            : null))
+                    .map(interview -> rebuild(interview, null));
+        }
+        return summary.filter(s -> canView(user, s.getInterviewerId())).map(ReportPreviewDTO::new);
+    }
+
+    private boolean canView(CurrentUser user, Long interviewerId) {
+        return user != null && user.canSeeInterview(interviewerId);
+    }
+
+    public void interviewCreated(Interview interview) {
+        InterviewSummary summary = new InterviewSummary(interview.getId());
+        copyInterview(interview, summary);
+        interviewSummaryRepository.save(summary);
+    }
+
+    /**
+     * Refresh the interview, candidate and interviewer details; rounds are
+     * left as they are.
+     */
+    public void interviewUpdated(Interview interview) {
+        Optional<InterviewSummary> summary = interviewSummaryRepository.findForUpdate(interview.getId());
+        if (summary.isPresent()) {
+            copyInterview(interview, summary.get());
+        } else {
+            rebuild(interview, null);
+        }
+    }
+
+    /**
+     * {@link #interviewUpdated} for several interviews, locking their
+     * summaries with one query.
+     */
+    public void interviewsUpdated(List<Interview> interviews) {
+        Map<Long, InterviewSummary> summaries = interviewSummaryRepository.findAllForUpdate(interviews.stream()
+                        .map(Interview::getId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(InterviewSummary::getInterviewId, Function.identity()));
+        for (Interview interview : interviews) {
+            InterviewSummary summary = summaries.get(interview.getId());
+            if (summary != null) {
+                copyInterview(interview, summary);
+            } else {
+                rebuild(interview, null);
+            }
+        }
+    }
+
+    public void interviewDeleted(Long interviewId) {
+        interviewSummaryRepository.deleteById(interviewId);
+    }
+
+    /**
+     * Record a new set of notes, counting the questions it was created with.
+     */
+    public void notesAdded(InterviewNotes notes) {
+        Interview interview = notes.getInterview();
+        Optional<InterviewSummary> summary = interviewSummaryRepository.findForUpdate(interview.getId());
+        if (summary.isPresent()) {
+            summary.get().putRound(toRound(notes));
+            summary.get().setUpdatedAt(LocalDateTime.now());
+        } else {
+            rebuild(interview, null);
+        }
+    }
+
+    /**
+     * Refresh the round type, score and recommendation of a set of notes.
+     */
+    public void notesUpdated(InterviewNotes notes) {
+        Interview interview = notes.getInterview();
+        InterviewSummary summary = interviewSummaryRepository.findForUpdate(interview.getId()).orElse(null);
+        InterviewSummary.Round existing = summary != null ? summary.findRound(notes.getId()) : null;
+        if (existing == null) {
+            rebuild(interview, summary);
+            return;
+        }
+        InterviewSummary.Round round = new InterviewSummary.Round(existing);
+        round.setRoundType(notes.getRoundType());
+        round.setNotesScore(notes.getOverallScore());
+        round.setRecommendation(notes.getRecommendation());
+        summary.putRound(round);
+        summary.setUpdatedAt(LocalDateTime.now());
+    }
+
+    /**
+     * Count a new question's score towards its round.
+     */
+    public void questionAdded(InterviewQuestion question) {
+        InterviewNotes notes = question.getInterviewNotes();
+        Interview interview = notes.getInterview();
+        InterviewSummary summary = interviewSummaryRepository.findForUpdate(interview.getId()).orElse(null);
+        InterviewSummary.Round existing = summary != null ? summary.findRound(notes.getId()) : null;
+        if (existing == null) {
+            rebuild(interview, summary);
+            return;
+        }
+        InterviewSummary.Round round = new InterviewSummary.Round(existing);
+        round.addQuestionScore(question.getScore());
+        summary.putRound(round);
+        summary.setUpdatedAt(LocalDateTime.now());
+    }
+
+    public void candidateUpdated(Candidate candidate) {
+        interviewSummaryRepository.updateCandidate(candidate.getId(),
+                candidate.getFirstName() + " " + candidate.getLastName(),
+                candidate.getEmail(), candidate.getPosition());
+    }
+
+    public void interviewerUpdated(User interviewer) {
+        interviewSummaryRepository.updateInterviewerName(interviewer.getId(),
+                interviewer.getFirstName() + " " + interviewer.getLastName());
+    }
+
+    /**
+     * Compute a summary from scratch, reusing the existing row if there is one.
+     */
+    private InterviewSummary rebuild(Interview interview, InterviewSummary existing) {
+        InterviewSummary summary = existing != null ? existing : new InterviewSummary(interview.getId());
+        copyInterview(interview, summary);
+        summary.setRounds(interviewNotesRepository.findByInterviewIdWithQuestions(interview.getId()).stream()
+                .map(InterviewSummaryService::toRound)
+                .collect(Collectors.toList()));
+        return interviewSummaryRepository.save(summary);
+    }
+
+    private static void copyInterview(Interview interview, InterviewSummary summary) {
+        Candidate candidate = interview.getCandidate();
+        summary.setCandidateName(candidate != null ? candidate.getFirstName() + " " + candidate.getLastName() : null);
+        summary.setCandidateEmail(candidate != null ? candidate.getEmail() : null);
+        summary.setCandidatePosition(candidate != null ? candidate.getPosition() : null);
+        summary.setScheduledDate(interview.getScheduledDate());
+        summary.setStatus(interview.getStatus());
+        summary.setOverallScore(interview.getOverallScore());
+        User interviewer = interview.getInterviewer();
+        summary.setInterviewerId(interviewer != null ? interviewer.getId() : null);
+        summary.setInterviewerName(interviewer != null ? interviewer.getFirstName() + " " + interviewer.getLastName() : null);
+        summary.setUpdatedAt(LocalDateTime.now());
+    }
+
+    private static InterviewSummary.Round toRound(InterviewNotes notes) {
+        InterviewSummary.Round round = new InterviewSummary.Round(notes.getId());
+        round.setRoundType(notes.getRoundType());
+        round.setNotesScore(notes.getOverallScore());
+        round.setRecommendation(notes.getRecommendation());
+        for (InterviewQuestion question : notes.getQuestions()) {
+            round.addQuestionScore(question.getScore());
+        }
+        return round;
+    }
+}
@@ -0,0 +1,248 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.config.CacheNames;
+import com.interviewnotes.repository.InterviewRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the performance of every interviewer over a date range.
+ *
+ * All interviewers are aggregated by the database in two grouped queries, one
+ * for interview totals and one for round types, and the result is cached per
+ * range. The current month is also published as interviewer.* gauges tagged
+ * with the interviewer id. Access checks are left to the caller.
+ */
+@Service
+@Transactional(readOnly = true)
+public class InterviewerPerformanceService {
+
+    private final InterviewRepository interviewRepository;
+    private final MultiGauge interviewsGauge;
+    private final MultiGauge completionRateGauge;
+    private final MultiGauge averageScoreGauge;
+    private final MultiGauge scoreVarianceGauge;
+
+    public InterviewerPerformanceService(InterviewRepository interviewRepository, MeterRegistry meterRegistry) {
+        this.interviewRepository = interviewRepository;
+        this.interviewsGauge = MultiGauge.builder("interviewer.interviews")
+                .description("Interviews scheduled this month per interviewer.")
+                .register(meterRegistry);
+        this.completionRateGauge = MultiGauge.builder("interviewer.completion.rate")
+                .description("Share of this month's interviews that are completed, per interviewer.")
+                .register(meterRegistry);
+        this.averageScoreGauge = MultiGauge.builder("interviewer.score.average")
+                .description("Average overall score of this month's scored interviews, per interviewer.")
+                .register(meterRegistry);
+        this.scoreVarianceGauge = MultiGauge.builder("interviewer.score.variance")
+                .description("Variance of the overall scores of this month's scored interviews, per interviewer.")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the performance of every interviewer over a date range, both ends
+     * included, ordered by interviewer id.
+     */
+    @Cacheable(cacheNames = CacheNames.INTERVIEWER_PERFORMANCE, key = "#startDate + ':' + #endDate")
+    public List<InterviewerPerformance> getPerformance(LocalDate startDate, LocalDate endDate) {
+        return computePerformance(startDate, endDate);
+    }
+
+    /**
+     * Recompute the current month and publish it as gauges. Interviewers
+     * without a value, e.g. no scored interviews, have no gauge for it.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.interviewer-gauges-refresh-ms:60000}")
+    public void refreshGauges() {
+        LocalDate today = LocalDate.now();
+        List<InterviewerPerformance> performance = computePerformance(AnalyticsPeriod.MONTH.start(today),
+                AnalyticsPeriod.MONTH.end(today));
+
+        interviewsGauge.register(rows(performance, p -> BigDecimal.valueOf(p.getTotalInterviews())), true);
+        completionRateGauge.register(rows(performance, InterviewerPerformance::getCompletionRate), true);
+        averageScoreGauge.register(rows(performance, InterviewerPerformance::getAverageScore), true);
+        scoreVarianceGauge.register(rows(performance, InterviewerPerformance::getScoreVariance), true);
+    }
+
+    private static List<MultiGauge.Row<?>> rows(List<InterviewerPerformance> performance,
+                                                Function<InterviewerPerformance, BigDecimal> value) {
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        for (InterviewerPerformance p : performance) {
+            BigDecimal v = value.apply(p);
+            if (v != null) {
+                rows.add(MultiGauge.Row.of(Tags.of("interviewer", String.valueOf(p.getInterviewer().getId())), v));
+            }
+        }
+        return rows;
+    }
+
+    private List<InterviewerPerformance> computePerformance(LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new RuntimeException("startDate must not be after endDate");
+        }
+        LocalDateTime from = startDate.atStartOfDay();
+        LocalDateTime to = endDate.plusDays(1).atStartOfDay();
+
+        Map<Long, Map<String, Long>> roundTypes = new HashMap<>();
+        for (InterviewRepository.InterviewerRoundTypes row : interviewRepository.countRoundTypesByInterviewer(from, to)) {
+            roundTypes.computeIfAbsent(row.getInterviewerId(), id -> new LinkedHashMap<>())
+                    .put(row.getRoundType(), row.getRounds());
+        }
+
+        return interviewRepository.sumByInterviewer(from, to).stream()
+                .map(totals -> new InterviewerPerformance(totals,
+                        roundTypes.getOrDefault(totals.getInterviewerId(), new LinkedHashMap<>())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Performance of one interviewer over a date range.
+     */
+    public static class InterviewerPerformance implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Interviewer interviewer;
+        private final long totalInterviews;
+        private final long completedInterviews;
+        private final BigDecimal completionRate;
+        private final BigDecimal averageScore;
+        private final BigDecimal scoreVariance;
+        private final BigDecimal hireRate;
+        private final BigDecimal averageInterviewDuration;
+        private final Map<String, Long> roundTypeBreakdown;
+
+        public InterviewerPerformance(Interviewer interviewer, long totalInterviews, long completedInterviews,
+                                      BigDecimal completionRate, BigDecimal averageScore, BigDecimal scoreVariance,
+                                      BigDecimal hireRate, BigDecimal averageInterviewDuration,
+                                      Map<String, Long> roundTypeBreakdown) {
+            this.interviewer = interviewer;
+            this.totalInterviews = totalInterviews;
+            this.completedInterviews = completedInterviews;
+            this.completionRate = completionRate;
+            this.averageScore = averageScore;
+            this.scoreVariance = scoreVariance;
+            this.hireRate = hireRate;
+            this.averageInterviewDuration = averageInterviewDuration;
+            this.roundTypeBreakdown = roundTypeBreakdown;
+        }
+
+        InterviewerPerformance(InterviewRepository.InterviewerTotals totals, Map<String, Long> roundTypeBreakdown) {
+            long total = totals.getTotalInterviews();
+            long scored = totals.getScoredInterviews();
+            this.interviewer = new Interviewer(totals.getInterviewerId(),
+                    Objects.toString(totals.getFirstName(), "") + " " + Objects.toString(totals.getLastName(), ""));
+            this.totalInterviews = total;
+            this.completedInterviews = totals.getCompletedInterviews();
+            this.completionRate = ratio(totals.getCompletedInterviews(), total);
+            this.averageScore = scored > 0
+                    ? totals.getScoreTotal().divide(BigDecimal.valueOf(scored), 2, RoundingMode.HALF_UP)
+                    : null;
+            this.scoreVariance = scored > 0 ? variance(totals.getScoreTotal(), totals.getScoreSquareTotal(), scored) : null;
+            this.hireRate = ratio(totals.getHiredInterviews(), totals.getRecommendedInterviews());
+            this.averageInterviewDuration = total > 0
+                    ? BigDecimal.valueOf(totals.getDurationTotal()).divide(BigDecimal.valueOf(total), 0, RoundingMode.HALF_UP)
+                    : null;
+            this.roundTypeBreakdown = roundTypeBreakdown;
+        }
+
+        private static BigDecimal ratio(long part, long whole) {
+            return whole > 0 ? BigDecimal.valueOf(part).divide(BigDecimal.valueOf(whole), 2, RoundingMode.HALF_UP) : null;
+        }
+
+        /**
+         * Population variance from the sum and the sum of squares:
+         * (n * sum(x^2) - sum(x)^2) / n^2, exact until the final division.
+         */
+        static BigDecimal variance(BigDecimal sum, BigDecimal squareSum, long n) {
+            BigDecimal count = BigDecimal.valueOf(n);
+            return squareSum.multiply(count).subtract(sum.multiply(sum))
+                    .divide(count.multiply(count), 2, RoundingMode.HALF_UP);
+        }
+
+        // Getters
+        public Interviewer getInterviewer() {
+            return interviewer;
+        }
+
+        public long getTotalInterviews() {
+            return totalInterviews;
+        }
+
+        public long getCompletedInterviews() {
+            return completedInterviews;
+        }
+
+        /**
+         * Share of interviews that are completed, or null without interviews.
+         */
+        public BigDecimal getCompletionRate() {
+            return completionRate;
+        }
+
+        public BigDecimal getAverageScore() {
+            return averageScore;
+        }
+
+        /**
+         * Population variance of the overall scores, or null without scores.
+         */
+        public BigDecimal getScoreVariance() {
+            return scoreVariance;
+        }
+
+        /**
+         * Share of interviews with a final recommendation that recommend hiring.
+         */
+        public BigDecimal getHireRate() {
+            return hireRate;
+        }
+
+        /**
+         * Average planned duration in minutes.
+         */
+        public BigDecimal getAverageInterviewDuration() {
+            return averageInterviewDuration;
+        }
+
+        public Map<String, Long> getRoundTypeBreakdown() {
+            return roundTypeBreakdown;
+        }
+    }
+
+    /**
+     * Id and display name of an interviewer.
+     */
+    public static class Interviewer implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final Long id;
+        private final String name;
+
+        public Interviewer(Long id, String name) {
+            this.id = id;
+            this.name = name.trim();
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+}
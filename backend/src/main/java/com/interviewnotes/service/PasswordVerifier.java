@@ -0,0 +1,147 @@
+package com.interviewnotes.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks login passwords on a small dedicated pool.
+ *
+ * BCrypt is deliberately CPU-heavy; running it on request threads lets a burst
+ * of logins take every core away from the rest of the API. Here at most
+ * app.security.login.workers checks run at once and further logins wait in a
+ * bounded queue; when that is full they are rejected with
+ * {@link TaskRejectedException}. The pool is published as the executor.*
+ * meters (tag name=passwordVerification), including executor.queued.
+ */
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+    static final String EXECUTOR_NAME = "passwordVerification";
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final Executor executor;
+    private final int strength;
+    private volatile String userNotFoundPassword;
+
+    @Autowired
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.security.bcrypt.strength:10}") int strength,
+                            @Value("${app.security.login.workers:0}") int workers,
+                            @Value("${app.security.login.queue-capacity:200}") int queueCapacity) {
+        this(passwordEncoder, verificationPool(workers, queueCapacity, meterRegistry), strength);
+    }
+
+    PasswordVerifier(PasswordEncoder passwordEncoder, Executor executor, int strength) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.strength = strength;
+    }
+
+    private static ThreadPoolTaskExecutor verificationPool(int workers, int queueCapacity, MeterRegistry meterRegistry) {
+        int size = workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(size);
+        pool.setMaxPoolSize(size);
+        pool.setQueueCapacity(queueCapacity);
+        pool.setThreadNamePrefix("password-");
+        pool.initialize();
+        new ExecutorServiceMetrics(pool.getThreadPoolExecutor(), EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+        return pool;
+    }
+
+    /**
+     * Check a password against its stored hash, waiting for a free worker.
+     * Pass a null hash for an unknown user: the check takes as long as a real
+     * one, so response times do not reveal which usernames exist.
+     *
+     * @return whether the password matched and, if it did and the hash was
+     *         made with a different cost than the configured one, a new hash
+     * @throws TaskRejectedException if too many logins are already waiting
+     */
+    public Verification verify(String rawPassword, String encodedPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> check(rawPassword, encodedPassword), executor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Verification check(String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            passwordEncoder.matches(rawPassword, userNotFoundPassword());
+            return Verification.MISMATCH;
+        }
+        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+            return Verification.MISMATCH;
+        }
+        Matcher cost = BCRYPT_COST.matcher(encodedPassword);
+        if (cost.find() && Integer.parseInt(cost.group(1)) != strength) {
+            return new Verification(true, passwordEncoder.encode(rawPassword));
+        }
+        return Verification.MATCH;
+    }
+
+    private String userNotFoundPassword() {
+        String encoded = userNotFoundPassword;
+        if (encoded == null) {
+            encoded = passwordEncoder.encode("userNotFoundPassword");
+            userNotFoundPassword = encoded;
+        }
+        return encoded;
+    }
+
+    @Override
+    public void destroy() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Outcome of a password check.
+     */
+    public static final class Verification {
+        static final Verification MATCH = new Verification(true, null);
+        static final Verification MISMATCH = new Verification(false, null);
+
+        private final boolean matched;
+        private final String rehashedPassword;
+
+        Verification(boolean matched, String rehashedPassword) {
+            this.matched = matched;
+            this.rehashedPassword = rehashedPassword;
+        }
+
+        public boolean isMatched() {
+            return matched;
+        }
+
+        /**
+         * The password hashed with the configured cost, or null if the stored
+         * hash does not need to change.
+         */
+        public String getRehashedPassword() {
+            return rehashedPassword;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.model.InterviewQuestion;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Cell;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Table;
+import com.itextpdf.layout.properties.UnitValue;
+import org.springframework.stereotype.Component;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Renders interview reports as PDF with iText.
+ *
+ * Pages are flushed to the output as soon as they are laid out, and question
+ * tables use iText's large-table mode so long rounds are written in chunks.
+ */
+@Component
+public class PdfInterviewReportRenderer implements InterviewReportRenderer {
+
+    private static final int ROWS_PER_FLUSH = 50;
+
+    @Override
+    public ReportFormat getFormat() {
+        return ReportFormat.PDF;
+    }
+
+    @Override
+    public void render(InterviewReport report, OutputStream out) {
+        PdfWriter writer = new PdfWriter(out);
+        writer.setCloseStream(false);
+        Document document = new Document(new PdfDocument(writer), PageSize.A4);
+        try {
+            InterviewDTO interview = report.getInterview();
+            document.add(new Paragraph("Interview Report").setBold().setFontSize(18));
+
+            Table summary = new Table(UnitValue.createPercentArray(new float[]{1, 3})).useAllAvailableWidth();
+            row(summary, "Candidate", interview.candidateName);
+            row(summary, "Position", interview.position);
+            row(summary, "Status", interview.status);
+            row(summary, "Scheduled", interview.scheduledDate);
+            row(summary, "Duration (minutes)", interview.duration);
+            row(summary, "Interviewer", interview.interviewerName);
+            if (report.isIncludeScores()) {
+                row(summary, "Overall score", interview.overallScore);
+            }
+            document.add(summary);
+            if (report.isIncludeNotes() && interview.notes != null) {
+                document.add(new Paragraph("Notes").setBold().setFontSize(14));
+                document.add(new Paragraph(interview.notes));
+            }
+
+            int round = 1;
+            for (InterviewNotes notes : report.getNotes()) {
+                document.add(new Paragraph("Round " + round++).setBold().setFontSize(14));
+                Table details = new Table(UnitValue.createPercentArray(new float[]{1, 3})).useAllAvailableWidth();
+                if (report.isIncludeScores()) {
+                    row(details, "Score", notes.getOverallScore());
+                }
+                if (report.isIncludeNotes()) {
+                    row(details, "Technical notes", notes.getTechnicalNotes());
+                    row(details, "Coding notes", notes.getCodingNotes());
+                    row(details, "Communication notes", notes.getCommunicationNotes());
+                    row(details, "Feedback", notes.getFeedback());
+                }
+                row(details, "Strengths", join(notes.getStrengths()));
+                row(details, "Weaknesses", join(notes.getWeaknesses()));
+                document.add(details);
+
+                List<InterviewQuestion> questions = report.getQuestions(notes);
+                if (!questions.isEmpty()) {
+                    addQuestions(document, report, questions);
+                }
+            }
+        } finally {
+            document.close();
+        }
+    }
+
+    private static void addQuestions(Document document, InterviewReport report, List<InterviewQuestion> questions) {
+        List<String> headers = new ArrayList<>(List.of("Question", "Type", "Response"));
+        if (report.isIncludeScores()) {
+            headers.add("Score");
+        }
+        if (report.isIncludeNotes()) {
+            headers.add("Notes");
+        }
+
+        Table table = new Table(UnitValue.createPercentArray(headers.size()), true).useAllAvailableWidth();
+        for (String header : headers) {
+            table.addHeaderCell(new Cell().add(new Paragraph(header).setBold()));
+        }
+        document.add(table);
+
+        int rows = 0;
+        for (InterviewQuestion question : questions) {
+            table.addCell(text(question.getQuestion()));
+            table.addCell(text(question.getQuestionType()));
+            table.addCell(text(question.getResponse()));
+            if (report.isIncludeScores()) {
+                table.addCell(text(question.getScore()));
+            }
+            if (report.isIncludeNotes()) {
+                table.addCell(text(question.getNotes()));
+            }
+            if (++rows % ROWS_PER_FLUSH == 0) {
+                table.flush();
+            }
+        }
+        table.complete();
+    }
+
+    private static void row(Table table, String label, Object value) {
+        table.addCell(new Cell().add(new Paragraph(label).setBold()));
+        table.addCell(text(value));
+    }
+
+    private static Cell text(Object value) {
+        return new Cell().add(new Paragraph(value != null ? value.toString() : ""));
+    }
+
+    private static String join(String[] values) {
+        return values != null ? String.join(", ", values) : null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.repository.CandidateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Candidate search backed by the PostgreSQL {@code candidates.search_vector}
+ * column and its GIN index (see V10__Candidate_Search_Index.sql).
+ *
+ * The column is generated by the database, so there is nothing to keep in sync.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.candidates.engine", havingValue = "postgres")
+public class PostgresCandidateSearchIndex implements CandidateSearchIndex {
+
+    private final CandidateRepository candidateRepository;
+
+    @Autowired
+    public PostgresCandidateSearchIndex(CandidateRepository candidateRepository) {
+        this.candidateRepository = candidateRepository;
+    }
+
+    @Override
+    public Page<Long> search(String query, Pageable pageable) {
+        List<String> terms = CandidateSearchIndex.tokenize(query);
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        if (terms.isEmpty()) {
+            return Page.empty(unsorted);
+        }
+        return candidateRepository.searchCandidateIds(toPrefixQuery(terms), unsorted);
+    }
+
+    @Override
+    public void index(Candidate candidate) {
+        // search_vector is a generated column
+    }
+
+    @Override
+    public void remove(Long candidateId) {
+        // search_vector is a generated column
+    }
+
+    /**
+     * Build a tsquery that requires every term as a prefix, e.g. {@code jo:* & dev:*}.
+     */
+    static String toPrefixQuery(List<String> terms) {
+        return terms.stream()
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
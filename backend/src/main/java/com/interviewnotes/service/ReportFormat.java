@@ -0,0 +1,39 @@
+package com.interviewnotes.service;
+
+import java.util.Locale;
+
+/**
+ * Output formats of interview reports.
+ */
+public enum ReportFormat {
+    PDF("application/pdf", "pdf"),
+    HTML("text/html;charset=UTF-8", "html");
+
+    private final String contentType;
+    private final String extension;
+
+    ReportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parse a format name such as {@code pdf} or {@code html}, ignoring case.
+     */
+    public static ReportFormat fromName(String name) {
+        for (ReportFormat format : values()) {
+            if (format.extension.equals(name.toLowerCase(Locale.ROOT))) {
+                return format;
+            }
+        }
+        throw new RuntimeException("Unsupported report format: " + name);
+    }
+}
@@ -0,0 +1,52 @@
+package com.interviewnotes.service;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validators for one representation of a resource: a strong ETag and the
+ * time it was last modified.
+ */
+public final class ResourceVersion {
+
+    private final String eTag;
+    private final long lastModified;
+    private final boolean lastModifiedExact;
+
+    /**
+     * @param key everything the representation depends on; equal keys give equal ETags
+     * @param lastModified latest change, or null if unknown
+     * @param lastModifiedExact whether every change moves lastModified; false when
+     *                          e.g. a deleted row changes the representation but not
+     *                          the latest updatedAt
+     */
+    public ResourceVersion(String key, LocalDateTime lastModified, boolean lastModifiedExact) {
+        this.eTag = "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+        this.lastModified = lastModified != null
+                ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        this.lastModifiedExact = lastModifiedExact && lastModified != null;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Milliseconds since the epoch, or -1 if unknown.
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Whether If-Modified-Since can be answered from {@link #getLastModified()}
+     * alone; otherwise only the ETag decides.
+     */
+    public boolean isLastModifiedExact() {
+        return lastModifiedExact;
+    }
+}
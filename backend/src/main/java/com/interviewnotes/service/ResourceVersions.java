@@ -0,0 +1,121 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.repository.CandidateRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import com.interviewnotes.repository.UserRepository;
+import com.interviewnotes.repository.VersionStamp;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Computes ETags for the candidate, interview and user endpoints from row
+ * counts and the latest updatedAt, so a conditional GET that is answered with
+ * 304 only runs these aggregate queries.
+ *
+ * A version covers every table whose rows appear in the representation:
+ * candidates embed their interviews, interviews show candidate and
+ * interviewer names. Interview versions also depend on the current user,
+ * because what an interview endpoint returns depends on who asks.
+ */
+@Component
+@Transactional(readOnly = true)
+public class ResourceVersions {
+
+    private final CandidateRepository candidateRepository;
+    private final InterviewRepository interviewRepository;
+    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
+
+    @Autowired
+    public ResourceVersions(CandidateRepository candidateRepository, InterviewRepository interviewRepository,
+                            UserRepository userRepository, CurrentUserProvider currentUserProvider) {
+        this.candidateRepository = candidateRepository;
+        this.interviewRepository = interviewRepository;
+        this.userRepository = userRepository;
+        this.currentUserProvider = currentUserProvider;
+    }
+
+    /**
+     * Version of every candidate list.
+     */
+    public ResourceVersion candidates() {
+        return version("candidates", candidateRepository.findVersion(), interviewRepository.findVersion());
+    }
+
+    /**
+     * Version of one candidate, or null if it does not exist.
+     */
+    public ResourceVersion candidate(Long id) {
+        return candidateRepository.findVersionById(id)
+                .map(stamp -> version("candidate:" + id, stamp))
+                .orElse(null);
+    }
+
+    /**
+     * Version of one candidate looked up by email, or null if it does not exist.
+     */
+    public ResourceVersion candidateByEmail(String email) {
+        return candidateRepository.findVersionByEmail(email)
+                .map(stamp -> version("candidate:" + email, stamp))
+                .orElse(null);
+    }
+
+    /**
+     * Version of every interview list as seen by the current user.
+     */
+    public ResourceVersion interviews() {
+        return version("interviews:" + viewer(currentUserProvider.getCurrentUser()),
+                interviewRepository.findVersion(), candidateRepository.findVersion(), userRepository.findVersion());
+    }
+
+    /**
+     * Version of one interview as seen by the current user, or null if it does
+     * not exist or the user may not see it, so that its validators do not
+     * reveal that it exists.
+     */
+    public ResourceVersion interview(Long id) {
+        CurrentUser user = currentUserProvider.getCurrentUser();
+        return interviewRepository.findVersionById(id)
+                .filter(version -> user != null && user.canSeeInterview(version.getInterviewerId()))
+                .map(version -> new ResourceVersion(
+                        "interview:" + id + ":" + viewer(user) + "@" + version.getLastModified(),
+                        version.getLastModified(), true))
+                .orElse(null);
+    }
+
+    /**
+     * Version of every user list.
+     */
+    public ResourceVersion users() {
+        return version("users", userRepository.findVersion());
+    }
+
+    /**
+     * Version of one user, or null if it does not exist.
+     */
+    public ResourceVersion user(Long id) {
+        return userRepository.findLastModifiedById(id)
+                .map(lastModified -> new ResourceVersion("user:" + id + "@" + lastModified, lastModified, true))
+                .orElse(null);
+    }
+
+    private static String viewer(CurrentUser user) {
+        return user != null ? user.getId() + "/" + user.getRole() : "anonymous";
+    }
+
+    private static ResourceVersion version(String scope, VersionStamp... stamps) {
+        StringBuilder key = new StringBuilder(scope);
+        LocalDateTime lastModified = null;
+        for (VersionStamp stamp : stamps) {
+            key.append('|').append(stamp.getRowCount()).append('@').append(stamp.getLastModified());
+            if (stamp.getLastModified() != null
+                    && (lastModified == null || stamp.getLastModified().isAfter(lastModified))) {
+                lastModified = stamp.getLastModified();
+            }
+        }
+        return new ResourceVersion(key.toString(), lastModified, false);
+    }
+}
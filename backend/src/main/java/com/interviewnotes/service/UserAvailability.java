@@ -0,0 +1,109 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.UserRepository;
+import com.interviewnotes.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers whether a username or email is still free for sign-up.
+ *
+ * Every username and email in use is kept in a Bloom filter, loaded when the
+ * application starts, added to whenever this instance saves a user, and
+ * rebuilt every app.security.availability.refresh-ms so users created on other
+ * instances or deleted are picked up. A value the filter has never seen is
+ * reported free without a query; only values that may be taken (taken ones
+ * and about app.security.availability.false-positive-rate of the free ones)
+ * are checked against the database. Until the first load completes every
+ * check goes to the database.
+ *
+ * The answer is advisory: registration still relies on the unique constraints.
+ */
+@Component
+public class UserAvailability {
+
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+    private volatile Filters filters;
+    private Filters loading;
+    private long loadedUsers;
+
+    @Autowired
+    public UserAvailability(UserRepository userRepository,
+                            @Value("${app.security.availability.expected-users:100000}") long expectedUsers,
+                            @Value("${app.security.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean isUsernameAvailable(String username) {
+        Filters current = filters;
+        if (current != null && !current.usernames.mightContain(username)) {
+            return true;
+        }
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        Filters current = filters;
+        if (current != null && !current.emails.mightContain(email)) {
+            return true;
+        }
+        return !userRepository.existsByEmail(email);
+    }
+
+    /**
+     * Record a user's username and email after it was saved.
+     */
+    public synchronized void add(User user) {
+        for (Filters target : new Filters[] {filters, loading}) {
+            if (target != null) {
+                target.usernames.add(user.getUsername());
+                target.emails.add(user.getEmail());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * Rebuild the filters from the database. Users added while it runs go into
+     * both the current and the new filters.
+     */
+    @Scheduled(initialDelayString = "${app.security.availability.refresh-ms:600000}",
+            fixedDelayString = "${app.security.availability.refresh-ms:600000}")
+    public void refresh() {
+        Filters loaded;
+        synchronized (this) {
+            // leave room to grow so the false positive rate holds until the next rebuild
+            long capacity = Math.max(expectedUsers, 2 * loadedUsers);
+            loaded = new Filters(new BloomFilter(capacity, falsePositiveRate),
+                    new BloomFilter(capacity, falsePositiveRate));
+            loading = loaded;
+        }
+        long count = 0;
+        for (UserRepository.Identity identity : userRepository.findAllIdentities()) {
+            loaded.usernames.add(identity.getUsername());
+            loaded.emails.add(identity.getEmail());
+            count++;
+        }
+        synchronized (this) {
+            filters = loaded;
+            loading = null;
+            loadedUsers = count;
+        }
+    }
+
+    private record Filters(BloomFilter usernames, BloomFilter emails) {
+    }
+}
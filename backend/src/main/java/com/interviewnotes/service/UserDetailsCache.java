@@ -0,0 +1,86 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.util.ExpiringCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of UserDetails used by the JWT filter, so authenticated
+ * requests do not reload the user on every call.
+ *
+ * Entries are evicted whenever a user is registered, updated or deleted.
+ * Hits and misses are published as the standard cache.gets meters
+ * (tag cache=userDetails).
+ */
+@Component
+public class UserDetailsCache {
+
+    static final String CACHE_NAME = "userDetails";
+
+    private final ExpiringCache<String, UserDetails> cache;
+    private final long ttlMs;
+
+    @Autowired
+    public UserDetailsCache(@Value("${app.security.user-details-cache.ttl-ms:60000}") long ttlMs,
+                            @Value("${app.security.user-details-cache.max-size:1000}") int maxSize,
+                            MeterRegistry meterRegistry) {
+        this.cache = new ExpiringCache<>(maxSize);
+        this.ttlMs = ttlMs;
+
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::getHitCount)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .description("The number of times cache lookup methods have returned a cached value.")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, ExpiringCache::getMissCount)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .description("The number of times cache lookup methods have returned an uncached value.")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, ExpiringCache::size)
+                .tag("cache", CACHE_NAME)
+                .description("The number of entries in this cache.")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the user details for a username, loading and caching them on a miss.
+     *
+     * @param username the username
+     * @param loader loads the user details when they are not cached
+     * @return the user details
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        UserDetails userDetails = cache.get(username);
+        if (userDetails == null) {
+            userDetails = loader.apply(username);
+            cache.put(username, userDetails, System.currentTimeMillis() + ttlMs);
+        }
+        return userDetails;
+    }
+
+    /**
+     * Evict the cached user details for a username.
+     *
+     * @param username the username
+     */
+    public void evict(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    /**
+     * Evict all cached user details.
+     */
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,44 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collections;
+
+/**
+ * Spring Security principal that also carries the user's id and role, so the
+ * current user can be identified without another lookup.
+ */
+public class UserPrincipal extends org.springframework.security.core.userdetails.User {
+
+    private final Long id;
+    private final User.UserRole role;
+    private final int securityEpoch;
+
+    public UserPrincipal(User user) {
+        this(user.getId(), user.getUsername(), user.getPassword(), user.getRole(), user.getSecurityEpoch());
+    }
+
+    public UserPrincipal(Long id, String username, String password, User.UserRole role) {
+        this(id, username, password, role, 0);
+    }
+
+    public UserPrincipal(Long id, String username, String password, User.UserRole role, int securityEpoch) {
+        super(username, password, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        this.id = id;
+        this.role = role;
+        this.securityEpoch = securityEpoch;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public User.UserRole getRole() {
+        return role;
+    }
+
+    public int getSecurityEpoch() {
+        return securityEpoch;
+    }
+}
@@ -0,0 +1,125 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.UserRepository;
+import com.interviewnotes.repository.VersionStamp;
+import com.interviewnotes.util.ExpiringCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bounded cache of users' security epochs, used to accept or reject
+ * self-contained access tokens without loading the user.
+ *
+ * A token is accepted while its epoch equals the user's; disabled and deleted
+ * users have no valid epoch. Only users that exist are cached, and entries
+ * expire after app.security.epochs.ttl-ms. The cache is updated whenever this
+ * instance changes a user, and every app.security.epochs.refresh-ms it is
+ * cleared if the users table's version stamp moved, which bounds how long a
+ * change made elsewhere takes to apply. A change made outside the application
+ * that does not touch updated_at applies once the entry expires.
+ */
+@Component
+public class UserSecurityEpochs {
+
+    static final int REVOKED = -1;
+
+    private final UserRepository userRepository;
+    private final ExpiringCache<Long, Integer> epochs;
+    private final long ttlMs;
+    private long generation;
+    private Long rowCount;
+    private LocalDateTime lastModified;
+
+    @Autowired
+    public UserSecurityEpochs(UserRepository userRepository,
+                              @Value("${app.security.epochs.ttl-ms:600000}") long ttlMs,
+                              @Value("${app.security.epochs.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.epochs = new ExpiringCache<>(maxSize);
+        this.ttlMs = ttlMs;
+    }
+
+    /**
+     * Whether tokens of the user carrying this epoch are still accepted.
+     */
+    public boolean isCurrent(Long userId, int epoch) {
+        Integer current = epochs.get(userId);
+        if (current == null) {
+            current = load(userId);
+        }
+        return current != REVOKED && current == epoch;
+    }
+
+    /**
+     * Record a user's current state after it was saved.
+     */
+    public synchronized void update(User user) {
+        put(user.getId(), epochOf(user.isEnabled(), user.getSecurityEpoch()));
+    }
+
+    /**
+     * Reject all tokens of a deleted user.
+     */
+    public synchronized void revoke(Long userId) {
+        put(userId, REVOKED);
+    }
+
+    /**
+     * Clear the cache if any user was added, changed or deleted since the last
+     * check. Lookups that started before the clear do not cache their result,
+     * so they cannot bring back an epoch read before the change.
+     */
+    @Scheduled(fixedDelayString = "${app.security.epochs.refresh-ms:60000}")
+    public void refresh() {
+        VersionStamp version = userRepository.findVersion();
+        synchronized (this) {
+            if (Objects.equals(version.getRowCount(), rowCount)
+                    && Objects.equals(version.getLastModified(), lastModified)) {
+                return;
+            }
+            rowCount = version.getRowCount();
+            lastModified = version.getLastModified();
+            generation++;
+            epochs.invalidateAll();
+        }
+    }
+
+    private int load(Long userId) {
+        long before;
+        synchronized (this) {
+            before = generation;
+        }
+        Optional<Integer> current = userRepository.findById(userId)
+                .map(user -> epochOf(user.isEnabled(), user.getSecurityEpoch()));
+        if (current.isEmpty()) {
+            // Not cached, so looking up ids that do not exist cannot grow the cache
+            return REVOKED;
+        }
+        synchronized (this) {
+            if (generation != before) {
+                return current.get();
+            }
+            Integer raced = epochs.get(userId);
+            if (raced != null) {
+                return raced;
+            }
+            put(userId, current.get());
+        }
+        return current.get();
+    }
+
+    private void put(Long userId, int epoch) {
+        epochs.put(userId, epoch, System.currentTimeMillis() + ttlMs);
+    }
+
+    private static int epochOf(boolean enabled, int securityEpoch) {
+        return enabled ? securityEpoch : REVOKED;
+    }
+}
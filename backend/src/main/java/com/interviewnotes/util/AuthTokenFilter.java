@@ -1,6 +1,11 @@
 package com.interviewnotes.util;
 
+import com.interviewnotes.model.User;
+import com.interviewnotes.service.UserDetailsCache;
 import com.interviewnotes.service.UserDetailsServiceImpl;
+import com.interviewnotes.service.UserPrincipal;
+import com.interviewnotes.service.UserSecurityEpochs;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +13,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,9 +22,16 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Authentication token filter for JWT token processing.
+ *
+ * With app.jwt.stateless (the default), tokens carrying a user id, role and
+ * security epoch are turned into a {@link UserPrincipal} from their claims
+ * alone, once {@link UserSecurityEpochs} confirms the epoch is current.
+ * Older tokens with only a username, and every token when stateless is off,
+ * load the user through the {@link UserDetailsCache}.
  */
 public class AuthTokenFilter extends OncePerRequestFilter {
     
@@ -28,6 +41,15 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
     
+    @Autowired
+    private UserDetailsCache userDetailsCache;
+    
+    @Autowired
+    private UserSecurityEpochs userSecurityEpochs;
+    
+    @Value("${app.jwt.stateless:true}")
+    private boolean stateless;
+    
     private static final Logger logger = LoggerFactory.getLogger(AuthTokenFilter.class);
     
     @Override
@@ -36,18 +58,29 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         try {
             String jwt = parseJwt(request);
             logger.debug("Extracted JWT: {}", jwt);
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            Optional<Claims> claims = jwt != null ? jwtUtils.validateAndGetClaims(jwt) : Optional.empty();
+            if (claims.isPresent()) {
+                String username = claims.get().getSubject();
                 logger.debug("Username from JWT: {}", username);
                 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                logger.debug("Loaded user details: {}", userDetails);
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                logger.debug("Set authentication for user: {}", username);
+                Long userId = stateless ? claims.get().get(JwtUtils.USER_ID_CLAIM, Long.class) : null;
+                UserDetails userDetails;
+                if (userId != null) {
+                    userDetails = principalFromClaims(userId, username, claims.get());
+                } else {
+                    userDetails = userDetailsCache.get(username, userDetailsService::loadUserByUsername);
+                    logger.debug("Loaded user details: {}", userDetails);
+                }
+                if (userDetails != null) {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            userDetails, null, userDetails.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    logger.debug("Set authentication for user: {}", username);
+                } else {
+                    logger.debug("Token of user {} has been revoked", username);
+                }
             } else {
                 logger.debug("JWT is null or invalid");
             }
@@ -58,6 +91,19 @@ public class AuthTokenFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    /**
+     * Build the principal from the token's claims, or return null if the
+     * user's tokens from that epoch are no longer accepted.
+     */
+    private UserPrincipal principalFromClaims(Long userId, String username, Claims claims) {
+        Integer epoch = claims.get(JwtUtils.EPOCH_CLAIM, Integer.class);
+        String role = claims.get(JwtUtils.ROLE_CLAIM, String.class);
+        if (epoch == null || role == null || !userSecurityEpochs.isCurrent(userId, epoch)) {
+            return null;
+        }
+        return new UserPrincipal(userId, username, "", User.UserRole.valueOf(role), epoch);
+    }
+    
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         
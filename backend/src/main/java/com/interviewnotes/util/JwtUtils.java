@@ -1,5 +1,6 @@
 package com.interviewnotes.util;
 
+import com.interviewnotes.service.UserPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
@@ -10,13 +11,30 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Utility class for JWT token operations.
+ *
+ * The signing key and parser are derived once per secret and shared between
+ * threads. Tokens that pass signature verification are remembered (keyed by
+ * their SHA-256 hash) until they expire, so repeated requests carrying the
+ * same token skip the signature check.
  */
 @Component
 public class JwtUtils {
+
+    /** Claims of tokens made by {@link #generateToken(UserPrincipal)}. */
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String EPOCH_CLAIM = "epoch";
     
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
     
@@ -26,6 +44,11 @@ public class JwtUtils {
     @Value("${app.jwt.expiration:86400000}")
     private int jwtExpirationMs;
     
+    @Value("${app.jwt.claims-cache-size:10000}")
+    private int claimsCacheSize = 10000;
+
+    private volatile SigningContext signingContext;
+
     /**
      * Generate JWT token from authentication.
      * 
@@ -33,8 +56,27 @@ public class JwtUtils {
      * @return JWT token string
      */
     public String generateJwtToken(Authentication authentication) {
-        UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        return generateTokenFromUsername(userPrincipal.getUsername());
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserPrincipal userPrincipal) {
+            return generateToken(userPrincipal);
+        }
+        return generateTokenFromUsername(((UserDetails) principal).getUsername());
+    }
+
+    /**
+     * Generate a self-contained JWT token that also carries the user's id,
+     * role and security epoch, so requests can be authenticated from the
+     * token alone.
+     *
+     * @param principal the user
+     * @return JWT token string
+     */
+    public String generateToken(UserPrincipal principal) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, principal.getId());
+        claims.put(ROLE_CLAIM, principal.getRole().name());
+        claims.put(EPOCH_CLAIM, principal.getSecurityEpoch());
+        return buildToken(principal.getUsername(), claims);
     }
     
     /**
@@ -44,13 +86,18 @@ public class JwtUtils {
      * @return JWT token string
      */
     public String generateTokenFromUsername(String username) {
+        return buildToken(username, Map.of());
+    }
+
+    private String buildToken(String username, Map<String, Object> claims) {
         if (username == null) {
             throw new IllegalArgumentException("Username cannot be null");
         }
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        SecretKey key = signingContext().key;
         
         return Jwts.builder()
                 .setSubject(username)
+                .addClaims(claims)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(key, SignatureAlgorithm.HS512)
@@ -64,14 +111,7 @@ public class JwtUtils {
      * @return username string
      */
     public String getUserNameFromJwtToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-        
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
     
     /**
@@ -81,13 +121,18 @@ public class JwtUtils {
      * @return true if valid, false otherwise
      */
     public boolean validateJwtToken(String authToken) {
+        return validateAndGetClaims(authToken).isPresent();
+    }
+
+    /**
+     * Validate a JWT token and return its claims in a single parse.
+     *
+     * @param authToken the JWT token to validate
+     * @return the verified claims, or empty if the token is invalid
+     */
+    public Optional<Claims> validateAndGetClaims(String authToken) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
+            return Optional.of(parseClaims(authToken));
         } catch (io.jsonwebtoken.security.SignatureException e) {
             logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (io.jsonwebtoken.security.WeakKeyException e) {
@@ -103,6 +148,68 @@ public class JwtUtils {
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Parse and verify a token, serving recently verified tokens from the cache.
+     */
+    private Claims parseClaims(String token) {
+        SigningContext context = signingContext();
+        String cacheKey = token != null && !token.isEmpty() ? hash(token) : null;
+
+        Claims cached = context.verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = context.parser.parseClaimsJws(token).getBody();
+        if (cacheKey != null && claims.getExpiration() != null) {
+            context.verifiedTokens.put(cacheKey, claims, claims.getExpiration().getTime());
+        }
+        return claims;
+    }
+
+    /**
+     * Get the signing key, parser and verified-token cache for the configured secret.
+     */
+    private SigningContext signingContext() {
+        SigningContext context = signingContext;
+        if (context == null || !context.secret.equals(jwtSecret)) {
+            synchronized (this) {
+                context = signingContext;
+                if (context == null || !context.secret.equals(jwtSecret)) {
+                    context = new SigningContext(jwtSecret, claimsCacheSize);
+                    signingContext = context;
+                }
+            }
+        }
+        return context;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Key material derived from a secret, plus the tokens verified with it.
+     */
+    private static final class SigningContext {
+        private final String secret;
+        private final SecretKey key;
+        private final JwtParser parser;
+        private final ExpiringCache<String, Claims> verifiedTokens;
+
+        private SigningContext(String secret, int cacheSize) {
+            this.secret = secret;
+            this.key = Keys.hmacShaKeyFor(secret.getBytes());
+            this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+            this.verifiedTokens = new ExpiringCache<>(cacheSize);
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.interviewnotes.util;
+
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Position in a list ordered by (createdAt, id), encoded as an opaque string.
+ *
+ * The cursor names the last row of the previous page; the next page starts
+ * strictly after it in the requested direction.
+ */
+public final class KeysetCursor {
+
+    private static final LocalDateTime MIN_CREATED_AT = LocalDateTime.of(1, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Position before the first row in the given direction.
+     */
+    public static KeysetCursor start(Sort.Direction direction) {
+        return direction.isAscending()
+                ? new KeysetCursor(MIN_CREATED_AT, Long.MIN_VALUE)
+                : new KeysetCursor(MAX_CREATED_AT, Long.MAX_VALUE);
+    }
+
+    /**
+     * Decode a cursor, or return the start position if it is null or blank.
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor, Sort.Direction direction) {
+        if (cursor == null || cursor.isBlank()) {
+            return start(direction);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Cursor for the page after {@code rows}, which were fetched with one row
+     * more than {@code size} to detect whether another page exists.
+     *
+     * @return the encoded cursor, or null if there are no more rows
+     */
+    public static <T> String next(List<T> rows, int size,
+                                  Function<T, LocalDateTime> createdAt, Function<T, Long> id) {
+        if (rows.size() <= size) {
+            return null;
+        }
+        T last = rows.get(size - 1);
+        return new KeysetCursor(createdAt.apply(last), id.apply(last)).encode();
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,94 @@
+package com.interviewnotes.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+
+/**
+ * Counts the SQL statements each HTTP request issues on its own thread.
+ *
+ * Counts are published as the http.server.requests.sql distribution summary,
+ * tagged with method and URI template, so N+1 patterns show up per endpoint.
+ * app.sql.budget.mode decides what happens when a request issues more than
+ * app.sql.budget.max-statements: "log" warns after the request, "reject"
+ * fails the statement over the budget so the request ends with 500, "off"
+ * disables counting. Work handed to other threads (async reports, events) is
+ * not counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    static final String METRIC_NAME = "http.server.requests.sql";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    enum Mode { OFF, LOG, REJECT }
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final Mode mode;
+
+    @Autowired
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                    @Value("${app.sql.budget.max-statements:50}") int maxStatements,
+                                    @Value("${app.sql.budget.mode:log}") String mode) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.mode = Mode.valueOf(mode.toUpperCase(Locale.ROOT));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return mode == Mode.OFF;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        int count;
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open(mode == Mode.REJECT ? maxStatements : 0)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                count = scope.getCount();
+                record(request, count);
+            }
+        }
+        if (mode == Mode.LOG && count > maxStatements) {
+            logger.warn("{} {} issued {} SQL statements, budget is {}", request.getMethod(), uri(request),
+                    count, maxStatements);
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements issued per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri(request))
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(meterRegistry)
+                .record(count);
+    }
+
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
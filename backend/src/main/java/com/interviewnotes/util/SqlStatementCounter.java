@@ -0,0 +1,100 @@
+package com.interviewnotes.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ *
+ * Registered as hibernate.session_factory.statement_inspector. Nothing is
+ * counted unless a {@link Scope} is open on the thread; scopes nest, and a
+ * statement counts towards every open scope. A scope with a budget fails the
+ * statement that exceeds it with {@link BudgetExceededException}, before it
+ * reaches the database.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.statementPrepared(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting on this thread without a budget.
+     */
+    public static Scope open() {
+        return open(0);
+    }
+
+    /**
+     * Start counting on this thread.
+     *
+     * @param budget statements allowed in the scope, or 0 for no limit
+     */
+    public static Scope open(int budget) {
+        Scope scope = new Scope(CURRENT.get(), budget);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Statements counted on the calling thread until it is closed.
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final int budget;
+        private int count;
+
+        private Scope(Scope parent, int budget) {
+            this.parent = parent;
+            this.budget = budget;
+        }
+
+        private void statementPrepared(String sql) {
+            count++;
+            if (budget > 0 && count > budget) {
+                throw new BudgetExceededException(budget, sql);
+            }
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public void reset() {
+            count = 0;
+        }
+
+        /**
+         * Stop counting and make the enclosing scope current again.
+         */
+        @Override
+        public void close() {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+
+    /**
+     * Thrown for the first statement over a scope's budget.
+     */
+    public static class BudgetExceededException extends RuntimeException {
+        private final int budget;
+
+        public BudgetExceededException(int budget, String sql) {
+            super("SQL statement budget of " + budget + " exceeded by: " + sql);
+            this.budget = budget;
+        }
+
+        public int getBudget() {
+            return budget;
+        }
+    }
+}
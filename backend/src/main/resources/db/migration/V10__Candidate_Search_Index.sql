@@ -0,0 +1,11 @@
+-- Full-text search over candidate name, email, position and notes.
+-- Names and email rank highest, then position, then notes. Email separators are
+-- turned into spaces so each part of an address can be matched on its own.
+ALTER TABLE candidates ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', coalesce(first_name, '') || ' ' || coalesce(last_name, '')), 'A') ||
+    setweight(to_tsvector('simple', translate(coalesce(email, ''), '.@_-+', '     ')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(position, '')), 'B') ||
+    setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+) STORED;
+
+CREATE INDEX idx_candidates_search_vector ON candidates USING GIN (search_vector);
@@ -0,0 +1,13 @@
+-- Interview notes hang off the legacy interview_rounds table, which the
+-- application no longer maps. Link them to their interview directly so notes
+-- and questions can be read per interview; existing rows keep their round.
+ALTER TABLE interview_notes ADD COLUMN interview_id BIGINT REFERENCES interviews(id) ON DELETE CASCADE;
+
+UPDATE interview_notes n
+SET interview_id = r.interview_id
+FROM interview_rounds r
+WHERE n.round_id = r.id;
+
+ALTER TABLE interview_notes ALTER COLUMN round_id DROP NOT NULL;
+
+CREATE INDEX idx_interview_notes_interview_id ON interview_notes(interview_id);
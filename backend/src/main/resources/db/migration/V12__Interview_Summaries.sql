@@ -0,0 +1,89 @@
+-- Notes record their own round type and recommendation, since rounds are not
+-- mapped by the application; the recommendation becomes plain text like
+-- interview statuses.
+ALTER TABLE interview_notes ADD COLUMN round_type VARCHAR(50);
+
+UPDATE interview_notes n
+SET round_type = r.round_type::text
+FROM interview_rounds r
+WHERE n.round_id = r.id;
+
+ALTER TABLE interview_notes ALTER COLUMN recommendation TYPE VARCHAR(20) USING recommendation::text;
+
+-- One precomputed report preview per interview. Rows are created with the
+-- interview and kept up to date by every write that affects them; rows for
+-- the interviews that predate this table are built below.
+CREATE TABLE interview_summaries (
+    interview_id BIGINT PRIMARY KEY REFERENCES interviews(id) ON DELETE CASCADE,
+    candidate_name VARCHAR(255),
+    candidate_email VARCHAR(255),
+    candidate_position VARCHAR(255),
+    scheduled_date TIMESTAMP,
+    status VARCHAR(50),
+    overall_score DECIMAL(3,1),
+    interviewer_id BIGINT,
+    interviewer_name VARCHAR(255),
+    rounds TEXT NOT NULL DEFAULT '[]',
+    total_rounds INTEGER NOT NULL DEFAULT 0,
+    average_score DECIMAL(4,2),
+    final_recommendation VARCHAR(20),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_interview_summaries_interviewer_id ON interview_summaries(interviewer_id);
+
+-- Build the previews of existing interviews the way InterviewSummary does:
+-- one round per set of notes, scored by the notes' overall score or else the
+-- average question score, and a final recommendation that is the average
+-- rank of the round recommendations.
+WITH rounds AS (
+    SELECT n.id,
+           n.interview_id,
+           n.created_at,
+           n.round_type,
+           n.overall_score,
+           n.recommendation,
+           COALESCE(SUM(q.score), 0) AS question_score_total,
+           COUNT(q.score) AS scored_questions,
+           COALESCE(n.overall_score, ROUND(SUM(q.score)::numeric / NULLIF(COUNT(q.score), 0), 1)) AS score,
+           array_position(ARRAY['NO_HIRE', 'WEAK_HIRE', 'HIRE', 'STRONG_HIRE'], n.recommendation::text) - 1 AS rank
+    FROM interview_notes n
+    LEFT JOIN interview_questions q ON q.notes_id = n.id
+    WHERE n.interview_id IS NOT NULL
+    GROUP BY n.id
+),
+totals AS (
+    SELECT interview_id,
+           json_agg(json_build_object(
+                   'notesId', id,
+                   'roundType', round_type,
+                   'notesScore', overall_score,
+                   'questionScoreTotal', question_score_total,
+                   'scoredQuestions', scored_questions,
+                   'recommendation', recommendation) ORDER BY created_at, id)::text AS rounds,
+           COUNT(*) AS total_rounds,
+           ROUND(AVG(score), 2) AS average_score,
+           ROUND(AVG(rank))::integer AS rank
+    FROM rounds
+    GROUP BY interview_id
+)
+INSERT INTO interview_summaries (interview_id, candidate_name, candidate_email, candidate_position,
+                                 scheduled_date, status, overall_score, interviewer_id, interviewer_name,
+                                 rounds, total_rounds, average_score, final_recommendation)
+SELECT i.id,
+       c.first_name || ' ' || c.last_name,
+       c.email,
+       c.position,
+       i.scheduled_date,
+       i.status,
+       i.overall_score,
+       u.id,
+       u.first_name || ' ' || u.last_name,
+       COALESCE(t.rounds, '[]'),
+       COALESCE(t.total_rounds, 0),
+       t.average_score,
+       (ARRAY['NO_HIRE', 'WEAK_HIRE', 'HIRE', 'STRONG_HIRE'])[t.rank + 1]
+FROM interviews i
+JOIN candidates c ON c.id = i.candidate_id
+LEFT JOIN users u ON u.id = i.interviewer_id
+LEFT JOIN totals t ON t.interview_id = i.id;
@@ -0,0 +1,32 @@
+-- Interview statistics per day of the scheduled date, summed over any period
+-- by the analytics endpoint instead of scanning interviews.
+CREATE TABLE interview_daily_stats (
+    stat_date DATE PRIMARY KEY,
+    total_interviews INTEGER NOT NULL DEFAULT 0,
+    completed_interviews INTEGER NOT NULL DEFAULT 0,
+    scored_interviews INTEGER NOT NULL DEFAULT 0,
+    score_total DECIMAL(12,1) NOT NULL DEFAULT 0,
+    strong_hire INTEGER NOT NULL DEFAULT 0,
+    hire INTEGER NOT NULL DEFAULT 0,
+    weak_hire INTEGER NOT NULL DEFAULT 0,
+    no_hire INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Rounds (sets of interview notes) per day and round type.
+CREATE TABLE interview_daily_round_types (
+    stat_date DATE NOT NULL,
+    round_type VARCHAR(50) NOT NULL,
+    rounds INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_date, round_type)
+);
+
+-- Days whose rollups are out of date. Writes add their days here and the
+-- refresh job recomputes and removes them.
+CREATE TABLE analytics_dirty_days (
+    stat_date DATE PRIMARY KEY
+);
+
+-- Existing history is rolled up by the first refresh runs.
+INSERT INTO analytics_dirty_days (stat_date)
+SELECT DISTINCT CAST(scheduled_date AS DATE) FROM interviews;
@@ -0,0 +1,4 @@
+-- Candidate ids are reserved in blocks of 50 by Hibernate's pooled optimizer,
+-- which needs the sequence to step by the same amount. Plain inserts still use
+-- the column default and each take a block of their own.
+ALTER SEQUENCE candidates_id_seq INCREMENT BY 50;
@@ -0,0 +1,3 @@
+-- Access tokens carry the user's epoch and are rejected once it changes.
+-- Bump it when disabling a user or changing their role outside the application.
+ALTER TABLE users ADD COLUMN security_epoch INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,5 @@
+-- Conditional GETs read COUNT(*) and MAX(updated_at) of these tables on every
+-- request; with an index on updated_at both come from the index alone.
+CREATE INDEX idx_candidates_updated_at ON candidates(updated_at);
+CREATE INDEX idx_interviews_updated_at ON interviews(updated_at);
+CREATE INDEX idx_users_updated_at ON users(updated_at);
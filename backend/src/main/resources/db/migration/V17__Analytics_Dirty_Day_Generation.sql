@@ -0,0 +1,3 @@
+-- Marking a day bumps its generation, so a rollup refresh deletes only the
+-- dirty rows that were not marked again while it was recomputing them.
+ALTER TABLE analytics_dirty_days ADD COLUMN generation BIGINT NOT NULL DEFAULT 0;
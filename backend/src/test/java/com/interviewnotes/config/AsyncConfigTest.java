@@ -0,0 +1,58 @@
+package com.interviewnotes.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for AsyncConfig.
+ */
+class AsyncConfigTest {
+
+    private final TaskDecorator decorator = new AsyncConfig().securityContextTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testDecorator_PropagatesSubmittersContext() throws InterruptedException {
+        Authentication authentication = new UsernamePasswordAuthenticationToken("alice", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        AtomicReference<Authentication> after = new AtomicReference<>();
+
+        Runnable task = decorator.decorate(() -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+        Thread thread = new Thread(() -> {
+            task.run();
+            after.set(SecurityContextHolder.getContext().getAuthentication());
+        });
+        thread.start();
+        thread.join();
+
+        assertSame(authentication, seen.get());
+        assertNull(after.get());
+    }
+
+    @Test
+    void testNewThread_DoesNotInheritContext() throws InterruptedException {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+
+        Thread thread = new Thread(() -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+        thread.start();
+        thread.join();
+
+        assertNull(seen.get());
+    }
+}
@@ -0,0 +1,210 @@
+package com.interviewnotes.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.repository.CandidateRepository;
+import com.interviewnotes.service.CandidateSearchIndex;
+import com.interviewnotes.service.CandidateService;
+import com.interviewnotes.service.InterviewService;
+import com.interviewnotes.service.InterviewSummaryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for CacheConfig and the caching annotations on CandidateService.
+ */
+class CacheConfigTest {
+
+    private AnnotationConfigApplicationContext context;
+    private CandidateRepository candidateRepository;
+    private CandidateService candidateService;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+                "app.cache.default-ttl", "5m",
+                "app.cache.ttl[candidateStatistics]", "30s")));
+        context.register(CacheConfig.class, Services.class);
+        context.refresh();
+
+        candidateRepository = context.getBean(CandidateRepository.class);
+        candidateService = context.getBean(CandidateService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void cacheManager_WithoutRedisHost_IsTransactionAwareCaffeine() {
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+
+        assertInstanceOf(TransactionAwareCacheManagerProxy.class, cacheManager);
+        assertTrue(cacheManager.getCacheNames().containsAll(CacheConfig.CACHE_NAMES));
+    }
+
+    @Test
+    void cacheSettings_BindsPerCacheTtl() {
+        CacheSettings settings = context.getBean(CacheSettings.class);
+
+        assertEquals(Duration.ofSeconds(30), settings.ttlFor(CacheNames.CANDIDATE_STATISTICS));
+        assertEquals(Duration.ofMinutes(5), settings.ttlFor(CacheNames.CANDIDATES));
+    }
+
+    @Test
+    void caffeineCacheManager_AppliesPerCacheTtl() {
+        CacheSettings settings = new CacheSettings();
+        settings.getTtl().put(CacheNames.INTERVIEWS, Duration.ofSeconds(90));
+
+        CaffeineCacheManager cacheManager = CacheConfig.caffeineCacheManager(settings);
+
+        assertEquals(Duration.ofSeconds(90), expiry(cacheManager, CacheNames.INTERVIEWS));
+        assertEquals(settings.getDefaultTtl(), expiry(cacheManager, CacheNames.CANDIDATES));
+        assertEquals(settings.getDefaultTtl(), expiry(cacheManager, "other"));
+    }
+
+    @Test
+    void getCandidateById_SecondCall_ServedFromCache() {
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(candidate(1L, "john@example.com")));
+
+        Optional<CandidateDTO> first = candidateService.getCandidateById(1L);
+        Optional<CandidateDTO> second = candidateService.getCandidateById(1L);
+
+        assertTrue(first.isPresent());
+        assertEquals("john@example.com", second.get().getEmail());
+        verify(candidateRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void getCandidateById_Missing_NotCached() {
+        when(candidateRepository.findById(2L)).thenReturn(Optional.empty());
+
+        assertTrue(candidateService.getCandidateById(2L).isEmpty());
+        assertTrue(candidateService.getCandidateById(2L).isEmpty());
+
+        verify(candidateRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void getCandidateByEmail_SecondCall_ServedFromCache() {
+        when(candidateRepository.findByEmail("john@example.com"))
+                .thenReturn(Optional.of(candidate(1L, "john@example.com")));
+
+        candidateService.getCandidateByEmail("john@example.com");
+        candidateService.getCandidateByEmail("john@example.com");
+
+        verify(candidateRepository, times(1)).findByEmail("john@example.com");
+    }
+
+    @Test
+    void updateCandidate_EvictsCachedLookups() {
+        Candidate candidate = candidate(1L, "john@example.com");
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(candidate));
+        when(candidateRepository.findByEmail("john@example.com")).thenReturn(Optional.of(candidate));
+        when(candidateRepository.save(candidate)).thenReturn(candidate);
+        candidateService.getCandidateById(1L);
+        candidateService.getCandidateByEmail("john@example.com");
+
+        CandidateDTO update = new CandidateDTO();
+        update.setFirstName("Johnny");
+        update.setLastName("Doe");
+        update.setEmail("john@example.com");
+        update.setPosition("Engineer");
+        candidateService.updateCandidate(1L, update);
+
+        assertEquals("Johnny", candidateService.getCandidateById(1L).get().getFirstName());
+        candidateService.getCandidateByEmail("john@example.com");
+        // update itself looks the candidate up once more
+        verify(candidateRepository, times(3)).findById(1L);
+        verify(candidateRepository, times(2)).findByEmail("john@example.com");
+    }
+
+    @Test
+    void deleteCandidate_EvictsCachedLookup() {
+        when(candidateRepository.findById(1L)).thenReturn(Optional.of(candidate(1L, "john@example.com")));
+        when(candidateRepository.existsById(1L)).thenReturn(true);
+        candidateService.getCandidateById(1L);
+
+        candidateService.deleteCandidate(1L);
+        candidateService.getCandidateById(1L);
+
+        verify(candidateRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void getCandidateStatistics_CachedAndReplacedByRefresh() {
+        when(candidateRepository.countCandidates()).thenReturn(counts(10L), counts(12L));
+
+        CandidateService.CandidateStatistics first = candidateService.getCandidateStatistics();
+        assertSame(first, candidateService.getCandidateStatistics());
+
+        candidateService.refreshCandidateStatistics();
+
+        assertEquals(12L, candidateService.getCandidateStatistics().getTotalCandidates());
+        verify(candidateRepository, times(2)).countCandidates();
+    }
+
+    private static Duration expiry(CaffeineCacheManager cacheManager, String name) {
+        Cache<Object, Object> cache = ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+        return cache.policy().expireAfterWrite().orElseThrow().getExpiresAfter();
+    }
+
+    private static Candidate candidate(Long id, String email) {
+        Candidate candidate = new Candidate("John", "Doe", email, "Engineer");
+        candidate.setId(id);
+        return candidate;
+    }
+
+    private static CandidateRepository.CandidateCounts counts(long total) {
+        return new CandidateRepository.CandidateCounts() {
+            @Override
+            public Long getTotalCandidates() {
+                return total;
+            }
+
+            @Override
+            public Long getActiveCandidates() {
+                return total;
+            }
+
+            @Override
+            public Long getCandidatesWithInterviews() {
+                return 0L;
+            }
+        };
+    }
+
+    @Configuration
+    static class Services {
+
+        @Bean
+        CandidateRepository candidateRepository() {
+            return mock(CandidateRepository.class);
+        }
+
+        @Bean
+        CandidateService candidateService(CandidateRepository candidateRepository) {
+            return new CandidateService(candidateRepository, mock(CandidateSearchIndex.class), mock(InterviewSummaryService.class),
+                    mock(InterviewService.class));
+        }
+    }
+}
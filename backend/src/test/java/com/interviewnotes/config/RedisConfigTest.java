@@ -0,0 +1,47 @@
+package com.interviewnotes.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test class for RedisConfig.
+ */
+class RedisConfigTest {
+
+    @Test
+    void cacheManager_AppliesPerCacheTtl() {
+        CacheSettings settings = new CacheSettings();
+        settings.setDefaultTtl(Duration.ofMinutes(3));
+        settings.getTtl().put(CacheNames.CANDIDATE_STATISTICS, Duration.ofSeconds(45));
+
+        RedisCacheManager cacheManager = RedisConfig.redisCacheManager(mock(RedisConnectionFactory.class), settings);
+        Map<String, RedisCacheConfiguration> configurations = cacheManager.getCacheConfigurations();
+
+        assertTrue(configurations.keySet().containsAll(CacheConfig.CACHE_NAMES));
+        assertEquals(Duration.ofSeconds(45),
+                configurations.get(CacheNames.CANDIDATE_STATISTICS).getTtlFunction().getTimeToLive("key", "value"));
+        assertEquals(Duration.ofMinutes(3),
+                configurations.get(CacheNames.CANDIDATES).getTtlFunction().getTimeToLive("key", "value"));
+        assertEquals("interview-notes:candidates::",
+                configurations.get(CacheNames.CANDIDATES).getKeyPrefixFor(CacheNames.CANDIDATES));
+    }
+
+    @Test
+    void cacheManager_IsTransactionAware() {
+        CacheManager cacheManager = new RedisConfig().cacheManager(mock(RedisConnectionFactory.class), new CacheSettings());
+
+        assertInstanceOf(TransactionAwareCacheManagerProxy.class, cacheManager);
+        assertInstanceOf(TransactionAwareCacheDecorator.class, cacheManager.getCache(CacheNames.INTERVIEWS));
+    }
+}
@@ -0,0 +1,146 @@
+package com.interviewnotes.controller;
+
+import com.interviewnotes.service.InterviewAnalyticsService;
+import com.interviewnotes.service.InterviewerPerformanceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsControllerTest {
+
+    @Mock
+    private InterviewAnalyticsService interviewAnalyticsService;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(analyticsController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getInterviewStatistics_DateRange() throws Exception {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 6, 30);
+        Map<String, Long> rounds = new LinkedHashMap<>();
+        rounds.put("TECHNICAL_ROUND_1", 45L);
+        Map<String, Long> recommendations = new LinkedHashMap<>();
+        recommendations.put("STRONG_HIRE", 15L);
+        when(interviewAnalyticsService.getInterviewStatistics(start, end)).thenReturn(
+                new InterviewAnalyticsService.InterviewStatistics(start, end, 45, 42,
+                        new BigDecimal("7.80"), new BigDecimal("0.67"), rounds, recommendations));
+
+        mockMvc.perform(get("/api/analytics/interviews")
+                        .param("startDate", "2024-01-01")
+                        .param("endDate", "2024-06-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalInterviews").value(45))
+                .andExpect(jsonPath("$.completedInterviews").value(42))
+                .andExpect(jsonPath("$.averageScore").value(7.8))
+                .andExpect(jsonPath("$.hireRate").value(0.67))
+                .andExpect(jsonPath("$.roundBreakdown.TECHNICAL_ROUND_1").value(45))
+                .andExpect(jsonPath("$.recommendationBreakdown.STRONG_HIRE").value(15));
+    }
+
+    @Test
+    void getInterviewStatistics_PeriodAroundStartDate() throws Exception {
+        when(interviewAnalyticsService.getInterviewStatistics(any(), any())).thenReturn(
+                new InterviewAnalyticsService.InterviewStatistics(null, null, 0, 0, null, null, Map.of(), Map.of()));
+
+        mockMvc.perform(get("/api/analytics/interviews")
+                        .param("period", "quarter")
+                        .param("startDate", "2024-05-20"))
+                .andExpect(status().isOk());
+
+        verify(interviewAnalyticsService).getInterviewStatistics(LocalDate.of(2024, 4, 1), LocalDate.of(2024, 6, 30));
+    }
+
+    @Test
+    void getInterviewStatistics_DefaultsToCurrentMonth() throws Exception {
+        when(interviewAnalyticsService.getInterviewStatistics(any(), any())).thenReturn(
+                new InterviewAnalyticsService.InterviewStatistics(null, null, 0, 0, null, null, Map.of(), Map.of()));
+
+        mockMvc.perform(get("/api/analytics/interviews"))
+                .andExpect(status().isOk());
+
+        LocalDate today = LocalDate.now();
+        verify(interviewAnalyticsService).getInterviewStatistics(today.withDayOfMonth(1),
+                today.withDayOfMonth(today.lengthOfMonth()));
+    }
+
+    @Test
+    void getInterviewerPerformance_List() throws Exception {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 12, 31);
+        when(interviewAnalyticsService.getInterviewerPerformance(start, end)).thenReturn(List.of(performance()));
+
+        mockMvc.perform(get("/api/analytics/interviewers/performance").param("period", "year").param("endDate", "2024-06-15"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].interviewer.id").value(7))
+                .andExpect(jsonPath("$[0].interviewer.name").value("Jane Smith"));
+    }
+
+    @Test
+    void getInterviewerPerformanceById_Found() throws Exception {
+        LocalDate start = LocalDate.of(2024, 2, 1);
+        LocalDate end = LocalDate.of(2024, 2, 29);
+        when(interviewAnalyticsService.getInterviewerPerformance(7L, start, end)).thenReturn(Optional.of(performance()));
+
+        mockMvc.perform(get("/api/analytics/interviewers/7/performance").param("startDate", "2024-02-10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalInterviews").value(25))
+                .andExpect(jsonPath("$.averageScore").value(8.2))
+                .andExpect(jsonPath("$.scoreVariance").value(1.1))
+                .andExpect(jsonPath("$.completionRate").value(0.9))
+                .andExpect(jsonPath("$.hireRate").value(0.72))
+                .andExpect(jsonPath("$.averageInterviewDuration").value(42))
+                .andExpect(jsonPath("$.roundTypeBreakdown.TECHNICAL_ROUND_1").value(15));
+    }
+
+    @Test
+    void getInterviewerPerformanceById_NotFound() throws Exception {
+        when(interviewAnalyticsService.getInterviewerPerformance(eq(9L), any(), any())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/analytics/interviewers/9/performance"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getInterviewStatistics_UnsupportedPeriod_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/analytics/interviews").param("period", "decade"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(interviewAnalyticsService);
+    }
+
+    private static InterviewerPerformanceService.InterviewerPerformance performance() {
+        return new InterviewerPerformanceService.InterviewerPerformance(
+                new InterviewerPerformanceService.Interviewer(7L, "Jane Smith"), 25, 22,
+                new BigDecimal("0.90"), new BigDecimal("8.20"), new BigDecimal("1.10"), new BigDecimal("0.72"),
+                new BigDecimal("42"), Map.of("TECHNICAL_ROUND_1", 15L));
+    }
+}
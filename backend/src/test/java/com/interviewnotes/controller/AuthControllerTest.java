@@ -6,6 +6,7 @@ import com.interviewnotes.dto.AuthResponse;
 import com.interviewnotes.dto.RegisterRequest;
 import com.interviewnotes.model.User;
 import com.interviewnotes.service.AuthService;
+import com.interviewnotes.service.UserAvailability;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -33,6 +34,9 @@ class AuthControllerTest {
     @Mock
     private AuthService authService;
 
+    @Mock
+    private UserAvailability userAvailability;
+
     @InjectMocks
     private AuthController authController;
 
@@ -328,4 +332,43 @@ class AuthControllerTest {
 
         verify(authService, never()).registerUser(any());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testCheckAvailability_UsernameAndEmail() throws Exception {
+        // Arrange
+        when(userAvailability.isUsernameAvailable("newuser")).thenReturn(true);
+        when(userAvailability.isEmailAvailable("taken@example.com")).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/auth/availability")
+                .param("username", "newuser")
+                .param("email", "taken@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(true))
+                .andExpect(jsonPath("$.email").value(false));
+    }
+
+    @Test
+    void testCheckAvailability_UsernameOnly() throws Exception {
+        // Arrange
+        when(userAvailability.isUsernameAvailable("newuser")).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/auth/availability").param("username", "newuser"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value(false))
+                .andExpect(jsonPath("$.email").doesNotExist());
+
+        verify(userAvailability, never()).isEmailAvailable(any());
+    }
+
+    @Test
+    void testCheckAvailability_NothingToCheck() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/auth/availability"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Username or email is required"));
+
+        verifyNoInteractions(userAvailability);
+    }
+}
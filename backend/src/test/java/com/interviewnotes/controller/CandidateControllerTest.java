@@ -3,7 +3,13 @@ package com.interviewnotes.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.dto.CursorPage;
+import com.interviewnotes.service.CandidateImportService;
 import com.interviewnotes.service.CandidateService;
+import com.interviewnotes.service.DataExportService;
+import com.interviewnotes.service.ExportFormat;
+import com.interviewnotes.service.ResourceVersion;
+import com.interviewnotes.service.ResourceVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,10 +20,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -34,6 +45,15 @@ class CandidateControllerTest {
     @Mock
     private CandidateService candidateService;
 
+    @Mock
+    private CandidateImportService candidateImportService;
+
+    @Mock
+    private DataExportService dataExportService;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private CandidateController candidateController;
 
@@ -180,6 +200,72 @@ class CandidateControllerTest {
         verify(candidateService).getAllCandidates(any(Pageable.class));
     }
 
+    @Test
+    void getAllCandidates_Summary_UsesSummaryView() throws Exception {
+        Page<CandidateDTO> candidatePage = new PageImpl<>(Arrays.asList(testCandidateDTO), PageRequest.of(0, 20), 1);
+        when(candidateService.getAllCandidateSummaries(any(Pageable.class))).thenReturn(candidatePage);
+
+        mockMvc.perform(get("/api/candidates").param("summary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1));
+
+        verify(candidateService).getAllCandidateSummaries(any(Pageable.class));
+        verify(candidateService, never()).getAllCandidates(any(Pageable.class));
+    }
+
+    @Test
+    void searchCandidates_Summary_UsesSummaryView() throws Exception {
+        Page<CandidateDTO> candidatePage = new PageImpl<>(Arrays.asList(testCandidateDTO), PageRequest.of(0, 20), 1);
+        when(candidateService.searchCandidateSummaries(eq("John"), any(Pageable.class))).thenReturn(candidatePage);
+
+        mockMvc.perform(get("/api/candidates/search")
+                .param("q", "John")
+                .param("summary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1));
+
+        verify(candidateService).searchCandidateSummaries(eq("John"), any(Pageable.class));
+    }
+
+    @Test
+    void getCandidatesByCursor_Success() throws Exception {
+        when(candidateService.getCandidatesByCursor(null, 20, Sort.Direction.DESC, false))
+                .thenReturn(new CursorPage<>(Arrays.asList(testCandidateDTO), "next-token"));
+
+        mockMvc.perform(get("/api/candidates/cursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(candidateService).getCandidatesByCursor(null, 20, Sort.Direction.DESC, false);
+    }
+
+    @Test
+    void getCandidatesByCursor_WithCursorAndAscending_Success() throws Exception {
+        when(candidateService.getCandidatesByCursor("abc", 5, Sort.Direction.ASC, true))
+                .thenReturn(new CursorPage<>(Arrays.asList(testCandidateDTO), null));
+
+        mockMvc.perform(get("/api/candidates/cursor")
+                .param("cursor", "abc")
+                .param("size", "5")
+                .param("sortDir", "asc")
+                .param("summary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void getCandidatesByCursor_InvalidCursor_ReturnsBadRequest() throws Exception {
+        when(candidateService.getCandidatesByCursor("bad", 20, Sort.Direction.DESC, false))
+                .thenThrow(new IllegalArgumentException("Invalid cursor"));
+
+        mockMvc.perform(get("/api/candidates/cursor").param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void searchCandidates_Success() throws Exception {
         Page<CandidateDTO> candidatePage = new PageImpl<>(Arrays.asList(testCandidateDTO), PageRequest.of(0, 20), 1);
@@ -234,6 +320,40 @@ class CandidateControllerTest {
         verify(candidateService).getCandidatesByExperience(3);
     }
 
+    @Test
+    void getCandidatesByStatus_Summary_UsesSummaryView() throws Exception {
+        when(candidateService.getCandidateSummariesByStatus("ACTIVE")).thenReturn(Arrays.asList(testCandidateDTO));
+
+        mockMvc.perform(get("/api/candidates/status/ACTIVE").param("summary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+
+        verify(candidateService).getCandidateSummariesByStatus("ACTIVE");
+        verify(candidateService, never()).getCandidatesByStatus(anyString());
+    }
+
+    @Test
+    void getCandidatesByPosition_Summary_UsesSummaryView() throws Exception {
+        when(candidateService.getCandidateSummariesByPosition("Software")).thenReturn(Arrays.asList(testCandidateDTO));
+
+        mockMvc.perform(get("/api/candidates/position/Software").param("summary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+
+        verify(candidateService).getCandidateSummariesByPosition("Software");
+    }
+
+    @Test
+    void getCandidatesByExperience_Summary_UsesSummaryView() throws Exception {
+        when(candidateService.getCandidateSummariesByExperience(3)).thenReturn(Arrays.asList(testCandidateDTO));
+
+        mockMvc.perform(get("/api/candidates/experience/3").param("summary", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1));
+
+        verify(candidateService).getCandidateSummariesByExperience(3);
+    }
+
     @Test
     void updateCandidate_Success() throws Exception {
         when(candidateService.updateCandidate(eq(1L), any(CandidateDTO.class))).thenReturn(Optional.of(testCandidateDTO));
@@ -385,4 +505,139 @@ class CandidateControllerTest {
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.content").isEmpty());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void importCandidates_Csv() throws Exception {
+        CandidateImportService.ImportResult result = new CandidateImportService.ImportResult(2, 1, 1,
+                List.of(new CandidateImportService.RowError(3, "jane@example.com", "Candidate with email jane@example.com already exists")));
+        when(candidateImportService.importCsv(any(Reader.class))).thenReturn(result);
+
+        mockMvc.perform(post("/api/candidates/import")
+                .contentType("text/csv")
+                .content("firstName,lastName,email,position\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(2))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(3))
+                .andExpect(jsonPath("$.errors[0].email").value("jane@example.com"));
+
+        verify(candidateImportService, never()).importJson(any());
+    }
+
+    @Test
+    void importCandidates_Json() throws Exception {
+        when(candidateImportService.importJson(any(InputStream.class)))
+                .thenReturn(new CandidateImportService.ImportResult(1, 1, 0, List.of()));
+
+        mockMvc.perform(post("/api/candidates/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors").isEmpty());
+    }
+
+    @Test
+    void importCandidates_UnknownColumn() throws Exception {
+        when(candidateImportService.importCsv(any(Reader.class)))
+                .thenThrow(new IllegalArgumentException("Unknown CSV column: salary"));
+
+        mockMvc.perform(post("/api/candidates/import")
+                .contentType("text/csv")
+                .content("salary\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importCandidates_UnsupportedContentType() throws Exception {
+        mockMvc.perform(post("/api/candidates/import")
+                .contentType(MediaType.APPLICATION_XML)
+                .content("<candidates/>"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verifyNoInteractions(candidateImportService);
+    }
+
+    @Test
+    void exportCandidates_Csv() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(dataExportService).exportCandidates(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        mockMvc.perform(get("/api/candidates/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"candidates.csv\""))
+                .andExpect(content().string("id\r\n1\r\n"));
+    }
+
+    @Test
+    void exportCandidates_Ndjson() throws Exception {
+        mockMvc.perform(get("/api/candidates/export").param("format", "NDJSON"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+
+        verify(dataExportService).exportCandidates(eq(ExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+    @Test
+    void exportCandidates_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/candidates/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(dataExportService);
+    }
+
+    @Test
+    void getCandidateById_AddsValidators() throws Exception {
+        ResourceVersion version = new ResourceVersion("candidate:1", LocalDateTime.of(2024, 3, 1, 10, 15), false);
+        when(resourceVersions.candidate(1L)).thenReturn(version);
+        when(candidateService.getCandidateById(1L)).thenReturn(Optional.of(testCandidateDTO));
+
+        mockMvc.perform(get("/api/candidates/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", version.getETag()))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andExpect(header().string("Cache-Control", "private, no-cache"))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    void getCandidateById_MatchingETag_ReturnsNotModified() throws Exception {
+        ResourceVersion version = new ResourceVersion("candidate:1", LocalDateTime.of(2024, 3, 1, 10, 15), false);
+        when(resourceVersions.candidate(1L)).thenReturn(version);
+
+        mockMvc.perform(get("/api/candidates/1").header("If-None-Match", version.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", version.getETag()))
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(candidateService);
+    }
+
+    @Test
+    void getAllCandidates_StaleETag_ReturnsPage() throws Exception {
+        ResourceVersion version = new ResourceVersion("candidates|2", LocalDateTime.of(2024, 3, 1, 10, 15), false);
+        when(resourceVersions.candidates()).thenReturn(version);
+        when(candidateService.getAllCandidates(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(testCandidateDTO), PageRequest.of(0, 20), 1));
+
+        mockMvc.perform(get("/api/candidates").header("If-None-Match", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", version.getETag()))
+                .andExpect(jsonPath("$.content[0].id").value(1));
+    }
+
+    @Test
+    void getAllCandidates_IfModifiedSinceAlone_NotTrustedForLists() throws Exception {
+        ResourceVersion version = new ResourceVersion("candidates|2", LocalDateTime.of(2024, 3, 1, 10, 15), false);
+        when(resourceVersions.candidates()).thenReturn(version);
+        when(candidateService.getAllCandidates(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(testCandidateDTO), PageRequest.of(0, 20), 1));
+
+        mockMvc.perform(get("/api/candidates").header("If-Modified-Since", version.getLastModified() + 60_000))
+                .andExpect(status().isOk());
+    }
+}
@@ -1,7 +1,10 @@
 package com.interviewnotes.controller;
 
+import com.interviewnotes.util.SqlStatementCounter;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -27,6 +30,23 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody()).contains("application/xml");
     }
 
+    @Test
+    void testHandleTaskRejected() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        ResponseEntity<String> response = handler.handleTaskRejected(new TaskRejectedException("queue full"));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+    }
+
+    @Test
+    void testHandleSqlStatementBudgetExceeded() {
+        GlobalExceptionHandler handler = new GlobalExceptionHandler();
+        ResponseEntity<String> response = handler.handleSqlStatementBudgetExceeded(
+                new SqlStatementCounter.BudgetExceededException(50, "select 1"));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody()).isEqualTo("Request exceeded its budget of 50 SQL statements");
+    }
+
     @Test
     void testHandleRuntimeException() {
         GlobalExceptionHandler handler = new GlobalExceptionHandler();
@@ -2,7 +2,12 @@ package com.interviewnotes.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.interviewnotes.dto.CursorPage;
 import com.interviewnotes.service.InterviewService;
+import com.interviewnotes.service.DataExportService;
+import com.interviewnotes.service.ExportFormat;
+import com.interviewnotes.service.ResourceVersion;
+import com.interviewnotes.service.ResourceVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,11 +18,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -35,6 +43,12 @@ class InterviewControllerTest {
     @Mock
     private InterviewService interviewService;
 
+    @Mock
+    private DataExportService dataExportService;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
     @InjectMocks
     private InterviewController interviewController;
 
@@ -84,6 +98,35 @@ class InterviewControllerTest {
         verify(interviewService).getAllInterviews(any(Pageable.class));
     }
 
+    @Test
+    void getInterviewsByCursor_Success() throws Exception {
+        when(interviewService.getInterviewsByCursor(null, 20, Sort.Direction.DESC))
+                .thenReturn(new CursorPage<>(Arrays.asList(testInterviewDTO), "next-token"));
+
+        mockMvc.perform(get("/api/interviews/cursor"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(interviewService).getInterviewsByCursor(null, 20, Sort.Direction.DESC);
+    }
+
+    @Test
+    void getInterviewsByCursor_WithCursorAndAscending_Success() throws Exception {
+        when(interviewService.getInterviewsByCursor("abc", 10, Sort.Direction.ASC))
+                .thenReturn(new CursorPage<>(Arrays.asList(testInterviewDTO), null));
+
+        mockMvc.perform(get("/api/interviews/cursor")
+                .param("cursor", "abc")
+                .param("size", "10")
+                .param("sortDir", "asc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        verify(interviewService).getInterviewsByCursor("abc", 10, Sort.Direction.ASC);
+    }
+
     @Test
     void getAllInterviews_WithDefaultParams_Success() throws Exception {
         Page<InterviewController.InterviewDTO> interviewPage = new PageImpl<>(Arrays.asList(testInterviewDTO), PageRequest.of(0, 20), 1);
@@ -126,7 +169,9 @@ class InterviewControllerTest {
         when(interviewService.getInterviewById(1L)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/api/interviews/1"))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(header().doesNotExist("Last-Modified"));
 
         verify(interviewService).getInterviewById(1L);
     }
@@ -191,6 +236,32 @@ class InterviewControllerTest {
         verify(interviewService, never()).updateInterview(anyLong(), any(InterviewController.InterviewDTO.class));
     }
 
+    @Test
+    void updateInterviews_Success() throws Exception {
+        when(interviewService.updateInterviews(anyList())).thenReturn(List.of(testInterviewDTO));
+
+        mockMvc.perform(patch("/api/interviews/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"id\":1,\"status\":\"CANCELLED\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].candidateName").value("John Doe"));
+
+        verify(interviewService).updateInterviews(argThat(updates ->
+                updates.size() == 1 && updates.get(0).id == 1L && "CANCELLED".equals(updates.get(0).status)));
+    }
+
+    @Test
+    void updateInterviews_UnknownInterview_ReturnsBadRequest() throws Exception {
+        when(interviewService.updateInterviews(anyList()))
+                .thenThrow(new IllegalArgumentException("Interviews not found: [5]"));
+
+        mockMvc.perform(patch("/api/interviews/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"id\":5,\"status\":\"CANCELLED\"}]"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void deleteInterview_Success() throws Exception {
         when(interviewService.deleteInterview(1L)).thenReturn(true);
@@ -398,43 +469,86 @@ class InterviewControllerTest {
     }
 
     @Test
-    void toDTO_AllBranches() throws Exception {
-        InterviewController controller = new InterviewController();
-        java.lang.reflect.Method toDTOMethod = InterviewController.class.getDeclaredMethod("toDTO", com.interviewnotes.model.Interview.class);
-        toDTOMethod.setAccessible(true);
-        com.interviewnotes.model.Interview interview = new com.interviewnotes.model.Interview();
-        // All fields null
-        InterviewController.InterviewDTO dto = (InterviewController.InterviewDTO) toDTOMethod.invoke(controller, interview);
-        assertThat(dto).isNotNull();
-        // Candidate null
+    void projectionConstructor_AllBranches() {
+        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+        // Candidate and interviewer missing (outer joins)
+        InterviewController.InterviewDTO dto = new InterviewController.InterviewDTO(
+                1L, null, null, null, "Dev", "SCHEDULED", 60, now, null, null,
+                null, null, null, now, now);
         assertThat(dto.candidateId).isNull();
         assertThat(dto.candidateName).isNull();
-        // Interviewer null
         assertThat(dto.interviewerId).isNull();
         assertThat(dto.interviewerName).isNull();
-        // Set candidate with null names
-        com.interviewnotes.model.Candidate candidate = new com.interviewnotes.model.Candidate();
-        interview.setCandidate(candidate);
-        dto = (InterviewController.InterviewDTO) toDTOMethod.invoke(controller, interview);
-        assertThat(dto.candidateId).isNull();
+        assertThat(dto.position).isEqualTo("Dev");
+        assertThat(dto.duration).isEqualTo(60);
+        // Present but with null names
+        dto = new InterviewController.InterviewDTO(
+                1L, 1L, null, null, "Dev", "SCHEDULED", 60, now, null, null,
+                2L, null, null, now, now);
         assertThat(dto.candidateName).isEqualTo("null null");
-        // Set interviewer with null names
-        com.interviewnotes.model.User interviewer = new com.interviewnotes.model.User();
-        interview.setInterviewer(interviewer);
-        dto = (InterviewController.InterviewDTO) toDTOMethod.invoke(controller, interview);
-        assertThat(dto.interviewerId).isNull();
         assertThat(dto.interviewerName).isEqualTo("null null");
-        // Set candidate and interviewer with IDs and names
-        candidate.setId(1L);
-        candidate.setFirstName("A");
-        candidate.setLastName("B");
-        interviewer.setId(2L);
-        interviewer.setFirstName("X");
-        interviewer.setLastName("Y");
-        dto = (InterviewController.InterviewDTO) toDTOMethod.invoke(controller, interview);
+        // Present with names
+        dto = new InterviewController.InterviewDTO(
+                1L, 1L, "A", "B", "Dev", "COMPLETED", 45, now, new java.math.BigDecimal("8.5"), "notes",
+                2L, "X", "Y", now, now);
         assertThat(dto.candidateId).isEqualTo(1L);
         assertThat(dto.candidateName).isEqualTo("A B");
         assertThat(dto.interviewerId).isEqualTo(2L);
         assertThat(dto.interviewerName).isEqualTo("X Y");
+        assertThat(dto.overallScore).isEqualByComparingTo("8.5");
+        assertThat(dto.notes).isEqualTo("notes");
+    }
+
+    @Test
+    void exportInterviews_Csv() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(dataExportService).exportInterviews(eq(ExportFormat.CSV), any(OutputStream.class));
+
+        mockMvc.perform(get("/api/interviews/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"interviews.csv\""))
+                .andExpect(content().string("id\r\n1\r\n"));
+    }
+
+    @Test
+    void exportInterviews_Ndjson() throws Exception {
+        mockMvc.perform(get("/api/interviews/export").param("format", "NDJSON"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+
+        verify(dataExportService).exportInterviews(eq(ExportFormat.NDJSON), any(OutputStream.class));
+    }
+
+    @Test
+    void exportInterviews_UnsupportedFormat() throws Exception {
+        mockMvc.perform(get("/api/interviews/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(dataExportService);
+    }
+
+    @Test
+    void getAllInterviews_MatchingETag_ReturnsNotModified() throws Exception {
+        ResourceVersion version = new ResourceVersion("interviews", LocalDateTime.of(2024, 3, 1, 10, 15), false);
+        when(resourceVersions.interviews()).thenReturn(version);
+
+        mockMvc.perform(get("/api/interviews").header("If-None-Match", version.getETag()))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(interviewService);
+    }
+
+    @Test
+    void getInterviewById_NotModifiedSince_ReturnsNotModified() throws Exception {
+        ResourceVersion version = new ResourceVersion("interview:1", LocalDateTime.of(2024, 3, 1, 10, 15), true);
+        when(resourceVersions.interview(1L)).thenReturn(version);
+
+        mockMvc.perform(get("/api/interviews/1").header("If-Modified-Since", version.getLastModified()))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(interviewService);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.interviewnotes.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.model.User;
+import com.interviewnotes.service.CurrentUser;
+import com.interviewnotes.service.CurrentUserProvider;
+import com.interviewnotes.service.InterviewEvent;
+import com.interviewnotes.service.InterviewEventBroadcaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Streams events through a real broadcaster that fans out on the calling thread.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewEventControllerTest {
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    private InterviewEventBroadcaster broadcaster;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new InterviewEventBroadcaster(currentUserProvider, new ObjectMapper().findAndRegisterModules(),
+                Runnable::run, 60000);
+
+        InterviewEventController controller = new InterviewEventController();
+        ReflectionTestUtils.setField(controller, "interviewEventBroadcaster", broadcaster);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void subscribe_StreamsVisibleEventsOnly() throws Exception {
+        when(currentUserProvider.getCurrentUser()).thenReturn(
+                new CurrentUser(1L, "admin", User.UserRole.ADMIN),
+                new CurrentUser(8L, "bob", User.UserRole.INTERVIEWER));
+        MvcResult adminStream = mockMvc.perform(get("/api/interviews/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult otherStream = mockMvc.perform(get("/api/interviews/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        InterviewDTO interview = new InterviewDTO();
+        interview.id = 1L;
+        interview.interviewerId = 7L;
+        interview.status = "COMPLETED";
+        interview.scheduledDate = LocalDateTime.of(2024, 3, 5, 10, 0);
+        broadcaster.publish(InterviewEvent.updated(interview, null));
+
+        String adminContent = adminStream.getResponse().getContentAsString();
+        assertThat(adminStream.getResponse().getContentType()).startsWith("text/event-stream");
+        assertThat(adminContent).contains(":subscribed");
+        assertThat(adminContent).contains("event:interview_updated");
+        assertThat(adminContent).contains("\"type\":\"UPDATED\"", "\"interviewId\":1", "\"status\":\"COMPLETED\"");
+        assertThat(otherStream.getResponse().getContentAsString())
+                .contains(":subscribed")
+                .doesNotContain("interview_updated");
+    }
+
+    @Test
+    void subscribe_Reassigned_PreviousInterviewerGetsIdOnly() throws Exception {
+        when(currentUserProvider.getCurrentUser()).thenReturn(
+                new CurrentUser(7L, "jane", User.UserRole.INTERVIEWER),
+                new CurrentUser(8L, "bob", User.UserRole.INTERVIEWER));
+        MvcResult newStream = mockMvc.perform(get("/api/interviews/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult oldStream = mockMvc.perform(get("/api/interviews/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        InterviewDTO interview = new InterviewDTO();
+        interview.id = 1L;
+        interview.interviewerId = 7L;
+        interview.status = "COMPLETED";
+        interview.candidateName = "John Doe";
+        broadcaster.publish(InterviewEvent.updated(interview, 8L));
+
+        assertThat(newStream.getResponse().getContentAsString())
+                .contains("event:interview_updated", "\"status\":\"COMPLETED\"", "John Doe");
+        assertThat(oldStream.getResponse().getContentAsString())
+                .contains("event:interview_unassigned", "\"type\":\"UNASSIGNED\"", "\"interviewId\":1",
+                        "\"interview\":null")
+                .doesNotContain("interview_updated")
+                .doesNotContain("COMPLETED")
+                .doesNotContain("John Doe");
+    }
+
+    @Test
+    void heartbeat_ReachesEverySubscriber() throws Exception {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(8L, "bob", User.UserRole.INTERVIEWER));
+        MvcResult stream = mockMvc.perform(get("/api/interviews/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        broadcaster.heartbeat();
+
+        assertThat(stream.getResponse().getContentAsString()).contains(":heartbeat");
+    }
+
+    @Test
+    void subscribe_UnknownUser_BadRequest() throws Exception {
+        when(currentUserProvider.getCurrentUser()).thenReturn(null);
+
+        mockMvc.perform(get("/api/interviews/events"))
+                .andExpect(status().isBadRequest());
+    }
+}
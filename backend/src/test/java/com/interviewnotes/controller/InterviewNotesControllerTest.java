@@ -0,0 +1,144 @@
+package com.interviewnotes.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewnotes.dto.InterviewNotesDTO;
+import com.interviewnotes.dto.InterviewQuestionDTO;
+import com.interviewnotes.service.InterviewNotesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterviewNotesControllerTest {
+
+    @Mock
+    private InterviewNotesService interviewNotesService;
+
+    @InjectMocks
+    private InterviewNotesController interviewNotesController;
+
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(interviewNotesController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        objectMapper = new ObjectMapper();
+    }
+
+    @Test
+    void addNotes_Created() throws Exception {
+        InterviewNotesDTO created = new InterviewNotesDTO();
+        created.setId(10L);
+        created.setRecommendation("HIRE");
+        when(interviewNotesService.addNotes(eq(1L), any(InterviewNotesDTO.class))).thenReturn(Optional.of(created));
+
+        InterviewNotesDTO request = new InterviewNotesDTO();
+        request.setOverallScore(new BigDecimal("8.0"));
+        request.setRecommendation("HIRE");
+
+        mockMvc.perform(post("/api/interviews/1/notes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(10))
+                .andExpect(jsonPath("$.recommendation").value("HIRE"));
+    }
+
+    @Test
+    void addNotes_InvalidRecommendation_BadRequest() throws Exception {
+        InterviewNotesDTO request = new InterviewNotesDTO();
+        request.setRecommendation("MAYBE");
+
+        mockMvc.perform(post("/api/interviews/1/notes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(interviewNotesService);
+    }
+
+    @Test
+    void addNotes_InterviewNotFound() throws Exception {
+        when(interviewNotesService.addNotes(eq(99L), any(InterviewNotesDTO.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/interviews/99/notes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void updateNotes_Ok() throws Exception {
+        InterviewNotesDTO updated = new InterviewNotesDTO();
+        updated.setId(10L);
+        updated.setFeedback("Great");
+        when(interviewNotesService.updateNotes(eq(1L), eq(10L), any(InterviewNotesDTO.class))).thenReturn(Optional.of(updated));
+
+        mockMvc.perform(put("/api/interviews/1/notes/10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"feedback\":\"Great\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.feedback").value("Great"));
+    }
+
+    @Test
+    void updateNotes_NotFound() throws Exception {
+        when(interviewNotesService.updateNotes(eq(1L), eq(10L), any(InterviewNotesDTO.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(put("/api/interviews/1/notes/10")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void addQuestion_Created() throws Exception {
+        InterviewQuestionDTO created = new InterviewQuestionDTO();
+        created.setId(5L);
+        created.setQuestion("Design a cache");
+        when(interviewNotesService.addQuestion(eq(1L), eq(10L), any(InterviewQuestionDTO.class))).thenReturn(Optional.of(created));
+
+        mockMvc.perform(post("/api/interviews/1/notes/10/questions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"question\":\"Design a cache\",\"score\":8}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(5));
+    }
+
+    @Test
+    void addQuestion_ScoreOutOfRange_BadRequest() throws Exception {
+        mockMvc.perform(post("/api/interviews/1/notes/10/questions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"question\":\"Design a cache\",\"score\":11}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(interviewNotesService);
+    }
+
+    @Test
+    void addQuestion_NotFound() throws Exception {
+        when(interviewNotesService.addQuestion(eq(1L), eq(10L), any(InterviewQuestionDTO.class))).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/interviews/1/notes/10/questions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"question\":\"Design a cache\"}"))
+                .andExpect(status().isNotFound());
+    }
+}
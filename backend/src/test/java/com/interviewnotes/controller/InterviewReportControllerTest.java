@@ -0,0 +1,150 @@
+package com.interviewnotes.controller;
+
+import com.interviewnotes.dto.ReportPreviewDTO;
+import com.interviewnotes.model.InterviewSummary;
+import com.interviewnotes.service.InterviewReportService;
+import com.interviewnotes.service.InterviewSummaryService;
+import com.interviewnotes.service.ReportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class InterviewReportControllerTest {
+
+    @Mock
+    private InterviewReportService interviewReportService;
+
+    @Mock
+    private InterviewSummaryService interviewSummaryService;
+
+    @InjectMocks
+    private InterviewReportController interviewReportController;
+
+    @TempDir
+    Path tempDir;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(interviewReportController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getReport_Pdf_StreamsFile() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("report.pdf"), "%PDF-1.7 test");
+        when(interviewReportService.getReport(1L, ReportFormat.PDF, true, true))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(file)));
+
+        MvcResult result = mockMvc.perform(get("/api/interviews/1/report"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/pdf"))
+                .andExpect(header().string("Content-Disposition", "inline; filename=\"interview-1-report.pdf\""))
+                .andExpect(content().string("%PDF-1.7 test"));
+    }
+
+    @Test
+    void getReport_HtmlWithoutScores_PassesOptions() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("report.html"), "<html></html>");
+        when(interviewReportService.getReport(1L, ReportFormat.HTML, true, false))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(file)));
+
+        MvcResult result = mockMvc.perform(get("/api/interviews/1/report")
+                        .param("format", "HTML")
+                        .param("includeScores", "false"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/html;charset=UTF-8"))
+                .andExpect(content().string("<html></html>"));
+    }
+
+    @Test
+    void getReport_NotFound() throws Exception {
+        when(interviewReportService.getReport(99L, ReportFormat.PDF, true, true))
+                .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+        MvcResult result = mockMvc.perform(get("/api/interviews/99/report")).andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getReport_UnsupportedFormat_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/interviews/1/report").param("format", "docx"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(interviewReportService);
+    }
+
+    @Test
+    void getReport_PoolSaturated_ServiceUnavailable() throws Exception {
+        when(interviewReportService.getReport(anyLong(), any(), anyBoolean(), anyBoolean()))
+                .thenThrow(new TaskRejectedException("queue full"));
+
+        mockMvc.perform(get("/api/interviews/1/report"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+    }
+
+    @Test
+    void getReportPreview_Found() throws Exception {
+        InterviewSummary summary = new InterviewSummary(1L);
+        summary.setCandidateName("John Doe");
+        summary.setStatus("COMPLETED");
+        summary.setInterviewerName("Jane Smith");
+        InterviewSummary.Round round = new InterviewSummary.Round(10L);
+        round.setRoundType("TECHNICAL_ROUND_1");
+        round.setNotesScore(new BigDecimal("8.5"));
+        round.setRecommendation("STRONG_HIRE");
+        summary.putRound(round);
+        when(interviewSummaryService.getPreview(1L)).thenReturn(Optional.of(new ReportPreviewDTO(summary)));
+
+        mockMvc.perform(get("/api/interviews/1/report/preview"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.candidate.name").value("John Doe"))
+                .andExpect(jsonPath("$.interview.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.rounds[0].roundType").value("TECHNICAL_ROUND_1"))
+                .andExpect(jsonPath("$.rounds[0].score").value(8.5))
+                .andExpect(jsonPath("$.rounds[0].interviewer").value("Jane Smith"))
+                .andExpect(jsonPath("$.summary.totalRounds").value(1))
+                .andExpect(jsonPath("$.summary.averageScore").value(8.5))
+                .andExpect(jsonPath("$.summary.finalRecommendation").value("STRONG_HIRE"));
+    }
+
+    @Test
+    void getReportPreview_NotFound() throws Exception {
+        when(interviewSummaryService.getPreview(99L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/interviews/99/report/preview"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -4,6 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.interviewnotes.model.User;
 import com.interviewnotes.repository.UserRepository;
+import com.interviewnotes.service.InterviewSummaryService;
+import com.interviewnotes.service.ResourceVersion;
+import com.interviewnotes.service.ResourceVersions;
+import com.interviewnotes.service.UserAvailability;
+import com.interviewnotes.service.UserDetailsCache;
+import com.interviewnotes.service.UserSecurityEpochs;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,6 +37,21 @@ class UserControllerTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private InterviewSummaryService interviewSummaryService;
+
+    @Mock
+    private UserSecurityEpochs userSecurityEpochs;
+
+    @Mock
+    private ResourceVersions resourceVersions;
+
+    @Mock
+    private UserAvailability userAvailability;
+
     @InjectMocks
     private UserController userController;
 
@@ -186,6 +207,8 @@ class UserControllerTest {
 
         verify(userRepository).findById(1L);
         verify(userRepository).save(any(User.class));
+        verify(userDetailsCache).evict("testuser");
+        verify(interviewSummaryService).interviewerUpdated(testUser);
     }
 
     @Test
@@ -268,6 +291,7 @@ class UserControllerTest {
 
         verify(userRepository).findById(1L);
         verify(userRepository).save(any(User.class));
+        verifyNoInteractions(interviewSummaryService);
     }
 
     @Test
@@ -285,6 +309,9 @@ class UserControllerTest {
 
         verify(userRepository).findById(1L);
         verify(userRepository).save(any(User.class));
+        assertEquals(1, testUser.getSecurityEpoch());
+        verify(userSecurityEpochs).update(testUser);
+        verify(userAvailability).add(testUser);
     }
 
     @Test
@@ -332,6 +359,19 @@ class UserControllerTest {
                 .andExpect(status().isOk());
 
         verify(userRepository).deleteById(999L);
+        verify(userDetailsCache, never()).evict(any());
+    }
+
+    @Test
+    void deleteUser_ExistingUser_EvictsCachedUserDetails() throws Exception {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        mockMvc.perform(delete("/api/users/1"))
+                .andExpect(status().isOk());
+
+        verify(userDetailsCache).evict("testuser");
+        verify(userRepository).deleteById(1L);
+        verify(userSecurityEpochs).revoke(1L);
     }
 
     @Test
@@ -385,4 +425,28 @@ class UserControllerTest {
         assertNull(dto.createdAt);
         assertNull(dto.updatedAt);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getUserById_MatchingETag_ReturnsNotModified() throws Exception {
+        ResourceVersion version = new ResourceVersion("user:1", LocalDateTime.of(2024, 3, 1, 10, 15), true);
+        when(resourceVersions.user(1L)).thenReturn(version);
+
+        mockMvc.perform(get("/api/users/1").header("If-None-Match", version.getETag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void getUsers_AddsETag() throws Exception {
+        ResourceVersion version = new ResourceVersion("users|1", LocalDateTime.of(2024, 3, 1, 10, 15), false);
+        when(resourceVersions.users()).thenReturn(version);
+        when(userRepository.findAll()).thenReturn(List.of(testUser));
+
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", version.getETag()))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+}
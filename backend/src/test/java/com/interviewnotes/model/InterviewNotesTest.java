@@ -12,6 +12,8 @@ class InterviewNotesTest {
     void testGettersAndSetters() {
         InterviewNotes notes = new InterviewNotes();
         notes.setId(1L);
+        Interview interview = new Interview();
+        notes.setInterview(interview);
         notes.setTechnicalNotes("Tech");
         notes.setCodingNotes("Code");
         notes.setCommunicationNotes("Comm");
@@ -24,6 +26,7 @@ class InterviewNotesTest {
         List<InterviewQuestion> questions = new ArrayList<>();
         notes.setQuestions(questions);
         assertThat(notes.getId()).isEqualTo(1L);
+        assertThat(notes.getInterview()).isSameAs(interview);
         assertThat(notes.getTechnicalNotes()).isEqualTo("Tech");
         assertThat(notes.getCodingNotes()).isEqualTo("Code");
         assertThat(notes.getCommunicationNotes()).isEqualTo("Comm");
@@ -0,0 +1,113 @@
+package com.interviewnotes.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InterviewSummaryTest {
+
+    @Test
+    void testEmptySummary() {
+        InterviewSummary summary = new InterviewSummary(1L);
+        summary.recalculate();
+        assertThat(summary.getInterviewId()).isEqualTo(1L);
+        assertThat(summary.getTotalRounds()).isZero();
+        assertThat(summary.getAverageScore()).isNull();
+        assertThat(summary.getFinalRecommendation()).isNull();
+    }
+
+    @Test
+    void testPutRound_ComputesAverageAndFinalRecommendation() {
+        InterviewSummary summary = new InterviewSummary(1L);
+        summary.putRound(round(1L, "8.5", "STRONG_HIRE"));
+        summary.putRound(round(2L, "8.0", "HIRE"));
+
+        assertThat(summary.getTotalRounds()).isEqualTo(2);
+        assertThat(summary.getAverageScore()).isEqualByComparingTo("8.25");
+        // half way between HIRE and STRONG_HIRE rounds up
+        assertThat(summary.getFinalRecommendation()).isEqualTo("STRONG_HIRE");
+    }
+
+    @Test
+    void testPutRound_ReplacesRoundOfSameNotes() {
+        InterviewSummary summary = new InterviewSummary(1L);
+        summary.putRound(round(1L, "4.0", "NO_HIRE"));
+        summary.putRound(round(2L, "7.0", "HIRE"));
+        List<InterviewSummary.Round> before = summary.getRounds();
+        summary.putRound(round(1L, "9.0", "HIRE"));
+
+        assertThat(summary.getRounds()).isNotSameAs(before);
+        assertThat(summary.getRounds()).extracting(InterviewSummary.Round::getNotesId).containsExactly(1L, 2L);
+        assertThat(summary.getTotalRounds()).isEqualTo(2);
+        assertThat(summary.getAverageScore()).isEqualByComparingTo("8.00");
+        assertThat(summary.getFinalRecommendation()).isEqualTo("HIRE");
+    }
+
+    @Test
+    void testRecalculate_SkipsMissingScoresAndUnknownRecommendations() {
+        InterviewSummary summary = new InterviewSummary(1L);
+        summary.setRounds(List.of(round(1L, null, "HIRE"), round(2L, "6.0", null), round(3L, "7.0", "MAYBE"),
+                round(4L, null, "NO_HIRE")));
+
+        assertThat(summary.getTotalRounds()).isEqualTo(4);
+        assertThat(summary.getAverageScore()).isEqualByComparingTo("6.50");
+        assertThat(summary.getFinalRecommendation()).isEqualTo("WEAK_HIRE");
+    }
+
+    @Test
+    void testRound_FallsBackToQuestionScores() {
+        InterviewSummary.Round round = new InterviewSummary.Round(1L);
+        assertThat(round.getScore()).isNull();
+
+        round.addQuestionScore(7);
+        round.addQuestionScore(null);
+        round.addQuestionScore(8);
+        assertThat(round.getScore()).isEqualByComparingTo("7.5");
+
+        round.setNotesScore(new BigDecimal("9.0"));
+        assertThat(round.getScore()).isEqualByComparingTo("9.0");
+    }
+
+    @Test
+    void testFindRound() {
+        InterviewSummary summary = new InterviewSummary(1L);
+        summary.putRound(round(5L, "8.0", "HIRE"));
+        assertThat(summary.findRound(5L).getRecommendation()).isEqualTo("HIRE");
+        assertThat(summary.findRound(6L)).isNull();
+    }
+
+    @Test
+    void testRoundsConverter_RoundTrip() {
+        InterviewSummary.RoundsConverter converter = new InterviewSummary.RoundsConverter();
+        InterviewSummary.Round round = round(1L, "8.5", "HIRE");
+        round.setRoundType("BEHAVIORAL_ROUND");
+        round.addQuestionScore(6);
+
+        String json = converter.convertToDatabaseColumn(List.of(round));
+
+        assertThat(json).doesNotContain("\"score\"");
+        assertThat(converter.convertToEntityAttribute(json)).containsExactly(round);
+        assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+        assertThat(converter.convertToDatabaseColumn(null)).isEqualTo("[]");
+    }
+
+    @Test
+    void testEquals() {
+        InterviewSummary a = new InterviewSummary(1L);
+        InterviewSummary b = new InterviewSummary(1L);
+        assertThat(a).isEqualTo(b);
+        assertThat(a).isNotEqualTo(new InterviewSummary(2L));
+        assertThat(new InterviewSummary()).isNotEqualTo(new InterviewSummary());
+        assertThat(a.toString()).contains("interviewId=1");
+    }
+
+    private static InterviewSummary.Round round(Long notesId, String score, String recommendation) {
+        InterviewSummary.Round round = new InterviewSummary.Round(notesId);
+        round.setNotesScore(score != null ? new BigDecimal(score) : null);
+        round.setRecommendation(recommendation);
+        return round;
+    }
+}
@@ -119,6 +119,30 @@ class UserTest {
         assertTrue(user.isEnabled());
     }
 
+    @Test
+    void testSecurityEpoch_BumpedWhenSavedUserIsDisabledOrChangesRole() {
+        // New users keep epoch 0 however they are set up
+        user.setRole(User.UserRole.ADMIN);
+        user.setEnabled(false);
+        user.setEnabled(true);
+        assertEquals(0, user.getSecurityEpoch());
+
+        user.setId(1L);
+        user.setRole(User.UserRole.ADMIN);
+        user.setEnabled(true);
+        assertEquals(0, user.getSecurityEpoch());
+
+        user.setRole(User.UserRole.INTERVIEWER);
+        assertEquals(1, user.getSecurityEpoch());
+
+        user.setEnabled(false);
+        user.setEnabled(false);
+        assertEquals(2, user.getSecurityEpoch());
+
+        user.setEnabled(true);
+        assertEquals(2, user.getSecurityEpoch());
+    }
+
     @Test
     void testCreatedAtGetterAndSetter() {
         user.setCreatedAt(testDateTime);
@@ -0,0 +1,49 @@
+package com.interviewnotes.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for AnalyticsPeriod.
+ */
+class AnalyticsPeriodTest {
+
+    // a Thursday
+    private static final LocalDate DAY = LocalDate.of(2024, 8, 15);
+
+    @Test
+    void week_StartsOnMonday() {
+        assertEquals(LocalDate.of(2024, 8, 12), AnalyticsPeriod.WEEK.start(DAY));
+        assertEquals(LocalDate.of(2024, 8, 18), AnalyticsPeriod.WEEK.end(DAY));
+    }
+
+    @Test
+    void month_CoversCalendarMonth() {
+        assertEquals(LocalDate.of(2024, 8, 1), AnalyticsPeriod.MONTH.start(DAY));
+        assertEquals(LocalDate.of(2024, 8, 31), AnalyticsPeriod.MONTH.end(DAY));
+        assertEquals(LocalDate.of(2024, 2, 29), AnalyticsPeriod.MONTH.end(LocalDate.of(2024, 2, 10)));
+    }
+
+    @Test
+    void quarter_CoversCalendarQuarter() {
+        assertEquals(LocalDate.of(2024, 7, 1), AnalyticsPeriod.QUARTER.start(DAY));
+        assertEquals(LocalDate.of(2024, 9, 30), AnalyticsPeriod.QUARTER.end(DAY));
+        assertEquals(LocalDate.of(2024, 1, 1), AnalyticsPeriod.QUARTER.start(LocalDate.of(2024, 3, 31)));
+    }
+
+    @Test
+    void year_CoversCalendarYear() {
+        assertEquals(LocalDate.of(2024, 1, 1), AnalyticsPeriod.YEAR.start(DAY));
+        assertEquals(LocalDate.of(2024, 12, 31), AnalyticsPeriod.YEAR.end(DAY));
+    }
+
+    @Test
+    void fromName_IgnoresCase() {
+        assertEquals(AnalyticsPeriod.QUARTER, AnalyticsPeriod.fromName("Quarter"));
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> AnalyticsPeriod.fromName("decade"));
+        assertEquals("Unsupported period: decade", exception.getMessage());
+    }
+}
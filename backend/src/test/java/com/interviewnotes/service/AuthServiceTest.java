@@ -6,19 +6,23 @@ import com.interviewnotes.dto.RegisterRequest;
 import com.interviewnotes.model.User;
 import com.interviewnotes.repository.UserRepository;
 import com.interviewnotes.util.JwtUtils;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,7 +37,7 @@ import static org.mockito.Mockito.*;
 class AuthServiceTest {
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private PasswordVerifier passwordVerifier;
 
     @Mock
     private UserRepository userRepository;
@@ -44,6 +48,15 @@ class AuthServiceTest {
     @Mock
     private JwtUtils jwtUtils;
 
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
+    @Mock
+    private UserSecurityEpochs userSecurityEpochs;
+
+    @Mock
+    private UserAvailability userAvailability;
+
     @Mock
     private Authentication authentication;
 
@@ -83,16 +96,18 @@ class AuthServiceTest {
         // Only use lenient stubbing for securityContext.getAuthentication()
         lenient().when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
+
+        ReflectionTestUtils.setField(authService, "currentUserProvider", new CurrentUserProvider(userRepository));
     }
 
     @Test
     void testAuthenticateUser_Success() {
         // Arrange
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(userRepository.findByUsername("testuser"))
+        when(userRepository.findByUsernameAndEnabled("testuser", true))
                 .thenReturn(Optional.of(testUser));
-        when(jwtUtils.generateJwtToken(authentication))
+        when(passwordVerifier.verify("password123", "encodedPassword"))
+                .thenReturn(PasswordVerifier.Verification.MATCH);
+        when(jwtUtils.generateJwtToken(any(Authentication.class)))
                 .thenReturn("jwt-token");
 
         // Act
@@ -108,56 +123,82 @@ class AuthServiceTest {
         assertEquals(testUser.getLastName(), response.getLastName());
         assertEquals(testUser.getRole().name(), response.getRole());
         
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository).findByUsername("testuser");
-        verify(jwtUtils).generateJwtToken(authentication);
-        verify(securityContext).setAuthentication(authentication);
+        ArgumentCaptor<Authentication> authenticated = ArgumentCaptor.forClass(Authentication.class);
+        verify(jwtUtils).generateJwtToken(authenticated.capture());
+        UserPrincipal principal = (UserPrincipal) authenticated.getValue().getPrincipal();
+        assertEquals(1L, principal.getId());
+        assertEquals("testuser", principal.getUsername());
+        assertTrue(authenticated.getValue().isAuthenticated());
+        verify(securityContext).setAuthentication(authenticated.getValue());
+        verify(userRepository, times(1)).findByUsernameAndEnabled("testuser", true);
+        verify(userRepository, never()).findByUsername(any());
+        verify(userRepository, never()).save(any());
+        verify(userSecurityEpochs).update(testUser);
+    }
+
+    @Test
+    void testAuthenticateUser_DifferentCost_RehashesPassword() {
+        // Arrange
+        when(userRepository.findByUsernameAndEnabled("testuser", true))
+                .thenReturn(Optional.of(testUser));
+        when(passwordVerifier.verify("password123", "encodedPassword"))
+                .thenReturn(new PasswordVerifier.Verification(true, "rehashedPassword"));
+        when(userRepository.save(testUser)).thenReturn(testUser);
+        when(jwtUtils.generateJwtToken(any(Authentication.class))).thenReturn("jwt-token");
+
+        // Act
+        AuthResponse response = authService.authenticateUser(authRequest);
+
+        // Assert
+        assertEquals("jwt-token", response.getToken());
+        assertEquals("rehashedPassword", testUser.getPassword());
+        verify(userRepository).save(testUser);
+        verify(userDetailsCache).evict("testuser");
     }
 
     @Test
     void testAuthenticateUser_UserNotFound() {
         // Arrange
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(authentication);
-        when(userRepository.findByUsername("testuser"))
+        when(userRepository.findByUsernameAndEnabled("testuser", true))
                 .thenReturn(Optional.empty());
-        when(jwtUtils.generateJwtToken(authentication)).thenReturn("jwt-token");
+        when(passwordVerifier.verify("password123", null))
+                .thenReturn(PasswordVerifier.Verification.MISMATCH);
 
         // Act & Assert
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+        BadCredentialsException exception = assertThrows(BadCredentialsException.class, () -> {
             authService.authenticateUser(authRequest);
         });
         
-        assertEquals("User not found", exception.getMessage());
+        assertEquals("Bad credentials", exception.getMessage());
         
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository).findByUsername("testuser");
+        verify(passwordVerifier).verify("password123", null);
+        verify(jwtUtils, never()).generateJwtToken(any());
     }
 
     @Test
     void testAuthenticateUser_AuthenticationFailure() {
         // Arrange
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenThrow(new RuntimeException("Invalid credentials"));
+        when(userRepository.findByUsernameAndEnabled("testuser", true))
+                .thenReturn(Optional.of(testUser));
+        when(passwordVerifier.verify("password123", "encodedPassword"))
+                .thenReturn(PasswordVerifier.Verification.MISMATCH);
 
         // Act & Assert
-        assertThrows(RuntimeException.class, () -> {
+        assertThrows(BadCredentialsException.class, () -> {
             authService.authenticateUser(authRequest);
         });
         
-        verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verify(userRepository, never()).findByUsername(any());
         verify(jwtUtils, never()).generateJwtToken(any());
+        verify(securityContext, never()).setAuthentication(any());
+        verify(userRepository, never()).save(any());
     }
 
     @Test
     void testRegisterUser_Success() {
         // Arrange
-        when(userRepository.existsByUsername("newuser")).thenReturn(false);
-        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtUtils.generateTokenFromUsername("newuser")).thenReturn("jwt-token");
+        when(jwtUtils.generateToken(any(UserPrincipal.class))).thenReturn("jwt-token");
 
         // Act
         AuthResponse response = authService.registerUser(registerRequest);
@@ -172,17 +213,23 @@ class AuthServiceTest {
         assertEquals(testUser.getLastName(), response.getLastName());
         assertEquals(testUser.getRole().name(), response.getRole());
         
-        verify(userRepository).existsByUsername("newuser");
-        verify(userRepository).existsByEmail("new@example.com");
+        verify(userRepository, never()).existsByUsername(any());
+        verify(userRepository, never()).existsByEmail(any());
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(any(User.class));
-        verify(jwtUtils).generateTokenFromUsername("newuser");
+        verify(jwtUtils).generateToken(argThat(principal -> principal.getId().equals(1L)
+                && principal.getRole() == User.UserRole.INTERVIEWER));
+        verify(userDetailsCache).evict("newuser");
+        verify(userSecurityEpochs).update(testUser);
+        verify(userAvailability).add(testUser);
     }
 
     @Test
     void testRegisterUser_UsernameAlreadyExists() {
         // Arrange
-        when(userRepository.existsByUsername("newuser")).thenReturn(true);
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class)))
+                .thenThrow(duplicate("\"PUBLIC.USERS_USERNAME_KEY_INDEX_4 ON PUBLIC.USERS(USERNAME)\""));
 
         // Act & Assert
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -191,15 +238,34 @@ class AuthServiceTest {
         
         assertEquals("Username is already taken!", exception.getMessage());
         
-        verify(userRepository).existsByUsername("newuser");
+        verify(userRepository, never()).existsByUsername(any());
         verify(userRepository, never()).existsByEmail(any());
-        verify(passwordEncoder, never()).encode(any());
-        verify(userRepository, never()).save(any());
+        verify(jwtUtils, never()).generateToken(any(UserPrincipal.class));
+        verify(userAvailability, never()).add(any());
     }
 
     @Test
     void testRegisterUser_EmailAlreadyExists() {
         // Arrange
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(duplicate("users_email_key"));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            authService.registerUser(registerRequest);
+        });
+        
+        assertEquals("Email is already in use!", exception.getMessage());
+        
+        verify(userRepository, never()).existsByUsername(any());
+        verify(userRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    void testRegisterUser_UnknownConstraint_LooksUpDuplicate() {
+        // Arrange
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(duplicate(null));
         when(userRepository.existsByUsername("newuser")).thenReturn(false);
         when(userRepository.existsByEmail("new@example.com")).thenReturn(true);
 
@@ -209,25 +275,31 @@ class AuthServiceTest {
         });
         
         assertEquals("Email is already in use!", exception.getMessage());
-        
-        verify(userRepository).existsByUsername("newuser");
-        verify(userRepository).existsByEmail("new@example.com");
-        verify(passwordEncoder, never()).encode(any());
-        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void testRegisterUser_OtherIntegrityViolation_Rethrown() {
+        // Arrange
+        DataIntegrityViolationException violation = duplicate("users_role_check");
+        when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+        when(userRepository.save(any(User.class))).thenThrow(violation);
+
+        // Act & Assert
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> {
+            authService.registerUser(registerRequest);
+        }));
     }
 
     @Test
     void testRegisterUser_VerifyUserCreation() {
         // Arrange
-        when(userRepository.existsByUsername("newuser")).thenReturn(false);
-        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
             User savedUser = invocation.getArgument(0);
             savedUser.setId(1L);
             return savedUser;
         });
-        when(jwtUtils.generateTokenFromUsername("newuser")).thenReturn("jwt-token");
+        when(jwtUtils.generateToken(any(UserPrincipal.class))).thenReturn("jwt-token");
 
         // Act
         AuthResponse response = authService.registerUser(registerRequest);
@@ -248,9 +320,12 @@ class AuthServiceTest {
     @Test
     void testGetCurrentUser_Success() {
         // Arrange
+        when(authentication.isAuthenticated()).thenReturn(true);
         when(authentication.getName()).thenReturn("testuser");
         when(userRepository.findByUsername("testuser"))
                 .thenReturn(Optional.of(testUser));
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(testUser));
 
         // Act
         User currentUser = authService.getCurrentUser();
@@ -261,11 +336,30 @@ class AuthServiceTest {
         
         verify(authentication).getName();
         verify(userRepository).findByUsername("testuser");
+        verify(userRepository).findById(1L);
+    }
+
+    @Test
+    void testGetCurrentUser_WithUserPrincipal_SkipsUsernameLookup() {
+        // Arrange
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getPrincipal())
+                .thenReturn(new UserPrincipal(1L, "testuser", "encodedPassword", User.UserRole.INTERVIEWER));
+        when(userRepository.findById(1L))
+                .thenReturn(Optional.of(testUser));
+
+        // Act
+        User currentUser = authService.getCurrentUser();
+
+        // Assert
+        assertEquals(testUser, currentUser);
+        verify(userRepository, never()).findByUsername(any());
     }
 
     @Test
     void testGetCurrentUser_UserNotFound() {
         // Arrange
+        when(authentication.isAuthenticated()).thenReturn(true);
         when(authentication.getName()).thenReturn("testuser");
         when(userRepository.findByUsername("testuser"))
                 .thenReturn(Optional.empty());
@@ -287,10 +381,11 @@ class AuthServiceTest {
         when(securityContext.getAuthentication()).thenReturn(null);
 
         // Act & Assert
-        assertThrows(NullPointerException.class, () -> {
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             authService.getCurrentUser();
         });
         
+        assertEquals("User not found", exception.getMessage());
         verify(securityContext).getAuthentication();
         verify(userRepository, never()).findByUsername(any());
     }
@@ -301,11 +396,9 @@ class AuthServiceTest {
         registerRequest.setFirstName(null);
         registerRequest.setLastName(null);
         
-        when(userRepository.existsByUsername("newuser")).thenReturn(false);
-        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtUtils.generateTokenFromUsername("newuser")).thenReturn("jwt-token");
+        when(jwtUtils.generateToken(any(UserPrincipal.class))).thenReturn("jwt-token");
 
         // Act
         AuthResponse response = authService.registerUser(registerRequest);
@@ -325,11 +418,9 @@ class AuthServiceTest {
         registerRequest.setFirstName("");
         registerRequest.setLastName("");
         
-        when(userRepository.existsByUsername("newuser")).thenReturn(false);
-        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
         when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtUtils.generateTokenFromUsername("newuser")).thenReturn("jwt-token");
+        when(jwtUtils.generateToken(any(UserPrincipal.class))).thenReturn("jwt-token");
 
         // Act
         AuthResponse response = authService.registerUser(registerRequest);
@@ -342,4 +433,10 @@ class AuthServiceTest {
             return true;
         }));
     }
-} 
\ No newline at end of file
+
+    private static DataIntegrityViolationException duplicate(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("Unique index or primary key violation", "23505"), constraintName));
+    }
+}
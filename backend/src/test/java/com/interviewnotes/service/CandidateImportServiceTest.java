@@ -0,0 +1,232 @@
+package com.interviewnotes.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.repository.CandidateRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandidateImportServiceTest {
+
+    private static Validator validator;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private CandidateSearchIndex candidateSearchIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CandidateImportService candidateImportService;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @BeforeEach
+    void setUp() {
+        candidateImportService = service(2, 100);
+    }
+
+    private CandidateImportService service(int chunkSize, int maxErrors) {
+        return new CandidateImportService(candidateRepository, candidateSearchIndex, entityManager,
+                transactionManager, new ObjectMapper(), validator, chunkSize, maxErrors);
+    }
+
+    @Test
+    void importCsv_SavesRowsInChunks() throws IOException {
+        when(candidateRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        String csv = "first_name,Last_Name,email,position,experience\n"
+                + "John,Doe,john@example.com,Developer,5\n"
+                + "Jane,Roe,jane@example.com,\"Tester, QA\",\n"
+                + "\n"
+                + "Max,Moe,max@example.com,Designer,2\n";
+
+        CandidateImportService.ImportResult result = candidateImportService.importCsv(new StringReader(csv));
+
+        assertEquals(3, result.getTotalRows());
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertTrue(result.getErrors().isEmpty());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Candidate>> saved = ArgumentCaptor.forClass(List.class);
+        verify(candidateRepository, times(2)).findExistingEmails(anyCollection());
+        verify(candidateRepository, times(2)).saveAll(saved.capture());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(candidateSearchIndex, times(3)).index(any(Candidate.class));
+
+        assertThat(saved.getAllValues().get(0)).extracting(Candidate::getEmail)
+                .containsExactly("john@example.com", "jane@example.com");
+        Candidate jane = saved.getAllValues().get(0).get(1);
+        assertEquals("Tester, QA", jane.getPosition());
+        assertNull(jane.getExperience());
+        assertEquals("ACTIVE", jane.getStatus());
+        assertEquals(5, saved.getAllValues().get(0).get(0).getExperience());
+        assertThat(saved.getAllValues().get(1)).extracting(Candidate::getEmail).containsExactly("max@example.com");
+    }
+
+    @Test
+    void importCsv_ReportsInvalidAndDuplicateRows() throws IOException {
+        when(candidateRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("taken@example.com"));
+        String csv = "firstName,lastName,email,position,experience\n"
+                + "John,Doe,taken@example.com,Developer,5\n"
+                + "Jane,Roe,jane@example.com,Tester,\n"
+                + "Jane,Roe,jane@example.com,Tester,\n"
+                + ",Moe,not-an-email,Designer,\n"
+                + "Max,Moe,max@example.com,Designer,lots\n";
+
+        CandidateImportService.ImportResult result = service(10, 100).importCsv(new StringReader(csv));
+
+        assertEquals(5, result.getTotalRows());
+        assertEquals(1, result.getImported());
+        assertEquals(4, result.getFailed());
+        assertThat(result.getErrors()).extracting(CandidateImportService.RowError::getRow)
+                .containsExactlyInAnyOrder(2, 4, 5, 6);
+        assertThat(result.getErrors()).extracting(CandidateImportService.RowError::getMessage).contains(
+                "Candidate with email taken@example.com already exists",
+                "Candidate with email jane@example.com already exists",
+                "Email should be valid; First name is required",
+                "Experience must be a whole number");
+        verify(candidateRepository).saveAll(argThat(candidates -> candidates instanceof List<?> list && list.size() == 1));
+    }
+
+    @Test
+    void importCsv_UnterminatedQuote_StopsAndKeepsSavedRows() throws IOException {
+        when(candidateRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        String csv = "firstName,lastName,email,position\n"
+                + "John,Doe,john@example.com,Developer\n"
+                + "Jane,Roe,jane@example.com,Tester\n"
+                + "Max,Moe,max@example.com,\"Designer\n"
+                + "Ann,Loe,ann@example.com,QA\n";
+
+        CandidateImportService.ImportResult result = candidateImportService.importCsv(new StringReader(csv));
+
+        assertEquals(3, result.getTotalRows());
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(4, result.getErrors().get(0).getRow());
+        assertEquals("Malformed CSV: Unterminated quoted field starting on line 4",
+                result.getErrors().get(0).getMessage());
+        verify(candidateRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void importCsv_UnknownColumn() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> candidateImportService.importCsv(new StringReader("firstName,salary\nJohn,100\n")));
+
+        assertEquals("Unknown CSV column: salary", e.getMessage());
+        verifyNoInteractions(candidateRepository);
+    }
+
+    @Test
+    void importCsv_Empty() throws IOException {
+        CandidateImportService.ImportResult result = candidateImportService.importCsv(new StringReader(""));
+
+        assertEquals(0, result.getTotalRows());
+        verifyNoInteractions(candidateRepository);
+    }
+
+    @Test
+    void importJson_ArrayAndNewlineDelimited() throws IOException {
+        when(candidateRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        String array = "[{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"john@example.com\",\"position\":\"Dev\"},"
+                + "{\"firstName\":\"Jane\",\"lastName\":\"Roe\",\"email\":\"jane@example.com\",\"position\":\"QA\"}]";
+        String lines = "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"john@example.com\",\"position\":\"Dev\"}\n"
+                + "{\"firstName\":\"Jane\",\"lastName\":\"Roe\",\"email\":\"jane@example.com\",\"position\":\"QA\"}\n";
+
+        assertEquals(2, candidateImportService.importJson(json(array)).getImported());
+        assertEquals(2, candidateImportService.importJson(json(lines)).getImported());
+        verify(candidateSearchIndex, times(4)).index(any(Candidate.class));
+    }
+
+    @Test
+    void importJson_SkipsInvalidCandidateAndStopsAtMalformedJson() throws IOException {
+        when(candidateRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        String lines = "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"email\":\"john@example.com\",\"position\":\"Dev\",\"experience\":\"lots\"}\n"
+                + "{\"firstName\":\"Jane\",\"lastName\":\"Roe\",\"email\":\"jane@example.com\",\"position\":\"QA\"}\n"
+                + "{\"firstName\":\"Max\",\"lastName\n"
+                + "{\"firstName\":\"Ann\",\"lastName\":\"Loe\",\"email\":\"ann@example.com\",\"position\":\"QA\"}\n";
+
+        CandidateImportService.ImportResult result = candidateImportService.importJson(json(lines));
+
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(1, result.getErrors().get(0).getRow());
+        assertThat(result.getErrors().get(0).getMessage()).startsWith("Invalid candidate:");
+        assertEquals(3, result.getErrors().get(1).getRow());
+        assertThat(result.getErrors().get(1).getMessage()).startsWith("Malformed JSON:");
+    }
+
+    @Test
+    void importCsv_FailedChunkIsRetriedRowByRow() throws IOException {
+        when(candidateRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(candidateRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(List.of());
+        when(candidateRepository.findByEmail("john@example.com")).thenReturn(Optional.empty());
+        when(candidateRepository.findByEmail("jane@example.com")).thenReturn(Optional.of(new Candidate()));
+        String csv = "firstName,lastName,email,position\n"
+                + "John,Doe,john@example.com,Dev\n"
+                + "Jane,Roe,jane@example.com,QA\n";
+
+        CandidateImportService.ImportResult result = candidateImportService.importCsv(new StringReader(csv));
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(3, result.getErrors().get(0).getRow());
+        assertEquals("Candidate with email jane@example.com already exists", result.getErrors().get(0).getMessage());
+        verify(candidateSearchIndex).index(argThat(candidate -> "john@example.com".equals(candidate.getEmail())));
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void importCsv_ListsErrorsUpToLimit() throws IOException {
+        String csv = "firstName,lastName,email,position\n"
+                + "John,Doe,,Dev\n"
+                + "Jane,Roe,,QA\n"
+                + "Max,Moe,,QA\n";
+
+        CandidateImportService.ImportResult result = service(2, 2).importCsv(new StringReader(csv));
+
+        assertEquals(3, result.getFailed());
+        assertEquals(2, result.getErrors().size());
+        verifyNoInteractions(candidateRepository);
+    }
+
+    private static ByteArrayInputStream json(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
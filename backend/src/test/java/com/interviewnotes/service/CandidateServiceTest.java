@@ -1,9 +1,11 @@
 package com.interviewnotes.service;
 
 import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.dto.CursorPage;
 import com.interviewnotes.model.Candidate;
 import com.interviewnotes.model.Interview;
 import com.interviewnotes.repository.CandidateRepository;
+import com.interviewnotes.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -32,6 +35,15 @@ class CandidateServiceTest {
     @Mock
     private CandidateRepository candidateRepository;
 
+    @Mock
+    private CandidateSearchIndex candidateSearchIndex;
+
+    @Mock
+    private InterviewSummaryService interviewSummaryService;
+
+    @Mock
+    private InterviewService interviewService;
+
     @InjectMocks
     private CandidateService candidateService;
 
@@ -80,6 +92,7 @@ class CandidateServiceTest {
         assertEquals(testCandidateDTO.getFirstName(), result.getFirstName());
         verify(candidateRepository).findByEmail(testCandidateDTO.getEmail());
         verify(candidateRepository).save(any(Candidate.class));
+        verify(candidateSearchIndex).index(testCandidate);
     }
 
     @Test
@@ -192,15 +205,42 @@ class CandidateServiceTest {
     @Test
     void searchCandidates_Success() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Candidate> candidatePage = new PageImpl<>(Arrays.asList(testCandidate), pageable, 1);
-        when(candidateRepository.searchCandidates("John", pageable)).thenReturn(candidatePage);
+        when(candidateSearchIndex.search("John", pageable)).thenReturn(new PageImpl<>(List.of(1L), pageable, 1));
+        when(candidateRepository.findAllById(List.of(1L))).thenReturn(List.of(testCandidate));
 
         Page<CandidateDTO> result = candidateService.searchCandidates("John", pageable);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(testCandidate.getEmail(), result.getContent().get(0).getEmail());
-        verify(candidateRepository).searchCandidates("John", pageable);
+        verify(candidateSearchIndex).search("John", pageable);
+        verify(candidateRepository).findAllById(List.of(1L));
+    }
+
+    @Test
+    void searchCandidates_KeepsIndexRanking() {
+        Candidate second = new Candidate("Jane", "Johnson", "jane@example.com", "QA");
+        second.setId(2L);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(candidateSearchIndex.search("jo", pageable)).thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 2));
+        when(candidateRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(testCandidate, second));
+
+        Page<CandidateDTO> result = candidateService.searchCandidates("jo", pageable);
+
+        assertEquals(2L, result.getContent().get(0).getId());
+        assertEquals(1L, result.getContent().get(1).getId());
+    }
+
+    @Test
+    void searchCandidates_CandidateDeletedSinceIndexed_IsSkipped() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(candidateSearchIndex.search("John", pageable)).thenReturn(new PageImpl<>(List.of(1L, 9L), pageable, 2));
+        when(candidateRepository.findAllById(List.of(1L, 9L))).thenReturn(List.of(testCandidate));
+
+        Page<CandidateDTO> result = candidateService.searchCandidates("John", pageable);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(1L, result.getContent().get(0).getId());
     }
 
     @Test
@@ -229,6 +269,110 @@ class CandidateServiceTest {
         verify(candidateRepository).findByExperienceGreaterThanEqual(3);
     }
 
+    @Test
+    void getAllCandidateSummaries_DoesNotIncludeInterviews() {
+        Interview interview = new Interview();
+        interview.setId(10L);
+        testCandidate.setInterviews(new ArrayList<>(List.of(interview)));
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Candidate> candidatePage = new PageImpl<>(Arrays.asList(testCandidate), pageable, 1);
+        when(candidateRepository.findAll(pageable)).thenReturn(candidatePage);
+
+        Page<CandidateDTO> result = candidateService.getAllCandidateSummaries(pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(testCandidate.getEmail(), result.getContent().get(0).getEmail());
+        assertNull(result.getContent().get(0).getInterviews());
+    }
+
+    @Test
+    void getCandidateSummariesByStatus_NeverTouchesInterviews() {
+        Candidate candidate = spy(testCandidate);
+        when(candidateRepository.findSummariesByStatus("ACTIVE")).thenReturn(List.of(candidate));
+
+        List<CandidateDTO> result = candidateService.getCandidateSummariesByStatus("ACTIVE");
+
+        assertEquals(1, result.size());
+        assertNull(result.get(0).getInterviews());
+        verify(candidate, never()).getInterviews();
+        verify(candidateRepository, never()).findByStatus(anyString());
+    }
+
+    @Test
+    void searchCandidateSummaries_Success() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(candidateSearchIndex.search("John", pageable)).thenReturn(new PageImpl<>(List.of(1L), pageable, 1));
+        when(candidateRepository.findAllById(List.of(1L))).thenReturn(List.of(testCandidate));
+
+        Page<CandidateDTO> result = candidateService.searchCandidateSummaries("John", pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertNull(result.getContent().get(0).getInterviews());
+    }
+
+    @Test
+    void getCandidateSummariesByPosition_Success() {
+        when(candidateRepository.findSummariesByPositionContainingIgnoreCase("Software")).thenReturn(List.of(testCandidate));
+
+        List<CandidateDTO> result = candidateService.getCandidateSummariesByPosition("Software");
+
+        assertEquals(1, result.size());
+        verify(candidateRepository).findSummariesByPositionContainingIgnoreCase("Software");
+        verify(candidateRepository, never()).findByPositionContainingIgnoreCase(anyString());
+    }
+
+    @Test
+    void getCandidateSummariesByExperience_Success() {
+        when(candidateRepository.findSummariesByExperienceGreaterThanEqual(3)).thenReturn(List.of(testCandidate));
+
+        List<CandidateDTO> result = candidateService.getCandidateSummariesByExperience(3);
+
+        assertEquals(1, result.size());
+        verify(candidateRepository).findSummariesByExperienceGreaterThanEqual(3);
+        verify(candidateRepository, never()).findByExperienceGreaterThanEqual(anyInt());
+    }
+
+    @Test
+    void getCandidatesByCursor_FirstPage_ReturnsNextCursor() {
+        Candidate second = new Candidate("Jane", "Roe", "jane@example.com", "QA");
+        second.setId(2L);
+        second.setCreatedAt(testCandidate.getCreatedAt().minusMinutes(1));
+        when(candidateRepository.findCreatedBefore(any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 2))))
+                .thenReturn(Arrays.asList(testCandidate, second));
+
+        CursorPage<CandidateDTO> result = candidateService.getCandidatesByCursor(null, 1, Sort.Direction.DESC, false);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(1L, result.getContent().get(0).getId());
+        assertNotNull(result.getNextCursor());
+        KeysetCursor next = KeysetCursor.decode(result.getNextCursor(), Sort.Direction.DESC);
+        assertEquals(1L, next.getId());
+        assertEquals(testCandidate.getCreatedAt(), next.getCreatedAt());
+        verify(candidateRepository, never()).count();
+        verify(candidateRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getCandidatesByCursor_AscendingFromCursor_SeeksAfterPosition() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = new KeysetCursor(createdAt, 5L).encode();
+        when(candidateRepository.findCreatedAfter(createdAt, 5L, PageRequest.of(0, 11)))
+                .thenReturn(Arrays.asList(testCandidate));
+
+        CursorPage<CandidateDTO> result = candidateService.getCandidatesByCursor(cursor, 10, Sort.Direction.ASC, true);
+
+        assertEquals(1, result.getContent().size());
+        assertNull(result.getNextCursor());
+        assertFalse(result.isHasNext());
+    }
+
+    @Test
+    void getCandidatesByCursor_InvalidSize_ThrowsException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> candidateService.getCandidatesByCursor(null, 0, Sort.Direction.DESC, false));
+        verifyNoInteractions(candidateRepository);
+    }
+
     @Test
     void updateCandidate_Success() {
         when(candidateRepository.findById(1L)).thenReturn(Optional.of(testCandidate));
@@ -239,7 +383,8 @@ class CandidateServiceTest {
         assertTrue(result.isPresent());
         assertEquals(testCandidateDTO.getEmail(), result.get().getEmail());
         verify(candidateRepository).findById(1L);
-        verify(candidateRepository).save(any(Candidate.class));
+        verify(candidateRepository).save(any(Candidate.class));    verify(candidateSearchIndex).index(testCandidate);
+        verify(interviewSummaryService).candidateUpdated(testCandidate);
     }
 
     @Test
@@ -291,6 +436,18 @@ class CandidateServiceTest {
         verify(candidateRepository, never()).save(any(Candidate.class));
     }
 
+    @Test
+    void searchCandidates_BlankTerm_ReturnsAllCandidates() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("createdAt").descending());
+        when(candidateRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(testCandidate), pageable, 1));
+
+        Page<CandidateDTO> result = candidateService.searchCandidates(" ", pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals("john.doe@example.com", result.getContent().get(0).getEmail());
+        verifyNoInteractions(candidateSearchIndex);
+    }
+
     @Test
     void deleteCandidate_Success() {
         when(candidateRepository.existsById(1L)).thenReturn(true);
@@ -300,6 +457,18 @@ class CandidateServiceTest {
         assertTrue(result);
         verify(candidateRepository).existsById(1L);
         verify(candidateRepository).deleteById(1L);
+        verify(candidateSearchIndex).remove(1L);
+    }
+
+    @Test
+    void deleteCandidate_AccountsForInterviewsBeforeDeleting() {
+        when(candidateRepository.existsById(1L)).thenReturn(true);
+
+        candidateService.deleteCandidate(1L);
+
+        var inOrder = inOrder(interviewService, candidateRepository);
+        inOrder.verify(interviewService).candidateDeleting(1L);
+        inOrder.verify(candidateRepository).deleteById(1L);
     }
 
     @Test
@@ -311,6 +480,7 @@ class CandidateServiceTest {
         assertFalse(result);
         verify(candidateRepository).existsById(1L);
         verify(candidateRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(interviewService);
     }
 
     @Test
@@ -368,25 +538,49 @@ class CandidateServiceTest {
 
     @Test
     void getCandidateStatistics_Success() {
-        List<Candidate> candidatesWithInterviews = Arrays.asList(testCandidate);
-        List<Candidate> candidatesWithoutInterviews = Arrays.asList(new Candidate());
-        
-        when(candidateRepository.count()).thenReturn(10L);
-        when(candidateRepository.countByStatus("ACTIVE")).thenReturn(8L);
-        when(candidateRepository.findCandidatesWithInterviews()).thenReturn(candidatesWithInterviews);
-        when(candidateRepository.findCandidatesWithoutInterviews()).thenReturn(candidatesWithoutInterviews);
+        when(candidateRepository.countCandidates()).thenReturn(counts(10L, 8L, 6L));
 
         CandidateService.CandidateStatistics result = candidateService.getCandidateStatistics();
 
         assertNotNull(result);
         assertEquals(10L, result.getTotalCandidates());
         assertEquals(8L, result.getActiveCandidates());
-        assertEquals(1L, result.getCandidatesWithInterviews());
-        assertEquals(1L, result.getCandidatesWithoutInterviews());
-        verify(candidateRepository).count();
-        verify(candidateRepository).countByStatus("ACTIVE");
-        verify(candidateRepository).findCandidatesWithInterviews();
-        verify(candidateRepository).findCandidatesWithoutInterviews();
+        assertEquals(6L, result.getCandidatesWithInterviews());
+        assertEquals(4L, result.getCandidatesWithoutInterviews());
+        verify(candidateRepository).countCandidates();
+        verify(candidateRepository, never()).findCandidatesWithInterviews();
+        verify(candidateRepository, never()).findCandidatesWithoutInterviews();
+    }
+
+    @Test
+    void refreshCandidateStatistics_Recomputes() {
+        when(candidateRepository.countCandidates()).thenReturn(counts(10L, 8L, 6L), counts(12L, 8L, 6L));
+
+        candidateService.getCandidateStatistics();
+        CandidateService.CandidateStatistics result = candidateService.refreshCandidateStatistics();
+
+        assertEquals(12L, result.getTotalCandidates());
+        assertEquals(6L, result.getCandidatesWithoutInterviews());
+        verify(candidateRepository, times(2)).countCandidates();
+    }
+
+    private CandidateRepository.CandidateCounts counts(long total, long active, long withInterviews) {
+        return new CandidateRepository.CandidateCounts() {
+            @Override
+            public Long getTotalCandidates() {
+                return total;
+            }
+
+            @Override
+            public Long getActiveCandidates() {
+                return active;
+            }
+
+            @Override
+            public Long getCandidatesWithInterviews() {
+                return withInterviews;
+            }
+        };
     }
 
     @Test
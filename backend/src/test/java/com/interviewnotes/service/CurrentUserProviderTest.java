@@ -0,0 +1,146 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for CurrentUserProvider.
+ */
+@ExtendWith(MockitoExtension.class)
+class CurrentUserProviderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private CurrentUserProvider currentUserProvider;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setUsername("testuser");
+        testUser.setPassword("encodedPassword");
+        testUser.setRole(User.UserRole.INTERVIEWER);
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getCurrentUser_NoAuthentication_ReturnsNull() {
+        assertNull(currentUserProvider.getCurrentUser());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getCurrentUser_NotAuthenticated_ReturnsNull() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("testuser", "password"));
+
+        assertNull(currentUserProvider.getCurrentUser());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getCurrentUser_UserPrincipal_DoesNotQueryRepository() {
+        UserPrincipal principal = new UserPrincipal(testUser);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        CurrentUser result = currentUserProvider.getCurrentUser();
+
+        assertNotNull(result);
+        assertEquals(1L, result.getId());
+        assertEquals("testuser", result.getUsername());
+        assertTrue(result.isInterviewer());
+        assertFalse(result.isAdminOrHR());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getCurrentUser_PlainPrincipal_LooksUpUserOncePerRequest() {
+        authenticateAs("testuser");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        CurrentUser first = currentUserProvider.getCurrentUser();
+        CurrentUser second = currentUserProvider.getCurrentUser();
+
+        assertNotNull(first);
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    void getCurrentUser_UnknownUser_RemembersMissWithinRequest() {
+        authenticateAs("ghost");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.findByUsername("ghost")).thenReturn(Optional.empty());
+
+        assertNull(currentUserProvider.getCurrentUser());
+        assertNull(currentUserProvider.getCurrentUser());
+        verify(userRepository, times(1)).findByUsername("ghost");
+    }
+
+    @Test
+    void getCurrentUser_AuthenticationChanges_ResolvesAgain() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        User admin = new User();
+        admin.setId(2L);
+        admin.setUsername("admin");
+        admin.setRole(User.UserRole.ADMIN);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(userRepository.findByUsername("admin")).thenReturn(Optional.of(admin));
+
+        authenticateAs("testuser");
+        assertEquals(1L, currentUserProvider.getCurrentUser().getId());
+
+        authenticateAs("admin");
+        CurrentUser result = currentUserProvider.getCurrentUser();
+        assertEquals(2L, result.getId());
+        assertTrue(result.isAdminOrHR());
+    }
+
+    @Test
+    void getCurrentUser_OutsideRequest_LooksUpEveryTime() {
+        authenticateAs("testuser");
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        currentUserProvider.getCurrentUser();
+        currentUserProvider.getCurrentUser();
+
+        verify(userRepository, times(2)).findByUsername(any());
+    }
+
+    private void authenticateAs(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList()));
+    }
+}
@@ -0,0 +1,131 @@
+package com.interviewnotes.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.CandidateRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataExportServiceTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 10, 15);
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private InterviewRepository interviewRepository;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    private DataExportService dataExportService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        dataExportService = new DataExportService(candidateRepository, interviewRepository, currentUserProvider,
+                objectMapper);
+    }
+
+    @Test
+    void exportCandidates_Csv() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(candidateRepository.streamAllDTOs()).thenReturn(Stream.of(
+                candidate(1L, "John", "Developer, Backend"),
+                candidate(2L, "Jane", "Tester")).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        dataExportService.exportCandidates(ExportFormat.CSV, out);
+
+        assertEquals("id,firstName,lastName,email,phone,position,experience,resumeUrl,source,notes,status,createdAt,updatedAt\r\n"
+                        + "1,John,Doe,john@example.com,,\"Developer, Backend\",5,,,,ACTIVE,2024-03-01T10:15,\r\n"
+                        + "2,Jane,Doe,jane@example.com,,Tester,5,,,,ACTIVE,2024-03-01T10:15,\r\n",
+                out.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void exportCandidates_Ndjson() throws IOException {
+        when(candidateRepository.streamAllDTOs()).thenReturn(Stream.of(candidate(1L, "Jöhn", "Developer")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        dataExportService.exportCandidates(ExportFormat.NDJSON, out);
+
+        assertEquals("{\"id\":1,\"firstName\":\"Jöhn\",\"lastName\":\"Doe\",\"email\":\"jöhn@example.com\",\"phone\":null,"
+                        + "\"position\":\"Developer\",\"experience\":5,\"resumeUrl\":null,\"source\":null,\"notes\":null,"
+                        + "\"status\":\"ACTIVE\",\"createdAt\":\"2024-03-01T10:15:00\",\"updatedAt\":null}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportInterviews_AdminGetsAll() throws IOException {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(1L, "admin", User.UserRole.ADMIN));
+        when(interviewRepository.streamAllDTOs()).thenReturn(Stream.of(interview(10L, 7L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        dataExportService.exportInterviews(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,candidateId,candidateName,position,status,scheduledDate,duration,overallScore,"
+                + "interviewerId,interviewerName,notes,createdAt,updatedAt", lines[0]);
+        assertEquals("10,3,John Doe,Developer,COMPLETED,2024-03-01T10:15,60,8.5,7,Jane Roe,,2024-03-01T10:15,", lines[1]);
+        verify(interviewRepository, never()).streamDTOsByInterviewerId(any());
+    }
+
+    @Test
+    void exportInterviews_InterviewerGetsOwn() throws IOException {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(7L, "jane", User.UserRole.INTERVIEWER));
+        when(interviewRepository.streamDTOsByInterviewerId(7L)).thenReturn(Stream.of(interview(10L, 7L)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        dataExportService.exportInterviews(ExportFormat.NDJSON, out);
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("{\"id\":10,\"candidateId\":3,"));
+        verify(interviewRepository, never()).streamAllDTOs();
+    }
+
+    @Test
+    void exportInterviews_NoUser() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        dataExportService.exportInterviews(ExportFormat.NDJSON, out);
+
+        assertEquals("", out.toString(StandardCharsets.UTF_8));
+        verifyNoInteractions(interviewRepository);
+    }
+
+    private static CandidateDTO candidate(Long id, String firstName, String position) {
+        String email = firstName.toLowerCase() + "@example.com";
+        return new CandidateDTO(id, firstName, "Doe", email, null, position, 5, null, null, null, "ACTIVE",
+                CREATED, null);
+    }
+
+    private static InterviewDTO interview(Long id, Long interviewerId) {
+        return new InterviewDTO(id, 3L, "John", "Doe", "Developer", "COMPLETED", 60, CREATED,
+                new BigDecimal("8.5"), null, interviewerId, "Jane", "Roe", CREATED, null);
+    }
+}
@@ -0,0 +1,57 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.InterviewQuestion;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for HtmlInterviewReportRenderer.
+ */
+class HtmlInterviewReportRendererTest {
+
+    private final HtmlInterviewReportRenderer renderer = new HtmlInterviewReportRenderer();
+
+    @Test
+    void render_WritesInterviewNotesAndQuestions() throws IOException {
+        String html = render(PdfInterviewReportRendererTest.report(true, true, 1));
+
+        assertTrue(html.startsWith("<!DOCTYPE html>"));
+        assertTrue(html.contains("<td>John Doe</td>"));
+        assertTrue(html.contains("<p>Solid fundamentals</p>"));
+        assertTrue(html.contains("<td>Knows collections well</td>"));
+        assertTrue(html.contains("<td>Explain hashing</td>"));
+        assertTrue(html.contains("<td>8.5</td>"));
+    }
+
+    @Test
+    void render_WithoutNotesAndScores_LeavesThemOut() throws IOException {
+        String html = render(PdfInterviewReportRendererTest.report(false, false, 1));
+
+        assertTrue(html.contains("<td>Explain hashing</td>"));
+        assertFalse(html.contains("Solid fundamentals"));
+        assertFalse(html.contains("Knows collections well"));
+        assertFalse(html.contains("Score"));
+    }
+
+    @Test
+    void render_EscapesUserText() throws IOException {
+        InterviewReport report = PdfInterviewReportRendererTest.report(true, true, 0);
+        report.getNotes().get(0).addQuestion(new InterviewQuestion("<script>alert(1)</script>", "CODING"));
+
+        String html = render(report);
+
+        assertFalse(html.contains("<script>"));
+        assertTrue(html.contains("&lt;script&gt;"));
+    }
+
+    private String render(InterviewReport report) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.render(report, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,161 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.repository.CandidateRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryCandidateSearchIndexTest {
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @InjectMocks
+    private InMemoryCandidateSearchIndex searchIndex;
+
+    private Candidate john;
+    private Candidate jane;
+
+    @BeforeEach
+    void setUp() {
+        john = candidate(1L, "John", "Doe", "john.doe@example.com", "Software Engineer", "Strong Java skills");
+        john.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0));
+        jane = candidate(2L, "Jane", "Smith", "jane.smith@example.com", "QA Engineer", "Knows John from a previous team");
+        jane.setCreatedAt(LocalDateTime.of(2024, 1, 2, 9, 0));
+        lenient().when(candidateRepository.findAll()).thenReturn(new ArrayList<>(List.of(john, jane)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void search_PrefixMatch_FindsCandidate() {
+        Page<Long> result = searchIndex.search("softw", PageRequest.of(0, 10));
+
+        assertEquals(List.of(1L), result.getContent());
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void search_RanksNameAboveNotes() {
+        Page<Long> result = searchIndex.search("john", PageRequest.of(0, 10));
+
+        assertEquals(List.of(1L, 2L), result.getContent());
+    }
+
+    @Test
+    void search_EqualScores_NewestFirst() {
+        Page<Long> result = searchIndex.search("engineer", PageRequest.of(0, 10));
+
+        assertEquals(List.of(2L, 1L), result.getContent());
+    }
+
+    @Test
+    void search_AllTermsMustMatch() {
+        assertEquals(List.of(2L), searchIndex.search("qa eng", PageRequest.of(0, 10)).getContent());
+        assertTrue(searchIndex.search("qa java", PageRequest.of(0, 10)).isEmpty());
+    }
+
+    @Test
+    void search_MatchesEmailParts() {
+        assertEquals(List.of(2L), searchIndex.search("smith@example", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void search_BlankQuery_ReturnsEmpty() {
+        assertTrue(searchIndex.search("  !! ", PageRequest.of(0, 10)).isEmpty());
+        verifyNoInteractions(candidateRepository);
+    }
+
+    @Test
+    void search_PagesThroughResults_IgnoringSort() {
+        Page<Long> result = searchIndex.search("engineer", PageRequest.of(1, 1, Sort.by("createdAt")));
+
+        assertEquals(List.of(1L), result.getContent());
+        assertEquals(2, result.getTotalElements());
+        assertTrue(result.getPageable().getSort().isUnsorted());
+    }
+
+    @Test
+    void search_LoadsFromRepositoryOnce() {
+        searchIndex.search("john", PageRequest.of(0, 10));
+        searchIndex.search("jane", PageRequest.of(0, 10));
+
+        verify(candidateRepository, times(1)).findAll();
+    }
+
+    @Test
+    void index_UpdatedCandidate_ReplacesOldTokens() {
+        searchIndex.search("john", PageRequest.of(0, 10));
+        john.setPosition("Product Manager");
+
+        searchIndex.index(john);
+
+        assertTrue(searchIndex.search("software", PageRequest.of(0, 10)).isEmpty());
+        assertEquals(List.of(1L), searchIndex.search("product", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void remove_DropsCandidate() {
+        searchIndex.search("john", PageRequest.of(0, 10));
+
+        searchIndex.remove(1L);
+
+        assertEquals(List.of(2L), searchIndex.search("john", PageRequest.of(0, 10)).getContent());
+        assertEquals(1, searchIndex.size());
+    }
+
+    @Test
+    void index_InsideTransaction_AppliedAfterCommit() {
+        searchIndex.search("john", PageRequest.of(0, 10));
+        Candidate alex = candidate(3L, "Alex", "Kim", "alex@example.com", "Designer", null);
+        TransactionSynchronizationManager.initSynchronization();
+
+        searchIndex.index(alex);
+
+        assertTrue(searchIndex.search("alex", PageRequest.of(0, 10)).isEmpty());
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertEquals(List.of(3L), searchIndex.search("alex", PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    void clear_RebuildsFromRepositoryOnNextSearch() {
+        searchIndex.search("john", PageRequest.of(0, 10));
+
+        searchIndex.clear();
+        searchIndex.search("john", PageRequest.of(0, 10));
+
+        verify(candidateRepository, times(2)).findAll();
+    }
+
+    private Candidate candidate(Long id, String firstName, String lastName, String email, String position, String notes) {
+        Candidate candidate = new Candidate(firstName, lastName, email, position);
+        candidate.setId(id);
+        candidate.setNotes(notes);
+        return candidate;
+    }
+}
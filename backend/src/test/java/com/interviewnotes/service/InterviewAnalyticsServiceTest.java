@@ -0,0 +1,200 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.AnalyticsDirtyDay;
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.AnalyticsDirtyDayRepository;
+import com.interviewnotes.repository.InterviewDailyRoundTypeRepository;
+import com.interviewnotes.repository.InterviewDailyStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for InterviewAnalyticsService.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewAnalyticsServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate END = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private InterviewDailyStatsRepository dailyStatsRepository;
+
+    @Mock
+    private InterviewDailyRoundTypeRepository dailyRoundTypeRepository;
+
+    @Mock
+    private AnalyticsDirtyDayRepository dirtyDayRepository;
+
+    @Mock
+    private InterviewerPerformanceService interviewerPerformanceService;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    private InterviewAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        analyticsService = new InterviewAnalyticsService(dailyStatsRepository, dailyRoundTypeRepository,
+                dirtyDayRepository, interviewerPerformanceService, currentUserProvider, 100);
+    }
+
+    @Test
+    void getInterviewStatistics_SumsRollups() {
+        when(dailyStatsRepository.sumBetween(START, END)).thenReturn(totals(45, 42, 40, "312.0", 15, 13, 5, 9));
+        when(dailyRoundTypeRepository.sumBetween(START, END)).thenReturn(List.of(
+                roundType("BEHAVIORAL_ROUND", 25), roundType("TECHNICAL_ROUND_1", 45)));
+
+        InterviewAnalyticsService.InterviewStatistics statistics = analyticsService.getInterviewStatistics(START, END);
+
+        assertEquals(START, statistics.getStartDate());
+        assertEquals(END, statistics.getEndDate());
+        assertEquals(45, statistics.getTotalInterviews());
+        assertEquals(42, statistics.getCompletedInterviews());
+        assertEquals(new BigDecimal("7.80"), statistics.getAverageScore());
+        // (15 + 13) / 42
+        assertEquals(new BigDecimal("0.67"), statistics.getHireRate());
+        assertEquals(List.of("BEHAVIORAL_ROUND", "TECHNICAL_ROUND_1"), List.copyOf(statistics.getRoundBreakdown().keySet()));
+        assertEquals(45L, statistics.getRoundBreakdown().get("TECHNICAL_ROUND_1"));
+        assertEquals(List.of("STRONG_HIRE", "HIRE", "WEAK_HIRE", "NO_HIRE"),
+                List.copyOf(statistics.getRecommendationBreakdown().keySet()));
+        assertEquals(9L, statistics.getRecommendationBreakdown().get("NO_HIRE"));
+    }
+
+    @Test
+    void getInterviewStatistics_NoData_LeavesRatesEmpty() {
+        when(dailyStatsRepository.sumBetween(START, END)).thenReturn(totals(0, 0, 0, "0", 0, 0, 0, 0));
+        when(dailyRoundTypeRepository.sumBetween(START, END)).thenReturn(List.of());
+
+        InterviewAnalyticsService.InterviewStatistics statistics = analyticsService.getInterviewStatistics(START, END);
+
+        assertEquals(0, statistics.getTotalInterviews());
+        assertNull(statistics.getAverageScore());
+        assertNull(statistics.getHireRate());
+        assertTrue(statistics.getRoundBreakdown().isEmpty());
+    }
+
+    @Test
+    void getInterviewStatistics_StartAfterEnd_Throws() {
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> analyticsService.getInterviewStatistics(END, START));
+
+        assertEquals("startDate must not be after endDate", exception.getMessage());
+        verifyNoInteractions(dailyStatsRepository);
+    }
+
+    @Test
+    void getInterviewerPerformance_AdminSeesAll() {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(1L, "admin", User.UserRole.ADMIN));
+        when(interviewerPerformanceService.getPerformance(START, END)).thenReturn(List.of(performance(7L), performance(8L)));
+
+        assertEquals(2, analyticsService.getInterviewerPerformance(START, END).size());
+        assertTrue(analyticsService.getInterviewerPerformance(8L, START, END).isPresent());
+    }
+
+    @Test
+    void getInterviewerPerformance_InterviewerSeesOwnOnly() {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(7L, "jane", User.UserRole.INTERVIEWER));
+        when(interviewerPerformanceService.getPerformance(START, END)).thenReturn(List.of(performance(7L), performance(8L)));
+
+        List<InterviewerPerformanceService.InterviewerPerformance> visible =
+                analyticsService.getInterviewerPerformance(START, END);
+
+        assertEquals(1, visible.size());
+        assertEquals(7L, visible.get(0).getInterviewer().getId());
+        assertTrue(analyticsService.getInterviewerPerformance(7L, START, END).isPresent());
+        assertTrue(analyticsService.getInterviewerPerformance(8L, START, END).isEmpty());
+    }
+
+    @Test
+    void getInterviewerPerformance_Unauthenticated_Empty() {
+        when(currentUserProvider.getCurrentUser()).thenReturn(null);
+
+        assertTrue(analyticsService.getInterviewerPerformance(START, END).isEmpty());
+        verifyNoInteractions(interviewerPerformanceService);
+    }
+
+    @Test
+    void interviewsChanged_MarksEachDayOnce() {
+        analyticsService.interviewsChanged(LocalDateTime.of(2024, 3, 5, 9, 0), LocalDateTime.of(2024, 3, 5, 15, 0),
+                null, LocalDateTime.of(2024, 3, 8, 9, 0));
+
+        verify(dirtyDayRepository).markDirty(LocalDate.of(2024, 3, 5));
+        verify(dirtyDayRepository).markDirty(LocalDate.of(2024, 3, 8));
+        verifyNoMoreInteractions(dirtyDayRepository);
+    }
+
+    @Test
+    void refreshRollups_RecomputesDirtyDays() {
+        List<AnalyticsDirtyDay> dirty = List.of(new AnalyticsDirtyDay(LocalDate.of(2024, 3, 5), 0),
+                new AnalyticsDirtyDay(LocalDate.of(2024, 3, 8), 3));
+        List<LocalDate> days = List.of(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 8));
+        LocalDateTime from = LocalDateTime.of(2024, 3, 5, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 3, 9, 0, 0);
+        when(dirtyDayRepository.findBatchForUpdate(PageRequest.of(0, 100))).thenReturn(dirty);
+
+        assertEquals(2, analyticsService.refreshRollups());
+
+        var inOrder = inOrder(dailyStatsRepository, dailyRoundTypeRepository, dirtyDayRepository);
+        inOrder.verify(dailyStatsRepository).deleteDays(days);
+        inOrder.verify(dailyStatsRepository).insertDays(eq(days), eq(from), eq(to), any(LocalDateTime.class));
+        inOrder.verify(dailyRoundTypeRepository).deleteDays(days);
+        inOrder.verify(dailyRoundTypeRepository).insertDays(days, from, to);
+        inOrder.verify(dirtyDayRepository).deleteIfUnchanged(LocalDate.of(2024, 3, 5), 0);
+        inOrder.verify(dirtyDayRepository).deleteIfUnchanged(LocalDate.of(2024, 3, 8), 3);
+        verify(dirtyDayRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void refreshRollups_NothingDirty_DoesNothing() {
+        when(dirtyDayRepository.findBatchForUpdate(PageRequest.of(0, 100))).thenReturn(List.of());
+
+        assertEquals(0, analyticsService.refreshRollups());
+
+        verifyNoInteractions(dailyStatsRepository, dailyRoundTypeRepository);
+    }
+
+    private static InterviewDailyStatsRepository.StatsTotals totals(long total, long completed, long scored,
+                                                                    String scoreTotal, long strongHire, long hire,
+                                                                    long weakHire, long noHire) {
+        return new InterviewDailyStatsRepository.StatsTotals() {
+            public Long getTotalInterviews() { return total; }
+            public Long getCompletedInterviews() { return completed; }
+            public Long getScoredInterviews() { return scored; }
+            public BigDecimal getScoreTotal() { return new BigDecimal(scoreTotal); }
+            public Long getStrongHire() { return strongHire; }
+            public Long getHire() { return hire; }
+            public Long getWeakHire() { return weakHire; }
+            public Long getNoHire() { return noHire; }
+        };
+    }
+
+    private static InterviewerPerformanceService.InterviewerPerformance performance(Long interviewerId) {
+        return new InterviewerPerformanceService.InterviewerPerformance(
+                new InterviewerPerformanceService.Interviewer(interviewerId, "Interviewer " + interviewerId),
+                0, 0, null, null, null, null, null, Map.of());
+    }
+
+    private static InterviewDailyRoundTypeRepository.RoundTypeTotal roundType(String roundType, long rounds) {
+        return new InterviewDailyRoundTypeRepository.RoundTypeTotal() {
+            public String getRoundType() { return roundType; }
+            public Long getRounds() { return rounds; }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.interviewnotes.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for InterviewEventBroadcaster. Delivery to open streams is
+ * covered by InterviewEventControllerTest.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewEventBroadcasterTest {
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @Mock
+    private Executor executor;
+
+    private InterviewEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new InterviewEventBroadcaster(currentUserProvider, new ObjectMapper(), executor, 60000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void subscribe_RegistersSubscriber() {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(7L, "jane", User.UserRole.INTERVIEWER));
+
+        assertNotNull(broadcaster.subscribe());
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_UnknownUser_Throws() {
+        when(currentUserProvider.getCurrentUser()).thenReturn(null);
+
+        assertThrows(RuntimeException.class, () -> broadcaster.subscribe());
+        assertEquals(0, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void publish_NoSubscribers_SkipsFanOut() {
+        broadcaster.publish(InterviewEvent.deleted(1L, 7L));
+        broadcaster.heartbeat();
+
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void publish_InTransaction_WaitsForCommit() {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(1L, "admin", User.UserRole.ADMIN));
+        broadcaster.subscribe();
+        TransactionSynchronizationManager.initSynchronization();
+
+        broadcaster.publish(InterviewEvent.deleted(1L, 7L));
+        verifyNoInteractions(executor);
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        verify(executor).execute(any(Runnable.class));
+    }
+
+    @Test
+    void event_VisibleToAdminsHrAndAssignedInterviewers() {
+        InterviewDTO interview = new InterviewDTO();
+        interview.id = 1L;
+        interview.interviewerId = 7L;
+        InterviewEvent reassigned = InterviewEvent.updated(interview, 8L);
+
+        assertTrue(reassigned.isVisibleTo(new CurrentUser(1L, "admin", User.UserRole.ADMIN)));
+        assertTrue(reassigned.isVisibleTo(new CurrentUser(2L, "hr", User.UserRole.HR_MANAGER)));
+        assertTrue(reassigned.isVisibleTo(new CurrentUser(7L, "jane", User.UserRole.INTERVIEWER)));
+        assertFalse(reassigned.isVisibleTo(new CurrentUser(8L, "bob", User.UserRole.INTERVIEWER)));
+        assertFalse(reassigned.isVisibleTo(new CurrentUser(9L, "eve", User.UserRole.INTERVIEWER)));
+        assertFalse(reassigned.isVisibleTo(null));
+        assertEquals("interview_updated", reassigned.getEventName());
+    }
+
+    @Test
+    void event_Reassigned_PreviousInterviewerGetsUnassignedWithoutInterview() {
+        InterviewDTO interview = new InterviewDTO();
+        interview.id = 1L;
+        interview.interviewerId = 7L;
+
+        InterviewEvent unassigned = InterviewEvent.updated(interview, 8L).getUnassigned();
+
+        assertEquals(InterviewEvent.Type.UNASSIGNED, unassigned.getType());
+        assertEquals(1L, unassigned.getInterviewId());
+        assertNull(unassigned.getInterview());
+        assertEquals("interview_unassigned", unassigned.getEventName());
+        assertTrue(unassigned.isVisibleTo(new CurrentUser(8L, "bob", User.UserRole.INTERVIEWER)));
+        assertFalse(unassigned.isVisibleTo(new CurrentUser(7L, "jane", User.UserRole.INTERVIEWER)));
+        assertNull(InterviewEvent.updated(interview, 7L).getUnassigned());
+        assertNull(InterviewEvent.updated(interview, null).getUnassigned());
+    }
+}
@@ -0,0 +1,177 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.dto.InterviewNotesDTO;
+import com.interviewnotes.dto.InterviewQuestionDTO;
+import com.interviewnotes.model.Interview;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.model.InterviewQuestion;
+import com.interviewnotes.repository.InterviewNotesRepository;
+import com.interviewnotes.repository.InterviewQuestionRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for InterviewNotesService.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewNotesServiceTest {
+
+    @Mock
+    private InterviewService interviewService;
+
+    @Mock
+    private InterviewRepository interviewRepository;
+
+    @Mock
+    private InterviewNotesRepository interviewNotesRepository;
+
+    @Mock
+    private InterviewQuestionRepository interviewQuestionRepository;
+
+    @Mock
+    private InterviewSummaryService interviewSummaryService;
+
+    @Mock
+    private InterviewAnalyticsService interviewAnalyticsService;
+
+    @InjectMocks
+    private InterviewNotesService interviewNotesService;
+
+    private Interview interview;
+    private LocalDateTime originalUpdatedAt;
+
+    @BeforeEach
+    void setUp() {
+        interview = new Interview();
+        interview.setId(1L);
+        originalUpdatedAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        interview.setUpdatedAt(originalUpdatedAt);
+        interview.setScheduledDate(LocalDateTime.of(2024, 1, 2, 10, 0));
+    }
+
+    @Test
+    void addNotes_SavesNotesWithQuestions() {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(new InterviewDTO()));
+        when(interviewRepository.findById(1L)).thenReturn(Optional.of(interview));
+        when(interviewNotesRepository.save(any(InterviewNotes.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        InterviewNotesDTO dto = new InterviewNotesDTO();
+        dto.setRoundType("TECHNICAL_ROUND_1");
+        dto.setTechnicalNotes("Strong problem solving");
+        dto.setStrengths(List.of("Problem solving", "Clean code"));
+        dto.setOverallScore(new BigDecimal("8.5"));
+        dto.setRecommendation("STRONG_HIRE");
+        InterviewQuestionDTO question = new InterviewQuestionDTO();
+        question.setQuestion("Implement a binary search tree");
+        question.setScore(9);
+        dto.setQuestions(List.of(question));
+
+        InterviewNotesDTO result = interviewNotesService.addNotes(1L, dto).orElseThrow();
+
+        assertEquals(1L, result.getInterviewId());
+        assertEquals("TECHNICAL_ROUND_1", result.getRoundType());
+        assertEquals(List.of("Problem solving", "Clean code"), result.getStrengths());
+        assertEquals("STRONG_HIRE", result.getRecommendation());
+        assertEquals(1, result.getQuestions().size());
+        assertEquals(9, result.getQuestions().get(0).getScore());
+        assertNotEquals(originalUpdatedAt, interview.getUpdatedAt());
+        verify(interviewSummaryService).notesAdded(any(InterviewNotes.class));
+        verify(interviewAnalyticsService).interviewsChanged(interview.getScheduledDate());
+    }
+
+    @Test
+    void addNotes_InterviewNotVisible_Empty() {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(interviewNotesService.addNotes(1L, new InterviewNotesDTO()).isEmpty());
+        verifyNoInteractions(interviewNotesRepository, interviewSummaryService);
+    }
+
+    @Test
+    void updateNotes_AppliesProvidedFields() {
+        InterviewNotes notes = notes(10L);
+        notes.setFeedback("Keep");
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(new InterviewDTO()));
+        when(interviewNotesRepository.findById(10L)).thenReturn(Optional.of(notes));
+        when(interviewNotesRepository.save(notes)).thenReturn(notes);
+
+        InterviewNotesDTO dto = new InterviewNotesDTO();
+        dto.setOverallScore(new BigDecimal("6.0"));
+        dto.setRecommendation("HIRE");
+
+        InterviewNotesDTO result = interviewNotesService.updateNotes(1L, 10L, dto).orElseThrow();
+
+        assertEquals(new BigDecimal("6.0"), result.getOverallScore());
+        assertEquals("HIRE", result.getRecommendation());
+        assertEquals("Keep", result.getFeedback());
+        assertNotEquals(originalUpdatedAt, interview.getUpdatedAt());
+        verify(interviewSummaryService).notesUpdated(notes);
+        verify(interviewAnalyticsService).interviewsChanged(interview.getScheduledDate());
+    }
+
+    @Test
+    void updateNotes_NotesOfOtherInterview_Empty() {
+        Interview other = new Interview();
+        other.setId(2L);
+        InterviewNotes notes = notes(10L);
+        notes.setInterview(other);
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(new InterviewDTO()));
+        when(interviewNotesRepository.findById(10L)).thenReturn(Optional.of(notes));
+
+        assertTrue(interviewNotesService.updateNotes(1L, 10L, new InterviewNotesDTO()).isEmpty());
+        verify(interviewNotesRepository, never()).save(any());
+        verifyNoInteractions(interviewSummaryService);
+    }
+
+    @Test
+    void addQuestion_SavesQuestionWithoutLoadingOthers() {
+        InterviewNotes notes = notes(10L);
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(new InterviewDTO()));
+        when(interviewNotesRepository.findById(10L)).thenReturn(Optional.of(notes));
+        when(interviewQuestionRepository.save(any(InterviewQuestion.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        InterviewQuestionDTO dto = new InterviewQuestionDTO();
+        dto.setQuestion("Design a rate limiter");
+        dto.setQuestionType("SYSTEM_DESIGN");
+        dto.setScore(7);
+
+        InterviewQuestionDTO result = interviewNotesService.addQuestion(1L, 10L, dto).orElseThrow();
+
+        assertEquals("Design a rate limiter", result.getQuestion());
+        assertEquals(7, result.getScore());
+        assertTrue(notes.getQuestions().isEmpty());
+        verify(interviewSummaryService).questionAdded(argThat(q -> q.getInterviewNotes() == notes));
+        verifyNoInteractions(interviewAnalyticsService);
+    }
+
+    @Test
+    void addQuestion_UnknownNotes_Empty() {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(new InterviewDTO()));
+        when(interviewNotesRepository.findById(10L)).thenReturn(Optional.empty());
+
+        assertTrue(interviewNotesService.addQuestion(1L, 10L, new InterviewQuestionDTO()).isEmpty());
+        verifyNoInteractions(interviewQuestionRepository, interviewSummaryService);
+    }
+
+    private InterviewNotes notes(Long id) {
+        InterviewNotes notes = new InterviewNotes();
+        notes.setId(id);
+        notes.setInterview(interview);
+        return notes;
+    }
+}
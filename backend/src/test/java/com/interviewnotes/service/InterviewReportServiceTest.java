@@ -0,0 +1,233 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.repository.InterviewNotesRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for InterviewReportService.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewReportServiceTest {
+
+    @Mock
+    private InterviewService interviewService;
+
+    @Mock
+    private InterviewNotesRepository interviewNotesRepository;
+
+    @Mock
+    private InterviewRepository interviewRepository;
+
+    @TempDir
+    Path cacheDir;
+
+    private CountingRenderer renderer;
+    private List<Runnable> queued;
+    private InterviewDTO interview;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new CountingRenderer();
+        queued = new ArrayList<>();
+        interview = new InterviewDTO();
+        interview.id = 1L;
+        interview.updatedAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+    }
+
+    @Test
+    void getReport_NotVisible_ReturnsEmptyWithoutRendering() throws Exception {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.empty());
+
+        Optional<Path> report = service(Runnable::run).getReport(1L, ReportFormat.PDF, true, true).get();
+
+        assertTrue(report.isEmpty());
+        assertEquals(0, renderer.renders);
+        verifyNoInteractions(interviewNotesRepository, interviewRepository);
+    }
+
+    @Test
+    void getReport_RendersOnceAndReusesFile() throws Exception {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(interview));
+        InterviewReportService service = service(Runnable::run);
+
+        Path first = service.getReport(1L, ReportFormat.PDF, true, true).get().orElseThrow();
+        Path second = service.getReport(1L, ReportFormat.PDF, true, true).get().orElseThrow();
+
+        assertEquals(first, second);
+        assertEquals("report 1", Files.readString(first));
+        assertEquals(1, renderer.renders);
+        verify(interviewNotesRepository, times(1)).findByInterviewIdWithQuestions(1L);
+    }
+
+    @Test
+    void getReport_InterviewUpdated_RendersAgainAndDropsOldFile() throws Exception {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(interview));
+        InterviewReportService service = service(Runnable::run);
+        Path old = service.getReport(1L, ReportFormat.PDF, true, true).get().orElseThrow();
+
+        interview.updatedAt = interview.updatedAt.plusMinutes(5);
+        Path current = service.getReport(1L, ReportFormat.PDF, true, true).get().orElseThrow();
+
+        assertNotEquals(old, current);
+        assertFalse(Files.exists(old));
+        assertEquals(2, renderer.renders);
+    }
+
+    @Test
+    void getReport_CandidateOrInterviewerRenamed_RendersAgain() throws Exception {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(interview));
+        when(interviewRepository.findLastModifiedById(1L)).thenReturn(Optional.of(interview.updatedAt));
+        InterviewReportService service = service(Runnable::run);
+        Path old = service.getReport(1L, ReportFormat.PDF, true, true).get().orElseThrow();
+
+        when(interviewRepository.findLastModifiedById(1L)).thenReturn(Optional.of(interview.updatedAt.plusMinutes(5)));
+        Path current = service.getReport(1L, ReportFormat.PDF, true, true).get().orElseThrow();
+
+        assertNotEquals(old, current);
+        assertFalse(Files.exists(old));
+        assertEquals(2, renderer.renders);
+    }
+
+    @Test
+    void getReport_DifferentOptions_KeptSeparately() throws Exception {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(interview));
+        InterviewReportService service = service(Runnable::run);
+
+        Path full = service.getReport(1L, ReportFormat.PDF, true, true).get().orElseThrow();
+        Path withoutScores = service.getReport(1L, ReportFormat.PDF, true, false).get().orElseThrow();
+
+        assertNotEquals(full, withoutScores);
+        assertTrue(Files.exists(full));
+        assertTrue(Files.exists(withoutScores));
+    }
+
+    @Test
+    void getReport_ConcurrentRequests_ShareOneRendering() throws Exception {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(interview));
+        InterviewReportService service = service(queued::add);
+
+        CompletableFuture<Optional<Path>> first = service.getReport(1L, ReportFormat.HTML, true, true);
+        CompletableFuture<Optional<Path>> second = service.getReport(1L, ReportFormat.HTML, true, true);
+        assertEquals(1, queued.size());
+        assertFalse(first.isDone());
+
+        queued.get(0).run();
+
+        assertEquals(first.get(), second.get());
+        assertEquals(1, renderer.renders);
+    }
+
+    @Test
+    void getReport_PoolSaturated_ThrowsAndAllowsRetry() throws Exception {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(interview));
+        Executor rejecting = task -> {
+            throw new TaskRejectedException("queue full");
+        };
+
+        assertThrows(TaskRejectedException.class,
+                () -> service(rejecting).getReport(1L, ReportFormat.PDF, true, true));
+
+        InterviewReportService service = service(queued::add);
+        service.getReport(1L, ReportFormat.PDF, true, true);
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void getReport_RenderFails_CompletesExceptionallyWithoutLeavingFiles() throws IOException {
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(interview));
+        renderer.failure = new IllegalStateException("broken template");
+
+        CompletableFuture<Optional<Path>> report = service(Runnable::run).getReport(1L, ReportFormat.PDF, true, true);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, report::get);
+        assertEquals("broken template", ex.getCause().getMessage());
+        try (var files = Files.list(cacheDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void getReport_PassesNotesAndOptionsToRenderer() throws Exception {
+        InterviewNotes notes = new InterviewNotes();
+        when(interviewService.getInterviewById(1L)).thenReturn(Optional.of(interview));
+        when(interviewNotesRepository.findByInterviewIdWithQuestions(1L)).thenReturn(List.of(notes));
+
+        service(Runnable::run).getReport(1L, ReportFormat.HTML, false, true).get();
+
+        assertSame(interview, renderer.last.getInterview());
+        assertEquals(List.of(notes), renderer.last.getNotes());
+        assertFalse(renderer.last.isIncludeNotes());
+        assertTrue(renderer.last.isIncludeScores());
+    }
+
+    private InterviewReportService service(Executor executor) {
+        return new InterviewReportService(interviewService, interviewNotesRepository, interviewRepository,
+                List.of(renderer, new DelegatingRenderer(ReportFormat.HTML, renderer)), executor, cacheDir);
+    }
+
+    private static class CountingRenderer implements InterviewReportRenderer {
+        int renders;
+        InterviewReport last;
+        RuntimeException failure;
+
+        @Override
+        public ReportFormat getFormat() {
+            return ReportFormat.PDF;
+        }
+
+        @Override
+        public void render(InterviewReport report, OutputStream out) throws IOException {
+            renders++;
+            last = report;
+            out.write(("report " + renders).getBytes(StandardCharsets.UTF_8));
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private static class DelegatingRenderer implements InterviewReportRenderer {
+        private final ReportFormat format;
+        private final InterviewReportRenderer delegate;
+
+        DelegatingRenderer(ReportFormat format, InterviewReportRenderer delegate) {
+            this.format = format;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ReportFormat getFormat() {
+            return format;
+        }
+
+        @Override
+        public void render(InterviewReport report, OutputStream out) throws IOException {
+            delegate.render(report, out);
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package com.interviewnotes.service;
 
 import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.dto.CursorPage;
 import com.interviewnotes.model.Candidate;
 import com.interviewnotes.model.Interview;
 import com.interviewnotes.model.User;
 import com.interviewnotes.repository.CandidateRepository;
 import com.interviewnotes.repository.InterviewRepository;
 import com.interviewnotes.repository.UserRepository;
+import com.interviewnotes.util.KeysetCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,15 +20,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -45,6 +51,15 @@ class InterviewServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private InterviewSummaryService interviewSummaryService;
+
+    @Mock
+    private InterviewAnalyticsService interviewAnalyticsService;
+
+    @Mock
+    private InterviewEventBroadcaster interviewEventBroadcaster;
+
     @Mock
     private Authentication authentication;
 
@@ -100,6 +115,8 @@ class InterviewServiceTest {
         testInterviewDTO.notes = "Great candidate";
         testInterviewDTO.createdAt = LocalDateTime.now();
         testInterviewDTO.updatedAt = LocalDateTime.now();
+
+        ReflectionTestUtils.setField(interviewService, "currentUserProvider", new CurrentUserProvider(userRepository));
     }
 
     @Test
@@ -118,6 +135,9 @@ class InterviewServiceTest {
         verify(candidateRepository).findById(1L);
         verify(userRepository).findById(1L);
         verify(interviewRepository).save(any(Interview.class));
+        verify(interviewSummaryService).interviewCreated(testInterview);
+        verify(interviewAnalyticsService).interviewsChanged(testInterview.getScheduledDate());
+        verify(interviewEventBroadcaster).publish(InterviewEvent.created(result));
     }
 
     @Test
@@ -149,7 +169,7 @@ class InterviewServiceTest {
     @Test
     void getAllInterviews_AdminUser_Success() {
         testUser.setRole(User.UserRole.ADMIN);
-        Page<Interview> interviewPage = new PageImpl<>(Arrays.asList(testInterview), PageRequest.of(0, 20), 1);
+        Page<InterviewDTO> interviewPage = new PageImpl<>(Arrays.asList(testInterviewDTO), PageRequest.of(0, 20), 1);
         
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
             mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -157,7 +177,7 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("admin");
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(interviewRepository.findAll(any(Pageable.class))).thenReturn(interviewPage);
+            when(interviewRepository.findAllDTOs(any(Pageable.class))).thenReturn(interviewPage);
 
             Page<InterviewDTO> result = interviewService.getAllInterviews(PageRequest.of(0, 20));
 
@@ -165,15 +185,16 @@ class InterviewServiceTest {
             assertEquals(1, result.getTotalElements());
             assertEquals("John Doe", result.getContent().get(0).candidateName);
 
-            verify(interviewRepository).findAll(any(Pageable.class));
-            verify(interviewRepository, never()).findByInterviewer_Id(anyLong(), any(Pageable.class));
+            verify(interviewRepository).findAllDTOs(any(Pageable.class));
+            verify(interviewRepository, never()).findAll(any(Pageable.class));
+            verify(interviewRepository, never()).findDTOsByInterviewerId(anyLong(), any(Pageable.class));
         }
     }
 
     @Test
     void getAllInterviews_HRManagerUser_Success() {
         testUser.setRole(User.UserRole.HR_MANAGER);
-        Page<Interview> interviewPage = new PageImpl<>(Arrays.asList(testInterview), PageRequest.of(0, 20), 1);
+        Page<InterviewDTO> interviewPage = new PageImpl<>(Arrays.asList(testInterviewDTO), PageRequest.of(0, 20), 1);
         
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
             mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -181,20 +202,20 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("hr");
             when(userRepository.findByUsername("hr")).thenReturn(Optional.of(testUser));
-            when(interviewRepository.findAll(any(Pageable.class))).thenReturn(interviewPage);
+            when(interviewRepository.findAllDTOs(any(Pageable.class))).thenReturn(interviewPage);
 
             Page<InterviewDTO> result = interviewService.getAllInterviews(PageRequest.of(0, 20));
 
             assertNotNull(result);
             assertEquals(1, result.getTotalElements());
 
-            verify(interviewRepository).findAll(any(Pageable.class));
+            verify(interviewRepository).findAllDTOs(any(Pageable.class));
         }
     }
 
     @Test
     void getAllInterviews_InterviewerUser_Success() {
-        Page<Interview> interviewPage = new PageImpl<>(Arrays.asList(testInterview), PageRequest.of(0, 20), 1);
+        Page<InterviewDTO> interviewPage = new PageImpl<>(Arrays.asList(testInterviewDTO), PageRequest.of(0, 20), 1);
         
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
             mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -202,15 +223,15 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("interviewer");
             when(userRepository.findByUsername("interviewer")).thenReturn(Optional.of(testUser));
-            when(interviewRepository.findByInterviewer_Id(1L, PageRequest.of(0, 20))).thenReturn(interviewPage);
+            when(interviewRepository.findDTOsByInterviewerId(1L, PageRequest.of(0, 20))).thenReturn(interviewPage);
 
             Page<InterviewDTO> result = interviewService.getAllInterviews(PageRequest.of(0, 20));
 
             assertNotNull(result);
             assertEquals(1, result.getTotalElements());
 
-            verify(interviewRepository).findByInterviewer_Id(1L, PageRequest.of(0, 20));
-            verify(interviewRepository, never()).findAll(any(Pageable.class));
+            verify(interviewRepository).findDTOsByInterviewerId(1L, PageRequest.of(0, 20));
+            verify(interviewRepository, never()).findAllDTOs(any(Pageable.class));
         }
     }
 
@@ -223,8 +244,8 @@ class InterviewServiceTest {
             Page<InterviewDTO> result = interviewService.getAllInterviews(PageRequest.of(0, 20));
 
             assertTrue(result.isEmpty());
-            verify(interviewRepository, never()).findAll(any(Pageable.class));
-            verify(interviewRepository, never()).findByInterviewer_Id(anyLong(), any(Pageable.class));
+            verify(interviewRepository, never()).findAllDTOs(any(Pageable.class));
+            verify(interviewRepository, never()).findDTOsByInterviewerId(anyLong(), any(Pageable.class));
         }
     }
 
@@ -240,8 +261,71 @@ class InterviewServiceTest {
             Page<InterviewDTO> result = interviewService.getAllInterviews(PageRequest.of(0, 20));
 
             assertTrue(result.isEmpty());
-            verify(interviewRepository, never()).findAll(any(Pageable.class));
-            verify(interviewRepository, never()).findByInterviewer_Id(anyLong(), any(Pageable.class));
+            verify(interviewRepository, never()).findAllDTOs(any(Pageable.class));
+            verify(interviewRepository, never()).findDTOsByInterviewerId(anyLong(), any(Pageable.class));
+        }
+    }
+
+    @Test
+    void getInterviewsByCursor_AdminUser_SeeksAllInterviews() {
+        testUser.setRole(User.UserRole.ADMIN);
+        testInterviewDTO.createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+        try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
+            mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+            when(securityContext.getAuthentication()).thenReturn(authentication);
+            when(authentication.isAuthenticated()).thenReturn(true);
+            when(authentication.getName()).thenReturn("admin");
+            when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
+            when(interviewRepository.findDTOsCreatedBefore(any(LocalDateTime.class), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 2))))
+                    .thenReturn(Arrays.asList(testInterviewDTO));
+
+            CursorPage<InterviewDTO> result = interviewService.getInterviewsByCursor(null, 1, Sort.Direction.DESC);
+
+            assertEquals(1, result.getContent().size());
+            assertNull(result.getNextCursor());
+            verify(interviewRepository, never()).findAllDTOs(any(Pageable.class));
+            verify(interviewRepository, never()).findDTOsByInterviewerCreatedBefore(anyLong(), any(), anyLong(), any());
+        }
+    }
+
+    @Test
+    void getInterviewsByCursor_InterviewerUser_SeeksOwnInterviews() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        String cursor = new KeysetCursor(createdAt, 7L).encode();
+        InterviewDTO second = new InterviewDTO();
+        second.id = 2L;
+        second.createdAt = createdAt.plusMinutes(5);
+
+        try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
+            mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+            when(securityContext.getAuthentication()).thenReturn(authentication);
+            when(authentication.isAuthenticated()).thenReturn(true);
+            when(authentication.getName()).thenReturn("interviewer");
+            when(userRepository.findByUsername("interviewer")).thenReturn(Optional.of(testUser));
+            when(interviewRepository.findDTOsByInterviewerCreatedAfter(1L, createdAt, 7L, PageRequest.of(0, 2)))
+                    .thenReturn(Arrays.asList(testInterviewDTO, second));
+
+            CursorPage<InterviewDTO> result = interviewService.getInterviewsByCursor(cursor, 1, Sort.Direction.ASC);
+
+            assertEquals(1, result.getContent().size());
+            assertEquals(1L, result.getContent().get(0).id);
+            assertEquals(1L, KeysetCursor.decode(result.getNextCursor(), Sort.Direction.ASC).getId());
+            verify(interviewRepository, never()).findDTOsCreatedAfter(any(), anyLong(), any());
+        }
+    }
+
+    @Test
+    void getInterviewsByCursor_NoAuthentication_ReturnsEmpty() {
+        try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
+            mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
+            when(securityContext.getAuthentication()).thenReturn(null);
+
+            CursorPage<InterviewDTO> result = interviewService.getInterviewsByCursor(null, 20, Sort.Direction.DESC);
+
+            assertTrue(result.getContent().isEmpty());
+            assertNull(result.getNextCursor());
+            verifyNoInteractions(interviewRepository);
         }
     }
 
@@ -255,7 +339,7 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("admin");
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(interviewRepository.findById(1L)).thenReturn(Optional.of(testInterview));
+            when(interviewRepository.findDTOById(1L)).thenReturn(Optional.of(testInterviewDTO));
 
             Optional<InterviewDTO> result = interviewService.getInterviewById(1L);
 
@@ -263,7 +347,8 @@ class InterviewServiceTest {
             assertEquals(1L, result.get().id);
             assertEquals("John Doe", result.get().candidateName);
 
-            verify(interviewRepository).findById(1L);
+            verify(interviewRepository).findDTOById(1L);
+            verify(interviewRepository, never()).findById(anyLong());
         }
     }
 
@@ -275,14 +360,15 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("interviewer");
             when(userRepository.findByUsername("interviewer")).thenReturn(Optional.of(testUser));
-            when(interviewRepository.findById(1L)).thenReturn(Optional.of(testInterview));
+            when(interviewRepository.findDTOById(1L)).thenReturn(Optional.of(testInterviewDTO));
 
             Optional<InterviewDTO> result = interviewService.getInterviewById(1L);
 
             assertTrue(result.isPresent());
             assertEquals(1L, result.get().id);
 
-            verify(interviewRepository).findById(1L);
+            verify(interviewRepository).findDTOById(1L);
+            verify(interviewRepository, never()).findById(anyLong());
         }
     }
 
@@ -299,28 +385,31 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("other");
             when(userRepository.findByUsername("other")).thenReturn(Optional.of(otherUser));
-            when(interviewRepository.findById(1L)).thenReturn(Optional.of(testInterview));
+            when(interviewRepository.findDTOById(1L)).thenReturn(Optional.of(testInterviewDTO));
 
             Optional<InterviewDTO> result = interviewService.getInterviewById(1L);
 
             assertFalse(result.isPresent());
 
-            verify(interviewRepository).findById(1L);
+            verify(interviewRepository).findDTOById(1L);
+            verify(interviewRepository, never()).findById(anyLong());
         }
     }
 
     @Test
     void getInterviewById_InterviewNotFound_ReturnsEmpty() {
-        when(interviewRepository.findById(1L)).thenReturn(Optional.empty());
+        when(interviewRepository.findDTOById(1L)).thenReturn(Optional.empty());
 
         Optional<InterviewDTO> result = interviewService.getInterviewById(1L);
 
         assertFalse(result.isPresent());
-        verify(interviewRepository).findById(1L);
+        verify(interviewRepository).findDTOById(1L);
     }
 
     @Test
     void updateInterview_Success() {
+        LocalDateTime previousScheduledDate = testInterview.getScheduledDate();
+        testInterviewDTO.scheduledDate = previousScheduledDate.plusDays(3);
         when(interviewRepository.findById(1L)).thenReturn(Optional.of(testInterview));
         when(candidateRepository.findById(1L)).thenReturn(Optional.of(testCandidate));
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
@@ -333,6 +422,9 @@ class InterviewServiceTest {
 
         verify(interviewRepository).findById(1L);
         verify(interviewRepository).save(any(Interview.class));
+        verify(interviewSummaryService).interviewUpdated(testInterview);
+        verify(interviewAnalyticsService).interviewsChanged(previousScheduledDate, testInterviewDTO.scheduledDate);
+        verify(interviewEventBroadcaster).publish(InterviewEvent.updated(result.get(), 1L));
     }
 
     @Test
@@ -344,6 +436,7 @@ class InterviewServiceTest {
         assertFalse(result.isPresent());
         verify(interviewRepository).findById(1L);
         verify(interviewRepository, never()).save(any(Interview.class));
+        verifyNoInteractions(interviewSummaryService, interviewAnalyticsService, interviewEventBroadcaster);
     }
 
     @Test
@@ -364,31 +457,67 @@ class InterviewServiceTest {
 
     @Test
     void deleteInterview_Success() {
-        when(interviewRepository.existsById(1L)).thenReturn(true);
+        when(interviewRepository.findById(1L)).thenReturn(Optional.of(testInterview));
         doNothing().when(interviewRepository).deleteById(1L);
 
         boolean result = interviewService.deleteInterview(1L);
 
         assertTrue(result);
-        verify(interviewRepository).existsById(1L);
+        verify(interviewRepository).findById(1L);
         verify(interviewRepository).deleteById(1L);
+        verify(interviewSummaryService).interviewDeleted(1L);
+        verify(interviewAnalyticsService).interviewsChanged(testInterview.getScheduledDate());
+        verify(interviewEventBroadcaster).publish(InterviewEvent.deleted(1L, 1L));
+    }
+
+    @Test
+    void candidateDeleting_MarksScheduledDaysDirty() {
+        LocalDateTime first = LocalDateTime.of(2024, 3, 1, 10, 0);
+        LocalDateTime second = LocalDateTime.of(2024, 3, 8, 14, 0);
+        when(interviewRepository.findRefsByCandidateId(1L))
+                .thenReturn(List.of(interviewRef(1L, first, 1L), interviewRef(2L, second, null)));
+
+        interviewService.candidateDeleting(1L);
+
+        verify(interviewAnalyticsService).interviewsChanged(first, second);
+    }
+
+    @Test
+    void candidateDeleting_PublishesDeleteEvents() {
+        LocalDateTime scheduled = LocalDateTime.of(2024, 3, 1, 10, 0);
+        when(interviewRepository.findRefsByCandidateId(1L))
+                .thenReturn(List.of(interviewRef(1L, scheduled, 1L), interviewRef(2L, scheduled, null)));
+
+        interviewService.candidateDeleting(1L);
+
+        verify(interviewEventBroadcaster).publish(InterviewEvent.deleted(1L, 1L));
+        verify(interviewEventBroadcaster).publish(InterviewEvent.deleted(2L, null));
+    }
+
+    @Test
+    void candidateDeleting_NoInterviews_PublishesNothing() {
+        when(interviewRepository.findRefsByCandidateId(1L)).thenReturn(List.of());
+
+        interviewService.candidateDeleting(1L);
+
+        verifyNoInteractions(interviewEventBroadcaster);
     }
 
     @Test
     void deleteInterview_NotFound_ReturnsFalse() {
-        when(interviewRepository.existsById(1L)).thenReturn(false);
+        when(interviewRepository.findById(1L)).thenReturn(Optional.empty());
 
         boolean result = interviewService.deleteInterview(1L);
 
         assertFalse(result);
-        verify(interviewRepository).existsById(1L);
+        verify(interviewRepository).findById(1L);
         verify(interviewRepository, never()).deleteById(anyLong());
     }
 
     @Test
     void getInterviewsByCandidate_AdminUser_Success() {
         testUser.setRole(User.UserRole.ADMIN);
-        List<Interview> interviews = Arrays.asList(testInterview);
+        List<InterviewDTO> interviews = Arrays.asList(testInterviewDTO);
         
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
             mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -396,20 +525,21 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("admin");
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(interviewRepository.findByCandidateId(1L)).thenReturn(interviews);
+            when(interviewRepository.findDTOsByCandidateId(1L)).thenReturn(interviews);
 
             List<InterviewDTO> result = interviewService.getInterviewsByCandidate(1L);
 
             assertEquals(1, result.size());
             assertEquals(1L, result.get(0).id);
 
-            verify(interviewRepository).findByCandidateId(1L);
+            verify(interviewRepository).findDTOsByCandidateId(1L);
+            verify(interviewRepository, never()).findByCandidateId(1L);
         }
     }
 
     @Test
     void getInterviewsByCandidate_InterviewerUser_Success() {
-        List<Interview> interviews = Arrays.asList(testInterview);
+        List<InterviewDTO> interviews = Arrays.asList(testInterviewDTO);
         
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
             mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -417,14 +547,15 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("interviewer");
             when(userRepository.findByUsername("interviewer")).thenReturn(Optional.of(testUser));
-            when(interviewRepository.findByCandidateId(1L)).thenReturn(interviews);
+            when(interviewRepository.findDTOsByCandidateIdAndInterviewerId(1L, 1L)).thenReturn(interviews);
 
             List<InterviewDTO> result = interviewService.getInterviewsByCandidate(1L);
 
             assertEquals(1, result.size());
             assertEquals(1L, result.get(0).id);
 
-            verify(interviewRepository).findByCandidateId(1L);
+            verify(interviewRepository).findDTOsByCandidateIdAndInterviewerId(1L, 1L);
+            verify(interviewRepository, never()).findDTOsByCandidateId(any());
         }
     }
 
@@ -435,54 +566,52 @@ class InterviewServiceTest {
         otherUser.setUsername("other");
         otherUser.setRole(User.UserRole.INTERVIEWER);
         
-        List<Interview> interviews = Arrays.asList(testInterview);
-        
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
             mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
             when(securityContext.getAuthentication()).thenReturn(authentication);
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("other");
             when(userRepository.findByUsername("other")).thenReturn(Optional.of(otherUser));
-            when(interviewRepository.findByCandidateId(1L)).thenReturn(interviews);
+            when(interviewRepository.findDTOsByCandidateIdAndInterviewerId(1L, 2L)).thenReturn(List.of());
 
             List<InterviewDTO> result = interviewService.getInterviewsByCandidate(1L);
 
             assertTrue(result.isEmpty());
 
-            verify(interviewRepository).findByCandidateId(1L);
+            verify(interviewRepository).findDTOsByCandidateIdAndInterviewerId(1L, 2L);
         }
     }
 
     @Test
     void getInterviewsByStatus_Success() {
-        List<Interview> interviews = Arrays.asList(testInterview);
-        when(interviewRepository.findByStatus("SCHEDULED")).thenReturn(interviews);
+        List<InterviewDTO> interviews = Arrays.asList(testInterviewDTO);
+        when(interviewRepository.findDTOsByStatus("SCHEDULED")).thenReturn(interviews);
 
         List<InterviewDTO> result = interviewService.getInterviewsByStatus("SCHEDULED");
 
         assertEquals(1, result.size());
         assertEquals("SCHEDULED", result.get(0).status);
 
-        verify(interviewRepository).findByStatus("SCHEDULED");
+        verify(interviewRepository).findDTOsByStatus("SCHEDULED");
     }
 
     @Test
     void getInterviewsByPosition_Success() {
-        List<Interview> interviews = Arrays.asList(testInterview);
-        when(interviewRepository.findByPositionContainingIgnoreCase("Software")).thenReturn(interviews);
+        List<InterviewDTO> interviews = Arrays.asList(testInterviewDTO);
+        when(interviewRepository.findDTOsByPositionContaining("Software")).thenReturn(interviews);
 
         List<InterviewDTO> result = interviewService.getInterviewsByPosition("Software");
 
         assertEquals(1, result.size());
         assertEquals("Software Engineer", result.get(0).position);
 
-        verify(interviewRepository).findByPositionContainingIgnoreCase("Software");
+        verify(interviewRepository).findDTOsByPositionContaining("Software");
     }
 
     @Test
     void getInterviewsByInterviewer_AdminUser_Success() {
         testUser.setRole(User.UserRole.ADMIN);
-        List<Interview> interviews = Arrays.asList(testInterview);
+        List<InterviewDTO> interviews = Arrays.asList(testInterviewDTO);
         
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
             mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -490,20 +619,20 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("admin");
             when(userRepository.findByUsername("admin")).thenReturn(Optional.of(testUser));
-            when(interviewRepository.findByInterviewer_Id(1L)).thenReturn(interviews);
+            when(interviewRepository.findDTOsByInterviewerId(1L)).thenReturn(interviews);
 
             List<InterviewDTO> result = interviewService.getInterviewsByInterviewer(1L);
 
             assertEquals(1, result.size());
             assertEquals(1L, result.get(0).interviewerId);
 
-            verify(interviewRepository).findByInterviewer_Id(1L);
+            verify(interviewRepository).findDTOsByInterviewerId(1L);
         }
     }
 
     @Test
     void getInterviewsByInterviewer_SameInterviewer_Success() {
-        List<Interview> interviews = Arrays.asList(testInterview);
+        List<InterviewDTO> interviews = Arrays.asList(testInterviewDTO);
         
         try (MockedStatic<SecurityContextHolder> mockedStatic = mockStatic(SecurityContextHolder.class)) {
             mockedStatic.when(SecurityContextHolder::getContext).thenReturn(securityContext);
@@ -511,14 +640,14 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("interviewer");
             when(userRepository.findByUsername("interviewer")).thenReturn(Optional.of(testUser));
-            when(interviewRepository.findByInterviewer_Id(1L)).thenReturn(interviews);
+            when(interviewRepository.findDTOsByInterviewerId(1L)).thenReturn(interviews);
 
             List<InterviewDTO> result = interviewService.getInterviewsByInterviewer(1L);
 
             assertEquals(1, result.size());
             assertEquals(1L, result.get(0).interviewerId);
 
-            verify(interviewRepository).findByInterviewer_Id(1L);
+            verify(interviewRepository).findDTOsByInterviewerId(1L);
         }
     }
 
@@ -540,7 +669,7 @@ class InterviewServiceTest {
 
             assertTrue(result.isEmpty());
 
-            verify(interviewRepository, never()).findByInterviewer_Id(anyLong());
+            verify(interviewRepository, never()).findDTOsByInterviewerId(anyLong());
         }
     }
 
@@ -554,7 +683,7 @@ class InterviewServiceTest {
 
             assertTrue(result.isEmpty());
 
-            verify(interviewRepository, never()).findByInterviewer_Id(anyLong());
+            verify(interviewRepository, never()).findDTOsByInterviewerId(anyLong());
         }
     }
 
@@ -675,6 +804,126 @@ class InterviewServiceTest {
         assertThat(result.get().status).isEqualTo("SCHEDULED"); // Should remain unchanged
     }
 
+    @Test
+    void testUpdateInterviews_GroupsPlainUpdatesIntoOneStatement() {
+        Interview second = interview(2L, testUser);
+        InterviewDTO cancelFirst = new InterviewDTO();
+        cancelFirst.id = 1L;
+        cancelFirst.status = "CANCELLED";
+        InterviewDTO cancelSecond = new InterviewDTO();
+        cancelSecond.id = 2L;
+        cancelSecond.status = "CANCELLED";
+
+        when(interviewRepository.findAllWithCandidateAndInterviewer(Set.of(1L, 2L)))
+                .thenReturn(List.of(second, testInterview));
+
+        List<InterviewDTO> result = interviewService.updateInterviews(List.of(cancelFirst, cancelSecond));
+
+        assertThat(result).extracting(dto -> dto.id).containsExactly(1L, 2L);
+        verify(interviewRepository).updateAll(eq(List.of(1L, 2L)), isNull(), eq("CANCELLED"), isNull(), isNull(),
+                isNull(), isNull(), any(LocalDateTime.class));
+        verify(interviewRepository, times(2)).findAllWithCandidateAndInterviewer(Set.of(1L, 2L));
+        verify(interviewRepository, never()).flush();
+        verify(interviewSummaryService).interviewsUpdated(List.of(testInterview, second));
+        verify(interviewEventBroadcaster).publish(InterviewEvent.updated(result.get(0), 1L));
+        verify(interviewEventBroadcaster).publish(InterviewEvent.updated(result.get(1), 1L));
+    }
+
+    @Test
+    void testUpdateInterviews_AppliesReassignmentsToLoadedInterviews() {
+        User other = new User();
+        other.setId(2L);
+        other.setUsername("other");
+        LocalDateTime previousScheduledDate = testInterview.getScheduledDate();
+        InterviewDTO reassign = new InterviewDTO();
+        reassign.id = 1L;
+        reassign.interviewerId = 2L;
+        reassign.scheduledDate = previousScheduledDate.plusDays(1);
+
+        when(interviewRepository.findAllWithCandidateAndInterviewer(Set.of(1L))).thenReturn(List.of(testInterview));
+        when(userRepository.findAllById(Set.of(2L))).thenReturn(List.of(other));
+
+        List<InterviewDTO> result = interviewService.updateInterviews(List.of(reassign));
+
+        assertEquals(other, testInterview.getInterviewer());
+        assertEquals(reassign.scheduledDate, testInterview.getScheduledDate());
+        assertEquals("SCHEDULED", testInterview.getStatus());
+        assertEquals(2L, result.get(0).interviewerId);
+        verify(interviewRepository).flush();
+        verify(interviewRepository, never()).updateAll(any(), any(), any(), any(), any(), any(), any(), any());
+        verify(interviewAnalyticsService).interviewsChanged(previousScheduledDate, reassign.scheduledDate);
+        verify(interviewEventBroadcaster).publish(InterviewEvent.updated(result.get(0), 1L));
+    }
+
+    @Test
+    void testUpdateInterviews_UnknownInterviewerChangesNothing() {
+        InterviewDTO reassign = new InterviewDTO();
+        reassign.id = 1L;
+        reassign.interviewerId = 9L;
+
+        when(interviewRepository.findAllWithCandidateAndInterviewer(Set.of(1L))).thenReturn(List.of(testInterview));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> interviewService.updateInterviews(List.of(reassign)));
+
+        assertEquals("Interviewers not found: [9]", e.getMessage());
+        assertEquals(testUser, testInterview.getInterviewer());
+        verify(interviewRepository, never()).flush();
+        verifyNoInteractions(interviewSummaryService, interviewEventBroadcaster);
+    }
+
+    @Test
+    void testUpdateInterviews_UnknownInterview() {
+        InterviewDTO update = new InterviewDTO();
+        update.id = 5L;
+        update.status = "CANCELLED";
+
+        when(interviewRepository.findAllWithCandidateAndInterviewer(Set.of(5L))).thenReturn(List.of());
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> interviewService.updateInterviews(List.of(update)));
+
+        assertEquals("Interviews not found: [5]", e.getMessage());
+    }
+
+    @Test
+    void testUpdateInterviews_RejectsMissingAndRepeatedIds() {
+        InterviewDTO withoutId = new InterviewDTO();
+        InterviewDTO update = new InterviewDTO();
+        update.id = 1L;
+
+        assertThrows(IllegalArgumentException.class, () -> interviewService.updateInterviews(List.of(withoutId)));
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> interviewService.updateInterviews(List.of(update, update)));
+        assertEquals("Interview 1 is updated more than once", e.getMessage());
+        verifyNoInteractions(interviewRepository);
+    }
+
+    @Test
+    void testUpdateInterviews_TooMany() {
+        List<InterviewDTO> updates = Collections.nCopies(InterviewService.MAX_BATCH_SIZE + 1, new InterviewDTO());
+
+        assertThrows(IllegalArgumentException.class, () -> interviewService.updateInterviews(updates));
+        verifyNoInteractions(interviewRepository);
+    }
+
+    @Test
+    void testUpdateInterviews_Empty() {
+        assertThat(interviewService.updateInterviews(List.of())).isEmpty();
+        verifyNoInteractions(interviewRepository, interviewSummaryService);
+    }
+
+    private Interview interview(Long id, User interviewer) {
+        Interview interview = new Interview();
+        interview.setId(id);
+        interview.setCandidate(testCandidate);
+        interview.setInterviewer(interviewer);
+        interview.setPosition("Software Engineer");
+        interview.setStatus("SCHEDULED");
+        interview.setScheduledDate(LocalDateTime.now().plusDays(2));
+        return interview;
+    }
+
     @Test
     void testGetCurrentUser_WithNullAuthentication() {
         // Mock SecurityContextHolder to return null authentication
@@ -689,7 +938,7 @@ class InterviewServiceTest {
             try {
                 java.lang.reflect.Method getCurrentUserMethod = InterviewService.class.getDeclaredMethod("getCurrentUser");
                 getCurrentUserMethod.setAccessible(true);
-                User result = (User) getCurrentUserMethod.invoke(interviewService);
+                CurrentUser result = (CurrentUser) getCurrentUserMethod.invoke(interviewService);
                 
                 assertThat(result).isNull();
             } catch (Exception e) {
@@ -713,7 +962,7 @@ class InterviewServiceTest {
             try {
                 java.lang.reflect.Method getCurrentUserMethod = InterviewService.class.getDeclaredMethod("getCurrentUser");
                 getCurrentUserMethod.setAccessible(true);
-                User result = (User) getCurrentUserMethod.invoke(interviewService);
+                CurrentUser result = (CurrentUser) getCurrentUserMethod.invoke(interviewService);
                 
                 assertThat(result).isNull();
             } catch (Exception e) {
@@ -737,9 +986,12 @@ class InterviewServiceTest {
             
             // Use reflection to access private method
             try {
-                java.lang.reflect.Method isCurrentUserAdminOrHRMethod = InterviewService.class.getDeclaredMethod("isCurrentUserAdminOrHR");
+                java.lang.reflect.Method getCurrentUserMethod = InterviewService.class.getDeclaredMethod("getCurrentUser");
+                getCurrentUserMethod.setAccessible(true);
+                CurrentUser currentUser = (CurrentUser) getCurrentUserMethod.invoke(interviewService);
+                java.lang.reflect.Method isCurrentUserAdminOrHRMethod = InterviewService.class.getDeclaredMethod("isCurrentUserAdminOrHR", CurrentUser.class);
                 isCurrentUserAdminOrHRMethod.setAccessible(true);
-                boolean result = (Boolean) isCurrentUserAdminOrHRMethod.invoke(interviewService);
+                boolean result = (Boolean) isCurrentUserAdminOrHRMethod.invoke(interviewService, currentUser);
                 
                 assertThat(result).isFalse();
             } catch (Exception e) {
@@ -763,9 +1015,12 @@ class InterviewServiceTest {
             
             // Use reflection to access private method
             try {
-                java.lang.reflect.Method isCurrentUserAssignedToInterviewMethod = InterviewService.class.getDeclaredMethod("isCurrentUserAssignedToInterview", Interview.class);
+                java.lang.reflect.Method getCurrentUserMethod = InterviewService.class.getDeclaredMethod("getCurrentUser");
+                getCurrentUserMethod.setAccessible(true);
+                CurrentUser currentUser = (CurrentUser) getCurrentUserMethod.invoke(interviewService);
+                java.lang.reflect.Method isCurrentUserAssignedToInterviewMethod = InterviewService.class.getDeclaredMethod("isCurrentUserAssignedToInterview", CurrentUser.class, InterviewDTO.class);
                 isCurrentUserAssignedToInterviewMethod.setAccessible(true);
-                boolean result = (Boolean) isCurrentUserAssignedToInterviewMethod.invoke(interviewService, testInterview);
+                boolean result = (Boolean) isCurrentUserAssignedToInterviewMethod.invoke(interviewService, currentUser, testInterviewDTO);
                 
                 assertThat(result).isFalse();
             } catch (Exception e) {
@@ -776,9 +1031,9 @@ class InterviewServiceTest {
 
     @Test
     void testIsCurrentUserAssignedToInterview_WithNullInterviewer() {
-        Interview interview = new Interview();
-        interview.setId(1L);
-        interview.setInterviewer(null); // Null interviewer
+        InterviewDTO interview = new InterviewDTO();
+        interview.id = 1L;
+        interview.interviewerId = null; // Null interviewer
         
         // Mock getCurrentUser to return a user
         try (MockedStatic<SecurityContextHolder> mockedSecurityContext = mockStatic(SecurityContextHolder.class)) {
@@ -793,9 +1048,12 @@ class InterviewServiceTest {
             
             // Use reflection to access private method
             try {
-                java.lang.reflect.Method isCurrentUserAssignedToInterviewMethod = InterviewService.class.getDeclaredMethod("isCurrentUserAssignedToInterview", Interview.class);
+                java.lang.reflect.Method getCurrentUserMethod = InterviewService.class.getDeclaredMethod("getCurrentUser");
+                getCurrentUserMethod.setAccessible(true);
+                CurrentUser currentUser = (CurrentUser) getCurrentUserMethod.invoke(interviewService);
+                java.lang.reflect.Method isCurrentUserAssignedToInterviewMethod = InterviewService.class.getDeclaredMethod("isCurrentUserAssignedToInterview", CurrentUser.class, InterviewDTO.class);
                 isCurrentUserAssignedToInterviewMethod.setAccessible(true);
-                boolean result = (Boolean) isCurrentUserAssignedToInterviewMethod.invoke(interviewService, interview);
+                boolean result = (Boolean) isCurrentUserAssignedToInterviewMethod.invoke(interviewService, currentUser, interview);
                 
                 assertThat(result).isFalse();
             } catch (Exception e) {
@@ -824,7 +1082,7 @@ class InterviewServiceTest {
             when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(otherUser));
             
             // Return an empty page to avoid NPE
-            when(interviewRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+            when(interviewRepository.findAllDTOs(any(Pageable.class))).thenReturn(Page.empty());
             
             Page<InterviewDTO> result = interviewService.getAllInterviews(Pageable.unpaged());
             assertThat(result).isEmpty();
@@ -850,7 +1108,7 @@ class InterviewServiceTest {
             when(authentication.getName()).thenReturn("otheruser");
             when(userRepository.findByUsername("otheruser")).thenReturn(Optional.of(otherUser));
             
-            when(interviewRepository.findByCandidateId(1L)).thenReturn(List.of(testInterview));
+            when(interviewRepository.findDTOsByCandidateId(1L)).thenReturn(List.of(testInterviewDTO));
             
             // ADMIN/HR gets all interviews for the candidate
             List<InterviewDTO> result = interviewService.getInterviewsByCandidate(1L);
@@ -860,11 +1118,6 @@ class InterviewServiceTest {
 
     @Test
     void testGetInterviewsByCandidate_WithNullInterviewerInInterview() {
-        // Create an interview with null interviewer
-        Interview interviewWithNullInterviewer = new Interview();
-        interviewWithNullInterviewer.setId(2L);
-        interviewWithNullInterviewer.setInterviewer(null);
-        
         // Mock getCurrentUser to return an interviewer
         try (MockedStatic<SecurityContextHolder> mockedSecurityContext = mockStatic(SecurityContextHolder.class)) {
             SecurityContext securityContext = mock(SecurityContext.class);
@@ -876,7 +1129,8 @@ class InterviewServiceTest {
             when(authentication.getName()).thenReturn("testuser");
             when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
             
-            when(interviewRepository.findByCandidateId(1L)).thenReturn(List.of(interviewWithNullInterviewer));
+            // Unassigned interviews are excluded by the interviewer join
+            when(interviewRepository.findDTOsByCandidateIdAndInterviewerId(1L, 1L)).thenReturn(List.of());
             
             List<InterviewDTO> result = interviewService.getInterviewsByCandidate(1L);
             
@@ -929,7 +1183,7 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("hruser");
             when(userRepository.findByUsername("hruser")).thenReturn(Optional.of(hrUser));
-            when(interviewRepository.findAll(any(Pageable.class))).thenReturn(Page.empty());
+            when(interviewRepository.findAllDTOs(any(Pageable.class))).thenReturn(Page.empty());
             
             Page<InterviewDTO> result = interviewService.getAllInterviews(Pageable.unpaged());
             assertThat(result).isEmpty();
@@ -946,10 +1200,10 @@ class InterviewServiceTest {
             mockedSecurityContext.when(SecurityContextHolder::getContext).thenReturn(securityContext);
             when(securityContext.getAuthentication()).thenReturn(authentication);
             when(authentication.isAuthenticated()).thenReturn(false); // Not authenticated
-            when(interviewRepository.findByCandidateId(1L)).thenReturn(List.of(testInterview));
             
             List<InterviewDTO> result = interviewService.getInterviewsByCandidate(1L);
             assertThat(result).isEmpty();
+            verifyNoInteractions(interviewRepository);
         }
     }
 
@@ -970,7 +1224,7 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("adminuser");
             when(userRepository.findByUsername("adminuser")).thenReturn(Optional.of(adminUser));
-            when(interviewRepository.findByCandidateId(1L)).thenReturn(List.of(testInterview));
+            when(interviewRepository.findDTOsByCandidateId(1L)).thenReturn(List.of(testInterviewDTO));
             
             List<InterviewDTO> result = interviewService.getInterviewsByCandidate(1L);
             // ADMIN gets all interviews for the candidate
@@ -1062,10 +1316,10 @@ class InterviewServiceTest {
             when(authentication.isAuthenticated()).thenReturn(true);
             when(authentication.getName()).thenReturn("otheruser2");
             when(userRepository.findByUsername("otheruser2")).thenReturn(Optional.of(otherUser));
-            when(interviewRepository.findByCandidateId(1L)).thenReturn(List.of(testInterview));
             // Should hit the final else branch and return empty
             List<InterviewDTO> result = interviewService.getInterviewsByCandidate(1L);
             assertThat(result).isEmpty();
+            verifyNoInteractions(interviewRepository);
         }
     }
 
@@ -1091,4 +1345,24 @@ class InterviewServiceTest {
             assertThat(result).isEmpty();
         }
     }
-} 
\ No newline at end of file
+
+    private static InterviewRepository.InterviewRef interviewRef(Long id, LocalDateTime scheduledDate,
+                                                                 Long interviewerId) {
+        return new InterviewRepository.InterviewRef() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getScheduledDate() {
+                return scheduledDate;
+            }
+
+            @Override
+            public Long getInterviewerId() {
+                return interviewerId;
+            }
+        };
+    }
+}
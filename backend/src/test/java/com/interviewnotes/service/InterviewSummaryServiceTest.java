@@ -0,0 +1,310 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.dto.ReportPreviewDTO;
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.model.Interview;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.model.InterviewQuestion;
+import com.interviewnotes.model.InterviewSummary;
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.InterviewNotesRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import com.interviewnotes.repository.InterviewSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for InterviewSummaryService.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewSummaryServiceTest {
+
+    @Mock
+    private InterviewSummaryRepository interviewSummaryRepository;
+
+    @Mock
+    private InterviewRepository interviewRepository;
+
+    @Mock
+    private InterviewNotesRepository interviewNotesRepository;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @InjectMocks
+    private InterviewSummaryService interviewSummaryService;
+
+    private Interview interview;
+    private User interviewer;
+
+    @BeforeEach
+    void setUp() {
+        Candidate candidate = new Candidate("John", "Doe", "john@example.com", "Engineer");
+        candidate.setId(3L);
+        interviewer = new User("jane", "jane@example.com", "secret");
+        interviewer.setId(7L);
+        interviewer.setFirstName("Jane");
+        interviewer.setLastName("Smith");
+        interview = new Interview(candidate, "Backend Engineer", LocalDateTime.of(2024, 1, 20, 14, 0), 60);
+        interview.setId(1L);
+        interview.setInterviewer(interviewer);
+        interview.setStatus("COMPLETED");
+        interview.setOverallScore(new BigDecimal("8.2"));
+        lenient().when(interviewSummaryRepository.save(any(InterviewSummary.class))).thenAnswer(inv -> inv.getArgument(0));
+    }
+
+    @Test
+    void getPreview_ExistingSummary_SingleLookup() {
+        InterviewSummary summary = summaryWithRound(10L, "8.5", "STRONG_HIRE");
+        when(interviewSummaryRepository.findById(1L)).thenReturn(Optional.of(summary));
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(7L, "jane", User.UserRole.INTERVIEWER));
+
+        ReportPreviewDTO preview = interviewSummaryService.getPreview(1L).orElseThrow();
+
+        assertEquals("John Doe", preview.getCandidate().getName());
+        assertEquals(1, preview.getSummary().getTotalRounds());
+        assertEquals("Jane Smith", preview.getRounds().get(0).getInterviewer());
+        verifyNoInteractions(interviewRepository, interviewNotesRepository);
+    }
+
+    @Test
+    void getPreview_OtherInterviewer_Empty() {
+        when(interviewSummaryRepository.findById(1L)).thenReturn(Optional.of(summaryWithRound(10L, "8.5", "HIRE")));
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(8L, "bob", User.UserRole.INTERVIEWER));
+
+        assertTrue(interviewSummaryService.getPreview(1L).isEmpty());
+    }
+
+    @Test
+    void getPreview_HrSeesAnyInterview() {
+        when(interviewSummaryRepository.findById(1L)).thenReturn(Optional.of(summaryWithRound(10L, "8.5", "HIRE")));
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(9L, "hr", User.UserRole.HR_MANAGER));
+
+        assertTrue(interviewSummaryService.getPreview(1L).isPresent());
+    }
+
+    @Test
+    void getPreview_MissingSummary_RebuiltFromNotes() {
+        when(interviewSummaryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(interviewRepository.findById(1L)).thenReturn(Optional.of(interview));
+        when(interviewNotesRepository.findByInterviewIdWithQuestions(1L))
+                .thenReturn(List.of(notes(10L, "8.5", "STRONG_HIRE"), notesWithQuestions(11L, 7, 9)));
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(1L, "admin", User.UserRole.ADMIN));
+
+        ReportPreviewDTO preview = interviewSummaryService.getPreview(1L).orElseThrow();
+
+        assertEquals(2, preview.getSummary().getTotalRounds());
+        assertEquals(new BigDecimal("8.0"), preview.getRounds().get(1).getScore());
+        assertEquals(new BigDecimal("8.25"), preview.getSummary().getAverageScore());
+        assertEquals("STRONG_HIRE", preview.getSummary().getFinalRecommendation());
+        assertEquals("john@example.com", preview.getCandidate().getEmail());
+        verify(interviewSummaryRepository).save(any(InterviewSummary.class));
+    }
+
+    @Test
+    void getPreview_MissingSummary_OtherInterviewer_NotRebuilt() {
+        when(interviewSummaryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(interviewRepository.findById(1L)).thenReturn(Optional.of(interview));
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(8L, "bob", User.UserRole.INTERVIEWER));
+
+        assertTrue(interviewSummaryService.getPreview(1L).isEmpty());
+        verify(interviewSummaryRepository, never()).save(any());
+        verifyNoInteractions(interviewNotesRepository);
+    }
+
+    @Test
+    void getPreview_UnknownInterview_Empty() {
+        when(interviewSummaryRepository.findById(1L)).thenReturn(Optional.empty());
+        when(interviewRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(interviewSummaryService.getPreview(1L).isEmpty());
+        verify(interviewSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    void interviewCreated_SavesSummaryWithoutRounds() {
+        interviewSummaryService.interviewCreated(interview);
+
+        ArgumentCaptor<InterviewSummary> saved = ArgumentCaptor.forClass(InterviewSummary.class);
+        verify(interviewSummaryRepository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getInterviewId());
+        assertEquals("Jane Smith", saved.getValue().getInterviewerName());
+        assertEquals(7L, saved.getValue().getInterviewerId());
+        assertTrue(saved.getValue().getRounds().isEmpty());
+        verifyNoInteractions(interviewNotesRepository);
+    }
+
+    @Test
+    void interviewUpdated_PatchesFieldsAndKeepsRounds() {
+        InterviewSummary summary = summaryWithRound(10L, "8.5", "HIRE");
+        when(interviewSummaryRepository.findForUpdate(1L)).thenReturn(Optional.of(summary));
+        interview.setStatus("CANCELLED");
+        interview.setOverallScore(new BigDecimal("3.0"));
+
+        interviewSummaryService.interviewUpdated(interview);
+
+        assertEquals("CANCELLED", summary.getStatus());
+        assertEquals(new BigDecimal("3.0"), summary.getOverallScore());
+        assertEquals(1, summary.getTotalRounds());
+        verifyNoInteractions(interviewNotesRepository);
+    }
+
+    @Test
+    void interviewUpdated_MissingSummary_Rebuilt() {
+        when(interviewSummaryRepository.findForUpdate(1L)).thenReturn(Optional.empty());
+        when(interviewNotesRepository.findByInterviewIdWithQuestions(1L)).thenReturn(List.of(notes(10L, "6.0", "HIRE")));
+
+        interviewSummaryService.interviewUpdated(interview);
+
+        ArgumentCaptor<InterviewSummary> saved = ArgumentCaptor.forClass(InterviewSummary.class);
+        verify(interviewSummaryRepository).save(saved.capture());
+        assertEquals(1, saved.getValue().getTotalRounds());
+    }
+
+    @Test
+    void interviewsUpdated_LocksSummariesTogetherAndRebuildsMissing() {
+        InterviewSummary summary = summaryWithRound(10L, "8.5", "HIRE");
+        Interview other = new Interview(interview.getCandidate(), "Frontend Engineer", LocalDateTime.of(2024, 1, 21, 9, 0), 45);
+        other.setId(2L);
+        when(interviewSummaryRepository.findAllForUpdate(List.of(1L, 2L))).thenReturn(List.of(summary));
+        when(interviewNotesRepository.findByInterviewIdWithQuestions(2L)).thenReturn(List.of());
+        interview.setStatus("CANCELLED");
+
+        interviewSummaryService.interviewsUpdated(List.of(interview, other));
+
+        assertEquals("CANCELLED", summary.getStatus());
+        assertEquals(1, summary.getTotalRounds());
+        ArgumentCaptor<InterviewSummary> saved = ArgumentCaptor.forClass(InterviewSummary.class);
+        verify(interviewSummaryRepository).save(saved.capture());
+        assertEquals(2L, saved.getValue().getInterviewId());
+        verify(interviewSummaryRepository, never()).findForUpdate(any());
+    }
+
+    @Test
+    void interviewDeleted_DeletesSummary() {
+        interviewSummaryService.interviewDeleted(1L);
+
+        verify(interviewSummaryRepository).deleteById(1L);
+    }
+
+    @Test
+    void notesAdded_AppendsRoundWithQuestionScores() {
+        InterviewSummary summary = summaryWithRound(10L, "8.0", "HIRE");
+        when(interviewSummaryRepository.findForUpdate(1L)).thenReturn(Optional.of(summary));
+
+        interviewSummaryService.notesAdded(notesWithQuestions(11L, 6, 8));
+
+        assertEquals(2, summary.getTotalRounds());
+        assertEquals(new BigDecimal("7.50"), summary.getAverageScore());
+        verifyNoInteractions(interviewNotesRepository);
+    }
+
+    @Test
+    void notesUpdated_ChangesRoundInPlace() {
+        InterviewSummary summary = summaryWithRound(10L, "8.0", "HIRE");
+        when(interviewSummaryRepository.findForUpdate(1L)).thenReturn(Optional.of(summary));
+        InterviewNotes notes = notes(10L, "4.0", "NO_HIRE");
+        notes.setRoundType("BEHAVIORAL_ROUND");
+
+        interviewSummaryService.notesUpdated(notes);
+
+        assertEquals(1, summary.getTotalRounds());
+        assertEquals(new BigDecimal("4.00"), summary.getAverageScore());
+        assertEquals("NO_HIRE", summary.getFinalRecommendation());
+        assertEquals("BEHAVIORAL_ROUND", summary.findRound(10L).getRoundType());
+        verify(interviewSummaryRepository, never()).save(any());
+    }
+
+    @Test
+    void notesUpdated_RoundMissing_RebuildsExistingRow() {
+        InterviewSummary summary = new InterviewSummary(1L);
+        when(interviewSummaryRepository.findForUpdate(1L)).thenReturn(Optional.of(summary));
+        InterviewNotes notes = notes(10L, "5.0", "HIRE");
+        when(interviewNotesRepository.findByInterviewIdWithQuestions(1L)).thenReturn(List.of(notes));
+
+        interviewSummaryService.notesUpdated(notes);
+
+        assertEquals(1, summary.getTotalRounds());
+        verify(interviewSummaryRepository).save(summary);
+    }
+
+    @Test
+    void questionAdded_CountsScoreTowardsRound() {
+        InterviewSummary summary = new InterviewSummary(1L);
+        summary.putRound(new InterviewSummary.Round(10L));
+        when(interviewSummaryRepository.findForUpdate(1L)).thenReturn(Optional.of(summary));
+        InterviewNotes notes = notes(10L, null, null);
+        InterviewQuestion question = new InterviewQuestion("Design a cache", "SYSTEM_DESIGN");
+        question.setScore(9);
+        question.setInterviewNotes(notes);
+
+        interviewSummaryService.questionAdded(question);
+
+        assertEquals(new BigDecimal("9.00"), summary.getAverageScore());
+        verifyNoInteractions(interviewNotesRepository);
+    }
+
+    @Test
+    void candidateUpdated_CopiesDetails() {
+        Candidate candidate = new Candidate("Johnny", "Doe", "johnny@example.com", "Lead");
+        candidate.setId(3L);
+
+        interviewSummaryService.candidateUpdated(candidate);
+
+        verify(interviewSummaryRepository).updateCandidate(3L, "Johnny Doe", "johnny@example.com", "Lead");
+    }
+
+    @Test
+    void interviewerUpdated_CopiesName() {
+        interviewer.setFirstName("Janet");
+
+        interviewSummaryService.interviewerUpdated(interviewer);
+
+        verify(interviewSummaryRepository).updateInterviewerName(7L, "Janet Smith");
+    }
+
+    private InterviewSummary summaryWithRound(Long notesId, String score, String recommendation) {
+        InterviewSummary summary = new InterviewSummary(1L);
+        summary.setCandidateName("John Doe");
+        summary.setInterviewerId(7L);
+        summary.setInterviewerName("Jane Smith");
+        InterviewSummary.Round round = new InterviewSummary.Round(notesId);
+        round.setNotesScore(new BigDecimal(score));
+        round.setRecommendation(recommendation);
+        summary.putRound(round);
+        return summary;
+    }
+
+    private InterviewNotes notes(Long id, String score, String recommendation) {
+        InterviewNotes notes = new InterviewNotes();
+        notes.setId(id);
+        notes.setInterview(interview);
+        notes.setOverallScore(score != null ? new BigDecimal(score) : null);
+        notes.setRecommendation(recommendation);
+        return notes;
+    }
+
+    private InterviewNotes notesWithQuestions(Long id, Integer... scores) {
+        InterviewNotes notes = notes(id, null, null);
+        for (Integer score : scores) {
+            InterviewQuestion question = new InterviewQuestion("Question", "CODING");
+            question.setScore(score);
+            notes.addQuestion(question);
+        }
+        return notes;
+    }
+}
@@ -0,0 +1,148 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.repository.InterviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for InterviewerPerformanceService.
+ */
+@ExtendWith(MockitoExtension.class)
+class InterviewerPerformanceServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate END = LocalDate.of(2024, 3, 31);
+    private static final LocalDateTime FROM = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2024, 4, 1, 0, 0);
+
+    @Mock
+    private InterviewRepository interviewRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InterviewerPerformanceService performanceService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        performanceService = new InterviewerPerformanceService(interviewRepository, meterRegistry);
+    }
+
+    @Test
+    void getPerformance_ComputesRatesAndVariance() {
+        // scores 6.0, 8.0 and 10.0: mean 8, variance 8/3
+        when(interviewRepository.sumByInterviewer(FROM, TO)).thenReturn(List.of(
+                totals(7L, "Jane", "Smith", 4, 3, 3, "24.0", "200.00", 170, 3, 2)));
+        when(interviewRepository.countRoundTypesByInterviewer(FROM, TO)).thenReturn(List.of(
+                roundTypes(7L, "TECHNICAL_ROUND_1", 3), roundTypes(7L, "TECHNICAL_ROUND_2", 1)));
+
+        List<InterviewerPerformanceService.InterviewerPerformance> performance = performanceService.getPerformance(START, END);
+
+        assertEquals(1, performance.size());
+        InterviewerPerformanceService.InterviewerPerformance jane = performance.get(0);
+        assertEquals(7L, jane.getInterviewer().getId());
+        assertEquals("Jane Smith", jane.getInterviewer().getName());
+        assertEquals(4, jane.getTotalInterviews());
+        assertEquals(3, jane.getCompletedInterviews());
+        assertEquals(new BigDecimal("0.75"), jane.getCompletionRate());
+        assertEquals(new BigDecimal("8.00"), jane.getAverageScore());
+        assertEquals(new BigDecimal("2.67"), jane.getScoreVariance());
+        assertEquals(new BigDecimal("0.67"), jane.getHireRate());
+        assertEquals(new BigDecimal("43"), jane.getAverageInterviewDuration());
+        assertEquals(3L, jane.getRoundTypeBreakdown().get("TECHNICAL_ROUND_1"));
+        assertEquals(1L, jane.getRoundTypeBreakdown().get("TECHNICAL_ROUND_2"));
+    }
+
+    @Test
+    void getPerformance_InterviewerWithoutInterviews_HasNoRates() {
+        when(interviewRepository.sumByInterviewer(FROM, TO)).thenReturn(List.of(
+                totals(8L, "Bob", null, 0, 0, 0, "0", "0", 0, 0, 0)));
+        when(interviewRepository.countRoundTypesByInterviewer(FROM, TO)).thenReturn(List.of());
+
+        InterviewerPerformanceService.InterviewerPerformance bob = performanceService.getPerformance(START, END).get(0);
+
+        assertEquals("Bob", bob.getInterviewer().getName());
+        assertEquals(0, bob.getTotalInterviews());
+        assertNull(bob.getCompletionRate());
+        assertNull(bob.getAverageScore());
+        assertNull(bob.getScoreVariance());
+        assertNull(bob.getHireRate());
+        assertNull(bob.getAverageInterviewDuration());
+        assertTrue(bob.getRoundTypeBreakdown().isEmpty());
+    }
+
+    @Test
+    void getPerformance_StartAfterEnd_Throws() {
+        assertThrows(RuntimeException.class, () -> performanceService.getPerformance(END, START));
+        verifyNoInteractions(interviewRepository);
+    }
+
+    @Test
+    void variance_IsExactUntilFinalDivision() {
+        // 7.5 and 8.5: mean 8, variance 0.25
+        assertEquals(new BigDecimal("0.25"),
+                InterviewerPerformanceService.InterviewerPerformance.variance(new BigDecimal("16.0"), new BigDecimal("128.50"), 2));
+        assertEquals(new BigDecimal("0.00"),
+                InterviewerPerformanceService.InterviewerPerformance.variance(new BigDecimal("9.0"), new BigDecimal("81.00"), 1));
+    }
+
+    @Test
+    void refreshGauges_PublishesCurrentMonthPerInterviewer() {
+        when(interviewRepository.sumByInterviewer(any(), any())).thenReturn(List.of(
+                totals(7L, "Jane", "Smith", 4, 3, 3, "24.0", "200.00", 170, 3, 2),
+                totals(8L, "Bob", "Jones", 0, 0, 0, "0", "0", 0, 0, 0)));
+        when(interviewRepository.countRoundTypesByInterviewer(any(), any())).thenReturn(List.of());
+
+        performanceService.refreshGauges();
+
+        LocalDate today = LocalDate.now();
+        verify(interviewRepository).sumByInterviewer(today.withDayOfMonth(1).atStartOfDay(),
+                today.withDayOfMonth(1).plusMonths(1).atStartOfDay());
+        assertEquals(4.0, meterRegistry.get("interviewer.interviews").tag("interviewer", "7").gauge().value());
+        assertEquals(0.0, meterRegistry.get("interviewer.interviews").tag("interviewer", "8").gauge().value());
+        assertEquals(0.75, meterRegistry.get("interviewer.completion.rate").tag("interviewer", "7").gauge().value());
+        assertEquals(8.0, meterRegistry.get("interviewer.score.average").tag("interviewer", "7").gauge().value());
+        assertEquals(2.67, meterRegistry.get("interviewer.score.variance").tag("interviewer", "7").gauge().value());
+        // no scores, no average gauge
+        assertNull(meterRegistry.find("interviewer.score.average").tag("interviewer", "8").gauge());
+    }
+
+    private static InterviewRepository.InterviewerTotals totals(Long id, String firstName, String lastName, long total,
+                                                                long completed, long scored, String scoreTotal,
+                                                                String scoreSquareTotal, long durationTotal,
+                                                                long recommended, long hired) {
+        return new InterviewRepository.InterviewerTotals() {
+            public Long getInterviewerId() { return id; }
+            public String getFirstName() { return firstName; }
+            public String getLastName() { return lastName; }
+            public Long getTotalInterviews() { return total; }
+            public Long getCompletedInterviews() { return completed; }
+            public Long getScoredInterviews() { return scored; }
+            public BigDecimal getScoreTotal() { return new BigDecimal(scoreTotal); }
+            public BigDecimal getScoreSquareTotal() { return new BigDecimal(scoreSquareTotal); }
+            public Long getDurationTotal() { return durationTotal; }
+            public Long getRecommendedInterviews() { return recommended; }
+            public Long getHiredInterviews() { return hired; }
+        };
+    }
+
+    private static InterviewRepository.InterviewerRoundTypes roundTypes(Long id, String roundType, long rounds) {
+        return new InterviewRepository.InterviewerRoundTypes() {
+            public Long getInterviewerId() { return id; }
+            public String getRoundType() { return roundType; }
+            public Long getRounds() { return rounds; }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.interviewnotes.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordVerifierTest {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+
+    @Test
+    void verify_MatchingPasswordWithCurrentCost() {
+        PasswordVerifier verifier = new PasswordVerifier(encoder, Runnable::run, 4);
+
+        PasswordVerifier.Verification verification = verifier.verify("secret", encoder.encode("secret"));
+
+        assertTrue(verification.isMatched());
+        assertNull(verification.getRehashedPassword());
+    }
+
+    @Test
+    void verify_WrongPassword() {
+        PasswordVerifier verifier = new PasswordVerifier(encoder, Runnable::run, 4);
+
+        PasswordVerifier.Verification verification = verifier.verify("wrong", encoder.encode("secret"));
+
+        assertFalse(verification.isMatched());
+        assertNull(verification.getRehashedPassword());
+    }
+
+    @Test
+    void verify_UnknownUser() {
+        PasswordVerifier verifier = new PasswordVerifier(encoder, Runnable::run, 4);
+
+        assertFalse(verifier.verify("secret", null).isMatched());
+    }
+
+    @Test
+    void verify_DifferentCost_Rehashed() {
+        PasswordVerifier verifier = new PasswordVerifier(encoder, Runnable::run, 4);
+        String oldHash = new BCryptPasswordEncoder(5).encode("secret");
+
+        PasswordVerifier.Verification verification = verifier.verify("secret", oldHash);
+
+        assertTrue(verification.isMatched());
+        assertTrue(verification.getRehashedPassword().startsWith("$2a$04$"));
+        assertTrue(encoder.matches("secret", verification.getRehashedPassword()));
+        assertNull(verifier.verify("wrong", oldHash).getRehashedPassword());
+    }
+
+    @Test
+    void verify_PoolSaturated_Rejected() {
+        PasswordVerifier verifier = new PasswordVerifier(encoder, task -> {
+            throw new TaskRejectedException("full");
+        }, 4);
+
+        assertThrows(TaskRejectedException.class, () -> verifier.verify("secret", "hash"));
+    }
+
+    @Test
+    void verify_OnPoolWithMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordVerifier verifier = new PasswordVerifier(encoder, registry, 4, 1, 10);
+        try {
+            assertTrue(verifier.verify("secret", encoder.encode("secret")).isMatched());
+            assertNotNull(registry.find("executor.queued").tag("name", PasswordVerifier.EXECUTOR_NAME).gauge());
+        } finally {
+            verifier.destroy();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.model.InterviewNotes;
+import com.interviewnotes.model.InterviewQuestion;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for PdfInterviewReportRenderer.
+ */
+class PdfInterviewReportRendererTest {
+
+    private final PdfInterviewReportRenderer renderer = new PdfInterviewReportRenderer();
+
+    @Test
+    void render_WritesInterviewNotesAndQuestions() throws IOException {
+        String text = render(report(true, true, 1));
+
+        assertTrue(text.contains("Interview Report"));
+        assertTrue(text.contains("John Doe"));
+        assertTrue(text.contains("Software Engineer"));
+        assertTrue(text.contains("Solid fundamentals"));
+        assertTrue(text.contains("Explain hashing"));
+        assertTrue(text.contains("8.5"));
+    }
+
+    @Test
+    void render_WithoutNotesAndScores_LeavesThemOut() throws IOException {
+        String text = render(report(false, false, 1));
+
+        assertTrue(text.contains("Explain hashing"));
+        assertFalse(text.contains("Solid fundamentals"));
+        assertFalse(text.contains("8.5"));
+        assertFalse(text.contains("Score"));
+    }
+
+    @Test
+    void render_ManyQuestions_SpansPages() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.render(report(true, true, 200), out);
+
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(out.toByteArray())))) {
+            assertTrue(pdf.getNumberOfPages() > 1);
+        }
+    }
+
+    @Test
+    void render_DoesNotCloseStream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                fail("stream closed");
+            }
+        };
+
+        renderer.render(report(true, true, 1), out);
+
+        assertTrue(out.toString().startsWith("%PDF-"));
+    }
+
+    private String render(InterviewReport report) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.render(report, out);
+
+        StringBuilder text = new StringBuilder();
+        try (PdfDocument pdf = new PdfDocument(new PdfReader(new ByteArrayInputStream(out.toByteArray())))) {
+            for (int page = 1; page <= pdf.getNumberOfPages(); page++) {
+                text.append(PdfTextExtractor.getTextFromPage(pdf.getPage(page)));
+            }
+        }
+        return text.toString().replaceAll("\\s+", " ");
+    }
+
+    static InterviewReport report(boolean includeNotes, boolean includeScores, int questionCount) {
+        InterviewDTO interview = new InterviewDTO();
+        interview.id = 1L;
+        interview.candidateName = "John Doe";
+        interview.position = "Software Engineer";
+        interview.status = "COMPLETED";
+        interview.interviewerName = "Jane Smith";
+        interview.overallScore = new BigDecimal("8.5");
+        interview.notes = "Solid fundamentals";
+
+        InterviewNotes notes = new InterviewNotes();
+        notes.setTechnicalNotes("Knows collections well");
+        notes.setStrengths(new String[]{"Java"});
+        for (int i = 0; i < questionCount; i++) {
+            InterviewQuestion question = new InterviewQuestion(i == 0 ? "Explain hashing" : "Question " + i, "CODING");
+            question.setId((long) i + 1);
+            question.setResponse("Buckets and hashing");
+            question.setScore(7);
+            notes.addQuestion(question);
+        }
+        return new InterviewReport(interview, List.of(notes), includeNotes, includeScores);
+    }
+}
@@ -0,0 +1,47 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.repository.CandidateRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostgresCandidateSearchIndexTest {
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @InjectMocks
+    private PostgresCandidateSearchIndex searchIndex;
+
+    @Test
+    void search_BuildsPrefixQueryAndDropsSort() {
+        PageRequest unsorted = PageRequest.of(0, 20);
+        when(candidateRepository.searchCandidateIds("john:* & dev:*", unsorted))
+                .thenReturn(new PageImpl<>(List.of(1L), unsorted, 1));
+
+        Page<Long> result = searchIndex.search("John, Dev!", PageRequest.of(0, 20, Sort.by("createdAt").descending()));
+
+        assertEquals(List.of(1L), result.getContent());
+        verify(candidateRepository).searchCandidateIds("john:* & dev:*", unsorted);
+    }
+
+    @Test
+    void search_NoTerms_SkipsQuery() {
+        Page<Long> result = searchIndex.search("'&|!", PageRequest.of(0, 20));
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(candidateRepository);
+    }
+}
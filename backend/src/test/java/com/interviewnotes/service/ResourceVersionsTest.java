@@ -0,0 +1,158 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.model.Interview;
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.CandidateRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import com.interviewnotes.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the version queries against H2 and checks which changes move the ETags.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ResourceVersionsTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private CurrentUserProvider currentUserProvider;
+    private ResourceVersions resourceVersions;
+    private User interviewer;
+    private Candidate candidate;
+    private Interview interview;
+
+    @BeforeEach
+    void setUp() {
+        currentUserProvider = mock(CurrentUserProvider.class);
+        resourceVersions = new ResourceVersions(candidateRepository, interviewRepository, userRepository,
+                currentUserProvider);
+
+        interviewer = new User("jane", "jane@example.com", "password");
+        entityManager.persist(interviewer);
+        candidate = new Candidate();
+        candidate.setFirstName("John");
+        candidate.setLastName("Doe");
+        candidate.setEmail("john@example.com");
+        candidate.setPosition("Developer");
+        entityManager.persist(candidate);
+        interview = new Interview(candidate, "Developer", LocalDateTime.now(), 60);
+        interview.setInterviewer(interviewer);
+        entityManager.persist(interview);
+        entityManager.flush();
+    }
+
+    @Test
+    void unchangedData_SameETags() {
+        assertEquals(resourceVersions.candidates().getETag(), resourceVersions.candidates().getETag());
+        assertEquals(resourceVersions.candidate(candidate.getId()).getETag(),
+                resourceVersions.candidate(candidate.getId()).getETag());
+        assertEquals(resourceVersions.users().getETag(), resourceVersions.users().getETag());
+        assertEquals(resourceVersions.user(interviewer.getId()).getETag(),
+                resourceVersions.user(interviewer.getId()).getETag());
+    }
+
+    @Test
+    void missingResources_NoVersion() {
+        assertNull(resourceVersions.candidate(-1L));
+        assertNull(resourceVersions.candidateByEmail("nobody@example.com"));
+        assertNull(resourceVersions.interview(-1L));
+        assertNull(resourceVersions.user(-1L));
+    }
+
+    @Test
+    void interviewChange_MovesCandidateAndInterviewVersions() {
+        ResourceVersion candidates = resourceVersions.candidates();
+        ResourceVersion single = resourceVersions.candidate(candidate.getId());
+        ResourceVersion interviews = resourceVersions.interviews();
+        ResourceVersion users = resourceVersions.users();
+
+        interview.setStatus("COMPLETED");
+        interview.setUpdatedAt(interview.getUpdatedAt().plusSeconds(1));
+        entityManager.flush();
+
+        assertNotEquals(candidates.getETag(), resourceVersions.candidates().getETag());
+        assertNotEquals(single.getETag(), resourceVersions.candidate(candidate.getId()).getETag());
+        assertNotEquals(interviews.getETag(), resourceVersions.interviews().getETag());
+        assertEquals(users.getETag(), resourceVersions.users().getETag());
+    }
+
+    @Test
+    void deletedInterview_MovesCandidateVersionButNotLastModified() {
+        ResourceVersion single = resourceVersions.candidate(candidate.getId());
+
+        Interview older = new Interview(candidate, "Developer", LocalDateTime.now(), 30);
+        entityManager.persist(older);
+        entityManager.flush();
+        ResourceVersion withTwo = resourceVersions.candidate(candidate.getId());
+        entityManager.remove(older);
+        entityManager.flush();
+
+        ResourceVersion afterDelete = resourceVersions.candidate(candidate.getId());
+        assertNotEquals(withTwo.getETag(), afterDelete.getETag());
+        assertEquals(single.getETag(), afterDelete.getETag());
+        assertFalse(afterDelete.isLastModifiedExact());
+    }
+
+    @Test
+    void interviewerRename_MovesInterviewVersions() {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(1L, "admin", User.UserRole.ADMIN));
+        ResourceVersion interviews = resourceVersions.interviews();
+        ResourceVersion single = resourceVersions.interview(interview.getId());
+
+        interviewer.setFirstName("Janet");
+        interviewer.setUpdatedAt(interviewer.getUpdatedAt().plusSeconds(1));
+        entityManager.flush();
+
+        assertNotEquals(interviews.getETag(), resourceVersions.interviews().getETag());
+        assertNotEquals(single.getETag(), resourceVersions.interview(interview.getId()).getETag());
+        assertTrue(resourceVersions.interview(interview.getId()).isLastModifiedExact());
+    }
+
+    @Test
+    void interviewVersions_DependOnViewer() {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(1L, "admin", User.UserRole.ADMIN));
+        ResourceVersion asAdmin = resourceVersions.interviews();
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(interviewer.getId(), "jane", User.UserRole.INTERVIEWER));
+
+        assertNotEquals(asAdmin.getETag(), resourceVersions.interviews().getETag());
+    }
+
+    @Test
+    void interview_OnlyVersionedForUsersWhoMaySeeIt() {
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(interviewer.getId() + 1, "joe", User.UserRole.INTERVIEWER));
+        assertNull(resourceVersions.interview(interview.getId()));
+
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(interviewer.getId(), "jane", User.UserRole.INTERVIEWER));
+        assertNotNull(resourceVersions.interview(interview.getId()));
+
+        when(currentUserProvider.getCurrentUser()).thenReturn(null);
+        assertNull(resourceVersions.interview(interview.getId()));
+    }
+}
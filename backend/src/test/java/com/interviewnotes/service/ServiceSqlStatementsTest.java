@@ -0,0 +1,127 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.controller.InterviewController.InterviewDTO;
+import com.interviewnotes.dto.CandidateDTO;
+import com.interviewnotes.model.Candidate;
+import com.interviewnotes.model.Interview;
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.CandidateRepository;
+import com.interviewnotes.repository.InterviewRepository;
+import com.interviewnotes.util.MaxSqlStatements;
+import com.interviewnotes.util.SqlStatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Statement budgets for the service read paths that map entities to DTOs,
+ * run against H2 so that lazy loading really happens.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ServiceSqlStatementsTest {
+
+    private static final int CANDIDATES = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CandidateRepository candidateRepository;
+
+    @Autowired
+    private InterviewRepository interviewRepository;
+
+    private CandidateService candidateService;
+    private InterviewService interviewService;
+    private CurrentUserProvider currentUserProvider;
+    private User interviewer;
+
+    @BeforeEach
+    void setUp() {
+        currentUserProvider = mock(CurrentUserProvider.class);
+        interviewService = new InterviewService();
+        ReflectionTestUtils.setField(interviewService, "interviewRepository", interviewRepository);
+        ReflectionTestUtils.setField(interviewService, "currentUserProvider", currentUserProvider);
+        candidateService = new CandidateService(candidateRepository, mock(CandidateSearchIndex.class),
+                mock(InterviewSummaryService.class), interviewService);
+
+        interviewer = new User("jane", "jane@example.com", "password");
+        interviewer.setFirstName("Jane");
+        interviewer.setLastName("Roe");
+        entityManager.persist(interviewer);
+        for (int i = 0; i < CANDIDATES; i++) {
+            Candidate candidate = new Candidate();
+            candidate.setFirstName("John" + i);
+            candidate.setLastName("Doe");
+            candidate.setEmail("john" + i + "@example.com");
+            candidate.setPosition("Developer");
+            entityManager.persist(candidate);
+            for (int j = 0; j < 2; j++) {
+                Interview interview = new Interview(candidate, "Developer", LocalDateTime.now().plusDays(j), 60);
+                interview.setInterviewer(interviewer);
+                entityManager.persist(interview);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @MaxSqlStatements(3)
+    void getAllCandidates_LoadsInterviewsOfWholePageAtOnce(SqlStatementCounter.Scope statements) {
+        statements.reset();
+
+        Page<CandidateDTO> page = candidateService.getAllCandidates(PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(CANDIDATES, page.getTotalElements());
+        page.getContent().forEach(candidate -> assertEquals(2, candidate.getInterviews().size()));
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void getCandidatesByCursor_SummariesTakeOneQuery(SqlStatementCounter.Scope statements) {
+        statements.reset();
+
+        assertEquals(10, candidateService.getCandidatesByCursor(null, 10, Sort.Direction.DESC, true)
+                .getContent().size());
+    }
+
+    @Test
+    @MaxSqlStatements(2)
+    void getAllInterviews_MapsInTheQuery(SqlStatementCounter.Scope statements) {
+        when(currentUserProvider.getCurrentUser()).thenReturn(new CurrentUser(1L, "admin", User.UserRole.ADMIN));
+        statements.reset();
+
+        Page<InterviewDTO> page = interviewService.getAllInterviews(PageRequest.of(0, 10));
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(CANDIDATES * 2, page.getTotalElements());
+        page.getContent().forEach(interview -> assertEquals("Jane Roe", interview.interviewerName));
+    }
+
+    @Test
+    @MaxSqlStatements(1)
+    void getInterviewsByInterviewer_MapsInTheQuery(SqlStatementCounter.Scope statements) {
+        when(currentUserProvider.getCurrentUser())
+                .thenReturn(new CurrentUser(interviewer.getId(), "jane", User.UserRole.INTERVIEWER));
+        statements.reset();
+
+        assertEquals(CANDIDATES * 2, interviewService.getInterviewsByInterviewer(interviewer.getId()).size());
+    }
+}
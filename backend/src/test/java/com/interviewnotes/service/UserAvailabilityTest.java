@@ -0,0 +1,106 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAvailabilityTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserAvailability userAvailability;
+
+    @BeforeEach
+    void setUp() {
+        userAvailability = new UserAvailability(userRepository, 1000, 0.01);
+    }
+
+    @Test
+    void beforeWarmUp_ChecksDatabase() {
+        when(userRepository.existsByUsername("admin")).thenReturn(true);
+        when(userRepository.existsByEmail("new@example.com")).thenReturn(false);
+
+        assertFalse(userAvailability.isUsernameAvailable("admin"));
+        assertTrue(userAvailability.isEmailAvailable("new@example.com"));
+    }
+
+    @Test
+    void afterWarmUp_UnknownValuesAvailableWithoutQuery() {
+        when(userRepository.findAllIdentities()).thenReturn(List.of(identity("admin", "admin@example.com")));
+        userAvailability.warmUp();
+
+        assertTrue(userAvailability.isUsernameAvailable("newuser"));
+        assertTrue(userAvailability.isEmailAvailable("new@example.com"));
+        verify(userRepository, never()).existsByUsername(any());
+        verify(userRepository, never()).existsByEmail(any());
+    }
+
+    @Test
+    void afterWarmUp_KnownValuesConfirmedByDatabase() {
+        when(userRepository.findAllIdentities()).thenReturn(List.of(identity("admin", "admin@example.com")));
+        when(userRepository.existsByUsername("admin")).thenReturn(true);
+        when(userRepository.existsByEmail("admin@example.com")).thenReturn(false);
+        userAvailability.warmUp();
+
+        assertFalse(userAvailability.isUsernameAvailable("admin"));
+        // the user changed email since the filter was built
+        assertTrue(userAvailability.isEmailAvailable("admin@example.com"));
+    }
+
+    @Test
+    void add_SavedUserNoLongerReportedWithoutQuery() {
+        when(userRepository.findAllIdentities()).thenReturn(List.of());
+        when(userRepository.existsByUsername("newuser")).thenReturn(true);
+        userAvailability.warmUp();
+
+        userAvailability.add(user("newuser", "new@example.com"));
+
+        assertFalse(userAvailability.isUsernameAvailable("newuser"));
+        verify(userRepository).existsByUsername("newuser");
+    }
+
+    @Test
+    void refresh_KeepsUsersAddedWhileLoading() {
+        when(userRepository.findAllIdentities()).thenAnswer(invocation -> {
+            userAvailability.add(user("newuser", "new@example.com"));
+            return List.of();
+        });
+        when(userRepository.existsByEmail("new@example.com")).thenReturn(true);
+
+        userAvailability.refresh();
+
+        assertFalse(userAvailability.isEmailAvailable("new@example.com"));
+    }
+
+    private static User user(String username, String email) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(email);
+        return user;
+    }
+
+    private static UserRepository.Identity identity(String username, String email) {
+        return new UserRepository.Identity() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
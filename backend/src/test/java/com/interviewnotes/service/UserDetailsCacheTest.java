@@ -0,0 +1,109 @@
+package com.interviewnotes.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for UserDetailsCache.
+ * Tests caching, eviction, expiry and published metrics.
+ */
+class UserDetailsCacheTest {
+
+    private MeterRegistry meterRegistry;
+    private UserDetailsCache userDetailsCache;
+    private AtomicInteger loads;
+    private Function<String, UserDetails> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsCache = new UserDetailsCache(60000, 100, meterRegistry);
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return new User(username, "password",
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_INTERVIEWER")));
+        };
+    }
+
+    @Test
+    void get_SecondLookup_ServedFromCache() {
+        UserDetails first = userDetailsCache.get("testuser", loader);
+        UserDetails second = userDetailsCache.get("testuser", loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void evict_ForcesReload() {
+        userDetailsCache.get("testuser", loader);
+        userDetailsCache.evict("testuser");
+        userDetailsCache.get("testuser", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictAll_ForcesReload() {
+        userDetailsCache.get("a", loader);
+        userDetailsCache.get("b", loader);
+        userDetailsCache.evictAll();
+        userDetailsCache.get("a", loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evict_NullUsername_IsIgnored() {
+        assertDoesNotThrow(() -> userDetailsCache.evict(null));
+    }
+
+    @Test
+    void get_ExpiredEntry_Reloads() throws InterruptedException {
+        UserDetailsCache shortLived = new UserDetailsCache(20, 100, new SimpleMeterRegistry());
+        shortLived.get("testuser", loader);
+
+        Thread.sleep(40);
+        shortLived.get("testuser", loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_LoaderThrows_PropagatesAndCachesNothing() {
+        Function<String, UserDetails> failing = username -> {
+            throw new RuntimeException("User not found");
+        };
+
+        assertThrows(RuntimeException.class, () -> userDetailsCache.get("missing", failing));
+        userDetailsCache.get("missing", loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void metrics_ExposeHitsMissesAndSize() {
+        userDetailsCache.get("testuser", loader);
+        userDetailsCache.get("testuser", loader);
+        userDetailsCache.get("testuser", loader);
+
+        assertEquals(2.0, meterRegistry.get("cache.gets")
+                .tag("cache", "userDetails").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "userDetails").tag("result", "miss").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.size")
+                .tag("cache", "userDetails").gauge().value());
+    }
+}
@@ -0,0 +1,154 @@
+package com.interviewnotes.service;
+
+import com.interviewnotes.model.User;
+import com.interviewnotes.repository.UserRepository;
+import com.interviewnotes.repository.VersionStamp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSecurityEpochsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 5, 10, 0);
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserSecurityEpochs userSecurityEpochs;
+
+    @BeforeEach
+    void setUp() {
+        userSecurityEpochs = new UserSecurityEpochs(userRepository, 60000, 2);
+    }
+
+    @Test
+    void isCurrent_UnknownUserLoadedOnce() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, true, 2)));
+
+        assertTrue(userSecurityEpochs.isCurrent(1L, 2));
+        assertFalse(userSecurityEpochs.isCurrent(1L, 1));
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void isCurrent_DisabledUserRejectedWithoutRequery() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, false, 0)));
+
+        assertFalse(userSecurityEpochs.isCurrent(1L, 0));
+        assertFalse(userSecurityEpochs.isCurrent(1L, UserSecurityEpochs.REVOKED));
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void isCurrent_MissingUserRejectedAndNotCached() {
+        when(userRepository.findById(2L)).thenReturn(Optional.empty(), Optional.of(user(2L, true, 0)));
+
+        assertFalse(userSecurityEpochs.isCurrent(2L, 0));
+        assertTrue(userSecurityEpochs.isCurrent(2L, 0));
+        verify(userRepository, times(2)).findById(2L);
+    }
+
+    @Test
+    void isCurrent_CacheBounded() {
+        when(userRepository.findById(any())).thenAnswer(invocation ->
+                Optional.of(user(invocation.getArgument(0), true, 0)));
+
+        userSecurityEpochs.isCurrent(1L, 0);
+        userSecurityEpochs.isCurrent(2L, 0);
+        userSecurityEpochs.isCurrent(3L, 0);
+        userSecurityEpochs.isCurrent(1L, 0);
+
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    void update_AndRevoke_ApplyWithoutQueries() {
+        User user = user(1L, true, 0);
+        userSecurityEpochs.update(user);
+        assertTrue(userSecurityEpochs.isCurrent(1L, 0));
+
+        user.setEnabled(false);
+        userSecurityEpochs.update(user);
+        assertFalse(userSecurityEpochs.isCurrent(1L, 0));
+        assertFalse(userSecurityEpochs.isCurrent(1L, 1));
+
+        userSecurityEpochs.update(user(2L, true, 0));
+        userSecurityEpochs.revoke(2L);
+        assertFalse(userSecurityEpochs.isCurrent(2L, 0));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void refresh_UnchangedVersion_KeepsCache() {
+        when(userRepository.findVersion()).thenReturn(version(1L, NOW));
+        userSecurityEpochs.refresh();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, true, 0)));
+        assertTrue(userSecurityEpochs.isCurrent(1L, 0));
+
+        userSecurityEpochs.refresh();
+
+        assertTrue(userSecurityEpochs.isCurrent(1L, 0));
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void refresh_ChangedVersion_ReloadsUsers() {
+        when(userRepository.findVersion()).thenReturn(version(1L, NOW), version(1L, NOW.plusSeconds(1)));
+        userSecurityEpochs.refresh();
+        userSecurityEpochs.update(user(1L, true, 0));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, true, 1)));
+
+        userSecurityEpochs.refresh();
+
+        assertFalse(userSecurityEpochs.isCurrent(1L, 0));
+        assertTrue(userSecurityEpochs.isCurrent(1L, 1));
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void refresh_DuringLookup_LookupNotCached() {
+        when(userRepository.findVersion()).thenReturn(version(1L, NOW), version(1L, NOW.plusSeconds(1)));
+        userSecurityEpochs.refresh();
+        when(userRepository.findById(1L)).thenAnswer(invocation -> {
+            userSecurityEpochs.refresh();
+            return Optional.of(user(1L, true, 0));
+        }).thenReturn(Optional.of(user(1L, false, 0)));
+
+        assertTrue(userSecurityEpochs.isCurrent(1L, 0));
+
+        assertFalse(userSecurityEpochs.isCurrent(1L, 0));
+    }
+
+    private static User user(Long id, boolean enabled, int epoch) {
+        User user = new User();
+        user.setId(id);
+        for (int i = 0; i < epoch; i++) {
+            user.setRole(i % 2 == 0 ? User.UserRole.ADMIN : User.UserRole.INTERVIEWER);
+        }
+        user.setEnabled(enabled);
+        return user;
+    }
+
+    private static VersionStamp version(Long rowCount, LocalDateTime lastModified) {
+        return new VersionStamp() {
+            @Override
+            public Long getRowCount() {
+                return rowCount;
+            }
+
+            @Override
+            public LocalDateTime getLastModified() {
+                return lastModified;
+            }
+        };
+    }
+}
@@ -1,6 +1,13 @@
 package com.interviewnotes.util;
 
+import com.interviewnotes.model.User;
+import com.interviewnotes.service.UserDetailsCache;
 import com.interviewnotes.service.UserDetailsServiceImpl;
+import com.interviewnotes.service.UserPrincipal;
+import com.interviewnotes.service.UserSecurityEpochs;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,9 +19,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,6 +50,12 @@ class AuthTokenFilterTest {
     @Mock
     private UserDetails userDetails;
 
+    @Mock
+    private Claims claims;
+
+    @Mock
+    private UserSecurityEpochs userSecurityEpochs;
+
     private AuthTokenFilter authTokenFilter;
 
     @BeforeEach
@@ -56,6 +71,13 @@ class AuthTokenFilterTest {
         userDetailsServiceField.setAccessible(true);
         userDetailsServiceField.set(authTokenFilter, userDetailsService);
         
+        Field userDetailsCacheField = AuthTokenFilter.class.getDeclaredField("userDetailsCache");
+        userDetailsCacheField.setAccessible(true);
+        userDetailsCacheField.set(authTokenFilter, new UserDetailsCache(60000, 100, new SimpleMeterRegistry()));
+        
+        ReflectionTestUtils.setField(authTokenFilter, "userSecurityEpochs", userSecurityEpochs);
+        ReflectionTestUtils.setField(authTokenFilter, "stateless", true);
+        
         SecurityContextHolder.clearContext();
     }
 
@@ -66,8 +88,8 @@ class AuthTokenFilterTest {
         String username = "testuser";
         
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtUtils.validateJwtToken(jwt)).thenReturn(true);
-        when(jwtUtils.getUserNameFromJwtToken(jwt)).thenReturn(username);
+        when(jwtUtils.validateAndGetClaims(jwt)).thenReturn(Optional.of(claims));
+        when(claims.getSubject()).thenReturn(username);
         when(userDetailsService.loadUserByUsername(username)).thenReturn(userDetails);
         when(userDetails.getAuthorities()).thenReturn(null);
 
@@ -85,7 +107,7 @@ class AuthTokenFilterTest {
         String jwt = "invalid.jwt.token";
         
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtUtils.validateJwtToken(jwt)).thenReturn(false);
+        when(jwtUtils.validateAndGetClaims(jwt)).thenReturn(Optional.empty());
 
         // When
         authTokenFilter.doFilterInternal(request, response, filterChain);
@@ -106,7 +128,7 @@ class AuthTokenFilterTest {
         // Then
         verify(filterChain).doFilter(request, response);
         verify(userDetailsService, never()).loadUserByUsername(any());
-        verify(jwtUtils, never()).validateJwtToken(any());
+        verify(jwtUtils, never()).validateAndGetClaims(any());
     }
 
     @Test
@@ -120,7 +142,7 @@ class AuthTokenFilterTest {
         // Then
         verify(filterChain).doFilter(request, response);
         verify(userDetailsService, never()).loadUserByUsername(any());
-        verify(jwtUtils, never()).validateJwtToken(any());
+        verify(jwtUtils, never()).validateAndGetClaims(any());
     }
 
     @Test
@@ -129,7 +151,7 @@ class AuthTokenFilterTest {
         String jwt = "valid.jwt.token";
         
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtUtils.validateJwtToken(jwt)).thenThrow(new RuntimeException("JWT validation failed"));
+        when(jwtUtils.validateAndGetClaims(jwt)).thenThrow(new RuntimeException("JWT validation failed"));
 
         // When
         authTokenFilter.doFilterInternal(request, response, filterChain);
@@ -146,8 +168,8 @@ class AuthTokenFilterTest {
         String username = "testuser";
         
         when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
-        when(jwtUtils.validateJwtToken(jwt)).thenReturn(true);
-        when(jwtUtils.getUserNameFromJwtToken(jwt)).thenReturn(username);
+        when(jwtUtils.validateAndGetClaims(jwt)).thenReturn(Optional.of(claims));
+        when(claims.getSubject()).thenReturn(username);
         when(userDetailsService.loadUserByUsername(username)).thenThrow(new RuntimeException("User not found"));
 
         // When
@@ -168,6 +190,113 @@ class AuthTokenFilterTest {
         // Then
         verify(filterChain).doFilter(request, response);
         verify(userDetailsService, never()).loadUserByUsername(any());
+        verify(jwtUtils, never()).validateAndGetClaims(any());
+    }
+
+    @Test
+    void doFilterInternal_WithValidJwt_ShouldParseTokenOnce() throws ServletException, IOException {
+        // Given
+        String jwt = "valid.jwt.token";
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(jwtUtils.validateAndGetClaims(jwt)).thenReturn(Optional.of(claims));
+        when(claims.getSubject()).thenReturn("testuser");
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
+
+        // When
+        authTokenFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(jwtUtils, times(1)).validateAndGetClaims(jwt);
         verify(jwtUtils, never()).validateJwtToken(any());
+        verify(jwtUtils, never()).getUserNameFromJwtToken(any());
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    void doFilterInternal_RepeatedRequests_ShouldLoadUserOnce() throws ServletException, IOException {
+        // Given
+        String jwt = "valid.jwt.token";
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(jwtUtils.validateAndGetClaims(jwt)).thenReturn(Optional.of(claims));
+        when(claims.getSubject()).thenReturn("testuser");
+        when(userDetailsService.loadUserByUsername("testuser")).thenReturn(userDetails);
+
+        // When
+        authTokenFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        authTokenFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(userDetailsService, times(1)).loadUserByUsername("testuser");
+        verify(filterChain, times(2)).doFilter(request, response);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    void doFilterInternal_StatelessToken_BuildsPrincipalFromClaims() throws ServletException, IOException {
+        // Given
+        String jwt = "stateless.jwt.token";
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(jwtUtils.validateAndGetClaims(jwt)).thenReturn(Optional.of(userClaims(3)));
+        when(userSecurityEpochs.isCurrent(7L, 3)).thenReturn(true);
+
+        // When
+        authTokenFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        UserPrincipal principal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getUsername()).isEqualTo("jane");
+        assertThat(principal.getRole()).isEqualTo(User.UserRole.HR_MANAGER);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_HR_MANAGER");
+        verifyNoInteractions(userDetailsService);
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_StatelessToken_StaleEpoch_ShouldNotSetAuthentication() throws ServletException, IOException {
+        // Given
+        String jwt = "stateless.jwt.token";
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(jwtUtils.validateAndGetClaims(jwt)).thenReturn(Optional.of(userClaims(2)));
+        when(userSecurityEpochs.isCurrent(7L, 2)).thenReturn(false);
+
+        // When
+        authTokenFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userDetailsService);
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_StatelessDisabled_LoadsUser() throws ServletException, IOException {
+        // Given
+        String jwt = "stateless.jwt.token";
+        ReflectionTestUtils.setField(authTokenFilter, "stateless", false);
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + jwt);
+        when(jwtUtils.validateAndGetClaims(jwt)).thenReturn(Optional.of(userClaims(3)));
+        when(userDetailsService.loadUserByUsername("jane")).thenReturn(userDetails);
+
+        // When
+        authTokenFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(userDetails);
+        verifyNoInteractions(userSecurityEpochs);
+    }
+
+    private static Claims userClaims(int epoch) {
+        Claims claims = Jwts.claims().setSubject("jane");
+        claims.put(JwtUtils.USER_ID_CLAIM, 7);
+        claims.put(JwtUtils.ROLE_CLAIM, "HR_MANAGER");
+        claims.put(JwtUtils.EPOCH_CLAIM, epoch);
+        return claims;
     }
-} 
\ No newline at end of file
+}
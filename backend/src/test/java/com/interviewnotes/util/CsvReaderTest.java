@@ -0,0 +1,55 @@
+package com.interviewnotes.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvReaderTest {
+
+    @Test
+    void readRecord_SplitsFieldsAndLines() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("a,b,c\r\n1,,3\nlast,row"));
+
+        assertEquals(List.of("a", "b", "c"), csv.readRecord());
+        assertEquals(1, csv.getLineNumber());
+        assertEquals(List.of("1", "", "3"), csv.readRecord());
+        assertEquals(2, csv.getLineNumber());
+        assertEquals(List.of("last", "row"), csv.readRecord());
+        assertEquals(3, csv.getLineNumber());
+        assertNull(csv.readRecord());
+    }
+
+    @Test
+    void readRecord_QuotedFields() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("\"Doe, John\",\"say \"\"hi\"\"\",\"two\nlines\"\r\nnext,row\n"));
+
+        assertEquals(List.of("Doe, John", "say \"hi\"", "two\nlines"), csv.readRecord());
+        assertEquals(1, csv.getLineNumber());
+        assertEquals(List.of("next", "row"), csv.readRecord());
+        assertEquals(3, csv.getLineNumber());
+        assertNull(csv.readRecord());
+    }
+
+    @Test
+    void readRecord_EmptyLine() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("a\n\nb\n"));
+
+        assertEquals(List.of("a"), csv.readRecord());
+        assertEquals(List.of(""), csv.readRecord());
+        assertEquals(List.of("b"), csv.readRecord());
+        assertNull(csv.readRecord());
+    }
+
+    @Test
+    void readRecord_UnterminatedQuote() throws IOException {
+        CsvReader csv = new CsvReader(new StringReader("ok\n\"never closed,\nx"));
+        csv.readRecord();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, csv::readRecord);
+        assertTrue(e.getMessage().contains("line 2"));
+    }
+}
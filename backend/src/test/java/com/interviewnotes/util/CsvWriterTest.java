@@ -0,0 +1,43 @@
+package com.interviewnotes.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvWriterTest {
+
+    @Test
+    void writeRecord_PlainFields() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter csv = new CsvWriter(out);
+
+        csv.writeRecord(Arrays.asList(1L, "John", null, new BigDecimal("1E+1")));
+        csv.writeRecord(List.of("x"));
+
+        assertEquals("1,John,,10\r\nx\r\n", out.toString());
+    }
+
+    @Test
+    void writeRecord_QuotesSpecialCharacters() throws IOException {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(List.of("Doe, John", "say \"hi\"", "two\nlines"));
+
+        assertEquals("\"Doe, John\",\"say \"\"hi\"\"\",\"two\nlines\"\r\n", out.toString());
+    }
+
+    @Test
+    void writeRecord_ReadsBackWithCsvReader() throws IOException {
+        List<String> fields = List.of("a,b", "\"quoted\"", "line\r\nbreak", "");
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(fields);
+
+        assertEquals(fields, new CsvReader(new StringReader(out.toString())).readRecord());
+    }
+}
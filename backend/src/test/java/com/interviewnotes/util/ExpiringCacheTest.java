@@ -0,0 +1,98 @@
+package com.interviewnotes.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ExpiringCache.
+ * Tests expiry, size bounds, invalidation and hit/miss counting.
+ */
+class ExpiringCacheTest {
+
+    private static final long ONE_MINUTE = 60_000L;
+
+    @Test
+    void get_ReturnsCachedValueBeforeExpiry() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+        cache.put("key", "value", System.currentTimeMillis() + ONE_MINUTE);
+
+        assertEquals("value", cache.get("key"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    void get_ExpiredEntry_ReturnsNullAndRemovesIt() throws InterruptedException {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+        cache.put("key", "value", System.currentTimeMillis() + 20);
+
+        Thread.sleep(40);
+
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void put_AlreadyExpired_IsIgnored() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+        cache.put("key", "value", System.currentTimeMillis() - 1);
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_BeyondMaxSize_EvictsLeastRecentlyUsed() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(2);
+        long expiry = System.currentTimeMillis() + ONE_MINUTE;
+        cache.put("a", "1", expiry);
+        cache.put("b", "2", expiry);
+        cache.get("a");
+        cache.put("c", "3", expiry);
+
+        assertEquals(2, cache.size());
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+    }
+
+    @Test
+    void zeroSize_NeverCaches() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(0);
+        cache.put("key", "value", System.currentTimeMillis() + ONE_MINUTE);
+
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void nullKeysAndValues_AreIgnored() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+        cache.put(null, "value", System.currentTimeMillis() + ONE_MINUTE);
+        cache.put("key", null, System.currentTimeMillis() + ONE_MINUTE);
+
+        assertNull(cache.get(null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void invalidate_RemovesEntries() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10);
+        long expiry = System.currentTimeMillis() + ONE_MINUTE;
+        cache.put("a", "1", expiry);
+        cache.put("b", "2", expiry);
+
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void constructor_NegativeSize_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringCache<String, String>(-1));
+    }
+}
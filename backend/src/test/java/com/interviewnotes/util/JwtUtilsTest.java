@@ -1,5 +1,8 @@
 package com.interviewnotes.util;
 
+import com.interviewnotes.model.User;
+import com.interviewnotes.service.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -13,6 +16,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,6 +66,31 @@ class JwtUtilsTest {
         verify(userDetails).getUsername();
     }
 
+    @Test
+    void testGenerateJwtToken_FromUserPrincipal_CarriesIdRoleAndEpoch() {
+        // Arrange
+        when(authentication.getPrincipal())
+                .thenReturn(new UserPrincipal(7L, TEST_USERNAME, "secret", User.UserRole.ADMIN, 3));
+
+        // Act
+        String token = jwtUtils.generateJwtToken(authentication);
+
+        // Assert
+        Claims claims = jwtUtils.validateAndGetClaims(token).orElseThrow();
+        assertEquals(TEST_USERNAME, claims.getSubject());
+        assertEquals(7L, claims.get(JwtUtils.USER_ID_CLAIM, Long.class));
+        assertEquals("ADMIN", claims.get(JwtUtils.ROLE_CLAIM, String.class));
+        assertEquals(3, claims.get(JwtUtils.EPOCH_CLAIM, Integer.class));
+    }
+
+    @Test
+    void testGenerateTokenFromUsername_HasNoUserClaims() {
+        String token = jwtUtils.generateTokenFromUsername(TEST_USERNAME);
+
+        Claims claims = jwtUtils.validateAndGetClaims(token).orElseThrow();
+        assertNull(claims.get(JwtUtils.USER_ID_CLAIM));
+    }
+
     @Test
     void testGenerateTokenFromUsername() {
         // Act
@@ -378,4 +408,58 @@ class JwtUtilsTest {
         boolean result = jwtUtils.validateJwtToken("");
         assertThat(result).isFalse();
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testValidateAndGetClaims_ValidToken() {
+        String token = jwtUtils.generateTokenFromUsername(TEST_USERNAME);
+
+        Optional<Claims> claims = jwtUtils.validateAndGetClaims(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals(TEST_USERNAME, claims.get().getSubject());
+        assertNotNull(claims.get().getExpiration());
+    }
+
+    @Test
+    void testValidateAndGetClaims_InvalidToken() {
+        assertThat(jwtUtils.validateAndGetClaims("invalid.token.here")).isEmpty();
+        assertThat(jwtUtils.validateAndGetClaims(null)).isEmpty();
+        assertThat(jwtUtils.validateAndGetClaims("")).isEmpty();
+    }
+
+    @Test
+    void testValidateAndGetClaims_RepeatedCallsReturnSameClaims() {
+        String token = jwtUtils.generateTokenFromUsername(TEST_USERNAME);
+
+        Claims first = jwtUtils.validateAndGetClaims(token).orElseThrow();
+        Claims second = jwtUtils.validateAndGetClaims(token).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(TEST_USERNAME, jwtUtils.getUserNameFromJwtToken(token));
+    }
+
+    @Test
+    void testValidateAndGetClaims_SecretChangeDiscardsVerifiedTokens() {
+        String token = jwtUtils.generateTokenFromUsername(TEST_USERNAME);
+        assertTrue(jwtUtils.validateJwtToken(token));
+
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", "rotatedSecretKey12345678901234567890rotatedSecretKey12345678901234567890");
+
+        assertFalse(jwtUtils.validateJwtToken(token));
+    }
+
+    @Test
+    void testValidateAndGetClaims_CacheDisabled() {
+        JwtUtils uncachedUtils = new JwtUtils();
+        ReflectionTestUtils.setField(uncachedUtils, "jwtSecret", TEST_SECRET);
+        ReflectionTestUtils.setField(uncachedUtils, "jwtExpirationMs", TEST_EXPIRATION);
+        ReflectionTestUtils.setField(uncachedUtils, "claimsCacheSize", 0);
+        String token = uncachedUtils.generateTokenFromUsername(TEST_USERNAME);
+
+        Claims first = uncachedUtils.validateAndGetClaims(token).orElseThrow();
+        Claims second = uncachedUtils.validateAndGetClaims(token).orElseThrow();
+
+        assertNotSame(first, second);
+        assertEquals(TEST_USERNAME, second.getSubject());
+    }
+}
@@ -0,0 +1,75 @@
+package com.interviewnotes.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeAndDecode_RoundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123456000);
+        String encoded = new KeysetCursor(createdAt, 42L).encode();
+
+        KeysetCursor decoded = KeysetCursor.decode(encoded, Sort.Direction.DESC);
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void encode_IsOpaque() {
+        String encoded = new KeysetCursor(LocalDateTime.of(2024, 3, 1, 10, 15), 42L).encode();
+
+        assertFalse(encoded.contains("2024"));
+        assertFalse(encoded.contains("|"));
+    }
+
+    @Test
+    void decode_NullOrBlank_ReturnsStartPosition() {
+        KeysetCursor descending = KeysetCursor.decode(null, Sort.Direction.DESC);
+        KeysetCursor ascending = KeysetCursor.decode(" ", Sort.Direction.ASC);
+
+        assertEquals(Long.MAX_VALUE, descending.getId());
+        assertTrue(descending.getCreatedAt().isAfter(LocalDateTime.now()));
+        assertEquals(Long.MIN_VALUE, ascending.getId());
+        assertTrue(ascending.getCreatedAt().isBefore(LocalDateTime.of(1970, 1, 1, 0, 0)));
+    }
+
+    @Test
+    void decode_Malformed_ThrowsIllegalArgumentException() {
+        IllegalArgumentException notBase64 = assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.decode("not base64!", Sort.Direction.DESC));
+        IllegalArgumentException noSeparator = assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.decode("Zm9v", Sort.Direction.DESC));
+        IllegalArgumentException badDate = assertThrows(IllegalArgumentException.class,
+                () -> KeysetCursor.decode("Zm9vfDE", Sort.Direction.DESC));
+
+        assertEquals("Invalid cursor", notBase64.getMessage());
+        assertEquals("Invalid cursor", noSeparator.getMessage());
+        assertEquals("Invalid cursor", badDate.getMessage());
+    }
+
+    @Test
+    void next_MoreRowsThanSize_ReturnsCursorForLastReturnedRow() {
+        LocalDateTime t = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<KeysetCursor> rows = List.of(new KeysetCursor(t, 3L), new KeysetCursor(t, 2L), new KeysetCursor(t, 1L));
+
+        String next = KeysetCursor.next(rows, 2, KeysetCursor::getCreatedAt, KeysetCursor::getId);
+
+        assertNotNull(next);
+        assertEquals(2L, KeysetCursor.decode(next, Sort.Direction.DESC).getId());
+    }
+
+    @Test
+    void next_LastPage_ReturnsNull() {
+        LocalDateTime t = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<KeysetCursor> rows = List.of(new KeysetCursor(t, 2L), new KeysetCursor(t, 1L));
+
+        assertNull(KeysetCursor.next(rows, 2, KeysetCursor::getCreatedAt, KeysetCursor::getId));
+    }
+}
@@ -0,0 +1,21 @@
+package com.interviewnotes.util;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Fails a test that prepares more SQL statements than allowed. Statements made
+ * before {@link SqlStatementCounter.Scope#reset()} is called on the injected
+ * scope, e.g. while creating test data, do not count.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementCountExtension.class)
+public @interface MaxSqlStatements {
+
+    int value();
+}
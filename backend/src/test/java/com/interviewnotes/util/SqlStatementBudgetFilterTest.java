@@ -0,0 +1,102 @@
+package com.interviewnotes.util;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementBudgetFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+    @Test
+    void doFilter_RecordsStatementsPerEndpoint() throws Exception {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(registry, 5, "log");
+
+        filter.doFilter(request("/api/candidates/{id}"), new MockHttpServletResponse(), statements(3));
+        filter.doFilter(request("/api/candidates/{id}"), new MockHttpServletResponse(), statements(1));
+
+        DistributionSummary summary = registry.find(SqlStatementBudgetFilter.METRIC_NAME)
+                .tag("method", "GET").tag("uri", "/api/candidates/{id}").summary();
+        assertNotNull(summary);
+        assertEquals(2, summary.count());
+        assertEquals(4, summary.totalAmount());
+        assertEquals(3, summary.max());
+    }
+
+    @Test
+    void doFilter_LogMode_LetsRequestOverBudgetFinish() throws Exception {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(registry, 2, "log");
+
+        filter.doFilter(request("/api/interviews"), new MockHttpServletResponse(), statements(5));
+
+        assertEquals(5, registry.find(SqlStatementBudgetFilter.METRIC_NAME).summary().max());
+    }
+
+    @Test
+    void doFilter_RejectMode_FailsStatementOverBudget() {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(registry, 2, "reject");
+
+        SqlStatementCounter.BudgetExceededException exception = assertThrows(
+                SqlStatementCounter.BudgetExceededException.class,
+                () -> filter.doFilter(request("/api/interviews"), new MockHttpServletResponse(), statements(5)));
+
+        assertEquals(2, exception.getBudget());
+        assertEquals(3, registry.find(SqlStatementBudgetFilter.METRIC_NAME).summary().max());
+    }
+
+    @Test
+    void doFilter_OffMode_CountsNothing() throws Exception {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(registry, 2, "off");
+
+        filter.doFilter(request("/api/interviews"), new MockHttpServletResponse(), statements(5));
+
+        assertNull(registry.find(SqlStatementBudgetFilter.METRIC_NAME).summary());
+    }
+
+    @Test
+    void doFilter_ScopeClosedAfterRequest() throws Exception {
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(registry, 2, "reject");
+        filter.doFilter(request("/api/interviews"), new MockHttpServletResponse(), statements(1));
+
+        try (SqlStatementCounter.Scope scope = SqlStatementCounter.open()) {
+            inspector.inspect("select 1");
+            inspector.inspect("select 1");
+            inspector.inspect("select 1");
+            assertEquals(3, scope.getCount());
+        }
+    }
+
+    @Test
+    void inspect_CountsTowardsEnclosingScopes() {
+        try (SqlStatementCounter.Scope outer = SqlStatementCounter.open()) {
+            inspector.inspect("select 1");
+            try (SqlStatementCounter.Scope inner = SqlStatementCounter.open()) {
+                inspector.inspect("select 2");
+                assertEquals(1, inner.getCount());
+            }
+            inspector.inspect("select 3");
+            assertEquals(3, outer.getCount());
+        }
+    }
+
+    private FilterChain statements(int count) {
+        return (request, response) -> {
+            for (int i = 0; i < count; i++) {
+                inspector.inspect("select " + i);
+            }
+        };
+    }
+
+    private static MockHttpServletRequest request(String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+}
@@ -0,0 +1,53 @@
+package com.interviewnotes.util;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Counts the SQL statements a test prepares on its own thread.
+ *
+ * Test methods can take a {@link SqlStatementCounter.Scope} parameter to read
+ * or reset the count; {@link MaxSqlStatements} checks it when the test ends.
+ * Only statements going through Hibernate are seen, so the test has to run
+ * against a real database, e.g. as a {@code @DataJpaTest}.
+ */
+public class SqlStatementCountExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(SqlStatementCountExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementCounter.open());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        SqlStatementCounter.Scope scope = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), SqlStatementCounter.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        context.getTestMethod()
+                .map(method -> method.getAnnotation(MaxSqlStatements.class))
+                .ifPresent(max -> assertTrue(scope.getCount() <= max.value(),
+                        "Expected at most " + max.value() + " SQL statements but " + scope.getCount() + " were prepared"));
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == SqlStatementCounter.Scope.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return extensionContext.getStore(NAMESPACE)
+                .get(extensionContext.getUniqueId(), SqlStatementCounter.Scope.class);
+    }
+}
@@ -0,0 +1,93 @@
+#!/bin/bash
+
+# Thread Mode Benchmark for Interview Notes Backend
+# Runs the same read-heavy load against the platform-thread pool and against
+# the virtual-threads profile, with the Hikari pool pinned to the same size,
+# and prints the throughput of each.
+#
+# Needs a Java 21 runtime, the prod profile's PostgreSQL and Redis (DB_HOST,
+# REDIS_HOST, ...), some seeded candidates and interviews, and hey
+# (https://github.com/rakyll/hey). Run it from the repository root.
+#
+# Usage: scripts/benchmark-threads.sh [username] [password]
+
+set -e
+
+USERNAME=${1:-admin}
+PASSWORD=${2:-admin123}
+POOL_SIZE=${POOL_SIZE:-20}
+CONCURRENCY=${CONCURRENCY:-400}
+DURATION=${DURATION:-60s}
+WARMUP=${WARMUP:-20s}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:$PORT"
+JAR=$(ls backend/target/interview-notes-backend-*.jar 2>/dev/null | grep -v original | head -1)
+
+if ! command -v hey &> /dev/null; then
+    echo "❌ hey is not installed. Install it with: go install github.com/rakyll/hey@latest"
+    exit 1
+fi
+
+if ! java -version 2>&1 | grep -qE 'version "(2[1-9]|[3-9][0-9])'; then
+    echo "❌ Java 21 or later is required; virtual threads are ignored on older runtimes."
+    exit 1
+fi
+
+if [ -z "$JAR" ]; then
+    echo "📦 Building backend..."
+    (cd backend && mvn -B -q clean package -DskipTests)
+    JAR=$(ls backend/target/interview-notes-backend-*.jar | grep -v original | head -1)
+fi
+
+# Start the backend with the given profiles and wait for it to be healthy
+start_backend() {
+    java -jar "$JAR" \
+        --spring.profiles.active="$1" \
+        --server.port="$PORT" \
+        --spring.datasource.hikari.maximum-pool-size="$POOL_SIZE" \
+        --spring.datasource.hikari.minimum-idle="$POOL_SIZE" \
+        --logging.level.com.interviewnotes=WARN \
+        > "logs/benchmark-$1.log" 2>&1 &
+    BACKEND_PID=$!
+    for i in $(seq 1 60); do
+        if curl -sf "$BASE_URL/actuator/health" > /dev/null; then
+            return
+        fi
+        sleep 2
+    done
+    echo "❌ Backend did not start, see logs/benchmark-$1.log"
+    kill $BACKEND_PID
+    exit 1
+}
+
+# Run the load for one thread mode and print requests per second per endpoint
+run_mode() {
+    local profiles=$1
+    echo "🔧 Starting backend with profiles: $profiles"
+    start_backend "$profiles"
+
+    TOKEN=$(curl -sf -X POST "$BASE_URL/api/auth/login" \
+        -H "Content-Type: application/json" \
+        -d "{\"username\":\"$USERNAME\",\"password\":\"$PASSWORD\"}" | sed -E 's/.*"token":"([^"]+)".*/\1/')
+
+    for endpoint in "/api/candidates?page=0&size=20" "/api/interviews?page=0&size=20"; do
+        hey -z "$WARMUP" -c "$CONCURRENCY" -H "Authorization: Bearer $TOKEN" "$BASE_URL$endpoint" > /dev/null
+        RPS=$(hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer $TOKEN" "$BASE_URL$endpoint" \
+            | awk '/Requests\/sec/ {print $2}')
+        echo "$profiles $endpoint $RPS" >> "$RESULTS"
+    done
+
+    kill $BACKEND_PID
+    wait $BACKEND_PID 2>/dev/null || true
+}
+
+mkdir -p logs
+RESULTS=$(mktemp)
+
+run_mode "prod"
+run_mode "prod,virtual-threads"
+
+echo ""
+echo "📊 Requests/sec at $CONCURRENCY concurrent clients, Hikari pool of $POOL_SIZE:"
+column -t "$RESULTS"
+rm -f "$RESULTS"